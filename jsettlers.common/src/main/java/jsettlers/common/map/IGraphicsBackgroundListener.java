@@ -33,5 +33,19 @@ public interface IGraphicsBackgroundListener {
 	 */
 	void backgroundLineChangedAt(int x, int y, int length);
 
+	/**
+	 * This method is called if the background has changed at some positions of the given rectangle.
+	 *
+	 * @param x
+	 *            x coordinate of the upper left corner
+	 * @param y
+	 *            y coordinate of the upper left corner
+	 * @param width
+	 *            number of columns of the rectangle
+	 * @param height
+	 *            number of lines of the rectangle
+	 */
+	void backgroundAreaChangedAt(int x, int y, int width, int height);
+
 	void fogOfWarEnabledStatusChanged(boolean enabled);
 }
@@ -139,6 +139,17 @@ public class SimpleMessage implements IMessage {
 		return new SimpleMessage(EMessageType.NOTHING_FOUND_IN_SEARCH_AREA, "cannot_find_work_" + building.getBuildingVariant().getType(), (byte) -1, building.getPosition());
 	}
 
+	/**
+	 * Create a new messageLabel that the game of this client differs from the game of the other clients.
+	 *
+	 * @param pos
+	 * 		The position to show when the user selects the messageLabel.
+	 * @return The messageLabel object
+	 */
+	public static IMessage desync(ShortPoint2D pos) {
+		return new SimpleMessage(EMessageType.DESYNC, "desync", (byte) -1, pos);
+	}
+
 	/**
 	 *
 	 * @param at
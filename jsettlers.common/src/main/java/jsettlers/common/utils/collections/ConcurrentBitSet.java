@@ -0,0 +1,61 @@
+/*******************************************************************************
+ * Copyright (c) 2026
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE.
+ *******************************************************************************/
+package jsettlers.common.utils.collections;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * A fixed size bit set that can be written by multiple threads without locking. The reader drains the set word by word with
+ * {@link #getAndClearWord(int)}.
+ */
+public final class ConcurrentBitSet {
+	private final AtomicLongArray words;
+
+	public ConcurrentBitSet(int size) {
+		this.words = new AtomicLongArray((size + 63) >>> 6);
+	}
+
+	public void set(int index) {
+		int wordIndex = index >>> 6;
+		long mask = 1L << index;
+
+		long word;
+		do {
+			word = words.get(wordIndex);
+			if ((word & mask) != 0) {
+				return;
+			}
+		} while (!words.compareAndSet(wordIndex, word, word | mask));
+	}
+
+	public boolean get(int index) {
+		return (words.get(index >>> 6) & (1L << index)) != 0;
+	}
+
+	public int getNumberOfWords() {
+		return words.length();
+	}
+
+	/**
+	 * Atomically clears the given word.
+	 *
+	 * @param wordIndex
+	 *            Index of the word, the word holds the bits wordIndex * 64 to wordIndex * 64 + 63.
+	 * @return The bits of the word before it was cleared.
+	 */
+	public long getAndClearWord(int wordIndex) {
+		return words.getAndSet(wordIndex, 0);
+	}
+}
@@ -0,0 +1,68 @@
+/*******************************************************************************
+ * Copyright (c) 2026
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE.
+ *******************************************************************************/
+package jsettlers.common.utils.collections;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+public class ConcurrentBitSetTest {
+
+	@Test
+	public void testSetAndDrain() {
+		ConcurrentBitSet bitSet = new ConcurrentBitSet(130);
+		assertEquals(3, bitSet.getNumberOfWords());
+
+		bitSet.set(0);
+		bitSet.set(63);
+		bitSet.set(64);
+		bitSet.set(129);
+		bitSet.set(129);
+
+		assertTrue(bitSet.get(63));
+		assertFalse(bitSet.get(62));
+
+		assertEquals(1L | (1L << 63), bitSet.getAndClearWord(0));
+		assertEquals(1L, bitSet.getAndClearWord(1));
+		assertEquals(1L << 1, bitSet.getAndClearWord(2));
+		assertEquals(0L, bitSet.getAndClearWord(0));
+	}
+
+	@Test
+	public void testConcurrentWriters() throws InterruptedException {
+		final int size = 10000;
+		final ConcurrentBitSet bitSet = new ConcurrentBitSet(size);
+
+		Thread[] threads = new Thread[4];
+		for (int t = 0; t < threads.length; t++) {
+			final int offset = t;
+			threads[t] = new Thread(() -> {
+				for (int i = offset; i < size; i += threads.length) {
+					bitSet.set(i);
+				}
+			});
+			threads[t].start();
+		}
+		for (Thread thread : threads) {
+			thread.join();
+		}
+
+		for (int i = 0; i < size; i++) {
+			assertTrue(bitSet.get(i));
+		}
+	}
+}
@@ -17,6 +17,11 @@ package jsettlers.graphics.image.reader;
 import java.io.File;
 import java.io.IOException;
 import java.io.RandomAccessFile;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 
 import java8.util.function.Supplier;
 import java8.util.stream.Collectors;
@@ -25,6 +30,7 @@ import jsettlers.graphics.image.SingleImage;
 import jsettlers.graphics.image.Image;
 import jsettlers.graphics.image.NullImage;
 import jsettlers.graphics.image.SettlerImage;
+import jsettlers.graphics.image.reader.DecodedSettlerSequence.DecodedImage;
 import jsettlers.graphics.image.reader.bytereader.ByteReader;
 import jsettlers.graphics.image.reader.translator.DatBitmapTranslator;
 import jsettlers.graphics.image.reader.translator.GuiTranslator;
@@ -482,7 +488,7 @@ public class AdvancedDatFileReader implements DatFileReader {
 		}
 	}
 
-	private void initializeIfNeeded() {
+	private synchronized void initializeIfNeeded() {
 		if (settlerSequences == null) {
 			initialize();
 		}
@@ -498,15 +504,17 @@ public class AdvancedDatFileReader implements DatFileReader {
 	private class DirectSettlerSequenceList implements SequenceList<Image> {
 		@Override
 		public Sequence<Image> get(int index) {
-			initializeIfNeeded();
-			if (settlerSequences[index] == null) {
-				settlerSequences[index] = NULL_SETTLER_SEQUENCE;
-				try {
-					loadSettlers(index, file_name);
-				} catch (Exception e) {
+			synchronized (AdvancedDatFileReader.this) {
+				initializeIfNeeded();
+				if (settlerSequences[index] == null) {
+					settlerSequences[index] = NULL_SETTLER_SEQUENCE;
+					try {
+						loadSettlers(index, file_name);
+					} catch (Exception e) {
+					}
 				}
+				return settlerSequences[index];
 			}
-			return settlerSequences[index];
 		}
 
 		@Override
@@ -518,41 +526,130 @@ public class AdvancedDatFileReader implements DatFileReader {
 
 	private synchronized void loadSettlers(int goldIndex, String name) throws IOException {
 		int theseGraphicsFilesIndex = mapping.mapSettlersSequence(goldIndex);
+		DecodedSettlerSequence sequence = decodeSettlers(reader, theseGraphicsFilesIndex);
+		settlerSequences[goldIndex] = createSettlerSequence(sequence, goldIndex, name);
+	}
+
+	/**
+	 * Loads all settler sequences of this file that haven't been loaded yet. They are taken from the cache if it holds the current version of this
+	 * file. Otherwise the sequences are decoded in parallel by the given executor and stored in the cache. The sequences are only decoded outside
+	 * of the lock of this reader, so the sequences requested by the drawing thread are not blocked by the preloading.
+	 *
+	 * @param executor
+	 * 		The executor to decode the sequences with.
+	 * @param cache
+	 * 		The cache of the decoded images or null if no cache should be used.
+	 */
+	public void preloadSettlers(ExecutorService executor, DecodedImageCache cache) {
+		initializeIfNeeded();
+		if (reader == null) {
+			return;
+		}
+
+		long contentHash = reader.hashContent();
+		DecodedSettlerSequence[] sequences = cache != null ? cache.readSettlers(file, contentHash) : null;
+		if (sequences == null || sequences.length != settlerStarts.length) {
+			sequences = decodeAllSettlers(executor);
+			if (sequences == null) {
+				return;
+			}
+			if (cache != null) {
+				cache.writeSettlers(file, contentHash, sequences);
+			}
+		}
+
+		synchronized (this) {
+			for (int goldIndex = 0; goldIndex < settlerSequences.length; goldIndex++) {
+				int theseGraphicsFilesIndex = mapping.mapSettlersSequence(goldIndex);
+				if (settlerSequences[goldIndex] == null && theseGraphicsFilesIndex >= 0 && theseGraphicsFilesIndex < sequences.length
+						&& sequences[theseGraphicsFilesIndex] != null) {
+					settlerSequences[goldIndex] = createSettlerSequence(sequences[theseGraphicsFilesIndex], goldIndex, file_name);
+				}
+			}
+		}
+	}
 
+	/**
+	 * @return The decoded sequences indexed like the settler sequences in the file. Sequences that can't be decoded are null. Returns null if the
+	 * thread has been interrupted.
+	 */
+	private DecodedSettlerSequence[] decodeAllSettlers(ExecutorService executor) {
+		List<Future<DecodedSettlerSequence>> futures = new ArrayList<>(settlerStarts.length);
+		for (int i = 0; i < settlerStarts.length; i++) {
+			final int sequenceIndex = i;
+			final ByteReader sequenceReader = reader.duplicate();
+			futures.add(executor.submit(() -> decodeSettlers(sequenceReader, sequenceIndex)));
+		}
+
+		DecodedSettlerSequence[] sequences = new DecodedSettlerSequence[settlerStarts.length];
+		try {
+			for (int i = 0; i < sequences.length; i++) {
+				try {
+					sequences[i] = futures.get(i).get();
+				} catch (ExecutionException e) {
+					// the sequence can't be loaded like a sequence that fails to load on demand
+				}
+			}
+		} catch (InterruptedException e) {
+			for (Future<DecodedSettlerSequence> future : futures) {
+				future.cancel(true);
+			}
+			Thread.currentThread().interrupt();
+			return null;
+		}
+		return sequences;
+	}
+
+	private DecodedSettlerSequence decodeSettlers(ByteReader reader, int theseGraphicsFilesIndex) throws IOException {
 		int position = settlerStarts[theseGraphicsFilesIndex];
-		long[] framePositions = readSequenceHeader(position);
+		long[] framePositions = readSequenceHeader(reader, position);
 
-		SettlerImage[] images = new SettlerImage[framePositions.length];
+		DecodedSettlerSequence sequence = new DecodedSettlerSequence(framePositions.length);
 		for (int i = 0; i < framePositions.length; i++) {
 			reader.skipTo(framePositions[i]);
-			images[i] = DatBitmapReader.getImage(settlerTranslator, reader, name + "-S" + goldIndex + ":" + i);
+			sequence.images[i] = DecodedImage.read(settlerTranslator, reader);
 		}
 
 		int torsoPosition = torsoStarts[theseGraphicsFilesIndex];
 		if (torsoPosition >= 0) {
-			long[] torsoPositions = readSequenceHeader(torsoPosition);
+			long[] torsoPositions = readSequenceHeader(reader, torsoPosition);
 			for (int i = 0; i < torsoPositions.length && i < framePositions.length; i++) {
 				reader.skipTo(torsoPositions[i]);
-				SingleImage torso = DatBitmapReader.getImage(torsoTranslator, reader, name + "-T" + goldIndex + ":" + i);
-				images[i].setTorso(torso);
+				sequence.torsos[i] = DecodedImage.read(torsoTranslator, reader);
 			}
 		}
 
 		int shadowPosition = shadowStarts[theseGraphicsFilesIndex];
 		if (shadowPosition >= 0) {
-			long[] shadowPositions = readSequenceHeader(shadowPosition);
+			long[] shadowPositions = readSequenceHeader(reader, shadowPosition);
 			for (int i = 0; i < shadowPositions.length
 				&& i < framePositions.length; i++) {
 				reader.skipTo(shadowPositions[i]);
-				SingleImage shadow = DatBitmapReader.getImage(shadowTranslator, reader, name + "-SH" + goldIndex + ":" + i);
-				images[i].setShadow(shadow);
+				sequence.shadows[i] = DecodedImage.read(shadowTranslator, reader);
 			}
 		}
+		return sequence;
+	}
 
-		settlerSequences[goldIndex] = new ArraySequence<>(images);
+	private Sequence<Image> createSettlerSequence(DecodedSettlerSequence sequence, int goldIndex, String name) {
+		SettlerImage[] images = new SettlerImage[sequence.length()];
+		for (int i = 0; i < images.length; i++) {
+			DecodedImage image = sequence.images[i];
+			images[i] = settlerTranslator.createImage(image.metadata, image.data, name + "-S" + goldIndex + ":" + i);
+
+			DecodedImage torso = sequence.torsos[i];
+			if (torso != null) {
+				images[i].setTorso(torsoTranslator.createImage(torso.metadata, torso.data, name + "-T" + goldIndex + ":" + i));
+			}
+			DecodedImage shadow = sequence.shadows[i];
+			if (shadow != null) {
+				images[i].setShadow(shadowTranslator.createImage(shadow.metadata, shadow.data, name + "-SH" + goldIndex + ":" + i));
+			}
+		}
+		return new ArraySequence<>(images);
 	}
 
-	private long[] readSequenceHeader(int position) throws IOException {
+	private long[] readSequenceHeader(ByteReader reader, int position) throws IOException {
 		reader.skipTo(position);
 
 		reader.assumeToRead(START);
@@ -689,14 +786,14 @@ public class AdvancedDatFileReader implements DatFileReader {
 
 	public long[] getSettlerPointers(int seqIndex) throws IOException {
 		initializeIfNeeded();
-		return readSequenceHeader(settlerStarts[seqIndex]);
+		return readSequenceHeader(reader, settlerStarts[seqIndex]);
 	}
 
 	public long[] getTorsoPointers(int seqIndex) throws IOException {
 		initializeIfNeeded();
 		int position = torsoStarts[seqIndex];
 		if (position >= 0) {
-			return readSequenceHeader(position);
+			return readSequenceHeader(reader, position);
 		} else {
 			return null;
 		}
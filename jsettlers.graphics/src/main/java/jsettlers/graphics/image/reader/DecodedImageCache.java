@@ -0,0 +1,193 @@
+/*******************************************************************************
+ * Copyright (c) 2026
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE.
+ *******************************************************************************/
+package jsettlers.graphics.image.reader;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.util.Locale;
+
+import jsettlers.graphics.image.reader.DecodedSettlerSequence.DecodedImage;
+
+/**
+ * Stores the decoded settler images of dat files on disk, so they don't need to be decoded again on the next start.
+ * <p>
+ * There is one cache file per dat file. It is only used if the version of the cache format, the length and the content hash of the dat file
+ * match. The whole cache file is read at once.
+ */
+public final class DecodedImageCache {
+	private static final int MAGIC   = 0x4a534443;
+	private static final int VERSION = 1;
+
+	private final File directory;
+
+	/**
+	 * @param directory
+	 * 		The directory to store the cache files in. It is created when the first file is written.
+	 */
+	public DecodedImageCache(File directory) {
+		this.directory = directory;
+	}
+
+	/**
+	 * @param datFile
+	 * 		The dat file the sequences have been decoded of.
+	 * @param contentHash
+	 * 		The hash of the content of the dat file.
+	 * @return The cached sequences indexed like the settler sequences in the dat file or null if there is no valid cache for the file. Sequences
+	 * that could not be decoded are null.
+	 */
+	DecodedSettlerSequence[] readSettlers(File datFile, long contentHash) {
+		File cacheFile = getCacheFile(datFile);
+		if (!cacheFile.isFile()) {
+			return null;
+		}
+
+		try (RandomAccessFile in = new RandomAccessFile(cacheFile, "r")) {
+			byte[] content = new byte[(int) in.length()];
+			in.readFully(content);
+			ByteBuffer buffer = ByteBuffer.wrap(content);
+
+			if (buffer.getInt() != MAGIC || buffer.getInt() != VERSION || buffer.getLong() != datFile.length() || buffer.getLong() != contentHash) {
+				return null;
+			}
+
+			DecodedSettlerSequence[] sequences = new DecodedSettlerSequence[readLength(buffer, 4)];
+			for (int i = 0; i < sequences.length; i++) {
+				int length = buffer.getInt();
+				if (length < 0) {
+					continue;
+				}
+				checkLength(buffer, length, 3);
+
+				DecodedSettlerSequence sequence = new DecodedSettlerSequence(length);
+				for (int frame = 0; frame < length; frame++) {
+					sequence.images[frame] = readImage(buffer);
+					sequence.torsos[frame] = readImage(buffer);
+					sequence.shadows[frame] = readImage(buffer);
+				}
+				sequences[i] = sequence;
+			}
+			return sequences;
+		} catch (IOException | BufferUnderflowException | IllegalArgumentException | NegativeArraySizeException e) {
+			System.err.println("Could not read image cache " + cacheFile + ": " + e);
+			return null;
+		}
+	}
+
+	/**
+	 * Stores the given sequences for the dat file, replacing the cache file of older versions of the dat file.
+	 *
+	 * @see #readSettlers(File, long)
+	 */
+	void writeSettlers(File datFile, long contentHash, DecodedSettlerSequence[] sequences) {
+		if (!directory.isDirectory() && !directory.mkdirs()) {
+			System.err.println("Could not create image cache directory " + directory);
+			return;
+		}
+
+		File cacheFile = getCacheFile(datFile);
+		File tempFile = new File(directory, cacheFile.getName() + ".tmp");
+		try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(tempFile)))) {
+			out.writeInt(MAGIC);
+			out.writeInt(VERSION);
+			out.writeLong(datFile.length());
+			out.writeLong(contentHash);
+
+			out.writeInt(sequences.length);
+			for (DecodedSettlerSequence sequence : sequences) {
+				if (sequence == null) {
+					out.writeInt(-1);
+					continue;
+				}
+
+				out.writeInt(sequence.length());
+				for (int frame = 0; frame < sequence.length(); frame++) {
+					writeImage(out, sequence.images[frame]);
+					writeImage(out, sequence.torsos[frame]);
+					writeImage(out, sequence.shadows[frame]);
+				}
+			}
+		} catch (IOException e) {
+			System.err.println("Could not write image cache " + cacheFile + ": " + e.getMessage());
+			tempFile.delete();
+			return;
+		}
+
+		cacheFile.delete();
+		if (!tempFile.renameTo(cacheFile)) {
+			tempFile.delete();
+		}
+	}
+
+	private File getCacheFile(File datFile) {
+		return new File(directory, datFile.getName().toLowerCase(Locale.ENGLISH) + ".cache");
+	}
+
+	private static DecodedImage readImage(ByteBuffer buffer) {
+		if (buffer.get() == 0) {
+			return null;
+		}
+
+		ImageMetadata metadata = new ImageMetadata();
+		metadata.width = buffer.getInt();
+		metadata.height = buffer.getInt();
+		metadata.offsetX = buffer.getInt();
+		metadata.offsetY = buffer.getInt();
+
+		short[] data = new short[readLength(buffer, 2)];
+		buffer.asShortBuffer().get(data);
+		buffer.position(buffer.position() + data.length * 2);
+		return new DecodedImage(metadata, data);
+	}
+
+	/**
+	 * Reads the length of an array whose elements take at least the given number of bytes in the rest of the buffer.
+	 */
+	private static int readLength(ByteBuffer buffer, int bytesPerElement) {
+		int length = buffer.getInt();
+		checkLength(buffer, length, bytesPerElement);
+		return length;
+	}
+
+	private static void checkLength(ByteBuffer buffer, int length, int bytesPerElement) {
+		if (length < 0 || length > buffer.remaining() / bytesPerElement) {
+			throw new IllegalArgumentException("Invalid length " + length + " with " + buffer.remaining() + " bytes remaining");
+		}
+	}
+
+	private static void writeImage(DataOutputStream out, DecodedImage image) throws IOException {
+		if (image == null) {
+			out.writeByte(0);
+			return;
+		}
+
+		out.writeByte(1);
+		out.writeInt(image.metadata.width);
+		out.writeInt(image.metadata.height);
+		out.writeInt(image.metadata.offsetX);
+		out.writeInt(image.metadata.offsetY);
+
+		ByteBuffer data = ByteBuffer.allocate(image.data.length * 2);
+		data.asShortBuffer().put(image.data);
+		out.writeInt(image.data.length);
+		out.write(data.array());
+	}
+}
@@ -0,0 +1,62 @@
+/*******************************************************************************
+ * Copyright (c) 2026
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE.
+ *******************************************************************************/
+package jsettlers.graphics.image.reader;
+
+import java.io.IOException;
+
+import jsettlers.graphics.image.reader.bytereader.ByteReader;
+import jsettlers.graphics.image.reader.translator.DatBitmapTranslator;
+
+/**
+ * The decoded frames of a settler sequence with their torsos and shadows, before images are created of them.
+ */
+final class DecodedSettlerSequence {
+	final DecodedImage[] images;
+	final DecodedImage[] torsos;
+	final DecodedImage[] shadows;
+
+	DecodedSettlerSequence(int length) {
+		images = new DecodedImage[length];
+		torsos = new DecodedImage[length];
+		shadows = new DecodedImage[length];
+	}
+
+	int length() {
+		return images.length;
+	}
+
+	/**
+	 * The pixels of one image in the format of its translator.
+	 */
+	static final class DecodedImage {
+		final ImageMetadata metadata;
+		final short[]       data;
+
+		DecodedImage(ImageMetadata metadata, short[] data) {
+			this.metadata = metadata;
+			this.data = data;
+		}
+
+		/**
+		 * Decodes the image starting at the current position of the reader.
+		 */
+		static DecodedImage read(DatBitmapTranslator<?> translator, ByteReader reader) throws IOException {
+			ImageMetadata metadata = new ImageMetadata();
+			ShortArrayWriter array = new ShortArrayWriter();
+			DatBitmapReader.uncompressImage(reader, translator, metadata, array);
+			return new DecodedImage(metadata, array.getArray());
+		}
+	}
+}
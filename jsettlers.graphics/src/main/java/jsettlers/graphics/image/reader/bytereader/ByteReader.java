@@ -14,43 +14,29 @@
  */
 package jsettlers.graphics.image.reader.bytereader;
 
+import java.io.EOFException;
 import java.io.IOException;
 import java.io.RandomAccessFile;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
 
 /**
  * This class provides a little endian wrapper of a reader.
+ * <p>
+ * The file is mapped into memory, so jumping around in the file is cheap. Use {@link #duplicate()} to read the same file from multiple threads.
  *
  * @author michael
  */
 public class ByteReader {
 
-	private static final int CACHE_SIZE = 10000;
-
-	/**
-	 * The position the input stram is currently at.
-	 */
-	private long inputStreamPosition = 0;
-	/**
-	 * The current cache position the user is reading from next.
-	 * <p>
-	 * It may never be greater than CACHE_SIZE.
-	 *
-	 * @see ByteReader#assertCacheHolds(int);
-	 */
-	private int cachePosition;
-	/**
-	 * The start of the cache in the file.
-	 * <p>
-	 * Initialize so that jump does good work.
-	 */
-	private long cacheStart = -2 * CACHE_SIZE;
+	private final RandomAccessFile in;
 
 	/**
-	 * The data cache
+	 * The mapped file. Its position is the position the user is reading from next.
 	 */
-	private byte[] cache = new byte[CACHE_SIZE];
-
-	private final RandomAccessFile in;
+	private final ByteBuffer buffer;
 
 	/**
 	 * Creates a new reader.
@@ -61,78 +47,38 @@ public class ByteReader {
 	 *             It an IO error occured.
 	 */
 	public ByteReader(RandomAccessFile in) throws IOException {
-		this.in = in;
-		jumpCachePosition(0);
+		this(in, in.getChannel().map(FileChannel.MapMode.READ_ONLY, 0, in.length()));
 	}
 
-	/**
-	 * Reads a 16 bit int.
-	 *
-	 * @return The int.
-	 * @throws IOException
-	 *             If an io error occured.
-	 */
-	public int read16() throws IOException {
-		assertCacheHolds(2);
-
-		int c = this.cachePosition;
-		int byte0 = this.cache[c];
-		int byte1 = this.cache[c + 1];
-		this.cachePosition = c + 2;
-
-		return (0xff & byte0) | ((0xff & byte1) << 8);
+	private ByteReader(RandomAccessFile in, ByteBuffer buffer) {
+		this.in = in;
+		this.buffer = buffer;
+		this.buffer.order(ByteOrder.LITTLE_ENDIAN);
 	}
 
 	/**
-	 * Sets the cache position pointer and the cache so that the pointer is on the given position in the file.
+	 * Creates a reader of the same file that has its own position. The new reader starts at the position of this reader.
+	 * <p>
+	 * Closing any of the readers closes the file for all of them.
 	 *
-	 * @param newCachePosition
-	 *            A file position
-	 * @throws IOException
+	 * @return The new reader.
 	 */
-	private void jumpCachePosition(long newCachePosition) throws IOException {
-		long positionInCache = newCachePosition - this.cacheStart;
-		if (positionInCache >= 0 && positionInCache < CACHE_SIZE) {
-			this.cachePosition = (int) positionInCache;
-		} else {
-			// we have to reload...
-			this.in.seek(newCachePosition);
-			this.inputStreamPosition = newCachePosition;
-			this.cacheStart = this.inputStreamPosition;
-
-			this.inputStreamPosition += this.in.read(this.cache, 0, CACHE_SIZE);
-			this.cachePosition = 0;
-		}
+	public ByteReader duplicate() {
+		return new ByteReader(in, buffer.duplicate());
 	}
 
 	/**
-	 * Asserts that the cache hold bytecount valid bytes.
-	 * <p>
-	 * if the rest of the cache is not long enough
+	 * Reads a 16 bit int.
 	 *
-	 * @param bytecount
+	 * @return The int.
 	 * @throws IOException
+	 *             If an io error occured.
 	 */
-	private void assertCacheHolds(int bytecount) throws IOException {
-
-		if (bytecount >= CACHE_SIZE) {
-			throw new IllegalArgumentException(
-					"Cache buffer to small to read that many bytes");
-		}
-
-		int remaining = CACHE_SIZE - this.cachePosition;
-		if (remaining < bytecount) {
-			// refill buffer
-			for (int i = 0; i < remaining; i++) {
-				this.cache[i] = this.cache[this.cachePosition + i];
-			}
-
-			// todo: save until where cache is valid, if file to long.
-			int length = (int) Math.min(CACHE_SIZE - remaining, this.in.length() - this.in.getFilePointer());
-			this.inputStreamPosition += this.in.read(this.cache, remaining, length);
-			// TODO: store how long buffer is valid
-			this.cacheStart += this.cachePosition;
-			this.cachePosition = 0;
+	public int read16() throws IOException {
+		try {
+			return 0xffff & this.buffer.getShort();
+		} catch (BufferUnderflowException e) {
+			throw endOfFile();
 		}
 	}
 
@@ -144,18 +90,11 @@ public class ByteReader {
 	 *             If an IO error occured.
 	 */
 	public int read32() throws IOException {
-		assertCacheHolds(4);
-
-		byte byte0 = this.cache[this.cachePosition++];
-		byte byte1 = this.cache[this.cachePosition++];
-		byte byte2 = this.cache[this.cachePosition++];
-		byte byte3 = this.cache[this.cachePosition++];
-
-		int value =
-				(0xff & byte0) | ((0xff & byte1) << 8)
-						| ((0xff & byte2) << 16)
-						| ((0xff & byte3) << 24);
-		return value;
+		try {
+			return this.buffer.getInt();
+		} catch (BufferUnderflowException e) {
+			throw endOfFile();
+		}
 	}
 
 	/**
@@ -167,10 +106,12 @@ public class ByteReader {
 	 *             If the read data does not match the given data.
 	 */
 	public void assumeToRead(byte[] toRead) throws IOException {
-		assertCacheHolds(toRead.length);
+		if (this.buffer.remaining() < toRead.length) {
+			throw endOfFile();
+		}
 
 		for (int i = 0; i < toRead.length; i++) {
-			byte read = this.cache[this.cachePosition++];
+			byte read = this.buffer.get();
 			if (read != toRead[i]) {
 				throw new IOException("IO error: expected to read " + toRead[i]
 						+ " but got " + read + " (i=" + i + ")");
@@ -186,11 +127,10 @@ public class ByteReader {
 	 *             If an IO error occured.
 	 */
 	public int read16signed() throws IOException {
-		int read = read16();
-		if (read < 0x8000) {
-			return read;
-		} else {
-			return read - 0x10000;
+		try {
+			return this.buffer.getShort();
+		} catch (BufferUnderflowException e) {
+			throw endOfFile();
 		}
 	}
 
@@ -202,14 +142,15 @@ public class ByteReader {
 	 *             If an io error occured.
 	 */
 	public int read8() throws IOException {
-		assertCacheHolds(1);
-		return 0xff & this.cache[this.cachePosition++];
+		try {
+			return 0xff & this.buffer.get();
+		} catch (BufferUnderflowException e) {
+			throw endOfFile();
+		}
 	}
 
 	/**
 	 * Reads a byte stream from the stream.
-	 * <p>
-	 * Warning: this is not guaranteed to work for long arrays.
 	 *
 	 * @param b
 	 *            The byte array to read to.
@@ -222,10 +163,10 @@ public class ByteReader {
 	 *             If an io error occurred.
 	 */
 	public int read(byte[] b, int off, int len) throws IOException {
-		assertCacheHolds(len);
-
-		for (int i = 0; i < len; i++) {
-			b[off + i] = this.cache[this.cachePosition++];
+		try {
+			this.buffer.get(b, off, len);
+		} catch (BufferUnderflowException e) {
+			throw endOfFile();
 		}
 		return len;
 	}
@@ -240,8 +181,11 @@ public class ByteReader {
 	 *             If an IO error occured.
 	 */
 	public long skipTo(long pos) throws IOException {
-		jumpCachePosition(pos);
-		return this.cacheStart + this.cachePosition;
+		if (pos < 0 || pos > this.buffer.limit()) {
+			throw new EOFException("Can not skip to " + pos + ", the file has only " + this.buffer.limit() + " bytes.");
+		}
+		this.buffer.position((int) pos);
+		return pos;
 	}
 
 	/**
@@ -251,7 +195,26 @@ public class ByteReader {
 	 * @return The number.
 	 */
 	public long getReadBytes() {
-		return this.cacheStart + this.cachePosition;
+		return this.buffer.position();
+	}
+
+	/**
+	 * Calculates a hash of the whole file content, independent of the current position.
+	 *
+	 * @return The hash.
+	 */
+	public long hashContent() {
+		ByteBuffer content = this.buffer.duplicate().order(ByteOrder.LITTLE_ENDIAN);
+		content.rewind();
+
+		long hashCode = 1L;
+		while (content.remaining() >= 8) {
+			hashCode = hashCode * 31L + content.getLong();
+		}
+		while (content.hasRemaining()) {
+			hashCode = hashCode * 31L + content.get();
+		}
+		return hashCode;
 	}
 
 	/**
@@ -263,4 +226,8 @@ public class ByteReader {
 	public void close() throws IOException {
 		this.in.close();
 	}
+
+	private EOFException endOfFile() {
+		return new EOFException("Unexpected end of file at " + this.buffer.position() + ".");
+	}
 }
@@ -19,7 +19,8 @@ import jsettlers.graphics.map.draw.settlerimages.SettlerImageMap;
 public class ImagePreloadTask implements Runnable {
 	@Override
 	public void run() {
-		SettlerImageMap.getInstance();
+		SettlerImageMap settlerImageMap = SettlerImageMap.getInstance();
+		ImageProvider.getInstance().preloadSettlerFiles(settlerImageMap.getFiles());
 
 		Background.preloadTexture();
 	}
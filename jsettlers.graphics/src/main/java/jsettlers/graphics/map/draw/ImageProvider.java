@@ -20,6 +20,7 @@ import jsettlers.common.images.EImageLinkType;
 import jsettlers.common.images.ImageLink;
 import jsettlers.common.images.OriginalImageLink;
 import jsettlers.common.images.TextureMap;
+import jsettlers.common.resources.ResourceManager;
 import jsettlers.graphics.image.Image;
 import jsettlers.graphics.image.ImageIndexFile;
 import jsettlers.graphics.image.SingleImage;
@@ -29,6 +30,7 @@ import jsettlers.graphics.image.reader.AdvancedDatFileReader;
 import jsettlers.graphics.image.reader.DatFileReader;
 import jsettlers.graphics.image.reader.DatFileSet;
 import jsettlers.graphics.image.reader.DatFileType;
+import jsettlers.graphics.image.reader.DecodedImageCache;
 import jsettlers.graphics.image.reader.EmptyDatFile;
 import jsettlers.graphics.image.reader.custom.graphics.CustomGraphicsInterceptor;
 import jsettlers.graphics.image.reader.versions.DefaultGfxFolderMapping;
@@ -39,11 +41,14 @@ import jsettlers.graphics.image.sequence.Sequence;
 
 import java.io.File;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Hashtable;
 import java.util.List;
 import java.util.Locale;
 import java.util.Queue;
 import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 /**
  * This is the main image provider. It provides access to all images.
@@ -56,6 +61,7 @@ public final class ImageProvider {
 	private static final String FILE_PREFIX = "siedler3_";
 	private static final int LAST_SEQUENCE_NUMBER = 2;
 	private static final List<Integer> HIGHRES_IMAGE_FILE_NUMBERS = Arrays.asList(3, 14);
+	private static final String IMAGE_CACHE_DIRECTORY = "image-cache";
 
 	/**
 	 * The lookup path for the dat files.
@@ -68,6 +74,7 @@ public final class ImageProvider {
 
 	private final Queue<GLPreloadTask> tasks = new ConcurrentLinkedQueue<>();
 	private final Hashtable<Integer, DatFileReader> readers = new Hashtable<>();
+	private final Hashtable<Integer, AdvancedDatFileReader> datFileReaders = new Hashtable<>();
 
 	private GfxFolderMapping gfxFolderMapping = new DefaultGfxFolderMapping();
 
@@ -277,6 +284,7 @@ public final class ImageProvider {
 	 */
 	public void invalidateAll() {
 		readers.clear();
+		datFileReaders.clear();
 		Background.invalidateTexture();
 	}
 
@@ -299,7 +307,9 @@ public final class ImageProvider {
 			File file = findFileInPaths(fileName);
 
 			if (file != null) {
-				reader = new AdvancedDatFileReader(file, type, gfxFolderMapping.getDatFileMapping(fileIndex), "F" + fileIndex);
+				AdvancedDatFileReader datFileReader = new AdvancedDatFileReader(file, type, gfxFolderMapping.getDatFileMapping(fileIndex), "F" + fileIndex);
+				datFileReaders.put(fileIndex, datFileReader);
+				reader = datFileReader;
 				break;
 			}
 		}
@@ -307,6 +317,42 @@ public final class ImageProvider {
 		return CustomGraphicsInterceptor.prependCustomGraphics(fileIndex, reader, this);
 	}
 
+	/**
+	 * Loads the settler sequences of the given files. The images are read from the image cache in the resources directory if they have been
+	 * decoded before, otherwise the sequences are decoded in parallel.
+	 *
+	 * @param files
+	 * 		The numbers of the files.
+	 */
+	public void preloadSettlerFiles(Collection<Integer> files) {
+		DecodedImageCache cache = getImageCache();
+		ExecutorService executor = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors(), runnable -> {
+			Thread thread = new Thread(runnable, "image decoder");
+			thread.setDaemon(true);
+			return thread;
+		});
+
+		try {
+			for (int file : files) {
+				getFileReader(file);
+				AdvancedDatFileReader reader = datFileReaders.get(file);
+				if (reader != null) {
+					reader.preloadSettlers(executor, cache);
+				}
+			}
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	private static DecodedImageCache getImageCache() {
+		File resourcesDirectory = ResourceManager.getResourcesDirectory();
+		if (resourcesDirectory.getPath().isEmpty()) {
+			return null; // no resource provider has been set, so there is no place for the cache
+		}
+		return new DecodedImageCache(new File(resourcesDirectory, IMAGE_CACHE_DIRECTORY));
+	}
+
 	/**
 	 * Starts preloading the images, if lookup paths have been set.
 	 *
@@ -192,7 +192,8 @@ public class MapObjectDrawer {
 	private static final int FLAG_FILE = 13;
 	private final SoundManager   sound;
 	private final MapDrawContext context;
-	private byte[][] visibleGrid = null;
+	private byte[] visibleGrid = null;
+	private final int mapWidth;
 
 	/**
 	 * An animation counter, used for trees and other waving/animated things.
@@ -219,12 +220,13 @@ public class MapObjectDrawer {
 		this.context = context;
 		this.sound = sound;
 
+		mapWidth = context.getMap().getWidth();
 		z_per_y = 1f/(context.getMap().getHeight()*100);
 		shadow_offset = 10 * z_per_y;
 		construction_offset = z_per_y;
 	}
 
-	public void setVisibleGrid(byte[][] visibleGrid) {
+	public void setVisibleGrid(byte[] visibleGrid) {
 		this.visibleGrid = visibleGrid;
 	}
 
@@ -239,7 +241,7 @@ public class MapObjectDrawer {
 	 * 		The object (tree, ...) to draw.
 	 */
 	public void drawMapObject(int x, int y, IMapObject object) {
-		byte fogStatus = visibleGrid != null ? visibleGrid[x][y] : CommonConstants.FOG_OF_WAR_VISIBLE;
+		byte fogStatus = visibleGrid != null ? visibleGrid[y * mapWidth + x] : CommonConstants.FOG_OF_WAR_VISIBLE;
 		if (fogStatus == 0) {
 			return; // break
 		}
@@ -264,14 +266,14 @@ public class MapObjectDrawer {
 
 	private void drawShipInConstruction(int x, int y, IShipInConstruction ship) {
 		EMovableType shipType = ship.getObjectType() == EMapObjectType.FERRY ? EMovableType.FERRY : EMovableType.CARGO_SHIP;
-		float shade = getColor(visibleGrid != null ? visibleGrid[x][y] : CommonConstants.FOG_OF_WAR_VISIBLE);
+		float shade = getColor(visibleGrid != null ? visibleGrid[y * mapWidth + x] : CommonConstants.FOG_OF_WAR_VISIBLE);
 		float state = ship.getStateProgress();
 		Image image = imageMap.getImageForSettler(ship.getPlayer().getCivilisation(), shipType, EMovableAction.NO_ACTION, EMaterialType.TREE, ship.getDirection(), 0);
 		drawWithConstructionMask(x, y, state, image, shade);
 	}
 
 	private void drawShip(IGraphicsMovable ship, int x, int y) {
-		byte fogOfWarVisibleStatus = visibleGrid != null ? visibleGrid[x][y] : CommonConstants.FOG_OF_WAR_VISIBLE;
+		byte fogOfWarVisibleStatus = visibleGrid != null ? visibleGrid[y * mapWidth + x] : CommonConstants.FOG_OF_WAR_VISIBLE;
 		if (fogOfWarVisibleStatus == 0) {
 			return;
 		}
@@ -817,7 +819,7 @@ public class MapObjectDrawer {
 	}
 
 	private void drawMovableAt(IGraphicsMovable movable, int x, int y) {
-		byte fogStatus = visibleGrid != null ? visibleGrid[x][y] : CommonConstants.FOG_OF_WAR_VISIBLE;
+		byte fogStatus = visibleGrid != null ? visibleGrid[y * mapWidth + x] : CommonConstants.FOG_OF_WAR_VISIBLE;
 		if (fogStatus <= CommonConstants.FOG_OF_WAR_EXPLORED) {
 			return; // break
 		}
@@ -1131,7 +1133,7 @@ public class MapObjectDrawer {
 	 * 		The player.
 	 */
 	public void drawPlayerBorderObject(int x, int y, IPlayer player) {
-		byte fogStatus = visibleGrid != null ? visibleGrid[x][y] : CommonConstants.FOG_OF_WAR_VISIBLE;
+		byte fogStatus = visibleGrid != null ? visibleGrid[y * mapWidth + x] : CommonConstants.FOG_OF_WAR_VISIBLE;
 		if (fogStatus <= CommonConstants.FOG_OF_WAR_EXPLORED) {
 			return; // break
 		}
@@ -1267,7 +1269,7 @@ public class MapObjectDrawer {
 					draw(image, x, y, building.getBuildingVariant().isVariantOf(EBuildingType.MARKET_PLACE) ? BACKGROUND_Z : 0, null, color);
 				}
 
-				byte fow = visibleGrid != null ? visibleGrid[x][y] : CommonConstants.FOG_OF_WAR_VISIBLE;
+				byte fow = visibleGrid != null ? visibleGrid[y * mapWidth + x] : CommonConstants.FOG_OF_WAR_VISIBLE;
 
 				if (building instanceof IOccupied && fow > CommonConstants.FOG_OF_WAR_EXPLORED) {
 					drawOccupiers(x, y, (IOccupied) building, color);
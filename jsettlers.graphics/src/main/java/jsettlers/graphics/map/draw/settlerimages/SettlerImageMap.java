@@ -18,6 +18,8 @@ import java.io.File;
 import java.io.FileReader;
 import java.io.IOException;
 import java.io.InputStreamReader;
+import java.util.Set;
+import java.util.TreeSet;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -359,6 +361,27 @@ public final class SettlerImageMap {
 		return image;
 	}
 
+	/**
+	 * @return The numbers of the files the images of the settlers are in.
+	 */
+	public Set<Integer> getFiles() {
+		Set<Integer> files = new TreeSet<>();
+		for (SettlerImageMapItem[][][][] typeItems : map) {
+			for (SettlerImageMapItem[][][] actionItems : typeItems) {
+				for (SettlerImageMapItem[][] materialItems : actionItems) {
+					for (SettlerImageMapItem[] directionItems : materialItems) {
+						for (SettlerImageMapItem item : directionItems) {
+							if (item != null) {
+								files.add(item.getFile());
+							}
+						}
+					}
+				}
+			}
+		}
+		return files;
+	}
+
 	/**
 	 * Gets a map item.
 	 *
@@ -0,0 +1,112 @@
+/*******************************************************************************
+ * Copyright (c) 2026
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE.
+ *******************************************************************************/
+package jsettlers.graphics.image.reader;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+
+import jsettlers.graphics.image.reader.DecodedSettlerSequence.DecodedImage;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+public class DecodedImageCacheTest {
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	@Test
+	public void testWriteAndRead() throws IOException {
+		File datFile = createDatFile();
+		DecodedImageCache cache = new DecodedImageCache(new File(folder.getRoot(), "cache"));
+
+		DecodedSettlerSequence sequence = new DecodedSettlerSequence(2);
+		sequence.images[0] = createImage(2, 1, -3, new short[] { 1, 2 });
+		sequence.images[1] = createImage(1, 1, 4, new short[] { 3 });
+		sequence.torsos[1] = createImage(1, 1, 0, new short[] { 4 });
+		cache.writeSettlers(datFile, 42L, new DecodedSettlerSequence[] { sequence, null });
+
+		DecodedSettlerSequence[] read = cache.readSettlers(datFile, 42L);
+
+		assertEquals(2, read.length);
+		assertNull("sequences that failed to decode should stay missing", read[1]);
+		assertEquals(2, read[0].length());
+		assertEquals(-3, read[0].images[0].metadata.offsetX);
+		assertArrayEquals(new short[] { 1, 2 }, read[0].images[0].data);
+		assertArrayEquals(new short[] { 4 }, read[0].torsos[1].data);
+		assertNull(read[0].torsos[0]);
+		assertNull(read[0].shadows[1]);
+	}
+
+	@Test
+	public void testChangedFileIsNotRead() throws IOException {
+		File datFile = createDatFile();
+		DecodedImageCache cache = new DecodedImageCache(new File(folder.getRoot(), "cache"));
+		cache.writeSettlers(datFile, 42L, new DecodedSettlerSequence[] { new DecodedSettlerSequence(0) });
+
+		assertNull(cache.readSettlers(datFile, 43L));
+	}
+
+	@Test
+	public void testCorruptedLengthsAreNotAllocated() throws IOException {
+		File datFile = createDatFile();
+		File cacheDirectory = new File(folder.getRoot(), "cache");
+		DecodedImageCache cache = new DecodedImageCache(cacheDirectory);
+		DecodedSettlerSequence sequence = new DecodedSettlerSequence(1);
+		sequence.images[0] = createImage(1, 1, 0, new short[] { 5 });
+		cache.writeSettlers(datFile, 42L, new DecodedSettlerSequence[] { sequence });
+
+		File cacheFile = cacheDirectory.listFiles()[0];
+		// the header takes 24 bytes, followed by the number of sequences, the sequence length, the image flag and the metadata
+		int[] lengthOffsets = { 24, 28, 49 };
+		for (int offset : lengthOffsets) {
+			try (RandomAccessFile file = new RandomAccessFile(cacheFile, "rw")) {
+				file.seek(offset);
+				int length = file.readInt();
+				file.seek(offset);
+				file.writeInt(Integer.MAX_VALUE);
+
+				assertNull("corrupted length at " + offset, cache.readSettlers(datFile, 42L));
+
+				file.seek(offset);
+				file.writeInt(length);
+			}
+		}
+		assertArrayEquals(new short[] { 5 }, cache.readSettlers(datFile, 42L)[0].images[0].data);
+	}
+
+	private File createDatFile() throws IOException {
+		File datFile = folder.newFile("siedler3_10.7c003e01f.dat");
+		try (FileOutputStream out = new FileOutputStream(datFile)) {
+			out.write(new byte[] { 1, 2, 3 });
+		}
+		return datFile;
+	}
+
+	private static DecodedImage createImage(int width, int height, int offsetX, short[] data) {
+		ImageMetadata metadata = new ImageMetadata();
+		metadata.width = width;
+		metadata.height = height;
+		metadata.offsetX = offsetX;
+		return new DecodedImage(metadata, data);
+	}
+}
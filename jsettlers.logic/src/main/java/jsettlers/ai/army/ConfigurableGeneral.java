@@ -262,9 +262,8 @@ public class ConfigurableGeneral implements ArmyGeneral {
 		Map<ShortPoint2D, List<Integer>> newOrders = new HashMap<>();
 		hospitals.forEach(hospital -> newOrders.put(hospital, new ArrayList<>()));
 
-		MovableManager.getAllMovables().stream()
+		stream(MovableManager.getWoundedMovables(player.playerId))
 				.filter(this::isWounded)
-				.filter(mov -> mov.getPlayer().equals(player))
 				.filter(mov -> EMovableType.PLAYER_CONTROLLED_HUMAN_MOVABLE_TYPES
 						.contains(mov.getMovableType()))
 				// only wounded movables that we actually can heal should be considered
@@ -18,10 +18,12 @@ import java.util.EnumMap;
 import java.util.List;
 import java.util.Map;
 
+import jsettlers.ai.highlevel.AiDistanceField;
 import jsettlers.ai.highlevel.AiStatistics;
 import jsettlers.algorithms.construction.AbstractConstructionMarkableMap;
 import jsettlers.common.buildings.EBuildingType;
 import jsettlers.common.player.ECivilisation;
+import jsettlers.common.position.SRectangle;
 import jsettlers.common.position.ShortPoint2D;
 
 import static jsettlers.common.buildings.EBuildingType.FARM;
@@ -51,22 +53,38 @@ public abstract class ConstructionPositionFinder {
 	protected final AbstractConstructionMarkableMap constructionMap;
 	protected final byte playerId;
 	protected final ECivilisation civilisation;
+	/**
+	 * Distance field shared by the finders of the player, it is only valid during one call of {@link #findBestConstructionPosition()}.
+	 */
+	protected final AiDistanceField distanceField;
 
 	protected ConstructionPositionFinder(Factory factory) {
 		aiStatistics = factory.aiStatistics;
 		constructionMap = factory.constructionMap;
 		playerId = factory.playerId;
 		civilisation = factory.civilisation;
+		distanceField = factory.distanceField;
 	}
 
 	public abstract ShortPoint2D findBestConstructionPosition();
 
+	/**
+	 * Calculates the distances of the land of the player to the nearest of the given points.
+	 */
+	protected void calculateDistancesOfLand(AiDistanceField field, List<ShortPoint2D> points) {
+		SRectangle land = aiStatistics.getLandForPlayer(playerId).getBoundingBox();
+		if (land != null) {
+			field.calculate(points, land.xMin, land.yMin, land.xMax, land.yMax);
+		}
+	}
+
 	public static class Factory {
 
 		final ECivilisation civilisation;
 		final AiStatistics aiStatistics;
 		final AbstractConstructionMarkableMap constructionMap;
 		final byte playerId;
+		final AiDistanceField distanceField = new AiDistanceField();
 
 		public Factory(ECivilisation civilisation, AiStatistics aiStatistics, AbstractConstructionMarkableMap constructionMap, byte playerId) {
 			this.civilisation = civilisation;
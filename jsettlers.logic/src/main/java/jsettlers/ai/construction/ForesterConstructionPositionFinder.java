@@ -17,7 +17,7 @@ package jsettlers.ai.construction;
 import java.util.ArrayList;
 import java.util.List;
 
-import jsettlers.ai.highlevel.AiStatistics;
+import jsettlers.ai.highlevel.AiDistanceField;
 import jsettlers.common.buildings.BuildingVariant;
 import jsettlers.common.buildings.EBuildingType;
 import jsettlers.common.position.ShortPoint2D;
@@ -35,6 +35,7 @@ import static jsettlers.common.buildings.EBuildingType.FORESTER;
 public class ForesterConstructionPositionFinder extends ConstructionPositionFinder {
 
 	private final BuildingVariant forester;
+	private final AiDistanceField foresterDistances = new AiDistanceField();
 
 	protected ForesterConstructionPositionFinder(Factory factory) {
 		super(factory);
@@ -45,6 +46,8 @@ public class ForesterConstructionPositionFinder extends ConstructionPositionFind
 	public ShortPoint2D findBestConstructionPosition() {
 		List<ShortPoint2D> lumberJacks = aiStatistics.getBuildingPositionsOfTypeForPlayer(EBuildingType.LUMBERJACK, playerId);
 		List<ShortPoint2D> foresters = aiStatistics.getBuildingPositionsOfTypeForPlayer(FORESTER, playerId);
+		calculateDistancesOfLand(distanceField, lumberJacks);
+		calculateDistancesOfLand(foresterDistances, foresters);
 
 		List<ScoredConstructionPosition> scoredConstructionPositions = new ArrayList<>();
 		for (ShortPoint2D point : aiStatistics.getLandForPlayer(playerId)) {
@@ -52,13 +55,11 @@ public class ForesterConstructionPositionFinder extends ConstructionPositionFind
 					&& !aiStatistics.blocksWorkingAreaOfOtherBuilding(point.x, point.y, playerId, forester)) {
 				int foresterDistance = 0;
 				int lumberJackDistance = 0;
-				ShortPoint2D nearestLumberJackPoint = AiStatistics.detectNearestPointFromList(point, lumberJacks);
-				if (nearestLumberJackPoint != null) {
-					lumberJackDistance = point.getOnGridDistTo(nearestLumberJackPoint);
+				if (!lumberJacks.isEmpty()) {
+					lumberJackDistance = distanceField.getDistance(point.x, point.y);
 				}
-				ShortPoint2D nearestForesterPoint = AiStatistics.detectNearestPointFromList(point, foresters);
-				if (nearestForesterPoint != null) {
-					foresterDistance = point.getOnGridDistTo(nearestForesterPoint);
+				if (!foresters.isEmpty()) {
+					foresterDistance = foresterDistances.getDistance(point.x, point.y);
 				}
 
 				scoredConstructionPositions.add(new ScoredConstructionPosition(new ShortPoint2D(point.x, point.y), lumberJackDistance - foresterDistance));
@@ -14,7 +14,7 @@
  *******************************************************************************/
 package jsettlers.ai.construction;
 
-import jsettlers.ai.highlevel.AiPositions;
+import jsettlers.ai.highlevel.AiDistanceMap;
 import jsettlers.ai.highlevel.AiStatistics;
 import jsettlers.common.buildings.EBuildingType;
 
@@ -33,7 +33,7 @@ public class LumberJackConstructionPositionFinder extends WorkareaConstructionPo
 	}
 
 	@Override
-	protected AiPositions getRelevantObjects(AiStatistics aiStatistics, byte playerId) {
-		return aiStatistics.getTreesForPlayer(playerId);
+	protected AiDistanceMap getRelevantObjects(AiStatistics aiStatistics, byte playerId) {
+		return aiStatistics.getTreeDistancesForPlayer(playerId);
 	}
 }
@@ -19,7 +19,6 @@ import static jsettlers.common.movable.EMovableType.DIGGER;
 import java.util.ArrayList;
 import java.util.List;
 
-import jsettlers.ai.highlevel.AiStatistics;
 import jsettlers.common.buildings.BuildingVariant;
 import jsettlers.common.buildings.EBuildingType;
 import jsettlers.common.position.ShortPoint2D;
@@ -43,15 +42,16 @@ public class NearDiggersConstructionPositionFinder extends ConstructionPositionF
 	@Override
 	public ShortPoint2D findBestConstructionPosition() {
 		List<ShortPoint2D> diggers = aiStatistics.getPositionsOfMovablesWithTypeForPlayer(playerId, DIGGER);
+		calculateDistancesOfLand(distanceField, diggers);
+
 		List<ScoredConstructionPosition> scoredConstructionPositions = new ArrayList<>();
 
 		for (ShortPoint2D point : aiStatistics.getLandForPlayer(playerId)) {
 			if (constructionMap.canConstructAt(point.x, point.y, building.getType(), playerId)
 					&& !aiStatistics.blocksWorkingAreaOfOtherBuilding(point.x, point.y, playerId, building)) {
-				ShortPoint2D nearestDiggerPosition = AiStatistics.detectNearestPointFromList(point, diggers);
 				int nearestDiggerDistance = 0;
-				if (nearestDiggerPosition != null) {
-					nearestDiggerDistance = point.getOnGridDistTo(nearestDiggerPosition);
+				if (!diggers.isEmpty()) {
+					nearestDiggerDistance = distanceField.getDistance(point.x, point.y);
 				}
 				byte flatternEffort = aiStatistics.getFlatternEffortAtPositionForBuilding(point, building);
 				scoredConstructionPositions.add(new ScoredConstructionPosition(point, nearestDiggerDistance + flatternEffort));
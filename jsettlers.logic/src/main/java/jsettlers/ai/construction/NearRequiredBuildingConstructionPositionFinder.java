@@ -17,7 +17,6 @@ package jsettlers.ai.construction;
 import java.util.ArrayList;
 import java.util.List;
 
-import jsettlers.ai.highlevel.AiStatistics;
 import jsettlers.common.buildings.BuildingVariant;
 import jsettlers.common.buildings.EBuildingType;
 import jsettlers.common.position.ShortPoint2D;
@@ -42,14 +41,15 @@ public class NearRequiredBuildingConstructionPositionFinder extends Construction
 	@Override
 	public ShortPoint2D findBestConstructionPosition() {
 		List<ShortPoint2D> neededBuildings = aiStatistics.getBuildingPositionsOfTypeForPlayer(neededBuildingType, playerId);
+		calculateDistancesOfLand(distanceField, neededBuildings);
+
 		List<ScoredConstructionPosition> scoredConstructionPositions = new ArrayList<>();
 		for (ShortPoint2D point : aiStatistics.getLandForPlayer(playerId)) {
 			if (constructionMap.canConstructAt(point.x, point.y, building.getType(), playerId)
 					&& !aiStatistics.blocksWorkingAreaOfOtherBuilding(point.x, point.y, playerId, building)) {
-				ShortPoint2D nearestNeededBuilding = AiStatistics.detectNearestPointFromList(point, neededBuildings);
 				int nearestNeededBuildingDistance = 0;
-				if (nearestNeededBuilding != null) {
-					nearestNeededBuildingDistance = point.getOnGridDistTo(nearestNeededBuilding);
+				if (!neededBuildings.isEmpty()) {
+					nearestNeededBuildingDistance = distanceField.getDistance(point.x, point.y);
 				}
 				byte flatternEffort = aiStatistics.getFlatternEffortAtPositionForBuilding(point, building);
 				scoredConstructionPositions.add(new ScoredConstructionPosition(point, nearestNeededBuildingDistance + flatternEffort));
@@ -15,38 +15,52 @@
 package jsettlers.ai.construction;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
+import jsettlers.ai.highlevel.AiDensityTable;
+import jsettlers.ai.highlevel.AiPositions;
 import jsettlers.common.buildings.BuildingVariant;
 import jsettlers.common.buildings.EBuildingType;
 import jsettlers.common.position.RelativePoint;
+import jsettlers.common.position.SRectangle;
 import jsettlers.common.position.ShortPoint2D;
 import jsettlers.logic.map.grid.MainGrid;
+import jsettlers.logic.map.grid.partition.PartitionsGrid;
 
 /**
  * @author codingberlin
  */
 abstract public class PlantingBuildingConstructionPositionFinder extends ConstructionPositionFinder {
 
-	private final RelativePoint[] workAreaPoints;
 	private final BuildingVariant building;
+	/**
+	 * The work area relative to the building position as rectangles of {dxMin, dyMin, dxMax, dyMax}.
+	 */
+	private final int[][]         workAreaRectangles;
+	private final AiDensityTable  plantableDensity = new AiDensityTable();
 
 	protected PlantingBuildingConstructionPositionFinder(Factory factory, EBuildingType type) {
 		super(factory);
 		this.building = type.getVariant(factory.civilisation);
 
-		workAreaPoints = calculateMyRelativeWorkAreaPoints();
+		workAreaRectangles = toRectangles(calculateMyRelativeWorkAreaPoints());
 	}
 
 	@Override
 	public ShortPoint2D findBestConstructionPosition() {
+		AiPositions land = aiStatistics.getLandForPlayer(playerId);
+		if (land.isEmpty()) {
+			return null;
+		}
+		calculatePlantableDensity(land.getBoundingBox(), aiStatistics.getMainGrid());
 
 		List<ScoredConstructionPosition> scoredConstructionPositions = new ArrayList<>();
 
-		for (ShortPoint2D point : aiStatistics.getLandForPlayer(playerId)) {
+		for (ShortPoint2D point : land) {
 			if (constructionMap.canConstructAt(point.x, point.y, building.getType(), playerId)
 					&& !aiStatistics.blocksWorkingAreaOfOtherBuilding(point.x, point.y, playerId, building)) {
-				int score = calculateScoreFor(point, aiStatistics.getMainGrid(), playerId);
+				int score = calculateScoreFor(point);
 				if (score > 0) {
 					scoredConstructionPositions.add(new ScoredConstructionPosition(point, -score));
 				}
@@ -56,19 +70,61 @@ abstract public class PlantingBuildingConstructionPositionFinder extends Constru
 		return ScoredConstructionPosition.detectPositionWithLowestScore(scoredConstructionPositions);
 	}
 
-	private int calculateScoreFor(ShortPoint2D point, MainGrid mainGrid, byte playerId) {
+	private void calculatePlantableDensity(SRectangle land, MainGrid mainGrid) {
+		int xMin = land.xMin;
+		int yMin = land.yMin;
+		int xMax = land.xMax;
+		int yMax = land.yMax;
+		for (int[] rectangle : workAreaRectangles) {
+			xMin = Math.min(xMin, land.xMin + rectangle[0]);
+			yMin = Math.min(yMin, land.yMin + rectangle[1]);
+			xMax = Math.max(xMax, land.xMax + rectangle[2]);
+			yMax = Math.max(yMax, land.yMax + rectangle[3]);
+		}
+
+		PartitionsGrid partitionsGrid = mainGrid.getPartitionsGrid();
+		plantableDensity.calculate((x, y) -> partitionsGrid.getPlayerIdAt(x, y) == playerId && isMyPlantPlantable(mainGrid, new ShortPoint2D(x, y)),
+				Math.max(0, xMin), Math.max(0, yMin), Math.min(mainGrid.getWidth() - 1, xMax), Math.min(mainGrid.getHeight() - 1, yMax));
+	}
+
+	private int calculateScoreFor(ShortPoint2D point) {
 		int score = 0;
-		for (RelativePoint relativePoint : workAreaPoints) {
-			ShortPoint2D workAreaPoint = relativePoint.calculatePoint(point);
-			if (mainGrid.isInBounds(workAreaPoint.x, workAreaPoint.y)
-					&& mainGrid.getPartitionsGrid().getPlayerIdAt(workAreaPoint.x, workAreaPoint.y) == playerId
-					&& isMyPlantPlantable(mainGrid, workAreaPoint)) {
-				score++;
-			}
+		for (int[] rectangle : workAreaRectangles) {
+			score += plantableDensity.count(point.x + rectangle[0], point.y + rectangle[1], point.x + rectangle[2], point.y + rectangle[3]);
 		}
 		return score;
 	}
 
+	/**
+	 * Splits the given points into rectangles. Consecutive points of a row are joined and rows of the same extent are merged.
+	 */
+	static int[][] toRectangles(RelativePoint[] points) {
+		RelativePoint[] sortedPoints = points.clone();
+		Arrays.sort(sortedPoints, (first, second) -> first.getDy() != second.getDy() ? Integer.compare(first.getDy(), second.getDy())
+				: Integer.compare(first.getDx(), second.getDx()));
+
+		List<int[]> rectangles = new ArrayList<>();
+		int index = 0;
+		while (index < sortedPoints.length) {
+			int dy = sortedPoints[index].getDy();
+			int dxMin = sortedPoints[index].getDx();
+			int dxMax = dxMin;
+			index++;
+			while (index < sortedPoints.length && sortedPoints[index].getDy() == dy && sortedPoints[index].getDx() == dxMax + 1) {
+				dxMax++;
+				index++;
+			}
+
+			int[] previous = rectangles.isEmpty() ? null : rectangles.get(rectangles.size() - 1);
+			if (previous != null && previous[0] == dxMin && previous[2] == dxMax && previous[3] == dy - 1) {
+				previous[3] = dy;
+			} else {
+				rectangles.add(new int[] { dxMin, dy, dxMax, dy });
+			}
+		}
+		return rectangles.toArray(new int[rectangles.size()][]);
+	}
+
 	protected RelativePoint[] calculateMyRelativeWorkAreaPoints() {
 		List<RelativePoint> workAreaPoints = new ArrayList<>();
 		RelativePoint center = building.getDefaultWorkcenter();
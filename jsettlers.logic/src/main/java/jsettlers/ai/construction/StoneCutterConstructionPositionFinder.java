@@ -16,6 +16,7 @@ package jsettlers.ai.construction;
 
 import static jsettlers.common.buildings.EBuildingType.STONECUTTER;
 
+import jsettlers.ai.highlevel.AiDistanceMap;
 import jsettlers.ai.highlevel.AiPositions;
 import jsettlers.ai.highlevel.AiStatistics;
 import jsettlers.algorithms.construction.AbstractConstructionMarkableMap;
@@ -44,10 +45,10 @@ public class StoneCutterConstructionPositionFinder extends ConstructionPositionF
 		private final AbstractConstructionMarkableMap constructionMap;
 		private final AiStatistics aiStatistics;
 		private final byte playerId;
-		private final AiPositions objects;
+		private final AiDistanceMap objects;
 		private final BuildingVariant stonecutter;
 
-		public StoneCutterPositionRater(AbstractConstructionMarkableMap constructionMap, AiStatistics aiStatistics, byte playerId, ECivilisation civilisation, AiPositions stones) {
+		public StoneCutterPositionRater(AbstractConstructionMarkableMap constructionMap, AiStatistics aiStatistics, byte playerId, ECivilisation civilisation, AiDistanceMap stones) {
 			this.constructionMap = constructionMap;
 			this.aiStatistics = aiStatistics;
 			this.playerId = playerId;
@@ -82,17 +83,11 @@ public class StoneCutterConstructionPositionFinder extends ConstructionPositionF
 					return RATE_INVALID;
 				}
 
-				// ShortPoint2D nearestStonePosition = objects.getNearestPoint(p, Math.min(workradius, currentBestRating - score), null);
-				ShortPoint2D nearestStonePosition = objects.getNearestPoint(p, workradius, null);
-				if (nearestStonePosition == null) {
+				int stoneDistance = objects.getDistance(x, y);
+				if (stoneDistance >= workradius) {
 					return RATE_INVALID;
 				}
-
-				int treeDistance = nearestStonePosition.getOnGridDistTo(p);
-				if (treeDistance >= workradius) {
-					return RATE_INVALID;
-				}
-				score += treeDistance;
+				score += stoneDistance;
 				return score;
 			}
 		}
@@ -100,8 +95,8 @@ public class StoneCutterConstructionPositionFinder extends ConstructionPositionF
 
 	@Override
 	public ShortPoint2D findBestConstructionPosition() {
-		AiPositions stones = aiStatistics.getStonesForPlayer(playerId);
-		if (stones.size() == 0) {
+		AiDistanceMap stones = aiStatistics.getStoneDistancesForPlayer(playerId);
+		if (stones.getPositions().isEmpty()) {
 			return null;
 		}
 		AiPositions.PositionRater rater = new StoneCutterPositionRater(constructionMap, aiStatistics, playerId, civilisation, stones);
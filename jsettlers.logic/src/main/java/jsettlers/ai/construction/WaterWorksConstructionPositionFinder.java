@@ -17,7 +17,7 @@ package jsettlers.ai.construction;
 import java.util.ArrayList;
 import java.util.List;
 
-import jsettlers.ai.highlevel.AiPositions;
+import jsettlers.ai.highlevel.AiDistanceMap;
 import jsettlers.common.buildings.BuildingVariant;
 import jsettlers.common.position.ShortPoint2D;
 
@@ -41,17 +41,16 @@ public class WaterWorksConstructionPositionFinder extends ConstructionPositionFi
 
 	@Override
 	public ShortPoint2D findBestConstructionPosition() {
-		AiPositions rivers = aiStatistics.getRiversForPlayer(playerId);
-		if (rivers.size() == 0) {
+		AiDistanceMap rivers = aiStatistics.getRiverDistancesForPlayer(playerId);
+		if (rivers.getPositions().isEmpty()) {
 			return null;
 		}
 		List<ScoredConstructionPosition> scoredConstructionPositions = new ArrayList<>();
 		for (ShortPoint2D point : aiStatistics.getLandForPlayer(playerId)) {
 			if (constructionMap.canConstructAt(point.x, point.y, WATERWORKS, playerId)
 					&& !aiStatistics.blocksWorkingAreaOfOtherBuilding(point.x, point.y, playerId, waterworks)) {
-				ShortPoint2D nearestRiverPosition = rivers.getNearestPoint(point, waterworks.getWorkRadius(), null);
-				if (nearestRiverPosition != null) {
-					int riverDistance = point.getOnGridDistTo(nearestRiverPosition);
+				int riverDistance = rivers.getDistance(point.x, point.y);
+				if (riverDistance < waterworks.getWorkRadius()) {
 					scoredConstructionPositions.add(new ScoredConstructionPosition(point, riverDistance));
 				}
 			}
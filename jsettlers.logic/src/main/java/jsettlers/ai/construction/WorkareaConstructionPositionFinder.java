@@ -14,7 +14,7 @@
  *******************************************************************************/
 package jsettlers.ai.construction;
 
-import jsettlers.ai.highlevel.AiPositions;
+import jsettlers.ai.highlevel.AiDistanceMap;
 import jsettlers.ai.highlevel.AiPositions.PositionRater;
 import jsettlers.ai.highlevel.AiStatistics;
 import jsettlers.algorithms.construction.AbstractConstructionMarkableMap;
@@ -34,10 +34,10 @@ public abstract class WorkareaConstructionPositionFinder extends ConstructionPos
 		private final AbstractConstructionMarkableMap constructionMap;
 		private final AiStatistics aiStatistics;
 		private final byte playerId;
-		private final AiPositions objects;
+		private final AiDistanceMap objects;
 		private final BuildingVariant building;
 
-		public WorkAreaPositionRater(AbstractConstructionMarkableMap constructionMap, AiStatistics aiStatistics, byte playerId, AiPositions objects, BuildingVariant building) {
+		public WorkAreaPositionRater(AbstractConstructionMarkableMap constructionMap, AiStatistics aiStatistics, byte playerId, AiDistanceMap objects, BuildingVariant building) {
 			this.constructionMap = constructionMap;
 			this.aiStatistics = aiStatistics;
 			this.playerId = playerId;
@@ -63,13 +63,8 @@ public abstract class WorkareaConstructionPositionFinder extends ConstructionPos
 					return RATE_INVALID;
 				}
 
-				short workRadius = building.getWorkRadius();
-				ShortPoint2D nearestTreePosition = objects.getNearestPoint(p, Math.min(workRadius, currentBestRating - score), null);
-				if (nearestTreePosition == null) {
-					return RATE_INVALID;
-				}
-				int treeDistance = nearestTreePosition.getOnGridDistTo(p);
-				if (treeDistance >= workRadius) {
+				int treeDistance = objects.getDistance(x, y);
+				if (treeDistance >= building.getWorkRadius()) {
 					return RATE_INVALID;
 				}
 				score += treeDistance;
@@ -86,8 +81,8 @@ public abstract class WorkareaConstructionPositionFinder extends ConstructionPos
 
 	@Override
 	public ShortPoint2D findBestConstructionPosition() {
-		AiPositions objects = getRelevantObjects(aiStatistics, playerId);
-		if (objects.size() == 0) {
+		AiDistanceMap objects = getRelevantObjects(aiStatistics, playerId);
+		if (objects.getPositions().isEmpty()) {
 			return null;
 		}
 		PositionRater rater = new WorkAreaPositionRater(constructionMap, aiStatistics, playerId, objects, buildingType.getVariant(civilisation));
@@ -95,5 +90,5 @@ public abstract class WorkareaConstructionPositionFinder extends ConstructionPos
 		return aiStatistics.getLandForPlayer(playerId).getBestRatedPoint(rater);
 	}
 
-	protected abstract AiPositions getRelevantObjects(AiStatistics aiStatistics, byte playerId);
+	protected abstract AiDistanceMap getRelevantObjects(AiStatistics aiStatistics, byte playerId);
 }
\ No newline at end of file
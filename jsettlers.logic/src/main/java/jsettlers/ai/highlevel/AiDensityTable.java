@@ -0,0 +1,77 @@
+/*******************************************************************************
+ * Copyright (c) 2026
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE.
+ *******************************************************************************/
+package jsettlers.ai.highlevel;
+
+import jsettlers.ai.highlevel.AiPositions.AiPositionFilter;
+
+/**
+ * Summed-area table counting the positions of a rectangular window of the map that are accepted by a filter. Afterwards the number of accepted
+ * positions in any rectangle can be looked up in constant time.
+ */
+public class AiDensityTable {
+	private int[] sums = new int[0];
+	private int   xMin;
+	private int   yMin;
+	private int   xMax;
+	private int   yMax;
+	private int   rowLength;
+
+	/**
+	 * Counts the positions of the given window accepted by the filter.
+	 */
+	public void calculate(AiPositionFilter filter, int xMin, int yMin, int xMax, int yMax) {
+		this.xMin = xMin;
+		this.yMin = yMin;
+		this.xMax = xMax;
+		this.yMax = yMax;
+		this.rowLength = xMax - xMin + 2;
+
+		int size = rowLength * (yMax - yMin + 2);
+		if (sums.length < size) {
+			sums = new int[size];
+		}
+
+		for (int x = 0; x < rowLength; x++) {
+			sums[x] = 0;
+		}
+		for (int y = yMin; y <= yMax; y++) {
+			int index = (y - yMin + 1) * rowLength;
+			sums[index] = 0;
+			int rowSum = 0;
+			for (int x = xMin; x <= xMax; x++) {
+				if (filter.contains(x, y)) {
+					rowSum++;
+				}
+				index++;
+				sums[index] = sums[index - rowLength] + rowSum;
+			}
+		}
+	}
+
+	/**
+	 * @return The number of accepted positions in the given rectangle. Positions outside the calculated window are not counted.
+	 */
+	public int count(int xMin, int yMin, int xMax, int yMax) {
+		xMin = Math.max(xMin, this.xMin) - this.xMin;
+		yMin = Math.max(yMin, this.yMin) - this.yMin;
+		xMax = Math.min(xMax, this.xMax) - this.xMin + 1;
+		yMax = Math.min(yMax, this.yMax) - this.yMin + 1;
+		if (xMin >= xMax || yMin >= yMax) {
+			return 0;
+		}
+
+		return sums[yMax * rowLength + xMax] - sums[yMin * rowLength + xMax] - sums[yMax * rowLength + xMin] + sums[yMin * rowLength + xMin];
+	}
+}
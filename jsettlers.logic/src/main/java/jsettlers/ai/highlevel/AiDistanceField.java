@@ -0,0 +1,162 @@
+/*******************************************************************************
+ * Copyright (c) 2026
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE.
+ *******************************************************************************/
+package jsettlers.ai.highlevel;
+
+import java.util.Arrays;
+import java.util.Collection;
+
+import jsettlers.common.position.ShortPoint2D;
+
+/**
+ * The on grid distances of the positions in a rectangular window of the map to the nearest of a set of points. The distances are calculated with a
+ * two pass distance transform, afterwards every distance can be looked up in constant time.
+ * <p />
+ * A shortest path on the grid only uses two of the six directions and never leaves the bounding box of its start and end. Therefore, the forward
+ * pass (taking the west, north west and north east neighbors) and the backward pass (taking the east, south east and south west neighbors) result in
+ * the exact distances.
+ */
+public class AiDistanceField {
+	public static final int UNKNOWN_DISTANCE = Short.MAX_VALUE;
+
+	private short[] distances = new short[0];
+	private int     xMin;
+	private int     yMin;
+	private int     width;
+	private int     height;
+
+	/**
+	 * Calculates the distances of the positions in the given window to the nearest of the given points. Points outside the window are taken into
+	 * account, too.
+	 */
+	public void calculate(Collection<ShortPoint2D> points, int xMin, int yMin, int xMax, int yMax) {
+		setWindow(xMin, yMin, xMax, yMax);
+
+		boolean pointsOutsideWindow = false;
+		for (ShortPoint2D point : points) {
+			if (isInWindow(point.x, point.y)) {
+				distances[getIndex(point.x, point.y)] = 0;
+			} else {
+				pointsOutsideWindow = true;
+			}
+		}
+
+		if (pointsOutsideWindow) {
+			// the shortest path from a point outside the window enters the window at its border
+			for (int x = xMin; x <= xMax; x++) {
+				setBorderDistance(x, yMin, points);
+				setBorderDistance(x, yMax, points);
+			}
+			for (int y = yMin + 1; y < yMax; y++) {
+				setBorderDistance(xMin, y, points);
+				setBorderDistance(xMax, y, points);
+			}
+		}
+
+		transform();
+	}
+
+	/**
+	 * Calculates the distances of the positions in the given window to the nearest of the given positions. Only the positions inside the window are
+	 * taken into account, so the distances are only exact up to the distance between a position and the border of the window.
+	 */
+	public void calculate(AiPositions positions, int xMin, int yMin, int xMax, int yMax) {
+		setWindow(xMin, yMin, xMax, yMax);
+
+		positions.stream(xMin, yMin, xMax, yMax).forEach((x, y) -> distances[getIndex(x, y)] = 0);
+
+		transform();
+	}
+
+	/**
+	 * @return The distance of the given position to the nearest point or {@link #UNKNOWN_DISTANCE} if there is no point or the position is outside the
+	 *         calculated window.
+	 */
+	public int getDistance(int x, int y) {
+		if (!isInWindow(x, y)) {
+			return UNKNOWN_DISTANCE;
+		}
+		return distances[getIndex(x, y)];
+	}
+
+	private void setWindow(int xMin, int yMin, int xMax, int yMax) {
+		this.xMin = xMin;
+		this.yMin = yMin;
+		this.width = xMax - xMin + 1;
+		this.height = yMax - yMin + 1;
+
+		int size = width * height;
+		if (distances.length < size) {
+			distances = new short[size];
+		}
+		Arrays.fill(distances, 0, size, (short) UNKNOWN_DISTANCE);
+	}
+
+	private void setBorderDistance(int x, int y, Collection<ShortPoint2D> points) {
+		int index = getIndex(x, y);
+		for (ShortPoint2D point : points) {
+			int distance = point.getOnGridDistTo(x, y);
+			if (distance < distances[index]) {
+				distances[index] = (short) distance;
+			}
+		}
+	}
+
+	private void transform() {
+		for (int y = 0; y < height; y++) {
+			for (int x = 0; x < width; x++) {
+				int index = y * width + x;
+				if (x > 0) {
+					relax(index, index - 1);
+					if (y > 0) {
+						relax(index, index - width - 1);
+					}
+				}
+				if (y > 0) {
+					relax(index, index - width);
+				}
+			}
+		}
+
+		for (int y = height - 1; y >= 0; y--) {
+			for (int x = width - 1; x >= 0; x--) {
+				int index = y * width + x;
+				if (x < width - 1) {
+					relax(index, index + 1);
+					if (y < height - 1) {
+						relax(index, index + width + 1);
+					}
+				}
+				if (y < height - 1) {
+					relax(index, index + width);
+				}
+			}
+		}
+	}
+
+	private void relax(int index, int neighborIndex) {
+		int distance = distances[neighborIndex] + 1;
+		if (distance < distances[index]) {
+			distances[index] = (short) distance;
+		}
+	}
+
+	private boolean isInWindow(int x, int y) {
+		return x >= xMin && y >= yMin && x - xMin < width && y - yMin < height;
+	}
+
+	private int getIndex(int x, int y) {
+		return (y - yMin) * width + x - xMin;
+	}
+}
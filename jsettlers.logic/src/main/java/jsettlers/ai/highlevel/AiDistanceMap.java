@@ -0,0 +1,102 @@
+/*******************************************************************************
+ * Copyright (c) 2026
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE.
+ *******************************************************************************/
+package jsettlers.ai.highlevel;
+
+import java.util.BitSet;
+
+/**
+ * The distances of all positions of the map to the nearest position of an {@link AiPositions} set, up to a maximum distance. The map is split into
+ * chunks. When positions of the set change, the chunks near them are invalidated and recalculated the next time one of their distances is queried.
+ */
+public class AiDistanceMap {
+	private static final int CHUNK_SIZE_BITS = 4;
+	private static final int CHUNK_SIZE      = 1 << CHUNK_SIZE_BITS;
+
+	private final AiPositions     positions;
+	private final int             maxDistance;
+	private final int             width;
+	private final int             height;
+	private final int             chunksX;
+	private final byte[]          distances;
+	private final BitSet          dirtyChunks;
+	private final AiDistanceField field = new AiDistanceField();
+
+	/**
+	 * @param maxDistance
+	 *            Distances of at least this value are not distinguished, must be smaller than 128.
+	 */
+	public AiDistanceMap(AiPositions positions, int maxDistance, int width, int height) {
+		if (maxDistance > Byte.MAX_VALUE) {
+			throw new IllegalArgumentException("maxDistance must be smaller than 128: " + maxDistance);
+		}
+
+		this.positions = positions;
+		this.maxDistance = maxDistance;
+		this.width = width;
+		this.height = height;
+		chunksX = (width + CHUNK_SIZE - 1) >> CHUNK_SIZE_BITS;
+		int numberOfChunks = chunksX * ((height + CHUNK_SIZE - 1) >> CHUNK_SIZE_BITS);
+		distances = new byte[width * height];
+		dirtyChunks = new BitSet(numberOfChunks);
+		dirtyChunks.set(0, numberOfChunks);
+	}
+
+	public AiPositions getPositions() {
+		return positions;
+	}
+
+	/**
+	 * @return The distance of the given position to the nearest position of the set or the maximum distance if there is none nearer.
+	 */
+	public int getDistance(int x, int y) {
+		int chunk = (y >> CHUNK_SIZE_BITS) * chunksX + (x >> CHUNK_SIZE_BITS);
+		if (dirtyChunks.get(chunk)) {
+			calculateChunk(chunk);
+		}
+		return distances[y * width + x];
+	}
+
+	/**
+	 * Needs to be called when positions of the set inside the given area have been added or removed.
+	 */
+	public void invalidate(int xMin, int yMin, int xMax, int yMax) {
+		int chunkXMin = Math.max(0, xMin - maxDistance) >> CHUNK_SIZE_BITS;
+		int chunkYMin = Math.max(0, yMin - maxDistance) >> CHUNK_SIZE_BITS;
+		int chunkXMax = Math.min(width - 1, xMax + maxDistance) >> CHUNK_SIZE_BITS;
+		int chunkYMax = Math.min(height - 1, yMax + maxDistance) >> CHUNK_SIZE_BITS;
+
+		for (int chunkY = chunkYMin; chunkY <= chunkYMax; chunkY++) {
+			dirtyChunks.set(chunkY * chunksX + chunkXMin, chunkY * chunksX + chunkXMax + 1);
+		}
+	}
+
+	private void calculateChunk(int chunk) {
+		int xMin = (chunk % chunksX) << CHUNK_SIZE_BITS;
+		int yMin = (chunk / chunksX) << CHUNK_SIZE_BITS;
+		int xMax = Math.min(xMin + CHUNK_SIZE, width) - 1;
+		int yMax = Math.min(yMin + CHUNK_SIZE, height) - 1;
+
+		// every position nearer than the maximum distance to the chunk is inside this window
+		field.calculate(positions, Math.max(0, xMin - maxDistance + 1), Math.max(0, yMin - maxDistance + 1), Math.min(width - 1, xMax + maxDistance - 1),
+				Math.min(height - 1, yMax + maxDistance - 1));
+
+		for (int y = yMin; y <= yMax; y++) {
+			for (int x = xMin; x <= xMax; x++) {
+				distances[y * width + x] = (byte) Math.min(field.getDistance(x, y), maxDistance);
+			}
+		}
+		dirtyChunks.clear(chunk);
+	}
+}
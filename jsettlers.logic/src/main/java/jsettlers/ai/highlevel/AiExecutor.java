@@ -33,6 +33,11 @@ import jsettlers.network.synchronic.timer.INetworkTimerable;
  * @author codingberlin
  */
 public class AiExecutor implements INetworkTimerable {
+	/**
+	 * If true, the incrementally updated statistics are compared to a full rescan of the map on every update. This is slow and only meant for
+	 * debugging.
+	 */
+	private static final boolean CHECK_INCREMENTAL_STATISTICS = false;
 
 	private final List<Callable<Void>> lightWhatToDoAis;
 	private final List<Callable<Void>> heavyWhatToDoAis;
@@ -99,6 +104,10 @@ public class AiExecutor implements INetworkTimerable {
 			aiStatistics.updateStatistics();
 			updateStatisticsStopWatch.stop("computerplayer:updateStatistics()");
 
+			if (CHECK_INCREMENTAL_STATISTICS && !aiStatistics.checkIncrementalMapStatistics()) {
+				System.err.println("ERROR: incrementally updated ai statistics differ from a full rescan of the map");
+			}
+
 			applyHeavyRulesStopWatch.restart();
 			try {
 				statisticsUpdaterPool.invokeAll(heavyWhatToDoAis);
@@ -109,6 +118,13 @@ public class AiExecutor implements INetworkTimerable {
 		}
 	}
 
+	/**
+	 * Stops the threads the AIs are executed with.
+	 */
+	public void shutdown() {
+		statisticsUpdaterPool.shutdownNow();
+	}
+
 	public StatisticsStopWatch getUpdateStatisticsStopWatch() {
 		return updateStatisticsStopWatch;
 	}
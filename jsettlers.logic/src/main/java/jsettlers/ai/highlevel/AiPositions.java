@@ -15,6 +15,7 @@
 package jsettlers.ai.highlevel;
 
 import jsettlers.common.map.shapes.IMapArea;
+import jsettlers.common.position.SRectangle;
 import jsettlers.common.position.ShortPoint2D;
 import jsettlers.common.utils.coordinates.CoordinateStream;
 import jsettlers.common.utils.coordinates.IBooleanCoordinateFunction;
@@ -152,6 +153,23 @@ public class AiPositions implements IMapArea {
 		}
 	}
 
+	/**
+	 * Removes all positions contained in the given filter.
+	 *
+	 * @param filter
+	 *            filter accepting the positions to remove.
+	 */
+	public void removeAll(AiPositionFilter filter) {
+		int newSize = 0;
+		for (int i = 0; i < size; i++) {
+			int point = points[i];
+			if (!filter.contains(unpackX(point), unpackY(point))) {
+				points[newSize++] = point;
+			}
+		}
+		size = newSize;
+	}
+
 	@Override
 	public boolean contains(ShortPoint2D position) {
 		return contains(position.x, position.y);
@@ -173,7 +191,7 @@ public class AiPositions implements IMapArea {
 		return new PositionsIterator();
 	}
 
-	private void ensureSorted() {
+	void ensureSorted() {
 		if (!sorted) {
 			Arrays.sort(points, 0, size);
 			sorted = true;
@@ -244,6 +262,7 @@ public class AiPositions implements IMapArea {
 	}
 
 	public ShortPoint2D get(int index) {
+		ensureSorted();
 		return new ShortPoint2D(unpackX(points[index]), unpackY(points[index]));
 	}
 
@@ -281,6 +300,7 @@ public class AiPositions implements IMapArea {
 
 	public ShortPoint2D getBestRatedPoint(PositionRater rater) {
 		// TODO: Parallel ?
+		ensureSorted();
 		int currentBestRating = PositionRater.RATE_INVALID;
 		ShortPoint2D currentBest = null;
 		for (int i = 0; i < size; i++) {
@@ -296,7 +316,58 @@ public class AiPositions implements IMapArea {
 		return currentBest;
 	}
 
+	/**
+	 * @return The smallest rectangle containing all positions or null if this set is empty.
+	 */
+	public SRectangle getBoundingBox() {
+		if (size == 0) {
+			return null;
+		}
+
+		ensureSorted();
+		int yMin = Integer.MAX_VALUE;
+		int yMax = Integer.MIN_VALUE;
+		for (int i = 0; i < size; i++) {
+			int y = unpackY(points[i]);
+			yMin = Math.min(yMin, y);
+			yMax = Math.max(yMax, y);
+		}
+		return new SRectangle((short) unpackX(points[0]), (short) yMin, (short) unpackX(points[size - 1]), (short) yMax);
+	}
+
+	/**
+	 * Streams the positions inside the given rectangle. As the positions are sorted by their x coordinate, only the positions in the x range of the
+	 * rectangle are visited.
+	 */
+	public CoordinateStream stream(int xMin, int yMin, int xMax, int yMax) {
+		ensureSorted();
+		return new CoordinateStream() {
+			@Override
+			public boolean iterate(IBooleanCoordinateFunction function) {
+				int index = Arrays.binarySearch(points, 0, size, pack(Math.max(xMin, 0), 0));
+				if (index < 0) {
+					index = -index - 1;
+				}
+
+				for (; index < size; index++) {
+					int packedCoordinate = points[index];
+					int x = unpackX(packedCoordinate);
+					int y = unpackY(packedCoordinate);
+					if (x > xMax) {
+						break;
+					}
+
+					if (y >= yMin && y <= yMax && !function.apply(x, y)) {
+						return false;
+					}
+				}
+				return true;
+			}
+		};
+	}
+
 	public CoordinateStream stream() {
+		ensureSorted();
 		return new CoordinateStream() {
 			@Override
 			public boolean iterate(IBooleanCoordinateFunction function) {
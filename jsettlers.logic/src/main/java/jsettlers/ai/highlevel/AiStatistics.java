@@ -16,6 +16,7 @@ package jsettlers.ai.highlevel;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.BitSet;
 import java.util.Collections;
 import java.util.EnumSet;
 import java.util.HashMap;
@@ -54,8 +55,10 @@ import jsettlers.common.player.EWinState;
 import jsettlers.common.player.IPlayer;
 import jsettlers.common.position.RelativePoint;
 import jsettlers.common.position.ShortPoint2D;
+import jsettlers.common.utils.collections.ConcurrentBitSet;
 import jsettlers.logic.buildings.Building;
 import jsettlers.logic.buildings.WorkAreaBuilding;
+import jsettlers.logic.map.grid.IGridChangedListener;
 import jsettlers.logic.map.grid.MainGrid;
 import jsettlers.logic.map.grid.flags.FlagsGrid;
 import jsettlers.logic.map.grid.landscape.LandscapeGrid;
@@ -82,6 +85,9 @@ import static jsettlers.common.movable.EMovableType.SWORDSMAN_L3;
 /**
  * This class calculates statistics based on the grids which are used by highlevel and lowlevel KI. The statistics are calculated once and read multiple times within one AiExecutor step triggerd by
  * the game clock.
+ * <p>
+ * The statistics derived from the map are updated incrementally: The grids inform this class about changed positions and only the chunks of
+ * {@link #CHUNK_SIZE}x{@link #CHUNK_SIZE} positions around them are rescanned on the next update.
  *
  * @author codingberlin
  */
@@ -91,6 +97,17 @@ public class AiStatistics {
 
 	private static final int NEAR_STONE_DISTANCE = 5;
 
+	private static final int CHUNK_SIZE_BITS = 4;
+	private static final int CHUNK_SIZE      = 1 << CHUNK_SIZE_BITS;
+	/**
+	 * The statistics of a position depend on the players owning the positions up to this distance.
+	 */
+	private static final int PLAYER_DEPENDENCY_DISTANCE = NEAR_STONE_DISTANCE;
+	/**
+	 * Counters per chunk: the resource and grass counts of every player and the no player partition followed by the wine count of every player.
+	 */
+	private static final int COUNTS_PER_PLAYER          = AiMapInformation.GRASS_INDEX + 1;
+
 	private final MainGrid mainGrid;
 	private final Queue<Building> buildings;
 	private final PlayerStatistic[] playerStatistics;
@@ -110,6 +127,16 @@ public class AiStatistics {
 	private final ExecutorService statisticsUpdaterPool;
 	private final Set<Callable<Void>> parallelStatisticsUpdater;
 
+	private final short            width;
+	private final short            height;
+	private final int              chunksX;
+	private final ConcurrentBitSet dirtyChunks;
+	private final BitSet           updatingChunks;
+	private final int[]            updatingChunkList;
+	private int                    numberOfUpdatingChunks;
+	private final long[][]         chunkCounts;
+	private final long[]           totalCounts;
+
 	public AiStatistics(MainGrid mainGrid, ExecutorService threadPool) {
 		this.mainGrid = mainGrid;
 		buildings = Building.getAllBuildings();
@@ -122,10 +149,12 @@ public class AiStatistics {
 		playerStatistics = new PlayerStatistic[mainGrid.getGuiInputGrid().getNumberOfPlayers()];
 		aiMapInformation = new AiMapInformation(partitionsGrid, landscapeGrid);
 		for (byte i = 0; i < mainGrid.getGuiInputGrid().getNumberOfPlayers(); i++) {
-			this.playerStatistics[i] = new PlayerStatistic();
+			this.playerStatistics[i] = new PlayerStatistic(mainGrid.getWidth(), mainGrid.getHeight());
 		}
 		sortedRiversInDefaultPartition = new AiPositions();
 		sortedCuttableObjectsInDefaultPartition = new HashMap<>();
+		sortedCuttableObjectsInDefaultPartition.put(TREE_ADULT, new AiPositions());
+		sortedCuttableObjectsInDefaultPartition.put(STONE, new AiPositions());
 		sortedResourceTypes = new AiPositions[EResourceType.VALUES.length];
 		for (int i = 0; i < sortedResourceTypes.length; i++) {
 			sortedResourceTypes[i] = new AiPositions();
@@ -135,6 +164,26 @@ public class AiStatistics {
 
 		statisticsUpdaterPool = threadPool;
 		parallelStatisticsUpdater = Sets2.of(this::mainMapStatUpdater, this::freeLandMapStatUpdater, this::playerLandMapStatUpdater, this::movableMapStatUpdater, this::grassMapStatUpdater, this::pioneerMapStatUpdater);
+
+		width = mainGrid.getWidth();
+		height = mainGrid.getHeight();
+		chunksX = (width + CHUNK_SIZE - 1) >> CHUNK_SIZE_BITS;
+		int numberOfChunks = chunksX * ((height + CHUNK_SIZE - 1) >> CHUNK_SIZE_BITS);
+		dirtyChunks = new ConcurrentBitSet(numberOfChunks);
+		updatingChunks = new BitSet(numberOfChunks);
+		updatingChunkList = new int[numberOfChunks];
+		chunkCounts = new long[numberOfChunks][];
+		int numberOfCounts = aiMapInformation.resourceAndGrassCount.length * COUNTS_PER_PLAYER + playerStatistics.length;
+		for (int i = 0; i < numberOfChunks; i++) {
+			chunkCounts[i] = new long[numberOfCounts];
+		}
+		totalCounts = new long[numberOfCounts];
+
+		landscapeGrid.getGridChangedListeners().add(new DirtyChunksMarker(0));
+		objectsGrid.getGridChangedListeners().add(new DirtyChunksMarker(0));
+		flagsGrid.getGridChangedListeners().add(new DirtyChunksMarker(1));
+		partitionsGrid.getGridChangedListeners().add(new DirtyChunksMarker(PLAYER_DEPENDENCY_DISTANCE));
+		markAllChunksDirty();
 	}
 
 	public byte getFlatternEffortAtPositionForBuilding(final ShortPoint2D position, final BuildingVariant buildingType) {
@@ -147,18 +196,65 @@ public class AiStatistics {
 
 	public void updateStatistics() {
 		for (PlayerStatistic playerStatistic : playerStatistics) {
-			playerStatistic.clearAll();
-		}
-		sortedRiversInDefaultPartition.clear();
-		sortedCuttableObjectsInDefaultPartition.clear();
-		for (AiPositions xCoordinatesMap : sortedResourceTypes) {
-			xCoordinatesMap.clear();
+			playerStatistic.clearBuildingAndMovableStatistics();
 		}
 
 		updateBuildingStatistics();
 		updateMapStatistics();
 	}
 
+	/**
+	 * Debug check that rescans the whole map and compares the result with the incrementally updated statistics.
+	 *
+	 * @return true if the incrementally updated statistics equal the ones of a full rescan.
+	 */
+	public boolean checkIncrementalMapStatistics() {
+		updateStatistics();
+		List<Object> incrementalStatistics = getMapStatisticsSnapshot();
+
+		markAllChunksDirty();
+		updateStatistics();
+		return incrementalStatistics.equals(getMapStatisticsSnapshot());
+	}
+
+	private List<Object> getMapStatisticsSnapshot() {
+		List<AiPositions> positions = getMapStatisticsPositions();
+		List<Object> snapshot = new ArrayList<>(positions.size() + 1);
+		for (AiPositions currentPositions : positions) {
+			List<ShortPoint2D> points = new ArrayList<>(currentPositions.size());
+			for (ShortPoint2D point : currentPositions) {
+				points.add(point);
+			}
+			snapshot.add(points);
+		}
+		snapshot.add(Arrays.toString(totalCounts));
+		return snapshot;
+	}
+
+	private List<AiPositions> getMapStatisticsPositions() {
+		List<AiPositions> positions = new ArrayList<>();
+		positions.add(sortedRiversInDefaultPartition);
+		positions.add(sortedCuttableObjectsInDefaultPartition.get(TREE_ADULT));
+		positions.add(sortedCuttableObjectsInDefaultPartition.get(STONE));
+		positions.addAll(Arrays.asList(sortedResourceTypes));
+		for (PlayerStatistic playerStatistic : playerStatistics) {
+			positions.add(playerStatistic.landToBuildOn);
+			positions.add(playerStatistic.borderIngestibleByPioneers);
+			positions.add(playerStatistic.otherPartitionBorder);
+			positions.add(playerStatistic.stones);
+			positions.add(playerStatistic.stonesNearBy);
+			positions.add(playerStatistic.trees);
+			positions.add(playerStatistic.rivers);
+		}
+		return positions;
+	}
+
+	private void markAllChunksDirty() {
+		for (int chunk = 0; chunk < chunkCounts.length; chunk++) {
+			dirtyChunks.set(chunk);
+		}
+	}
+
 	private void updateBuildingStatistics() {
 		for (Building building : buildings) {
 			PlayerStatistic playerStatistic = playerStatistics[building.getPlayer().getPlayerId()];
@@ -208,75 +304,55 @@ public class AiStatistics {
 	}
 
 	private Void mainMapStatUpdater() {
-		short width = mainGrid.getWidth();
-		short height = mainGrid.getHeight();
-
-		for (short x = 0; x < width; x++) {
-			for (short y = 0; y < height; y++) {
-				Player player = partitionsGrid.getPlayerAt(x, y);
-
-				int mapInformationPlayerId;
-				if (player != null) {
-					mapInformationPlayerId = player.playerId;
-				} else {
-					mapInformationPlayerId = aiMapInformation.resourceAndGrassCount.length - 1;
-				}
-				if (landscapeGrid.getResourceAmountAt(x, y) > 0) {
-					EResourceType resourceType = landscapeGrid.getResourceTypeAt(x, y);
-					sortedResourceTypes[resourceType.ordinal].addNoCollission(x, y);
-					if (resourceType != EResourceType.FISH) {
-						aiMapInformation.resourceAndGrassCount[mapInformationPlayerId][resourceType.ordinal]++;
-						if (player != null) {
-							playerStatistics[player.playerId].resourceCount[resourceType.ordinal]++;
-						} else {
-							resourceCountInDefaultPartition[resourceType.ordinal]++;
-						}
-					} else if (landscapeGrid.getLandscapeTypeAt(x, y) == ELandscapeType.WATER1) {
-						int fishMapInformationPlayerId = mapInformationPlayerId;
-						if (mapInformationPlayerId == aiMapInformation.resourceAndGrassCount.length - 1) {
-							fishMapInformationPlayerId = mapInformationPlayerIdOfPosition((short) (x + 3), y);
+		forEachUpdatingPosition((x, y, counts) -> {
+			Player player = partitionsGrid.getPlayerAt(x, y);
+
+			int mapInformationPlayerId;
+			if (player != null) {
+				mapInformationPlayerId = player.playerId;
+			} else {
+				mapInformationPlayerId = aiMapInformation.resourceAndGrassCount.length - 1;
+			}
+			if (landscapeGrid.getResourceAmountAt(x, y) > 0) {
+				EResourceType resourceType = landscapeGrid.getResourceTypeAt(x, y);
+				sortedResourceTypes[resourceType.ordinal].addNoCollission(x, y);
+				if (resourceType != EResourceType.FISH) {
+					counts[getCountIndex(mapInformationPlayerId, resourceType.ordinal)]++;
+				} else if (landscapeGrid.getLandscapeTypeAt(x, y) == ELandscapeType.WATER1) {
+					int fishMapInformationPlayerId = mapInformationPlayerId;
+					if (mapInformationPlayerId == aiMapInformation.resourceAndGrassCount.length - 1) {
+						fishMapInformationPlayerId = mapInformationPlayerIdOfPosition((short) (x + 3), y);
+						if (fishMapInformationPlayerId == aiMapInformation.resourceAndGrassCount.length - 1) {
+							fishMapInformationPlayerId = mapInformationPlayerIdOfPosition((short) (x - 3), y);
 							if (fishMapInformationPlayerId == aiMapInformation.resourceAndGrassCount.length - 1) {
-								fishMapInformationPlayerId = mapInformationPlayerIdOfPosition((short) (x - 3), y);
+								fishMapInformationPlayerId = mapInformationPlayerIdOfPosition(x, (short) (y + 3));
 								if (fishMapInformationPlayerId == aiMapInformation.resourceAndGrassCount.length - 1) {
-									fishMapInformationPlayerId = mapInformationPlayerIdOfPosition(x, (short) (y + 3));
-									if (fishMapInformationPlayerId == aiMapInformation.resourceAndGrassCount.length - 1) {
-										fishMapInformationPlayerId = mapInformationPlayerIdOfPosition(x, (short) (y - 3));
-									}
+									fishMapInformationPlayerId = mapInformationPlayerIdOfPosition(x, (short) (y - 3));
 								}
 							}
 						}
-						aiMapInformation.resourceAndGrassCount[fishMapInformationPlayerId][resourceType.ordinal]++;
-						if (fishMapInformationPlayerId == aiMapInformation.resourceAndGrassCount.length - 1) {
-							resourceCountInDefaultPartition[resourceType.ordinal]++;
-						} else {
-							playerStatistics[fishMapInformationPlayerId].resourceCount[resourceType.ordinal]++;
-						}
 					}
+					counts[getCountIndex(fishMapInformationPlayerId, resourceType.ordinal)]++;
 				}
 			}
-		}
+		});
 		return null;
 	}
 
 	private Void grassMapStatUpdater() {
-		short width = mainGrid.getWidth();
-		short height = mainGrid.getHeight();
-
-		for(short x = 0; x < width; x++) {
-			for(short y = 0; y < height; y++) {
-				Player player = partitionsGrid.getPlayerAt(x, y);
-
-				int mapInformationPlayerId;
-				if(player != null) {
-					mapInformationPlayerId = player.playerId;
-				} else {
-					mapInformationPlayerId = aiMapInformation.resourceAndGrassCount.length - 1;
-				}
-				if(landscapeGrid.getLandscapeTypeAt(x, y).isGrass()) {
-					aiMapInformation.resourceAndGrassCount[mapInformationPlayerId][AiMapInformation.GRASS_INDEX]++;
-				}
+		forEachUpdatingPosition((x, y, counts) -> {
+			Player player = partitionsGrid.getPlayerAt(x, y);
+
+			int mapInformationPlayerId;
+			if(player != null) {
+				mapInformationPlayerId = player.playerId;
+			} else {
+				mapInformationPlayerId = aiMapInformation.resourceAndGrassCount.length - 1;
 			}
-		}
+			if(landscapeGrid.getLandscapeTypeAt(x, y).isGrass()) {
+				counts[getCountIndex(mapInformationPlayerId, AiMapInformation.GRASS_INDEX)]++;
+			}
+		});
 		return null;
 	}
 
@@ -303,69 +379,165 @@ public class AiStatistics {
 	}
 
 	private Void freeLandMapStatUpdater() {
-		short width = mainGrid.getWidth();
-		short height = mainGrid.getHeight();
+		forEachUpdatingPosition((x, y, counts) -> {
+			Player player = partitionsGrid.getPlayerAt(x, y);
 
-		for (short x = 0; x < width; x++) {
-			for (short y = 0; y < height; y++) {
-				Player player = partitionsGrid.getPlayerAt(x, y);
-
-				if (player == null) {
-					updateFreeLand(x, y);
-				}
+			if (player == null) {
+				updateFreeLand(x, y);
 			}
-		}
+		});
 		return null;
 	}
 
 	private Void playerLandMapStatUpdater() {
-		short width = mainGrid.getWidth();
-		short height = mainGrid.getHeight();
+		forEachUpdatingPosition((x, y, counts) -> {
+			Player player = partitionsGrid.getPlayerAt(x, y);
+			if(player == null) return;
 
-		for (short x = 0; x < width; x++) {
-			for (short y = 0; y < height; y++) {
-				Player player = partitionsGrid.getPlayerAt(x, y);
-				if(player == null) continue;
-
-				if (partitionsGrid.getPartitionIdAt(x, y) == playerStatistics[player.playerId].partitionIdToBuildOn) {
-					updatePlayerLand(x, y, player);
-				}
+			if (partitionsGrid.getPartitionIdAt(x, y) == playerStatistics[player.playerId].partitionIdToBuildOn) {
+				updatePlayerLand(x, y, player, counts);
 			}
-		}
+		});
 		return null;
 	}
 
 	private Void pioneerMapStatUpdater() {
-		short width = mainGrid.getWidth();
-		short height = mainGrid.getHeight();
-
-		for (short x = 0; x < width; x++) {
-			for (short y = 0; y < height; y++) {
-				Player player = partitionsGrid.getPlayerAt(x, y);
-				if (player == null) continue;
-				if (hasNeighborIngestibleByPioneersOf(x, y, player)) {
-					if (partitionsGrid.getPartitionIdAt(x, y) == playerStatistics[player.playerId].partitionIdToBuildOn) {
-						playerStatistics[player.playerId].borderIngestibleByPioneers.add(x, y);
-					} else {
-						playerStatistics[player.playerId].otherPartitionBorder.add(x, y);
-					}
-
+		forEachUpdatingPosition((x, y, counts) -> {
+			Player player = partitionsGrid.getPlayerAt(x, y);
+			if (player == null) return;
+			if (hasNeighborIngestibleByPioneersOf(x, y, player)) {
+				if (partitionsGrid.getPartitionIdAt(x, y) == playerStatistics[player.playerId].partitionIdToBuildOn) {
+					playerStatistics[player.playerId].borderIngestibleByPioneers.addNoCollission(x, y);
+				} else {
+					playerStatistics[player.playerId].otherPartitionBorder.addNoCollission(x, y);
 				}
+
 			}
-		}
+		});
 		return null;
 	}
 
 	private void updateMapStatistics() {
-		aiMapInformation.clear();
-		updatePartitionIdsToBuildOn();
-		Arrays.fill(resourceCountInDefaultPartition, 0);
+		if (updatePartitionIdsToBuildOn()) {
+			markAllChunksDirty();
+		}
+
+		takeDirtyChunks();
+		removeStatisticsOfUpdatingChunks();
+		invalidateDistanceMapsOfUpdatingChunks();
 
 		try {
 			statisticsUpdaterPool.invokeAll(parallelStatisticsUpdater);
 		} catch (InterruptedException e) {
 			e.printStackTrace();
 		}
+
+		addCountsOfUpdatingChunks();
+		for (AiPositions positions : getMapStatisticsPositions()) {
+			positions.ensureSorted(); // sort them now, so the AIs don't sort them concurrently
+		}
+	}
+
+	private void takeDirtyChunks() {
+		updatingChunks.clear();
+		numberOfUpdatingChunks = 0;
+
+		for (int wordIndex = 0; wordIndex < dirtyChunks.getNumberOfWords(); wordIndex++) {
+			long word = dirtyChunks.getAndClearWord(wordIndex);
+			while (word != 0) {
+				int chunk = (wordIndex << 6) + Long.numberOfTrailingZeros(word);
+				word &= word - 1;
+
+				updatingChunks.set(chunk);
+				updatingChunkList[numberOfUpdatingChunks++] = chunk;
+			}
+		}
+	}
+
+	private void removeStatisticsOfUpdatingChunks() {
+		if (numberOfUpdatingChunks == 0) {
+			return;
+		}
+
+		AiPositionFilter isUpdating = (x, y) -> updatingChunks.get((y >> CHUNK_SIZE_BITS) * chunksX + (x >> CHUNK_SIZE_BITS));
+		for (AiPositions positions : getMapStatisticsPositions()) {
+			positions.removeAll(isUpdating);
+		}
+
+		for (int i = 0; i < numberOfUpdatingChunks; i++) {
+			long[] counts = chunkCounts[updatingChunkList[i]];
+			for (int countIndex = 0; countIndex < counts.length; countIndex++) {
+				totalCounts[countIndex] -= counts[countIndex];
+			}
+			Arrays.fill(counts, 0);
+		}
+	}
+
+	private void invalidateDistanceMapsOfUpdatingChunks() {
+		for (int i = 0; i < numberOfUpdatingChunks; i++) {
+			int chunk = updatingChunkList[i];
+			int xMin = (chunk % chunksX) << CHUNK_SIZE_BITS;
+			int yMin = (chunk / chunksX) << CHUNK_SIZE_BITS;
+			int xMax = Math.min(xMin + CHUNK_SIZE, width) - 1;
+			int yMax = Math.min(yMin + CHUNK_SIZE, height) - 1;
+
+			for (PlayerStatistic playerStatistic : playerStatistics) {
+				playerStatistic.treeDistances.invalidate(xMin, yMin, xMax, yMax);
+				playerStatistic.stoneDistances.invalidate(xMin, yMin, xMax, yMax);
+				playerStatistic.riverDistances.invalidate(xMin, yMin, xMax, yMax);
+			}
+		}
+	}
+
+	private void addCountsOfUpdatingChunks() {
+		for (int i = 0; i < numberOfUpdatingChunks; i++) {
+			long[] counts = chunkCounts[updatingChunkList[i]];
+			for (int countIndex = 0; countIndex < counts.length; countIndex++) {
+				totalCounts[countIndex] += counts[countIndex];
+			}
+		}
+
+		int noPlayerId = aiMapInformation.resourceAndGrassCount.length - 1;
+		for (int mapInformationPlayerId = 0; mapInformationPlayerId <= noPlayerId; mapInformationPlayerId++) {
+			for (int resourceIndex = 0; resourceIndex < COUNTS_PER_PLAYER; resourceIndex++) {
+				aiMapInformation.resourceAndGrassCount[mapInformationPlayerId][resourceIndex] = totalCounts[getCountIndex(mapInformationPlayerId, resourceIndex)];
+			}
+		}
+		for (EResourceType resourceType : EResourceType.VALUES) {
+			resourceCountInDefaultPartition[resourceType.ordinal] = totalCounts[getCountIndex(noPlayerId, resourceType.ordinal)];
+		}
+		for (byte playerId = 0; playerId < playerStatistics.length; playerId++) {
+			PlayerStatistic playerStatistic = playerStatistics[playerId];
+			for (EResourceType resourceType : EResourceType.VALUES) {
+				playerStatistic.resourceCount[resourceType.ordinal] = totalCounts[getCountIndex(playerId, resourceType.ordinal)];
+			}
+			playerStatistic.wineCount = (int) totalCounts[getWineCountIndex(playerId)];
+		}
+	}
+
+	private int getCountIndex(int mapInformationPlayerId, int resourceIndex) {
+		return mapInformationPlayerId * COUNTS_PER_PLAYER + resourceIndex;
+	}
+
+	private int getWineCountIndex(byte playerId) {
+		return aiMapInformation.resourceAndGrassCount.length * COUNTS_PER_PLAYER + playerId;
+	}
+
+	private void forEachUpdatingPosition(IChunkPositionVisitor visitor) {
+		for (int i = 0; i < numberOfUpdatingChunks; i++) {
+			int chunk = updatingChunkList[i];
+			int xMin = (chunk % chunksX) << CHUNK_SIZE_BITS;
+			int yMin = (chunk / chunksX) << CHUNK_SIZE_BITS;
+			int xMax = Math.min(xMin + CHUNK_SIZE, width);
+			int yMax = Math.min(yMin + CHUNK_SIZE, height);
+			long[] counts = chunkCounts[chunk];
+
+			for (short x = (short) xMin; x < xMax; x++) {
+				for (short y = (short) yMin; y < yMax; y++) {
+					visitor.visit(x, y, counts);
+				}
+			}
+		}
 	}
 
 	private int mapInformationPlayerIdOfPosition(short x, short y) {
@@ -403,7 +575,7 @@ public class AiStatistics {
 				&& !partitionsGrid.isEnforcedByTower(x, y);
 	}
 
-	private void updatePlayerLand(short x, short y, Player player) {
+	private void updatePlayerLand(short x, short y, Player player, long[] counts) {
 		byte playerId = player.playerId;
 		PlayerStatistic playerStatistic = playerStatistics[playerId];
 		if (mainGrid.getFlagsGrid().isProtected(x, y)) {
@@ -423,7 +595,7 @@ public class AiStatistics {
 			playerStatistic.rivers.addNoCollission(x, y);
 		}
 		if (objectsGrid.hasMapObjectType(x, y, EMapObjectType.WINE_GROWING, EMapObjectType.WINE_HARVESTABLE)) {
-			playerStatistic.wineCount++;
+			counts[getWineCountIndex(playerId)]++;
 		}
 	}
 
@@ -443,20 +615,10 @@ public class AiStatistics {
 
 	private void updateFreeLand(short x, short y) {
 		if (objectsGrid.hasCuttableObject(x, y, TREE_ADULT)) {
-			AiPositions trees = sortedCuttableObjectsInDefaultPartition.get(TREE_ADULT);
-			if (trees == null) {
-				trees = new AiPositions();
-				sortedCuttableObjectsInDefaultPartition.put(TREE_ADULT, trees);
-			}
-			trees.addNoCollission(x, y);
+			sortedCuttableObjectsInDefaultPartition.get(TREE_ADULT).addNoCollission(x, y);
 		}
 		if (objectsGrid.hasCuttableObject(x, y, STONE)) {
-			AiPositions stones = sortedCuttableObjectsInDefaultPartition.get(STONE);
-			if (stones == null) {
-				stones = new AiPositions();
-				sortedCuttableObjectsInDefaultPartition.put(STONE, stones);
-			}
-			stones.addNoCollission(x, y);
+			sortedCuttableObjectsInDefaultPartition.get(STONE).addNoCollission(x, y);
 			updateNearStones(x, y);
 		}
 		ELandscapeType landscape = landscapeGrid.getLandscapeTypeAt(x, y);
@@ -478,7 +640,11 @@ public class AiStatistics {
 		}
 	}
 
-	private void updatePartitionIdsToBuildOn() {
+	/**
+	 * @return true if the partition or the blocked partition to build on changed for at least one player.
+	 */
+	private boolean updatePartitionIdsToBuildOn() {
+		boolean changed = false;
 		for (byte playerId = 0; playerId < playerStatistics.length; playerId++) {
 			ShortPoint2D referencePosition = null;
 			for (EBuildingType referenceFinderBuildingType : REFERENCE_POINT_FINDER_BUILDING_ORDER) {
@@ -490,13 +656,18 @@ public class AiStatistics {
 
 			if (referencePosition != null) {
 				PlayerStatistic playerStatistic = playerStatistics[playerId];
+				short partitionIdToBuildOn = partitionsGrid.getPartitionIdAt(referencePosition.x, referencePosition.y);
+				short blockedPartitionId = landscapeGrid.getBlockedPartitionAt(referencePosition.x, referencePosition.y);
+				changed |= partitionIdToBuildOn != playerStatistic.partitionIdToBuildOn || blockedPartitionId != playerStatistic.blockedPartitionId;
+
 				playerStatistic.referencePosition = referencePosition;
-				playerStatistic.partitionIdToBuildOn = partitionsGrid.getPartitionIdAt(referencePosition.x, referencePosition.y);
-				playerStatistic.blockedPartitionId = landscapeGrid.getBlockedPartitionAt(referencePosition.x, referencePosition.y);
+				playerStatistic.partitionIdToBuildOn = partitionIdToBuildOn;
+				playerStatistic.blockedPartitionId = blockedPartitionId;
 				playerStatistic.materialProduction = partitionsGrid.getMaterialProductionAt(referencePosition.x, referencePosition.y);
 				playerStatistic.materials = partitionsGrid.getPartitionDataForManagerAt(referencePosition.x, referencePosition.y);
 			}
 		}
+		return changed;
 	}
 
 	public Building getBuildingAt(ShortPoint2D point) {
@@ -608,6 +779,18 @@ public class AiStatistics {
 		return playerStatistics[playerId].trees;
 	}
 
+	public AiDistanceMap getStoneDistancesForPlayer(byte playerId) {
+		return playerStatistics[playerId].stoneDistances;
+	}
+
+	public AiDistanceMap getTreeDistancesForPlayer(byte playerId) {
+		return playerStatistics[playerId].treeDistances;
+	}
+
+	public AiDistanceMap getRiverDistancesForPlayer(byte playerId) {
+		return playerStatistics[playerId].riverDistances;
+	}
+
 	public AiPositions getLandForPlayer(byte playerId) {
 		return playerStatistics[playerId].landToBuildOn;
 	}
@@ -830,6 +1013,9 @@ public class AiStatistics {
 		final AiPositions trees = new AiPositions();
 		final AiPositions rivers = new AiPositions();
 		final AiPositions enemyTroopsInTown = new AiPositions();
+		final AiDistanceMap stoneDistances;
+		final AiDistanceMap treeDistances;
+		final AiDistanceMap riverDistances;
 		List<ShortPoint2D> threatenedBorder;
 		final long[] resourceCount = new long[EResourceType.VALUES.length];
 		int numberOfNotFinishedBuildings;
@@ -838,21 +1024,28 @@ public class AiStatistics {
 		int wineCount;
 		IMaterialProductionSettings materialProduction;
 
-		PlayerStatistic() {
+		PlayerStatistic(short width, short height) {
+			stoneDistances = new AiDistanceMap(stones, getMaxWorkRadius(EBuildingType.STONECUTTER), width, height);
+			treeDistances = new AiDistanceMap(trees, getMaxWorkRadius(EBuildingType.LUMBERJACK), width, height);
+			riverDistances = new AiDistanceMap(rivers, getMaxWorkRadius(EBuildingType.WATERWORKS), width, height);
 			clearIntegers();
 		}
 
-		public void clearAll() {
+		private static int getMaxWorkRadius(EBuildingType buildingType) {
+			int maxWorkRadius = 0;
+			for (BuildingVariant variant : buildingType.getVariants()) {
+				maxWorkRadius = Math.max(maxWorkRadius, variant.getWorkRadius());
+			}
+			return maxWorkRadius;
+		}
+
+		/**
+		 * Clears everything except the statistics derived from the map, these are updated incrementally.
+		 */
+		public void clearBuildingAndMovableStatistics() {
 			materials = null;
 			buildingPositions.clear();
 			enemyTroopsInTown.clear();
-			stones.clear();
-			stonesNearBy.clear();
-			trees.clear();
-			rivers.clear();
-			landToBuildOn.clear();
-			borderIngestibleByPioneers.clear();
-			otherPartitionBorder.clear();
 			movablePositions.clear();
 			joblessBearerPositions.clear();
 			farmWorkAreas.clear();
@@ -865,14 +1058,46 @@ public class AiStatistics {
 		private void clearIntegers() {
 			Arrays.fill(totalBuildingsNumbers, 0);
 			Arrays.fill(buildingsNumbers, 0);
-			Arrays.fill(resourceCount, 0);
 			numberOfNotFinishedBuildings = 0;
 			numberOfTotalBuildings = 0;
 			numberOfNotOccupiedMilitaryBuildings = 0;
-			wineCount = 0;
 			partitionIdToBuildOn = Short.MIN_VALUE;
 			blockedPartitionId = Short.MIN_VALUE;
 		}
 	}
 
-}
\ No newline at end of file
+
+	private interface IChunkPositionVisitor {
+		void visit(short x, short y, long[] chunkCounts);
+	}
+
+	/**
+	 * Marks the chunks around changed positions as dirty.
+	 */
+	private class DirtyChunksMarker implements IGridChangedListener {
+		private final int dependencyDistance;
+
+		DirtyChunksMarker(int dependencyDistance) {
+			this.dependencyDistance = dependencyDistance;
+		}
+
+		@Override
+		public void positionChanged(int x, int y) {
+			areaChanged(x, y, x, y);
+		}
+
+		@Override
+		public void areaChanged(int xMin, int yMin, int xMax, int yMax) {
+			int chunkXMin = Math.max(0, xMin - dependencyDistance) >> CHUNK_SIZE_BITS;
+			int chunkYMin = Math.max(0, yMin - dependencyDistance) >> CHUNK_SIZE_BITS;
+			int chunkXMax = Math.min(width - 1, xMax + dependencyDistance) >> CHUNK_SIZE_BITS;
+			int chunkYMax = Math.min(height - 1, yMax + dependencyDistance) >> CHUNK_SIZE_BITS;
+
+			for (int chunkY = chunkYMin; chunkY <= chunkYMax; chunkY++) {
+				for (int chunkX = chunkXMin; chunkX <= chunkXMax; chunkX++) {
+					dirtyChunks.set(chunkY * chunksX + chunkX);
+				}
+			}
+		}
+	}
+}
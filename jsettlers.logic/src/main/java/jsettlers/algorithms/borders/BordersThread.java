@@ -108,6 +108,16 @@ public class BordersThread implements Runnable {
 		grid.setBorderAt(x, y, isBorder && player >= 0);
 	}
 
+	/**
+	 * Calculates the borders for all queued positions on the calling thread. This allows to use the {@link BordersThread} without starting it.
+	 */
+	public void processQueuedPositions() {
+		ShortPoint2D position;
+		while ((position = positionsQueue.poll()) != null) {
+			calculateForPosition(position);
+		}
+	}
+
 	public void checkPosition(ShortPoint2D position) {
 		this.positionsQueue.offer(position);
 	}
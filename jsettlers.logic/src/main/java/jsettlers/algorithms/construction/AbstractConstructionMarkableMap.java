@@ -14,6 +14,7 @@
  *******************************************************************************/
 package jsettlers.algorithms.construction;
 
+import jsettlers.common.buildings.BuildingVariant;
 import jsettlers.common.buildings.EBuildingType;
 import jsettlers.common.landscape.ELandscapeType;
 import jsettlers.common.position.RelativePoint;
@@ -34,15 +35,11 @@ public abstract class AbstractConstructionMarkableMap {
 	 *            x coordinate
 	 * @param y
 	 *            y coordinate
-	 * @param set
-	 *            If true, the construction mark shall be set, otherwise, it shall be removed.
-	 * @param binaryConstructionMarkValues
-	 *            If true, the construction marks can only have to values: Either building is possible (set == <code>true</code>) or building is not
-	 *            possible (set == <code>false</code>).
-	 * @param flattenPositions
-	 *            The positions that need to be flattened to position this building. This value might be null whenever set is false.
+	 * @param value
+	 *            The value of the construction mark as returned by {@link #getConstructionMarkValue(int, int, BuildingVariant, byte)}. If it is -1,
+	 *            the construction mark is removed.
 	 */
-	public abstract void setConstructMarking(int x, int y, boolean set, boolean binaryConstructionMarkValues, RelativePoint[] flattenPositions);
+	public abstract void setConstructMarking(int x, int y, byte value);
 
 	/**
 	 * @return width of map.
@@ -79,5 +76,20 @@ public abstract class AbstractConstructionMarkableMap {
 
 	public abstract boolean canConstructAt(int x, int y, EBuildingType type, byte playerId);
 
+	/**
+	 * Gets the value of the construction mark of the given building. Buildings that don't need flattened ground always have the value 0.
+	 *
+	 * @param x
+	 *            x coordinate of the target position
+	 * @param y
+	 *            y coordinate of the target position
+	 * @param building
+	 *            The building to construct.
+	 * @param playerId
+	 *            The player constructing the building.
+	 * @return The value of the construction mark or -1 if the building can not be constructed at the given position.
+	 */
+	public abstract byte getConstructionMarkValue(int x, int y, BuildingVariant building, byte playerId);
+
 	public abstract byte calculateConstructionMarkValue(int mapX, int mapY, final RelativePoint[] flattenPositions);
 }
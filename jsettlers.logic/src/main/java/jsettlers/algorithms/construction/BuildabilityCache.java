@@ -0,0 +1,251 @@
+/*******************************************************************************
+ * Copyright (c) 2026
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE.
+ *******************************************************************************/
+package jsettlers.algorithms.construction;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+import jsettlers.common.buildings.BuildingVariant;
+import jsettlers.common.buildings.EBuildingType;
+import jsettlers.common.player.ECivilisation;
+import jsettlers.common.position.RelativePoint;
+import jsettlers.logic.map.grid.IGridChangedListener;
+
+/**
+ * Caches the construction mark values of every building variant and player, so the construction marks and the AI don't need to check the whole
+ * building area for every position again and again.
+ * <p />
+ * The values are stored in chunks that are calculated when they are requested the first time. The cache needs to be informed about every change
+ * of the grids the values depend on. A change invalidates the chunks within the reach of the largest building area around it.
+ * <p />
+ * The cache is read by the construction marks thread and the AI threads while the game thread changes the grids. A calculated chunk is published
+ * as a new immutable object together with the version it has been calculated for, so a reader either sees a complete chunk or calculates it
+ * again. A chunk calculated during a change may contain values of before the change, so the game thread needs to check the grids directly.
+ * <p />
+ * When more than {@link #MAX_CACHED_CHUNKS} chunks are cached, the layers that have not been used since the last eviction are dropped.
+ */
+public final class BuildabilityCache implements IGridChangedListener {
+	private static final int CHUNK_SIZE_BITS = 4;
+	private static final int CHUNK_SIZE      = 1 << CHUNK_SIZE_BITS;
+	private static final int CHUNK_MASK      = CHUNK_SIZE - 1;
+
+	/**
+	 * The number of chunks kept in all layers together before unused layers are evicted. Every chunk takes {@value #CHUNK_SIZE} squared bytes.
+	 */
+	static final int MAX_CACHED_CHUNKS = 1 << 15;
+
+	/**
+	 * The distance up to which a changed position influences the construction mark values around it.
+	 */
+	private static final int DEPENDENCY_DISTANCE = calculateDependencyDistance();
+
+	/**
+	 * Calculates the uncached construction mark values.
+	 */
+	public interface IConstructionMarkCalculator {
+		/**
+		 * @return The construction mark value of the building at the given position or -1 if the building can not be constructed there.
+		 */
+		byte calculateConstructionMarkValue(int x, int y, BuildingVariant building, byte playerId);
+	}
+
+	private final IConstructionMarkCalculator calculator;
+	private final int                         width;
+	private final int                         height;
+	private final int                         chunksX;
+	private final int                         numberOfChunks;
+	private final AtomicIntegerArray          chunkVersions;
+	private final Layer[][]                   layers;
+	private final AtomicInteger               cachedChunks = new AtomicInteger();
+
+	public BuildabilityCache(IConstructionMarkCalculator calculator, int width, int height, int numberOfPlayers) {
+		this.calculator = calculator;
+		this.width = width;
+		this.height = height;
+		this.chunksX = (width + CHUNK_SIZE - 1) >> CHUNK_SIZE_BITS;
+		this.numberOfChunks = chunksX * ((height + CHUNK_SIZE - 1) >> CHUNK_SIZE_BITS);
+		this.chunkVersions = new AtomicIntegerArray(numberOfChunks);
+		this.layers = new Layer[numberOfPlayers][EBuildingType.NUMBER_OF_BUILDINGS * ECivilisation.VALUES.length];
+	}
+
+	/**
+	 * @return The construction mark value of the building at the given position or -1 if the building can not be constructed there.
+	 */
+	public byte getConstructionMarkValue(int x, int y, BuildingVariant building, byte playerId) {
+		if (x < 0 || y < 0 || x >= width || y >= height) {
+			return calculator.calculateConstructionMarkValue(x, y, building, playerId);
+		}
+
+		int chunk = (y >> CHUNK_SIZE_BITS) * chunksX + (x >> CHUNK_SIZE_BITS);
+		int version = chunkVersions.get(chunk);
+		Layer layer = getLayer(building, playerId);
+		if (!layer.used) {
+			layer.used = true;
+		}
+
+		Chunk cachedChunk = layer.chunks[chunk];
+		if (cachedChunk == null || cachedChunk.version != version) {
+			cachedChunk = layer.calculateChunk(chunk, version);
+		}
+		return cachedChunk.values[((y & CHUNK_MASK) << CHUNK_SIZE_BITS) | (x & CHUNK_MASK)];
+	}
+
+	/**
+	 * @return The number of chunks currently cached in all layers.
+	 */
+	int getNumberOfCachedChunks() {
+		return cachedChunks.get();
+	}
+
+	@Override
+	public void positionChanged(int x, int y) {
+		areaChanged(x, y, x, y);
+	}
+
+	@Override
+	public void areaChanged(int xMin, int yMin, int xMax, int yMax) {
+		int chunkXMin = Math.max(0, xMin - DEPENDENCY_DISTANCE) >> CHUNK_SIZE_BITS;
+		int chunkYMin = Math.max(0, yMin - DEPENDENCY_DISTANCE) >> CHUNK_SIZE_BITS;
+		int chunkXMax = Math.min(width - 1, xMax + DEPENDENCY_DISTANCE) >> CHUNK_SIZE_BITS;
+		int chunkYMax = Math.min(height - 1, yMax + DEPENDENCY_DISTANCE) >> CHUNK_SIZE_BITS;
+
+		for (int chunkY = chunkYMin; chunkY <= chunkYMax; chunkY++) {
+			for (int chunkX = chunkXMin; chunkX <= chunkXMax; chunkX++) {
+				chunkVersions.incrementAndGet(chunkY * chunksX + chunkX);
+			}
+		}
+	}
+
+	private Layer getLayer(BuildingVariant building, byte playerId) {
+		int index = building.getType().ordinal * ECivilisation.VALUES.length + building.getCivilisation().ordinal;
+		Layer layer = layers[playerId][index];
+		if (layer == null || layer.building != building) {
+			// layers created concurrently are equivalent, so it doesn't matter which one is kept
+			layer = new Layer(building, playerId);
+			layers[playerId][index] = layer;
+		}
+		return layer;
+	}
+
+	/**
+	 * Drops the layers that have not been used since the last eviction. If the used layers alone take more than half of the cache, all layers except
+	 * the given one are dropped.
+	 */
+	private synchronized void evictLayers(Layer keptLayer) {
+		if (cachedChunks.get() <= MAX_CACHED_CHUNKS) {
+			return; // another thread evicted the layers in the meantime
+		}
+
+		int remainingChunks = 0;
+		for (Layer[] playerLayers : layers) {
+			for (int i = 0; i < playerLayers.length; i++) {
+				Layer layer = playerLayers[i];
+				if (layer != null && (layer.used || layer == keptLayer)) {
+					layer.used = false;
+					remainingChunks += layer.numberOfCachedChunks.get();
+				} else {
+					playerLayers[i] = null;
+				}
+			}
+		}
+
+		if (remainingChunks > MAX_CACHED_CHUNKS / 2) {
+			for (Layer[] playerLayers : layers) {
+				for (int i = 0; i < playerLayers.length; i++) {
+					if (playerLayers[i] != keptLayer) {
+						playerLayers[i] = null;
+					}
+				}
+			}
+			remainingChunks = keptLayer.numberOfCachedChunks.get();
+		}
+		cachedChunks.set(remainingChunks);
+	}
+
+	private static int calculateDependencyDistance() {
+		int distance = 0;
+		for (EBuildingType buildingType : EBuildingType.VALUES) {
+			for (BuildingVariant building : buildingType.getVariants()) {
+				distance = Math.max(distance, getMaxDistance(building.getBuildingArea()));
+				distance = Math.max(distance, getMaxDistance(building.getBuildingAreaBorder()));
+			}
+		}
+		return distance;
+	}
+
+	private static int getMaxDistance(RelativePoint[] points) {
+		int distance = 0;
+		for (RelativePoint point : points) {
+			distance = Math.max(distance, Math.max(Math.abs(point.getDx()), Math.abs(point.getDy())));
+		}
+		return distance;
+	}
+
+	/**
+	 * The values of a chunk calculated for the given version of the chunk. It is never changed after it has been published.
+	 */
+	private static final class Chunk {
+		final byte[] values;
+		final int    version;
+
+		Chunk(byte[] values, int version) {
+			this.values = values;
+			this.version = version;
+		}
+	}
+
+	/**
+	 * The cached values of one building variant and player.
+	 */
+	private final class Layer {
+		final BuildingVariant building;
+		final byte            playerId;
+		final Chunk[]         chunks               = new Chunk[numberOfChunks];
+		final AtomicInteger   numberOfCachedChunks = new AtomicInteger();
+		volatile boolean      used;
+
+		Layer(BuildingVariant building, byte playerId) {
+			this.building = building;
+			this.playerId = playerId;
+		}
+
+		Chunk calculateChunk(int chunk, int version) {
+			byte[] chunkValues = new byte[CHUNK_SIZE * CHUNK_SIZE];
+
+			int xMin = (chunk % chunksX) << CHUNK_SIZE_BITS;
+			int yMin = (chunk / chunksX) << CHUNK_SIZE_BITS;
+			int xMax = Math.min(xMin + CHUNK_SIZE, width);
+			int yMax = Math.min(yMin + CHUNK_SIZE, height);
+			for (int y = yMin; y < yMax; y++) {
+				for (int x = xMin; x < xMax; x++) {
+					chunkValues[((y & CHUNK_MASK) << CHUNK_SIZE_BITS) | (x & CHUNK_MASK)] = calculator.calculateConstructionMarkValue(x, y, building, playerId);
+				}
+			}
+
+			// if the chunk has been changed in the meantime, the version doesn't match and it is calculated again
+			Chunk calculatedChunk = new Chunk(chunkValues, version);
+			boolean newChunk = chunks[chunk] == null;
+			chunks[chunk] = calculatedChunk;
+
+			if (newChunk) {
+				numberOfCachedChunks.incrementAndGet();
+				if (cachedChunks.incrementAndGet() > MAX_CACHED_CHUNKS) {
+					evictLayers(this);
+				}
+			}
+			return calculatedChunk;
+		}
+	}
+}
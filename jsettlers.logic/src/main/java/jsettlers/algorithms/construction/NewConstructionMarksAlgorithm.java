@@ -17,7 +17,6 @@ package jsettlers.algorithms.construction;
 import jsettlers.common.buildings.BuildingVariant;
 import jsettlers.common.map.shapes.IMapArea;
 import jsettlers.common.map.shapes.MapRectangle;
-import jsettlers.common.position.RelativePoint;
 
 /**
  * Algorithm to calculate the construction marks for the user.
@@ -41,9 +40,6 @@ public final class NewConstructionMarksAlgorithm {
 			removeConstructionMarks(lastArea, mapArea);
 		}
 
-		boolean binaryConstructionMarkValues = !buildingVariant.needsFlattenedGround();
-		RelativePoint[] buildingArea = buildingVariant.getBuildingArea();
-
 		final short height = mapArea.getHeight();
 		final short width = mapArea.getWidth();
 
@@ -55,12 +51,7 @@ public final class NewConstructionMarksAlgorithm {
 			for(short tile = 0; tile < width; tile++) {
 				short x = (short) (minX + tile);
 
-				if(map.canConstructAt(x, y, buildingVariant.getType(), playerId)) {
-					map.setConstructMarking(x, y, true, binaryConstructionMarkValues, buildingArea);
-				} else {
-					map.setConstructMarking(x, y, false, false, null);
-				}
-
+				map.setConstructMarking(x, y, map.getConstructionMarkValue(x, y, buildingVariant, playerId));
 			}
 		}
 
@@ -75,7 +66,7 @@ public final class NewConstructionMarksAlgorithm {
 		if (lastArea != null) {
 			lastArea.stream()
 					.filterBounds(map.getWidth(), map.getHeight())
-					.forEach((x, y) -> map.setConstructMarking(x, y, false, false, null));
+					.forEach((x, y) -> map.setConstructMarking(x, y, (byte) -1));
 			lastArea = null;
 		}
 	}
@@ -92,6 +83,6 @@ public final class NewConstructionMarksAlgorithm {
 		area.stream()
 				.filterBounds(map.getWidth(), map.getHeight())
 				.filter((x, y) -> !notIn.contains(x, y))
-				.forEach((x, y) -> map.setConstructMarking(x, y, false, false, null));
+				.forEach((x, y) -> map.setConstructMarking(x, y, (byte) -1));
 	}
 }
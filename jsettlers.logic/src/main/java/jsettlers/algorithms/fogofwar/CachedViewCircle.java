@@ -16,6 +16,7 @@ package jsettlers.algorithms.fogofwar;
 
 import jsettlers.common.map.shapes.MapCircle;
 import jsettlers.common.map.shapes.MapCircleIterator;
+import jsettlers.common.movable.EDirection;
 
 /**
  * Caches a {@link MapCircle} and the calculated view distances of the circles positions.
@@ -29,6 +30,7 @@ public final class CachedViewCircle {
 	final short[] y;
 	final byte[] refIndex;
 	final int size;
+	private final ViewCircleDelta[] deltas = new ViewCircleDelta[EDirection.NUMBER_OF_DIRECTIONS];
 
 	public CachedViewCircle(int radius) {
 		radius += FogOfWar.PADDING / 2; // radius+0.5p
@@ -70,6 +72,18 @@ public final class CachedViewCircle {
 		return counter;
 	}
 
+	/**
+	 * @param direction
+	 *            The direction the circle is moved into.
+	 * @return The positions changing when the center of this circle moves one step into the given direction.
+	 */
+	ViewCircleDelta getDelta(EDirection direction) {
+		if (deltas[direction.ordinal] == null) {
+			deltas[direction.ordinal] = new ViewCircleDelta(this, direction);
+		}
+		return deltas[direction.ordinal];
+	}
+
 	public CachedViewCircleIterator iterator(int xOffset, int yOffset) {
 		return new CachedViewCircleIterator(xOffset, yOffset);
 	}
@@ -78,7 +92,7 @@ public final class CachedViewCircle {
 		private final int xOffset;
 		private final int yOffset;
 
-		private int idx;
+		private int idx = -1;
 
 		public CachedViewCircleIterator(int xOffset, int yOffset) {
 			this.xOffset = xOffset;
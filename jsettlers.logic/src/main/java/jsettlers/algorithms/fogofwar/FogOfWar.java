@@ -14,18 +14,28 @@
  *******************************************************************************/
 package jsettlers.algorithms.fogofwar;
 
+import java.io.IOException;
 import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamField;
 import java.io.Serializable;
-import java.util.BitSet;
+import java.util.Arrays;
+import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
 
 import jsettlers.common.CommonConstants;
 import jsettlers.common.landscape.ELandscapeType;
 import jsettlers.common.map.IGraphicsBackgroundListener;
 import jsettlers.common.mapobject.IMapObject;
+import jsettlers.common.movable.EDirection;
 import jsettlers.common.position.ShortPoint2D;
+import jsettlers.common.utils.collections.ConcurrentBitSet;
 import go.graphics.FramerateComputer;
+import jsettlers.logic.GameContext;
 import jsettlers.logic.buildings.Building;
 import jsettlers.logic.constants.Constants;
 import jsettlers.logic.constants.MatchConstants;
@@ -47,20 +57,54 @@ public final class FogOfWar implements Serializable {
 	 */
 	public static final byte MAX_VIEW_DISTANCE = 65;
 	public static final int PADDING = 10;
+	/**
+	 * Number of reference counters per position. The ref index of a view circle is in [0, PADDING].
+	 */
+	public static final int REF_DEPTH = PADDING + 1;
 
-	public final byte team;
+	private static final byte NOT_HIDDEN = -1;
+	/**
+	 * Value of a reference counter whose count is stored in {@link #refOverflows}.
+	 */
+	private static final int REF_OVERFLOW = 0xff;
 
-	public final short width;
-	public final short height;
-	public final byte[][] sight;
-	public final ELandscapeType[][] hiddenLandscape;
-	public final byte[][] hiddenHeight;
-	public final IMapObject[][] hiddenMapObjects;
-	public final short[][][] visibleRefs;
+	/**
+	 * Savegames keep the layout of the per position arrays of older versions, see {@link #writeObject(ObjectOutputStream)}.
+	 */
+	private static final ObjectStreamField[] serialPersistentFields = {
+			new ObjectStreamField("team", byte.class),
+			new ObjectStreamField("width", short.class),
+			new ObjectStreamField("height", short.class),
+			new ObjectStreamField("sight", byte[][].class),
+			new ObjectStreamField("hiddenLandscape", ELandscapeType[][].class),
+			new ObjectStreamField("hiddenHeight", byte[][].class),
+			new ObjectStreamField("hiddenMapObjects", IMapObject[][].class),
+			new ObjectStreamField("visibleRefs", short[][][].class),
+			new ObjectStreamField("landscapeGrid", LandscapeGrid.class),
+			new ObjectStreamField("objectsGrid", ObjectsGrid.class)
+	};
+
+	public byte team;
+
+	public short width;
+	public short height;
+	/**
+	 * All per position arrays are stored row major: the position (x, y) is found at index y * width + x.
+	 */
+	byte[]        sight;
+	byte[]        hiddenLandscape;
+	byte[]        hiddenHeight;
+	IMapObject[]  hiddenMapObjects;
+	/**
+	 * Holds {@link #REF_DEPTH} unsigned reference counters per position, the counter of ref index i of the position (x, y) is found at index (y *
+	 * width + x) * REF_DEPTH + i. Counts of {@link #REF_OVERFLOW} or more are kept in {@link #refOverflows}.
+	 */
+	byte[]        visibleRefs;
+	private transient Map<Integer, Integer> refOverflows;
 	public transient FowDimThread dimThread;
 	public transient FoWRefThread refThread;
-	private final LandscapeGrid landscapeGrid;
-	private final ObjectsGrid objectsGrid;
+	private LandscapeGrid landscapeGrid;
+	private ObjectsGrid   objectsGrid;
 
 	public transient CircleDrawer circleDrawer;
 	private transient IGraphicsBackgroundListener backgroundListener;
@@ -68,22 +112,26 @@ public final class FogOfWar implements Serializable {
 	public transient boolean canceled;
 
 	public FogOfWar(MainGrid root, byte teamId) {
-		this.width = root.getWidth();
-		this.height = root.getHeight();
-		this.team = teamId;
-		this.sight = new byte[width][height];
-		this.hiddenLandscape = new ELandscapeType[width][height];
-		this.hiddenHeight = new byte[width][height];
-		this.hiddenMapObjects = new IMapObject[width][height];
-		this.visibleRefs = new short[width][height][0];
-		this.landscapeGrid = root.getLandscapeGrid();
-		this.objectsGrid = root.getObjectsGrid();
+		this(root.getWidth(), root.getHeight(), teamId, root.getLandscapeGrid(), root.getObjectsGrid());
+	}
 
-		readObject(null);
+	FogOfWar(short width, short height, byte teamId, LandscapeGrid landscapeGrid, ObjectsGrid objectsGrid) {
+		this.width = width;
+		this.height = height;
+		this.team = teamId;
+		this.sight = new byte[width * height];
+		this.hiddenLandscape = new byte[width * height];
+		this.hiddenHeight = new byte[width * height];
+		this.hiddenMapObjects = new IMapObject[width * height];
+		this.visibleRefs = new byte[width * height * REF_DEPTH];
+		Arrays.fill(hiddenLandscape, NOT_HIDDEN);
+		this.landscapeGrid = landscapeGrid;
+		this.objectsGrid = objectsGrid;
+
+		initTransientFields();
 	}
 
 	public void start() {
-		instance = this;
 		refThread.start();
 		dimThread.start();
 	}
@@ -93,10 +141,15 @@ public final class FogOfWar implements Serializable {
 		foWTask.from = from;
 		foWTask.to = to;
 		foWTask.at = at;
-		instance.refThread.nextTasks.add(foWTask);
+		get().refThread.nextTasks.add(foWTask);
 	}
 
-	public static FogOfWar instance;
+	/**
+	 * @return The started fog of war of the current game, see {@link GameContext}.
+	 */
+	public static FogOfWar get() {
+		return GameContext.current().getFogOfWar();
+	}
 
 	public void setBackgroundListener(IGraphicsBackgroundListener backgroundListener) {
 		if (backgroundListener != null) {
@@ -106,14 +159,86 @@ public final class FogOfWar implements Serializable {
 		}
 	}
 
-	private void readObject(ObjectInputStream ois) {
-		if(ois != null) {
-			try {
-				ois.defaultReadObject();
-			} catch (Exception e) {
-				e.printStackTrace();
+	private void writeObject(ObjectOutputStream oos) throws IOException {
+		byte[][] sight2D = new byte[width][height];
+		ELandscapeType[][] hiddenLandscape2D = new ELandscapeType[width][height];
+		byte[][] hiddenHeight2D = new byte[width][height];
+		IMapObject[][] hiddenMapObjects2D = new IMapObject[width][height];
+		short[][][] visibleRefs2D = new short[width][height][];
+
+		for (int y = 0; y < height; y++) {
+			for (int x = 0; x < width; x++) {
+				int index = y * width + x;
+				sight2D[x][y] = sight[index];
+				hiddenLandscape2D[x][y] = getLandscapeTypeAt(x, y);
+				hiddenHeight2D[x][y] = hiddenHeight[index];
+				hiddenMapObjects2D[x][y] = hiddenMapObjects[index];
+
+				int length = REF_DEPTH; // old versions trimmed the counters to the last one that is not zero
+				while (length > 0 && visibleRefs[index * REF_DEPTH + length - 1] == 0) {
+					length--;
+				}
+				short[] refs = new short[length];
+				for (int i = 0; i < length; i++) {
+					refs[i] = (short) getRefCount(index * REF_DEPTH + i);
+				}
+				visibleRefs2D[x][y] = refs;
 			}
 		}
+
+		ObjectOutputStream.PutField fields = oos.putFields();
+		fields.put("team", team);
+		fields.put("width", width);
+		fields.put("height", height);
+		fields.put("sight", sight2D);
+		fields.put("hiddenLandscape", hiddenLandscape2D);
+		fields.put("hiddenHeight", hiddenHeight2D);
+		fields.put("hiddenMapObjects", hiddenMapObjects2D);
+		fields.put("visibleRefs", visibleRefs2D);
+		fields.put("landscapeGrid", landscapeGrid);
+		fields.put("objectsGrid", objectsGrid);
+		oos.writeFields();
+	}
+
+	private void readObject(ObjectInputStream ois) throws IOException, ClassNotFoundException {
+		ObjectInputStream.GetField fields = ois.readFields();
+		team = fields.get("team", (byte) 0);
+		width = fields.get("width", (short) 0);
+		height = fields.get("height", (short) 0);
+		landscapeGrid = (LandscapeGrid) fields.get("landscapeGrid", null);
+		objectsGrid = (ObjectsGrid) fields.get("objectsGrid", null);
+
+		byte[][] sight2D = (byte[][]) fields.get("sight", null);
+		ELandscapeType[][] hiddenLandscape2D = (ELandscapeType[][]) fields.get("hiddenLandscape", null);
+		byte[][] hiddenHeight2D = (byte[][]) fields.get("hiddenHeight", null);
+		IMapObject[][] hiddenMapObjects2D = (IMapObject[][]) fields.get("hiddenMapObjects", null);
+		short[][][] visibleRefs2D = (short[][][]) fields.get("visibleRefs", null);
+
+		sight = new byte[width * height];
+		hiddenLandscape = new byte[width * height];
+		hiddenHeight = new byte[width * height];
+		hiddenMapObjects = new IMapObject[width * height];
+		visibleRefs = new byte[width * height * REF_DEPTH];
+		initTransientFields();
+
+		for (int y = 0; y < height; y++) {
+			for (int x = 0; x < width; x++) {
+				int index = y * width + x;
+				sight[index] = sight2D[x][y];
+				hiddenLandscape[index] = hiddenLandscape2D[x][y] != null ? (byte) hiddenLandscape2D[x][y].ordinal() : NOT_HIDDEN;
+				hiddenHeight[index] = hiddenHeight2D[x][y];
+				hiddenMapObjects[index] = hiddenMapObjects2D[x][y];
+
+				short[] refs = visibleRefs2D[x][y];
+				for (int i = 0; i < refs.length && i < REF_DEPTH; i++) {
+					setRefCount(index * REF_DEPTH + i, refs[i]);
+				}
+			}
+		}
+	}
+
+	private void initTransientFields() {
+		refOverflows = new ConcurrentHashMap<>();
 		refThread = new FoWRefThread();
 		dimThread = new FowDimThread();
 		circleDrawer = new CircleDrawer();
@@ -122,12 +247,57 @@ public final class FogOfWar implements Serializable {
 		backgroundListener = new MainGrid.NullBackgroundListener();
 	}
 
+	/**
+	 * @return The number of view circles that reference the given counter.
+	 */
+	final int getRefCount(int refIndex) {
+		int count = visibleRefs[refIndex] & 0xff;
+		return count == REF_OVERFLOW ? refOverflows.get(refIndex) : count;
+	}
+
+	private void setRefCount(int refIndex, int count) {
+		if (count >= REF_OVERFLOW) {
+			visibleRefs[refIndex] = (byte) REF_OVERFLOW;
+			refOverflows.put(refIndex, count);
+		} else {
+			visibleRefs[refIndex] = (byte) count;
+			refOverflows.remove(refIndex);
+		}
+	}
+
+	private void addRef(int refIndex) {
+		int count = visibleRefs[refIndex] & 0xff;
+		if (count < REF_OVERFLOW - 1) {
+			visibleRefs[refIndex] = (byte) (count + 1);
+		} else {
+			setRefCount(refIndex, getRefCount(refIndex) + 1);
+		}
+	}
+
+	private void removeRef(int refIndex) {
+		int count = visibleRefs[refIndex] & 0xff;
+		if (count < REF_OVERFLOW) {
+			visibleRefs[refIndex] = (byte) (count - 1);
+		} else {
+			setRefCount(refIndex, getRefCount(refIndex) - 1);
+		}
+	}
+
 	public boolean isHidden(int x, int y) {
-		return enabled && hiddenLandscape[x][y] != null;
+		return enabled && hiddenLandscape[y * width + x] != NOT_HIDDEN;
 	}
 
 	public ELandscapeType getLandscapeTypeAt(int x, int y) {
-		return hiddenLandscape[x][y];
+		byte landscape = hiddenLandscape[y * width + x];
+		return landscape != NOT_HIDDEN ? ELandscapeType.VALUES[landscape] : null;
+	}
+
+	public byte getHiddenHeightAt(int x, int y) {
+		return hiddenHeight[y * width + x];
+	}
+
+	public IMapObject getHiddenMapObjectsAt(int x, int y) {
+		return hiddenMapObjects[y * width + x];
 	}
 
 	public static class BuildingFoWTask implements FoWTask {
@@ -154,10 +324,10 @@ public final class FogOfWar implements Serializable {
 	 * @return The status from 0 to visible.
 	 */
 	public final byte getVisibleStatus(int x, int y) {
-		return enabled ? sight[x][y] : CommonConstants.FOG_OF_WAR_VISIBLE;
+		return enabled ? sight[y * width + x] : CommonConstants.FOG_OF_WAR_VISIBLE;
 	}
 
-	public byte[][] getVisibleStatusArray() {
+	public byte[] getVisibleStatusArray() {
 		return sight;
 	}
 
@@ -177,13 +347,13 @@ public final class FogOfWar implements Serializable {
 	public void showMap() {
 		ShowHideFoWTask foWTask = new ShowHideFoWTask();
 		foWTask.addRef = true;
-		instance.refThread.nextTasks.add(foWTask);
+		refThread.nextTasks.add(foWTask);
 	}
 
 	public void hideMap() {
 		ShowHideFoWTask foWTask = new ShowHideFoWTask();
 		foWTask.addRef = false;
-		instance.refThread.nextTasks.add(foWTask);
+		refThread.nextTasks.add(foWTask);
 	}
 
 	public static final int CIRCLE_REMOVE = 1;
@@ -239,8 +409,13 @@ public final class FogOfWar implements Serializable {
 
 				int vd = mFOW.getViewDistance();
 				if(!Objects.equals(oldPos, currentPos)) {
-					if(currentPos != null) circleDrawer.drawCircleToBuffer(currentPos, vd, CIRCLE_ADD|CIRCLE_DIM);
-					if(oldPos != null) circleDrawer.drawCircleToBuffer(oldPos, vd, CIRCLE_REMOVE|CIRCLE_DIM);
+					EDirection direction = currentPos != null && oldPos != null ? EDirection.getDirection(currentPos.x - oldPos.x, currentPos.y - oldPos.y) : null;
+					if(direction != null) {
+						circleDrawer.drawCircleDeltaToBuffer(currentPos, vd, direction);
+					} else {
+						if(currentPos != null) circleDrawer.drawCircleToBuffer(currentPos, vd, CIRCLE_ADD|CIRCLE_DIM);
+						if(oldPos != null) circleDrawer.drawCircleToBuffer(oldPos, vd, CIRCLE_REMOVE|CIRCLE_DIM);
+					}
 					mFOW.setOldFoWPosition(currentPos);
 				}
 				return !mFOW.continueFoW();
@@ -258,103 +433,162 @@ public final class FogOfWar implements Serializable {
 	}
 
 	public class FowDimThread extends FoWThread {
+		/**
+		 * Minimum number of lines dimmed by one task of the pool. The tiles are enlarged to start at a word of the dirty sets.
+		 */
+		private static final int MIN_TILE_LINES = 16;
+
 		FowDimThread() {
 			super("FOW-dimmer");
 			size = width*height;
-			nextUpdate = new BitSet(size);
-			update = new BitSet(size);
+			nextUpdate = new ConcurrentBitSet(size);
+			update = new long[nextUpdate.getNumberOfWords()];
+
+			int tileLines = MIN_TILE_LINES;
+			while ((tileLines * width) % Long.SIZE != 0) {
+				tileLines++;
+			}
+			tiles = new DimTile[(height + tileLines - 1) / tileLines];
+			for (int i = 0; i < tiles.length; i++) {
+				tiles[i] = new DimTile(i * tileLines, Math.min(height, (i + 1) * tileLines));
+			}
+			allTiles = new RecursiveAction() {
+				@Override
+				protected void compute() {
+					invokeAll(tiles);
+				}
+			};
 		}
 
-		public final BitSet nextUpdate;
-		public final BitSet update;
+		public final ConcurrentBitSet nextUpdate;
+		private final long[] update;
 		private final int size;
+		private final DimTile[] tiles;
+		private final RecursiveAction allTiles;
+		private final ForkJoinPool pool = new ForkJoinPool();
+		private byte dim;
 
 		@Override
 		public void taskProcessor() {
-			synchronized (nextUpdate) {
-				update.or(nextUpdate);
-				nextUpdate.clear();
+			boolean hasUpdates = false;
+			for (int i = 0; i < update.length; i++) {
+				update[i] |= nextUpdate.getAndClearWord(i);
+				hasUpdates |= update[i] != 0;
 			}
 
 			double sync_factor = fc.getTime();
 			if (sync_factor == 0) sync_factor = 1.0 / CommonConstants.FOG_OF_WAR_DIM_FRAMERATE;
-			byte dim = (byte) Math.round(sync_factor * CommonConstants.FOG_OF_WAR_DIM * MatchConstants.clock().getGameSpeed());
+			dim = (byte) Math.round(sync_factor * CommonConstants.FOG_OF_WAR_DIM * MatchConstants.clock().getGameSpeed());
 
+			if (hasUpdates) {
+				for (DimTile tile : tiles) {
+					tile.reinitialize();
+				}
+				allTiles.reinitialize();
+				pool.invoke(allTiles);
 
-			int last = 0;
-			do {
-				int first = update.nextSetBit(last);
-				if (first == -1) break;
+				for (DimTile tile : tiles) {
+					if (tile.minX <= tile.maxX) {
+						backgroundListener.backgroundAreaChangedAt(tile.minX, tile.minY, tile.maxX - tile.minX + 1, tile.maxY - tile.minY + 1);
+					}
+				}
+			}
 
-				last = update.nextClearBit(first);
-				if (last == -1) last = size;
+			framerate = (int) (CommonConstants.FOG_OF_WAR_DIM_FRAMERATE*MatchConstants.clock().getGameSpeed());
+			if(framerate > CommonConstants.FOG_OF_WAR_DIM_MAX_FRAMERATE) framerate = CommonConstants.FOG_OF_WAR_DIM_MAX_FRAMERATE;
+		}
 
-				int beginX = first % width;
-				int beginY = (first - beginX) / width;
+		void shutdown() {
+			pool.shutdown();
+		}
 
-				int endX = last % width;
-				int endY = (last - endX) / width;
+		/**
+		 * Dims the lines [startY, endY). As the first position of a tile is the first bit of a word, no two tiles share a word of {@link #update}. The
+		 * positions whose sight changed are collected in the rectangle [minX, maxX] x [minY, maxY].
+		 */
+		private final class DimTile extends RecursiveAction {
+			private static final long serialVersionUID = 1L;
 
-				for (int y = beginY; y <= endY; y++) {
-					int firstUpdate = -1;
-					int lastUpdate = -1;
+			private final int firstWord;
+			private final int endWord;
 
-					int x = y == beginY ? beginX : 0;
-					int x2 = y == endY ? endX : width;
-					for(; x < x2; x++) {
-						final byte refSight = refSight(x, y);
-						final byte dimTo = targetSight(x, y, refSight);
-						final byte oldSight = sight[x][y];
+			int minX;
+			int maxX;
+			int minY;
+			int maxY;
 
-						final byte newSight = dim(sight[x][y], dimTo, dim);
+			DimTile(int startY, int endY) {
+				this.firstWord = startY * width / Long.SIZE;
+				this.endWord = (endY * width + Long.SIZE - 1) / Long.SIZE;
+			}
 
-						if(oldSight <= CommonConstants.FOG_OF_WAR_EXPLORED && newSight > CommonConstants.FOG_OF_WAR_EXPLORED) {
-							clearHidden(x, y);
-						} else if((oldSight > CommonConstants.FOG_OF_WAR_EXPLORED && newSight <= CommonConstants.FOG_OF_WAR_EXPLORED) ||
-								(oldSight <= CommonConstants.FOG_OF_WAR_EXPLORED && refSight < oldSight)) {
-							recordHidden(x, y);
-						}
+			@Override
+			protected void compute() {
+				minX = minY = Integer.MAX_VALUE;
+				maxX = maxY = Integer.MIN_VALUE;
 
-						sight[x][y] = newSight;
+				for (int wordIndex = firstWord; wordIndex < endWord; wordIndex++) {
+					long word = update[wordIndex];
+					long remaining = word;
 
-						if(dimTo != oldSight) {
-							if(lastUpdate + 1 != x) {
-								if(firstUpdate != -1) update(y, firstUpdate, lastUpdate);
-								firstUpdate = lastUpdate = x;
-							} else {
-								if(firstUpdate == -1) firstUpdate = x;
-								lastUpdate = x;
-							}
+					while (remaining != 0) {
+						long lowestBit = remaining & -remaining;
+						remaining ^= lowestBit;
 
-							if(sight[x][y] == dimTo) update.clear(y * width + x);
-						} else {
-							update.set(y * width + x, false);
+						int index = wordIndex * Long.SIZE + Long.numberOfTrailingZeros(lowestBit);
+						if (dimPosition(index)) {
+							word &= ~lowestBit;
 						}
 					}
-					if (firstUpdate != -1) {
-						update(y, firstUpdate, lastUpdate);
-					}
+					update[wordIndex] = word;
 				}
-			} while (last < size);
-			framerate = (int) (CommonConstants.FOG_OF_WAR_DIM_FRAMERATE*MatchConstants.clock().getGameSpeed());
-			if(framerate > CommonConstants.FOG_OF_WAR_DIM_MAX_FRAMERATE) framerate = CommonConstants.FOG_OF_WAR_DIM_MAX_FRAMERATE;
-		}
+			}
+
+			/**
+			 * @return true if the position has reached its target sight and doesn't need to be updated anymore.
+			 */
+			private boolean dimPosition(int index) {
+				final int x = index % width;
+				final int y = index / width;
+
+				final byte refSight = refSight(index);
+				final byte dimTo = targetSight(index, refSight);
+				final byte oldSight = sight[index];
+
+				final byte newSight = dim(oldSight, dimTo, dim);
 
-		private void update(int y, int from, int to) {
-			backgroundListener.backgroundLineChangedAt(from, y, to-from);
+				if(oldSight <= CommonConstants.FOG_OF_WAR_EXPLORED && newSight > CommonConstants.FOG_OF_WAR_EXPLORED) {
+					clearHidden(index);
+				} else if((oldSight > CommonConstants.FOG_OF_WAR_EXPLORED && newSight <= CommonConstants.FOG_OF_WAR_EXPLORED) ||
+						(oldSight <= CommonConstants.FOG_OF_WAR_EXPLORED && refSight < oldSight)) {
+					recordHidden(x, y, index);
+				}
+
+				sight[index] = newSight;
+
+				if(dimTo == oldSight) {
+					return true;
+				}
+
+				if (x < minX) minX = x;
+				if (x > maxX) maxX = x;
+				if (y < minY) minY = y;
+				if (y > maxY) maxY = y;
+				return newSight == dimTo;
+			}
 		}
 	}
 
-	private void clearHidden(int x, int y) {
-		hiddenLandscape[x][y] = null;
-		hiddenHeight[x][y] = -1;
-		hiddenMapObjects[x][y] = null;
+	private void clearHidden(int index) {
+		hiddenLandscape[index] = NOT_HIDDEN;
+		hiddenHeight[index] = -1;
+		hiddenMapObjects[index] = null;
 	}
 
-	private void recordHidden(int x, int y) {
-		hiddenLandscape[x][y] = landscapeGrid.getLandscapeTypeAt(x, y);
-		hiddenHeight[x][y] = landscapeGrid.getHeightAt(x, y);
-		hiddenMapObjects[x][y] = recordMapObjects(objectsGrid.getObjectsAt(x, y));
+	private void recordHidden(int x, int y, int index) {
+		hiddenLandscape[index] = (byte) landscapeGrid.getLandscapeTypeAt(x, y).ordinal();
+		hiddenHeight[index] = landscapeGrid.getHeightAt(x, y);
+		hiddenMapObjects[index] = recordMapObjects(objectsGrid.getObjectsAt(x, y));
 	}
 
 	private IMapObject recordMapObjects(AbstractHexMapObject objects) {
@@ -390,9 +624,9 @@ public final class FogOfWar implements Serializable {
 		else return (byte) (value-dim);
 	}
 
-	final byte targetSight(int x, int y, byte refValue) {
+	final byte targetSight(int index, byte refValue) {
 
-		byte currentValue = sight[x][y];
+		byte currentValue = sight[index];
 
 		if(currentValue >= CommonConstants.FOG_OF_WAR_EXPLORED && refValue < CommonConstants.FOG_OF_WAR_EXPLORED) {
 			return CommonConstants.FOG_OF_WAR_EXPLORED;
@@ -405,18 +639,17 @@ public final class FogOfWar implements Serializable {
 		return refValue;
 	}
 
-	final byte refSight(int x, int y) {
-		short[] refs = instance.visibleRefs[x][y];
-		if(refs.length == 0) return 0;
+	final byte refSight(int index) {
+		int refsStart = index * REF_DEPTH;
 
 		byte value = CommonConstants.FOG_OF_WAR_VISIBLE;
 
-		for(int i = 0;i != refs.length;i++) {
-			if(refs[i] > 0) break;
+		for(int i = 0;i != REF_DEPTH;i++) {
+			if(visibleRefs[refsStart + i] != 0) return value;
 			value -= 10;
 		}
 
-		return value;
+		return 0;
 	}
 
 	public abstract class FoWThread extends Thread {
@@ -451,18 +684,7 @@ public final class FogOfWar implements Serializable {
 
 	public void cancel() {
 		canceled = true;
-	}
-
-	public int maxIndex(int x, int y) {
-		short[] array = instance.visibleRefs[x][y];
-		int lastEntry = array.length-1;
-
-		if(array.length == 0) return 0;
-
-		for(int i = lastEntry;i >= 0;i--) {
-			if(array[i] > 0) return i+1;
-		}
-		return 0;
+		dimThread.shutdown();
 	}
 
 	public interface ViewAreaIterator {
@@ -520,38 +742,53 @@ public final class FogOfWar implements Serializable {
 			draw(iterator, state);
 		}
 
+		/**
+		 * Moves a circle that was drawn one step before the given position into the given direction to the given position. This has the same result as
+		 * adding the circle at the new position and removing it at the old one, but only touches the positions whose ref index changes.
+		 */
+		final void drawCircleDeltaToBuffer(ShortPoint2D at, int viewDistance, EDirection direction) {
+			ViewCircleDelta delta = getCachedCircle(viewDistance).getDelta(direction);
+
+			for (int i = 0; i < delta.size; i++) {
+				final int x = delta.x[i] + at.x;
+				final int y = delta.y[i] + at.y;
+
+				if (x >= 0 && x < width && y > 0 && y < height) {
+					final int index = y * width + x;
+					final int refsStart = index * REF_DEPTH;
+
+					if(delta.newRefIndex[i] != ViewCircleDelta.NO_REF) {
+						addRef(refsStart + delta.newRefIndex[i]);
+					}
+					if(delta.oldRefIndex[i] != ViewCircleDelta.NO_REF) {
+						removeRef(refsStart + delta.oldRefIndex[i]);
+					}
+
+					if(sight[index] != refSight(index)) {
+						dimThread.nextUpdate.set(index);
+					}
+				}
+			}
+		}
+
 		final void draw(ViewAreaIterator iterator, int state) {
 			while (iterator.hasNext()) {
 				final int x = iterator.getCurrX();
 				final int y = iterator.getCurrY();
 
 				if (x >= 0 && x < width && y > 0 && y < height) {
-					byte tmpIndex = iterator.getRefIndex();
+					final int index = y * width + x;
+					final int refIndex = index * REF_DEPTH + iterator.getRefIndex();
 
 					if((state&CIRCLE_ADD) > 0) {
-						if(instance.visibleRefs[x][y].length <= tmpIndex) { // enlarge ref index array
-							short[] tmpRef = instance.visibleRefs[x][y];
-							instance.visibleRefs[x][y] = new short[tmpIndex+1];
-							System.arraycopy(tmpRef, 0, instance.visibleRefs[x][y], 0, tmpRef.length);
-						}
-
-						instance.visibleRefs[x][y][tmpIndex]++;
+						addRef(refIndex);
 					}
 					if((state&CIRCLE_REMOVE) > 0) {
-						instance.visibleRefs[x][y][tmpIndex]--;
-						if(instance.visibleRefs[x][y][tmpIndex] == 0 && instance.visibleRefs[x][y].length == tmpIndex+1) { // minimize ref index array size
-							int newLength = maxIndex(x, y);
-
-							short[] tmpRef = instance.visibleRefs[x][y];
-							instance.visibleRefs[x][y] = new short[newLength];
-							System.arraycopy(tmpRef, 0, instance.visibleRefs[x][y], 0, newLength);
-						}
+						removeRef(refIndex);
 					}
 
-					if((state&CIRCLE_DIM) > 0 && sight[x][y] != refSight(x, y)) {
-						synchronized (instance.dimThread.nextUpdate) {
-							instance.dimThread.nextUpdate.set(y*width+x);
-						}
+					if((state&CIRCLE_DIM) > 0 && sight[index] != refSight(index)) {
+						dimThread.nextUpdate.set(index);
 					}
 				}
 			}
@@ -0,0 +1,91 @@
+/*******************************************************************************
+ * Copyright (c) 2026
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE.
+ *******************************************************************************/
+package jsettlers.algorithms.fogofwar;
+
+import java.util.Arrays;
+
+import jsettlers.common.movable.EDirection;
+
+/**
+ * Holds the difference between a {@link CachedViewCircle} and the same circle moved one step into a given direction.
+ * <p>
+ * Only positions whose ref index changes by the step are contained. The positions are relative to the new center of the circle, a ref index of
+ * {@link #NO_REF} means the position is not covered by the old respectively the new circle.
+ */
+final class ViewCircleDelta {
+	static final byte NO_REF = -1;
+
+	final short[] x;
+	final short[] y;
+	final byte[]  oldRefIndex;
+	final byte[]  newRefIndex;
+	final int     size;
+
+	ViewCircleDelta(CachedViewCircle circle, EDirection direction) {
+		int extent = 0;
+		for (int i = 0; i < circle.size; i++) {
+			extent = Math.max(extent, Math.max(Math.abs(circle.x[i]), Math.abs(circle.y[i])));
+		}
+		extent++;
+
+		int lineLength = 2 * extent + 1;
+		byte[] refIndexes = new byte[lineLength * lineLength];
+		Arrays.fill(refIndexes, NO_REF);
+		for (int i = 0; i < circle.size; i++) {
+			refIndexes[(circle.y[i] + extent) * lineLength + circle.x[i] + extent] = circle.refIndex[i];
+		}
+
+		int dx = direction.getGridDeltaX();
+		int dy = direction.getGridDeltaY();
+
+		short[] x = new short[2 * circle.size];
+		short[] y = new short[2 * circle.size];
+		byte[] oldRefIndex = new byte[2 * circle.size];
+		byte[] newRefIndex = new byte[2 * circle.size];
+		int size = 0;
+
+		for (int i = 0; i < circle.size; i++) { // positions of the old circle, relative to the new center
+			int relativeX = circle.x[i] - dx;
+			int relativeY = circle.y[i] - dy;
+			byte newIndex = refIndexes[(relativeY + extent) * lineLength + relativeX + extent];
+
+			if (newIndex != circle.refIndex[i]) {
+				x[size] = (short) relativeX;
+				y[size] = (short) relativeY;
+				oldRefIndex[size] = circle.refIndex[i];
+				newRefIndex[size] = newIndex;
+				size++;
+			}
+		}
+
+		for (int i = 0; i < circle.size; i++) { // positions only covered by the new circle
+			int oldX = circle.x[i] + dx;
+			int oldY = circle.y[i] + dy;
+			if (refIndexes[(oldY + extent) * lineLength + oldX + extent] == NO_REF) {
+				x[size] = circle.x[i];
+				y[size] = circle.y[i];
+				oldRefIndex[size] = NO_REF;
+				newRefIndex[size] = circle.refIndex[i];
+				size++;
+			}
+		}
+
+		this.x = Arrays.copyOf(x, size);
+		this.y = Arrays.copyOf(y, size);
+		this.oldRefIndex = Arrays.copyOf(oldRefIndex, size);
+		this.newRefIndex = Arrays.copyOf(newRefIndex, size);
+		this.size = size;
+	}
+}
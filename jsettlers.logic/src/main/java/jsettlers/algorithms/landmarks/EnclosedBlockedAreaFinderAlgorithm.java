@@ -15,7 +15,6 @@
 package jsettlers.algorithms.landmarks;
 
 import jsettlers.algorithms.interfaces.IContainingProvider;
-import jsettlers.algorithms.traversing.area.AreaTraversingAlgorithm;
 import jsettlers.algorithms.traversing.borders.BorderTraversingAlgorithm;
 import jsettlers.common.movable.EDirection;
 import jsettlers.common.player.IPlayer;
@@ -50,7 +49,7 @@ public final class EnclosedBlockedAreaFinderAlgorithm {
 	}
 
 	private static void destroyBuildingsOrTakeOver(IEnclosedBlockedAreaFinderGrid grid, IContainingProvider containingProvider, ShortPoint2D blockedStartPos, byte newPlayer) {
-		AreaTraversingAlgorithm.traverseArea(containingProvider, grid.getDestroyBuildingOrTakeOverVisitor(newPlayer), blockedStartPos, grid.getWidth(), grid.getHeight());
+		grid.getAreaTraversingAlgorithm().traverseArea(containingProvider, grid.getDestroyBuildingOrTakeOverVisitor(newPlayer), blockedStartPos.x, blockedStartPos.y);
 	}
 
 	/**
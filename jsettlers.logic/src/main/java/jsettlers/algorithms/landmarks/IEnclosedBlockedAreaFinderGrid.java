@@ -14,6 +14,7 @@
  *******************************************************************************/
 package jsettlers.algorithms.landmarks;
 
+import jsettlers.algorithms.traversing.area.AreaTraversingAlgorithm;
 import jsettlers.algorithms.traversing.area.IAreaVisitor;
 import jsettlers.common.player.IPlayer;
 
@@ -38,4 +39,9 @@ public interface IEnclosedBlockedAreaFinderGrid {
 	boolean isOfPlayerOrBlocked(int x, int y, byte playerId);
 
 	IAreaVisitor getDestroyBuildingOrTakeOverVisitor(byte newPlayer);
+
+	/**
+	 * @return the {@link AreaTraversingAlgorithm} reused for all traversals of the enclosed areas.
+	 */
+	AreaTraversingAlgorithm getAreaTraversingAlgorithm();
 }
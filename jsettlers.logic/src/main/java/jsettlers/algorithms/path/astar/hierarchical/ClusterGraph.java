@@ -0,0 +1,427 @@
+/*******************************************************************************
+ * Copyright (c) 2026
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE.
+ *******************************************************************************/
+package jsettlers.algorithms.path.astar.hierarchical;
+
+import java.util.Arrays;
+import java.util.BitSet;
+
+import jsettlers.common.movable.EDirection;
+
+/**
+ * Abstract graph of the {@link HierarchicalAStar}.
+ * <p>
+ * The map is divided into square clusters of {@link #CLUSTER_SIZE} positions. Every open run on the border of two neighboring clusters gets an
+ * entrance consisting of two nodes (one on each side). The nodes of a cluster are connected by the lengths of the shortest paths inside the cluster.
+ * <p>
+ * Changes of the map only mark the affected clusters as dirty. They are rebuilt on the next call of {@link #update()}, so the graph always only depends
+ * on the current state of the map.
+ */
+final class ClusterGraph {
+	static final int  CLUSTER_SIZE          = 16;
+	static final int  MAX_NODES_PER_CLUSTER = 4 * CLUSTER_SIZE;
+	static final byte ANY_PLAYER            = -1;
+
+	private static final int   LONG_ENTRANCE_LENGTH = CLUSTER_SIZE / 2;
+	private static final int[] NO_VALUES            = new int[0];
+
+	private static final byte[] xDeltaArray = EDirection.getXDeltaArray();
+	private static final byte[] yDeltaArray = EDirection.getYDeltaArray();
+
+	private final IHierarchicalAStarMap map;
+	private final byte                  playerId;
+	private final int                   width;
+	private final int                   height;
+	private final int                   clustersX;
+	private final int                   clustersY;
+
+	/**
+	 * Pairs of (position in cluster, position in right neighbor cluster) for every cluster.
+	 */
+	private final int[][] rightTransitions;
+	/**
+	 * Pairs of (position in cluster, position in bottom neighbor cluster) for every cluster.
+	 */
+	private final int[][] bottomTransitions;
+
+	/**
+	 * Sorted flat positions of the nodes of every cluster.
+	 */
+	private final int[][] nodes;
+	/**
+	 * Costs between all nodes of a cluster (nodeIdx * numberOfNodes + otherNodeIdx) or -1 if there is no connection inside the cluster.
+	 */
+	private final int[][] intraCosts;
+	/**
+	 * Offsets into {@link #partners} for every node of a cluster.
+	 */
+	private final int[][] partnerOffsets;
+	/**
+	 * Flat positions of the nodes in neighbor clusters that are directly reachable from the nodes of a cluster.
+	 */
+	private final int[][] partners;
+
+	private final BitSet dirtyClusters;
+	private final BitSet clustersToRebuild;
+
+	private final int[]  transitionsBuffer = new int[4 * CLUSTER_SIZE];
+	private final long[] nodePairsBuffer   = new long[8 * CLUSTER_SIZE];
+	private final int[]  bfsCosts          = new int[CLUSTER_SIZE * CLUSTER_SIZE];
+	private final int[]  bfsQueue          = new int[CLUSTER_SIZE * CLUSTER_SIZE];
+
+	ClusterGraph(IHierarchicalAStarMap map, byte playerId, int width, int height) {
+		this.map = map;
+		this.playerId = playerId;
+		this.width = width;
+		this.height = height;
+
+		this.clustersX = (width + CLUSTER_SIZE - 1) / CLUSTER_SIZE;
+		this.clustersY = (height + CLUSTER_SIZE - 1) / CLUSTER_SIZE;
+		int numberOfClusters = getNumberOfClusters();
+
+		this.rightTransitions = new int[numberOfClusters][];
+		this.bottomTransitions = new int[numberOfClusters][];
+		this.nodes = new int[numberOfClusters][];
+		this.intraCosts = new int[numberOfClusters][];
+		this.partnerOffsets = new int[numberOfClusters][];
+		this.partners = new int[numberOfClusters][];
+
+		this.dirtyClusters = new BitSet(numberOfClusters);
+		this.clustersToRebuild = new BitSet(numberOfClusters);
+		this.dirtyClusters.set(0, numberOfClusters);
+	}
+
+	int getNumberOfClusters() {
+		return clustersX * clustersY;
+	}
+
+	int getClusterIdx(int x, int y) {
+		return (y / CLUSTER_SIZE) * clustersX + x / CLUSTER_SIZE;
+	}
+
+	int getClusterIdx(int flatIdx) {
+		return getClusterIdx(flatIdx % width, flatIdx / width);
+	}
+
+	int[] getNodes(int clusterIdx) {
+		return nodes[clusterIdx];
+	}
+
+	/**
+	 * @return index of the node at the given position in its cluster or a negative value if there is no node.
+	 */
+	int getNodeIdx(int clusterIdx, int flatIdx) {
+		return Arrays.binarySearch(nodes[clusterIdx], flatIdx);
+	}
+
+	int getIntraCost(int clusterIdx, int nodeIdx, int otherNodeIdx) {
+		return intraCosts[clusterIdx][nodeIdx * nodes[clusterIdx].length + otherNodeIdx];
+	}
+
+	int getPartnersStart(int clusterIdx, int nodeIdx) {
+		return partnerOffsets[clusterIdx][nodeIdx];
+	}
+
+	int getPartnersEnd(int clusterIdx, int nodeIdx) {
+		return partnerOffsets[clusterIdx][nodeIdx + 1];
+	}
+
+	int getPartner(int clusterIdx, int partnerIdx) {
+		return partners[clusterIdx][partnerIdx];
+	}
+
+	/**
+	 * Marks the clusters that may be affected by a change of the given position.
+	 */
+	void markDirty(int x, int y) {
+		dirtyClusters.set(getClusterIdx(x, y));
+
+		for (int i = 0; i < EDirection.NUMBER_OF_DIRECTIONS; i++) {
+			int neighborX = x + xDeltaArray[i];
+			int neighborY = y + yDeltaArray[i];
+			if (isInBounds(neighborX, neighborY)) {
+				dirtyClusters.set(getClusterIdx(neighborX, neighborY));
+			}
+		}
+	}
+
+	/**
+	 * Rebuilds all clusters changed since the last update.
+	 */
+	void update() {
+		if (dirtyClusters.isEmpty()) {
+			return;
+		}
+
+		clustersToRebuild.clear();
+		for (int clusterIdx = dirtyClusters.nextSetBit(0); clusterIdx >= 0; clusterIdx = dirtyClusters.nextSetBit(clusterIdx + 1)) {
+			int clusterX = clusterIdx % clustersX;
+			int clusterY = clusterIdx / clustersX;
+
+			updateRightTransitions(clusterX, clusterY);
+			updateBottomTransitions(clusterX, clusterY);
+			clustersToRebuild.set(clusterIdx);
+
+			if (clusterX > 0) {
+				updateRightTransitions(clusterX - 1, clusterY);
+				clustersToRebuild.set(clusterIdx - 1);
+			}
+			if (clusterY > 0) {
+				updateBottomTransitions(clusterX, clusterY - 1);
+				clustersToRebuild.set(clusterIdx - clustersX);
+			}
+			if (clusterX + 1 < clustersX) {
+				clustersToRebuild.set(clusterIdx + 1);
+			}
+			if (clusterY + 1 < clustersY) {
+				clustersToRebuild.set(clusterIdx + clustersX);
+			}
+		}
+		dirtyClusters.clear();
+
+		for (int clusterIdx = clustersToRebuild.nextSetBit(0); clusterIdx >= 0; clusterIdx = clustersToRebuild.nextSetBit(clusterIdx + 1)) {
+			rebuildNodes(clusterIdx);
+		}
+	}
+
+	/**
+	 * Calculates the costs of the shortest paths inside the cluster from the given position to all nodes of that cluster.
+	 *
+	 * @param costs
+	 *            Array receiving the costs for every node of the cluster. Unreachable nodes get -1.
+	 */
+	void calculateCostsToNodes(int clusterIdx, int x, int y, int[] costs) {
+		floodCluster(clusterIdx, x, y);
+
+		int[] clusterNodes = nodes[clusterIdx];
+		for (int i = 0; i < clusterNodes.length; i++) {
+			costs[i] = bfsCosts[getLocalIdx(clusterIdx, clusterNodes[i])];
+		}
+	}
+
+	boolean isPassable(int x, int y) {
+		return !map.isBlocked(x, y) && (playerId == ANY_PLAYER || map.getPlayerIdAt(x, y) == playerId);
+	}
+
+	private void updateRightTransitions(int clusterX, int clusterY) {
+		int clusterIdx = clusterY * clustersX + clusterX;
+		if (clusterX + 1 >= clustersX) {
+			rightTransitions[clusterIdx] = NO_VALUES;
+			return;
+		}
+
+		int borderX = clusterX * CLUSTER_SIZE + CLUSTER_SIZE - 1;
+		int minY = clusterY * CLUSTER_SIZE;
+		int maxY = Math.min(minY + CLUSTER_SIZE, height) - 1;
+
+		int count = 0;
+		int runStart = -1;
+		for (int y = minY; y <= maxY + 1; y++) {
+			boolean open = y <= maxY && isPassable(borderX, y) && isPassable(borderX + 1, y);
+			if (open && runStart < 0) {
+				runStart = y;
+			} else if (!open && runStart >= 0) {
+				count = addEntrance(count, borderX, runStart, y - 1, true);
+				runStart = -1;
+			}
+		}
+
+		// diagonal steps are only needed if no straight step is possible next to them
+		for (int y = minY; y < maxY; y++) {
+			if (isPassable(borderX, y) && isPassable(borderX + 1, y + 1)
+					&& !(isPassable(borderX, y + 1) && isPassable(borderX + 1, y + 1))
+					&& !(isPassable(borderX, y) && isPassable(borderX + 1, y))) {
+				count = addTransition(count, getFlatIdx(borderX, y), getFlatIdx(borderX + 1, y + 1));
+			}
+		}
+
+		rightTransitions[clusterIdx] = Arrays.copyOf(transitionsBuffer, count);
+	}
+
+	private void updateBottomTransitions(int clusterX, int clusterY) {
+		int clusterIdx = clusterY * clustersX + clusterX;
+		if (clusterY + 1 >= clustersY) {
+			bottomTransitions[clusterIdx] = NO_VALUES;
+			return;
+		}
+
+		int borderY = clusterY * CLUSTER_SIZE + CLUSTER_SIZE - 1;
+		int minX = clusterX * CLUSTER_SIZE;
+		int maxX = Math.min(minX + CLUSTER_SIZE, width) - 1;
+
+		int count = 0;
+		int runStart = -1;
+		for (int x = minX; x <= maxX + 1; x++) {
+			boolean open = x <= maxX && isPassable(x, borderY) && isPassable(x, borderY + 1);
+			if (open && runStart < 0) {
+				runStart = x;
+			} else if (!open && runStart >= 0) {
+				count = addEntrance(count, borderY, runStart, x - 1, false);
+				runStart = -1;
+			}
+		}
+
+		for (int x = minX; x < maxX; x++) {
+			if (isPassable(x, borderY) && isPassable(x + 1, borderY + 1)
+					&& !(isPassable(x + 1, borderY) && isPassable(x + 1, borderY + 1))
+					&& !(isPassable(x, borderY) && isPassable(x, borderY + 1))) {
+				count = addTransition(count, getFlatIdx(x, borderY), getFlatIdx(x + 1, borderY + 1));
+			}
+		}
+
+		bottomTransitions[clusterIdx] = Arrays.copyOf(transitionsBuffer, count);
+	}
+
+	private int addEntrance(int count, int border, int runStart, int runEnd, boolean vertical) {
+		if (runEnd - runStart + 1 >= LONG_ENTRANCE_LENGTH) {
+			count = addStraightTransition(count, border, runStart, vertical);
+			return addStraightTransition(count, border, runEnd, vertical);
+		} else {
+			return addStraightTransition(count, border, (runStart + runEnd) / 2, vertical);
+		}
+	}
+
+	private int addStraightTransition(int count, int border, int position, boolean vertical) {
+		if (vertical) {
+			return addTransition(count, getFlatIdx(border, position), getFlatIdx(border + 1, position));
+		} else {
+			return addTransition(count, getFlatIdx(position, border), getFlatIdx(position, border + 1));
+		}
+	}
+
+	private int addTransition(int count, int from, int to) {
+		transitionsBuffer[count] = from;
+		transitionsBuffer[count + 1] = to;
+		return count + 2;
+	}
+
+	private void rebuildNodes(int clusterIdx) {
+		int clusterX = clusterIdx % clustersX;
+		int clusterY = clusterIdx / clustersX;
+
+		int pairs = 0;
+		pairs = addNodePairs(pairs, rightTransitions[clusterIdx], 0);
+		pairs = addNodePairs(pairs, bottomTransitions[clusterIdx], 0);
+		if (clusterX > 0) {
+			pairs = addNodePairs(pairs, rightTransitions[clusterIdx - 1], 1);
+		}
+		if (clusterY > 0) {
+			pairs = addNodePairs(pairs, bottomTransitions[clusterIdx - clustersX], 1);
+		}
+		Arrays.sort(nodePairsBuffer, 0, pairs);
+
+		int numberOfNodes = 0;
+		for (int i = 0; i < pairs; i++) {
+			if (i == 0 || getNode(nodePairsBuffer[i]) != getNode(nodePairsBuffer[i - 1])) {
+				numberOfNodes++;
+			}
+		}
+
+		int[] clusterNodes = new int[numberOfNodes];
+		int[] clusterPartnerOffsets = new int[numberOfNodes + 1];
+		int[] clusterPartners = new int[pairs];
+		int nodeIdx = -1;
+		for (int i = 0; i < pairs; i++) {
+			int node = getNode(nodePairsBuffer[i]);
+			if (nodeIdx < 0 || clusterNodes[nodeIdx] != node) {
+				nodeIdx++;
+				clusterNodes[nodeIdx] = node;
+				clusterPartnerOffsets[nodeIdx] = i;
+			}
+			clusterPartners[i] = getPartner(nodePairsBuffer[i]);
+		}
+		clusterPartnerOffsets[numberOfNodes] = pairs;
+
+		nodes[clusterIdx] = clusterNodes;
+		partnerOffsets[clusterIdx] = clusterPartnerOffsets;
+		partners[clusterIdx] = clusterPartners;
+
+		int[] costs = new int[numberOfNodes * numberOfNodes];
+		for (int i = 0; i < numberOfNodes; i++) {
+			floodCluster(clusterIdx, clusterNodes[i] % width, clusterNodes[i] / width);
+			for (int j = 0; j < numberOfNodes; j++) {
+				costs[i * numberOfNodes + j] = bfsCosts[getLocalIdx(clusterIdx, clusterNodes[j])];
+			}
+		}
+		intraCosts[clusterIdx] = costs;
+	}
+
+	private int addNodePairs(int pairs, int[] transitions, int nodeOffset) {
+		for (int i = 0; i < transitions.length; i += 2) {
+			int node = transitions[i + nodeOffset];
+			int partner = transitions[i + 1 - nodeOffset];
+			nodePairsBuffer[pairs++] = ((long) node << 32) | partner;
+		}
+		return pairs;
+	}
+
+	private static int getNode(long nodePair) {
+		return (int) (nodePair >>> 32);
+	}
+
+	private static int getPartner(long nodePair) {
+		return (int) nodePair;
+	}
+
+	/**
+	 * Breadth first search inside the given cluster. The results are stored in {@link #bfsCosts}.
+	 */
+	private void floodCluster(int clusterIdx, int startX, int startY) {
+		int minX = (clusterIdx % clustersX) * CLUSTER_SIZE;
+		int minY = (clusterIdx / clustersX) * CLUSTER_SIZE;
+		int maxX = Math.min(minX + CLUSTER_SIZE, width) - 1;
+		int maxY = Math.min(minY + CLUSTER_SIZE, height) - 1;
+
+		Arrays.fill(bfsCosts, -1);
+
+		int startIdx = (startY - minY) * CLUSTER_SIZE + startX - minX;
+		bfsCosts[startIdx] = 0;
+		bfsQueue[0] = startIdx;
+		int head = 0;
+		int tail = 1;
+
+		while (head < tail) {
+			int currIdx = bfsQueue[head++];
+			int x = minX + currIdx % CLUSTER_SIZE;
+			int y = minY + currIdx / CLUSTER_SIZE;
+
+			for (int i = 0; i < EDirection.NUMBER_OF_DIRECTIONS; i++) {
+				int neighborX = x + xDeltaArray[i];
+				int neighborY = y + yDeltaArray[i];
+
+				if (minX <= neighborX && neighborX <= maxX && minY <= neighborY && neighborY <= maxY) {
+					int neighborIdx = (neighborY - minY) * CLUSTER_SIZE + neighborX - minX;
+					if (bfsCosts[neighborIdx] < 0 && isPassable(neighborX, neighborY)) {
+						bfsCosts[neighborIdx] = bfsCosts[currIdx] + 1;
+						bfsQueue[tail++] = neighborIdx;
+					}
+				}
+			}
+		}
+	}
+
+	private int getLocalIdx(int clusterIdx, int flatIdx) {
+		int x = flatIdx % width - (clusterIdx % clustersX) * CLUSTER_SIZE;
+		int y = flatIdx / width - (clusterIdx / clustersX) * CLUSTER_SIZE;
+		return y * CLUSTER_SIZE + x;
+	}
+
+	private int getFlatIdx(int x, int y) {
+		return y * width + x;
+	}
+
+	private boolean isInBounds(int x, int y) {
+		return 0 <= x && x < width && 0 <= y && y < height;
+	}
+}
@@ -0,0 +1,344 @@
+/*******************************************************************************
+ * Copyright (c) 2026
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE.
+ *******************************************************************************/
+package jsettlers.algorithms.path.astar.hierarchical;
+
+import java.util.Arrays;
+
+import jsettlers.algorithms.path.IPathCalculatable;
+import jsettlers.algorithms.path.Path;
+import jsettlers.algorithms.path.astar.AbstractAStar;
+import jsettlers.algorithms.path.astar.BucketQueueAStar;
+import jsettlers.algorithms.path.astar.queues.heap.IntMinHeap;
+import jsettlers.common.position.ShortPoint2D;
+
+/**
+ * Hierarchical AStar (HPA*) for long distance paths.
+ * <p>
+ * The search is first done on an abstract graph of map clusters ({@link ClusterGraph}) and the found route is then refined segment by segment with a
+ * {@link BucketQueueAStar}. Short paths, ships and requests the abstract graph can not answer are directly handled by the {@link BucketQueueAStar}.
+ * <p>
+ * Movables that need their player's ground get an own abstract graph per player. The graphs are kept up to date by {@link #positionChanged(int, int)},
+ * which must be called whenever the blocking or the player of a position changes.
+ */
+public final class HierarchicalAStar extends AbstractAStar {
+	private static final int MIN_HIERARCHICAL_DISTANCE = 2 * ClusterGraph.CLUSTER_SIZE;
+
+	private final IHierarchicalAStarMap map;
+	private final BucketQueueAStar      aStar;
+	private final short                 width;
+	private final short                 height;
+
+	private ClusterGraph   anyPlayerGraph;
+	private ClusterGraph[] playerGraphs = new ClusterGraph[0];
+
+	private final int        startId;
+	private final int        targetId;
+	private final IntMinHeap open;
+	private final int[]      costs;
+	private final int[]      parents;
+	private final int[]      positions;
+	private final int[]      visitedMarks;
+	private final int[]      closedMarks;
+	private int              searchMark = 0;
+
+	private final int[] startCosts  = new int[ClusterGraph.MAX_NODES_PER_CLUSTER];
+	private final int[] targetCosts = new int[ClusterGraph.MAX_NODES_PER_CLUSTER];
+
+	private int[] waypoints = new int[64];
+	private int[] pathSteps = new int[256];
+
+	public HierarchicalAStar(IHierarchicalAStarMap map, short width, short height) {
+		this.map = map;
+		this.width = width;
+		this.height = height;
+		this.aStar = new BucketQueueAStar(map, width, height);
+
+		this.anyPlayerGraph = new ClusterGraph(map, ClusterGraph.ANY_PLAYER, width, height);
+
+		int numberOfIds = anyPlayerGraph.getNumberOfClusters() * ClusterGraph.MAX_NODES_PER_CLUSTER + 2;
+		this.startId = numberOfIds - 2;
+		this.targetId = numberOfIds - 1;
+		this.open = new IntMinHeap(numberOfIds);
+		this.costs = new int[numberOfIds];
+		this.parents = new int[numberOfIds];
+		this.positions = new int[numberOfIds];
+		this.visitedMarks = new int[numberOfIds];
+		this.closedMarks = new int[numberOfIds];
+	}
+
+	/**
+	 * Needs to be called when the blocking or the player of the given position changed.
+	 *
+	 * @param x
+	 *            x coordinate
+	 * @param y
+	 *            y coordinate
+	 */
+	public void positionChanged(int x, int y) {
+		anyPlayerGraph.markDirty(x, y);
+		for (ClusterGraph playerGraph : playerGraphs) {
+			if (playerGraph != null) {
+				playerGraph.markDirty(x, y);
+			}
+		}
+	}
+
+	@Override
+	public Path findPath(IPathCalculatable requester, ShortPoint2D target) {
+		ShortPoint2D pos = requester.getPosition();
+		return findPath(requester, pos.x, pos.y, target.x, target.y);
+	}
+
+	@Override
+	public Path findPath(IPathCalculatable requester, final short sx, final short sy, final short tx, final short ty) {
+		if (!isHierarchicalSearchPossible(requester, sx, sy, tx, ty)) {
+			return aStar.findPath(requester, sx, sy, tx, ty);
+		}
+
+		ClusterGraph graph = getGraph(requester);
+		graph.update();
+
+		int numberOfWaypoints = findAbstractPath(graph, sx, sy, tx, ty);
+		if (numberOfWaypoints < 0) {
+			return aStar.findPath(requester, sx, sy, tx, ty);
+		}
+
+		Path path = refinePath(requester, sx, sy, numberOfWaypoints);
+		if (path == null) {
+			return aStar.findPath(requester, sx, sy, tx, ty);
+		}
+		return path;
+	}
+
+	private boolean isHierarchicalSearchPossible(IPathCalculatable requester, short sx, short sy, short tx, short ty) {
+		return !requester.isShip()
+				&& ShortPoint2D.getOnGridDist(sx, sy, tx, ty) >= MIN_HIERARCHICAL_DISTANCE
+				&& isInBounds(sx, sy) && isInBounds(tx, ty)
+				&& !map.isBlocked(requester, sx, sy) && !map.isBlocked(requester, tx, ty)
+				&& map.getBlockedPartition(sx, sy) == map.getBlockedPartition(tx, ty);
+	}
+
+	/**
+	 * Searches only the abstract graph. Used to check the search against the graph.
+	 *
+	 * @return The costs of the path on the abstract graph or -1 if the abstract graph can not answer the request.
+	 */
+	int findAbstractPathCosts(IPathCalculatable requester, short sx, short sy, short tx, short ty) {
+		if (!isHierarchicalSearchPossible(requester, sx, sy, tx, ty)) {
+			return -1;
+		}
+
+		ClusterGraph graph = getGraph(requester);
+		graph.update();
+		return findAbstractPath(graph, sx, sy, tx, ty) < 0 ? -1 : costs[targetId];
+	}
+
+	ClusterGraph getGraph(IPathCalculatable requester) {
+		if (!requester.needsPlayersGround()) {
+			return anyPlayerGraph;
+		}
+
+		byte playerId = requester.getPlayer().getPlayerId();
+		if (playerId >= playerGraphs.length) {
+			playerGraphs = Arrays.copyOf(playerGraphs, playerId + 1);
+		}
+		if (playerGraphs[playerId] == null) {
+			playerGraphs[playerId] = new ClusterGraph(map, playerId, width, height);
+		}
+		return playerGraphs[playerId];
+	}
+
+	/**
+	 * Searches the abstract graph and stores the positions of the nodes between start and target in {@link #waypoints}. The target is stored as last
+	 * waypoint.
+	 *
+	 * @return number of waypoints or -1 if no path has been found.
+	 */
+	private int findAbstractPath(ClusterGraph graph, int sx, int sy, int tx, int ty) {
+		int startCluster = graph.getClusterIdx(sx, sy);
+		int targetCluster = graph.getClusterIdx(tx, ty);
+		if (startCluster == targetCluster) {
+			return -1;
+		}
+
+		nextSearchMark();
+		open.clear();
+
+		graph.calculateCostsToNodes(targetCluster, tx, ty, targetCosts);
+		graph.calculateCostsToNodes(startCluster, sx, sy, startCosts);
+
+		positions[startId] = sy * width + sx;
+		positions[targetId] = ty * width + tx;
+		costs[startId] = 0;
+		closedMarks[startId] = searchMark;
+
+		int[] startNodes = graph.getNodes(startCluster);
+		for (int nodeIdx = 0; nodeIdx < startNodes.length; nodeIdx++) {
+			if (startCosts[nodeIdx] >= 0) {
+				relax(getId(startCluster, nodeIdx), startNodes[nodeIdx], startCosts[nodeIdx], startId, tx, ty);
+			}
+		}
+
+		boolean found = false;
+		while (!open.isEmpty()) {
+			int currId = open.deleteMin();
+			closedMarks[currId] = searchMark;
+
+			if (currId == targetId) {
+				found = true;
+				break;
+			}
+
+			int clusterIdx = currId / ClusterGraph.MAX_NODES_PER_CLUSTER;
+			int nodeIdx = currId % ClusterGraph.MAX_NODES_PER_CLUSTER;
+			int currCosts = costs[currId];
+			int[] clusterNodes = graph.getNodes(clusterIdx);
+
+			if (clusterIdx == targetCluster && targetCosts[nodeIdx] >= 0) {
+				relax(targetId, positions[targetId], currCosts + targetCosts[nodeIdx], currId, tx, ty);
+			}
+
+			for (int otherNodeIdx = 0; otherNodeIdx < clusterNodes.length; otherNodeIdx++) {
+				int intraCost = graph.getIntraCost(clusterIdx, nodeIdx, otherNodeIdx);
+				if (intraCost > 0) {
+					relax(getId(clusterIdx, otherNodeIdx), clusterNodes[otherNodeIdx], currCosts + intraCost, currId, tx, ty);
+				}
+			}
+
+			for (int i = graph.getPartnersStart(clusterIdx, nodeIdx); i < graph.getPartnersEnd(clusterIdx, nodeIdx); i++) {
+				int partner = graph.getPartner(clusterIdx, i);
+				int partnerCluster = graph.getClusterIdx(partner);
+				int partnerNodeIdx = graph.getNodeIdx(partnerCluster, partner);
+				if (partnerNodeIdx >= 0) {
+					relax(getId(partnerCluster, partnerNodeIdx), partner, currCosts + 1, currId, tx, ty);
+				}
+			}
+		}
+
+		if (!found) {
+			return -1;
+		}
+
+		int numberOfWaypoints = 0;
+		for (int id = targetId; id != startId; id = parents[id]) {
+			numberOfWaypoints++;
+		}
+		if (waypoints.length < numberOfWaypoints) {
+			waypoints = new int[numberOfWaypoints * 2];
+		}
+		int idx = numberOfWaypoints;
+		for (int id = targetId; id != startId; id = parents[id]) {
+			waypoints[--idx] = positions[id];
+		}
+		return numberOfWaypoints;
+	}
+
+	private void relax(int id, int position, int newCosts, int parentId, int tx, int ty) {
+		if (closedMarks[id] == searchMark) {
+			return;
+		}
+
+		boolean visited = visitedMarks[id] == searchMark;
+		if (visited && costs[id] <= newCosts) {
+			return;
+		}
+
+		costs[id] = newCosts;
+		parents[id] = parentId;
+		positions[id] = position;
+
+		int heuristicCosts = ShortPoint2D.getOnGridDist(position % width, position / width, tx, ty);
+		if (visited) {
+			open.decreasedRank(id, newCosts + heuristicCosts);
+		} else {
+			visitedMarks[id] = searchMark;
+			open.insert(id, newCosts + heuristicCosts);
+		}
+	}
+
+	/**
+	 * Builds the real path by connecting the waypoints with the {@link BucketQueueAStar}. Waypoints that are close to the current position are
+	 * skipped, so the local searches can cut the corners of the abstract path.
+	 */
+	private Path refinePath(IPathCalculatable requester, short sx, short sy, int numberOfWaypoints) {
+		int length = 0;
+		int currX = sx;
+		int currY = sy;
+
+		int waypointIdx = 0;
+		while (waypointIdx < numberOfWaypoints) {
+			while (waypointIdx + 1 < numberOfWaypoints && getDistance(currX, currY, waypoints[waypointIdx + 1]) <= MIN_HIERARCHICAL_DISTANCE) {
+				waypointIdx++;
+			}
+
+			int nextX = waypoints[waypointIdx] % width;
+			int nextY = waypoints[waypointIdx] / width;
+			waypointIdx++;
+
+			if (currX == nextX && currY == nextY) {
+				continue;
+			} else if (ShortPoint2D.getOnGridDist(currX, currY, nextX, nextY) == 1) {
+				length = addPathStep(length, nextX, nextY);
+			} else {
+				Path segment = aStar.findPath(requester, (short) currX, (short) currY, (short) nextX, (short) nextY);
+				if (segment == null) {
+					return null;
+				}
+				while (segment.hasNextStep()) {
+					length = addPathStep(length, segment.nextX(), segment.nextY());
+					segment.goToNextStep();
+				}
+			}
+
+			currX = nextX;
+			currY = nextY;
+		}
+
+		Path path = new Path(length);
+		for (int i = 0; i < length; i++) {
+			path.insertAt(i, (short) (pathSteps[i] % width), (short) (pathSteps[i] / width));
+		}
+		return path;
+	}
+
+	private int getDistance(int x, int y, int flatIdx) {
+		return ShortPoint2D.getOnGridDist(x, y, flatIdx % width, flatIdx / width);
+	}
+
+	private int addPathStep(int length, int x, int y) {
+		if (length >= pathSteps.length) {
+			pathSteps = Arrays.copyOf(pathSteps, pathSteps.length * 2);
+		}
+		pathSteps[length] = y * width + x;
+		return length + 1;
+	}
+
+	private void nextSearchMark() {
+		searchMark++;
+		if (searchMark == Integer.MAX_VALUE) {
+			Arrays.fill(visitedMarks, 0);
+			Arrays.fill(closedMarks, 0);
+			searchMark = 1;
+		}
+	}
+
+	private static int getId(int clusterIdx, int nodeIdx) {
+		return clusterIdx * ClusterGraph.MAX_NODES_PER_CLUSTER + nodeIdx;
+	}
+
+	private boolean isInBounds(int x, int y) {
+		return 0 <= x && x < width && 0 <= y && y < height;
+	}
+}
@@ -0,0 +1,158 @@
+/*******************************************************************************
+ * Copyright (c) 2026
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE.
+ *******************************************************************************/
+package jsettlers.algorithms.path.astar.queues.heap;
+
+import java.util.Arrays;
+
+/**
+ * Binary min heap of int ids with arbitrary (non negative) ranks.
+ * <p>
+ * In contrast to the bucket queues, this queue does not require the ranks of the elements to grow in unit steps. Elements with equal ranks are
+ * ordered by their ids, so the order of {@link #deleteMin()} only depends on the inserted values.
+ * <p>
+ * Ids need to be smaller than the maximum number of ids given to the constructor.
+ */
+public final class IntMinHeap {
+	private static final int NOT_IN_HEAP = -1;
+
+	private final int[]   heap;
+	private final int[]   heapIndexes;
+	private final float[] ranks;
+
+	private int size = 0;
+
+	public IntMinHeap(int maxNumberOfIds) {
+		this.heap = new int[maxNumberOfIds];
+		this.heapIndexes = new int[maxNumberOfIds];
+		this.ranks = new float[maxNumberOfIds];
+
+		Arrays.fill(heapIndexes, NOT_IN_HEAP);
+	}
+
+	public void insert(int elementId, float rank) {
+		ranks[elementId] = rank;
+		heap[size] = elementId;
+		heapIndexes[elementId] = size;
+		siftUp(size);
+		size++;
+	}
+
+	public int size() {
+		return size;
+	}
+
+	public void clear() {
+		for (int i = 0; i < size; i++) {
+			heapIndexes[heap[i]] = NOT_IN_HEAP;
+		}
+		size = 0;
+	}
+
+	/**
+	 * Deletes the element with the minimal rank.
+	 *
+	 * @return The deleted element, or -1 if the heap was empty.
+	 */
+	public int deleteMin() {
+		if (size <= 0) {
+			return -1;
+		}
+
+		int result = heap[0];
+		heapIndexes[result] = NOT_IN_HEAP;
+
+		size--;
+		if (size > 0) {
+			heap[0] = heap[size];
+			heapIndexes[heap[0]] = 0;
+			siftDown(0);
+		}
+		return result;
+	}
+
+	/**
+	 * Needs to be called when the rank of an element in the heap has been reduced.
+	 *
+	 * @param elementId
+	 *            Id of the element.
+	 * @param newRank
+	 *            The new, smaller rank of the element.
+	 */
+	public void decreasedRank(int elementId, float newRank) {
+		ranks[elementId] = newRank;
+		siftUp(heapIndexes[elementId]);
+	}
+
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	/**
+	 * @param elementId
+	 *            Id of the element.
+	 * @return true if the element is currently stored in the heap.
+	 */
+	public boolean contains(int elementId) {
+		return heapIndexes[elementId] != NOT_IN_HEAP;
+	}
+
+	private void siftUp(int index) {
+		int elementId = heap[index];
+
+		while (index > 0) {
+			int parentIndex = (index - 1) / 2;
+			int parentId = heap[parentIndex];
+			if (!isSmaller(elementId, parentId)) {
+				break;
+			}
+			heap[index] = parentId;
+			heapIndexes[parentId] = index;
+			index = parentIndex;
+		}
+
+		heap[index] = elementId;
+		heapIndexes[elementId] = index;
+	}
+
+	private void siftDown(int index) {
+		int elementId = heap[index];
+
+		while (true) {
+			int childIndex = 2 * index + 1;
+			if (childIndex >= size) {
+				break;
+			}
+			if (childIndex + 1 < size && isSmaller(heap[childIndex + 1], heap[childIndex])) {
+				childIndex++;
+			}
+			int childId = heap[childIndex];
+			if (!isSmaller(childId, elementId)) {
+				break;
+			}
+			heap[index] = childId;
+			heapIndexes[childId] = index;
+			index = childIndex;
+		}
+
+		heap[index] = elementId;
+		heapIndexes[elementId] = index;
+	}
+
+	private boolean isSmaller(int firstId, int secondId) {
+		float firstRank = ranks[firstId];
+		float secondRank = ranks[secondId];
+		return firstRank < secondRank || (firstRank == secondRank && firstId < secondId);
+	}
+}
@@ -15,6 +15,7 @@
 package jsettlers.algorithms.path.dijkstra;
 
 import java.io.Serializable;
+import java.util.Arrays;
 import java.util.EnumSet;
 import java.util.Set;
 
@@ -24,10 +25,18 @@ import jsettlers.algorithms.path.Path;
 import jsettlers.algorithms.path.astar.AbstractAStar;
 import jsettlers.common.map.shapes.MapCircle;
 import jsettlers.common.material.ESearchType;
+import jsettlers.common.movable.EDirection;
 import jsettlers.common.position.ShortPoint2D;
 
 /**
- * this class implements a strict dijkstra algorithm
+ * Finds a reachable candidate position in an area around a center and the path to it.
+ * <p>
+ * The candidates are visited ring by ring around the center, so the one closest to the center is preferred. To find out if a candidate can be
+ * reached, a breadth first flood is started at the requester's position and only continued as far as needed. The flood is confined to the search
+ * area. Candidates reached by it get their path directly from the flood. This path is a shortest path inside the search area, so it can be longer
+ * than the shortest path on the whole map, and of paths with equal length another one may be chosen than by the A*. Candidates outside of the
+ * flood are checked with the {@link AbstractAStar}; if that fails, the whole area connected to the candidate is known to be unreachable, so no
+ * further A* is started for any other candidate in it.
  * 
  * @author Andreas Eberle
  * 
@@ -41,11 +50,36 @@ public final class DijkstraAlgorithm {
 	private final short height, width;
 	private final AbstractAStar aStar;
 
+	/**
+	 * Id of the last flood that reached a position. The source flood of the current search has the id {@link #sourceFloodId}, all higher ids mark
+	 * areas known to be unreachable for the current search.
+	 */
+	private final int[] floodIds;
+	private final int[] parents;
+	private final int[] queue;
+	private int[]       componentStack = new int[64];
+
+	private int lastFloodId;
+	private int sourceFloodId;
+	private int queueHead;
+	private int queueTail;
+
+	private IPathCalculatable requester;
+	private short             blockedAtStartPartition;
+	private short             areaCenterX;
+	private short             areaCenterY;
+	private int               areaMaxRadius;
+	private MapCircle         areaCircle;
+
 	public DijkstraAlgorithm(IDijkstraPathMap map, AbstractAStar aStar, short width, short height) {
 		this.map = map;
 		this.aStar = aStar;
 		this.width = width;
 		this.height = height;
+
+		this.floodIds = new int[width * height];
+		this.parents = new int[width * height];
+		this.queue = new int[width * height];
 	}
 
 	public final Path find(final IPathCalculatable requester, final short cX, final short cY, final short minRadius, final short maxRadius,
@@ -54,49 +88,208 @@ public final class DijkstraAlgorithm {
 			throw new InvalidStartPositionException("dijkstra center position is not in bounds!", cX, cY);
 		}
 
-		// check center position (special case for minRadius <= 0
-		if (minRadius <= 0) {
-			map.setDijkstraSearched(cX, cY);
-			if (map.fitsSearchType(cX, cY, type, requester)) {
-				Path path = findPathTo(requester, cX, cY);
-				if (path != null)
-					return path;
+		startSearch(requester, cX, cY, maxRadius, null);
+		try {
+			// check center position (special case for minRadius <= 0
+			if (minRadius <= 0) {
+				map.setDijkstraSearched(cX, cY);
+				if (map.fitsSearchType(cX, cY, type, requester)) {
+					Path path = findPathTo(cX, cY);
+					if (path != null)
+						return path;
+				}
 			}
-		}
 
-		for (short radius = minRadius; radius < maxRadius; radius++) {
-			short x = cX, y = (short) (cY - radius);
-			for (byte direction = 0; direction < 6; direction++) {
-				byte dx = directionIncreaseX[direction];
-				byte dy = directionIncreaseY[direction];
-				for (short length = 0; length < radius; length++) {
-					x += dx;
-					y += dy;
-					if (isInBounds(x, y)) {
-						map.setDijkstraSearched(x, y);
-						if (map.fitsSearchType(x, y, type, requester)) {
-							Path path = findPathTo(requester, x, y);
-							if (path != null) {
-								return path;
+			for (short radius = minRadius; radius < maxRadius; radius++) {
+				short x = cX, y = (short) (cY - radius);
+				for (byte direction = 0; direction < 6; direction++) {
+					byte dx = directionIncreaseX[direction];
+					byte dy = directionIncreaseY[direction];
+					for (short length = 0; length < radius; length++) {
+						x += dx;
+						y += dy;
+						if (isInBounds(x, y)) {
+							map.setDijkstraSearched(x, y);
+							if (map.fitsSearchType(x, y, type, requester)) {
+								Path path = findPathTo(x, y);
+								if (path != null) {
+									return path;
+								}
 							}
 						}
 					}
 				}
 			}
+
+			return null;
+		} finally {
+			endSearch();
+		}
+	}
+
+	private void startSearch(IPathCalculatable requester, short cX, short cY, int maxRadius, MapCircle circle) {
+		this.requester = requester;
+		this.areaCenterX = cX;
+		this.areaCenterY = cY;
+		this.areaMaxRadius = maxRadius;
+		this.areaCircle = circle;
+
+		if (lastFloodId >= Integer.MAX_VALUE - floodIds.length) { // every search uses at most one id per position
+			Arrays.fill(floodIds, 0);
+			lastFloodId = 0;
+		}
+		sourceFloodId = ++lastFloodId;
+		queueHead = 0;
+		queueTail = 0;
+
+		ShortPoint2D pos = requester.getPosition();
+		if (isInBounds(pos.x, pos.y)) {
+			int startIdx = getFlatIdx(pos.x, pos.y);
+			floodIds[startIdx] = sourceFloodId;
+			parents[startIdx] = -1;
+			queue[queueTail++] = startIdx;
+			blockedAtStartPartition = map.isBlocked(requester, pos.x, pos.y) ? map.getBlockedPartition(pos.x, pos.y) : -1;
 		}
+	}
 
-		return null;
+	private void endSearch() {
+		requester = null;
+		areaCircle = null;
 	}
 
-	private final Path findPathTo(IPathCalculatable requester, short tx, short ty) {
+	private Path findPathTo(short tx, short ty) {
 		ShortPoint2D pos = requester.getPosition();
-		return aStar.findPath(requester, pos.x, pos.y, tx, ty);
+		int targetIdx = getFlatIdx(tx, ty);
+
+		if (!isInBounds(pos.x, pos.y)) {
+			return aStar.findPath(requester, pos.x, pos.y, tx, ty); // let the A* report the invalid start position
+		} else if (floodIds[targetIdx] > sourceFloodId) {
+			return null; // connected to a candidate the A* could not reach
+		} else if (map.isBlocked(requester, tx, ty)
+				|| (!requester.isShip() && map.getBlockedPartition(pos.x, pos.y) != map.getBlockedPartition(tx, ty))) {
+			return null;
+		}
+
+		if (continueSourceFlood(targetIdx)) {
+			return buildPath(targetIdx);
+		}
+
+		Path path = aStar.findPath(requester, pos.x, pos.y, tx, ty);
+		if (path == null) {
+			markUnreachableArea(targetIdx);
+		}
+		return path;
+	}
+
+	/**
+	 * Continues the breadth first flood from the requester until the given target has been reached or the search area has been flooded completely.
+	 */
+	private boolean continueSourceFlood(int targetIdx) {
+		while (floodIds[targetIdx] != sourceFloodId && queueHead < queueTail) {
+			int currIdx = queue[queueHead++];
+			int x = getX(currIdx);
+			int y = getY(currIdx);
+			boolean currBlocked = blockedAtStartPartition >= 0 && map.isBlocked(requester, x, y);
+
+			for (EDirection direction : EDirection.VALUES) {
+				int neighborX = x + direction.gridDeltaX;
+				int neighborY = y + direction.gridDeltaY;
+
+				if (isInSearchArea(neighborX, neighborY)) {
+					int neighborIdx = getFlatIdx(neighborX, neighborY);
+					if (floodIds[neighborIdx] < sourceFloodId && isWalkable(neighborX, neighborY, currBlocked)) {
+						floodIds[neighborIdx] = sourceFloodId;
+						parents[neighborIdx] = currIdx;
+						queue[queueTail++] = neighborIdx;
+					}
+				}
+			}
+		}
+		return floodIds[targetIdx] == sourceFloodId;
+	}
+
+	/**
+	 * Same rules as the A* uses: movables standing on a blocked position may walk over blocked positions of the same partition until they left the
+	 * blocked area.
+	 */
+	private boolean isWalkable(int x, int y, boolean fromBlocked) {
+		return !map.isBlocked(requester, x, y)
+				|| (fromBlocked && map.getBlockedPartition(x, y) == blockedAtStartPartition);
 	}
 
-	private final boolean isInBounds(short x, short y) {
+	private Path buildPath(int targetIdx) {
+		int length = 0;
+		for (int idx = targetIdx; parents[idx] >= 0; idx = parents[idx]) {
+			length++;
+		}
+		if (length == 0) {
+			return null; // the requester already is at the target
+		}
+
+		Path path = new Path(length);
+		for (int idx = targetIdx; parents[idx] >= 0; idx = parents[idx]) {
+			length--;
+			path.insertAt(length, (short) getX(idx), (short) getY(idx));
+		}
+		return path;
+	}
+
+	/**
+	 * Marks all free positions of the search area connected to the given (unreachable) target. If the requester could walk to any of them, it could
+	 * also walk to the target.
+	 */
+	private void markUnreachableArea(int targetIdx) {
+		int floodId = ++lastFloodId;
+		floodIds[targetIdx] = floodId;
+
+		int stackSize = 0;
+		componentStack[stackSize++] = targetIdx;
+
+		while (stackSize > 0) {
+			int currIdx = componentStack[--stackSize];
+			int x = getX(currIdx);
+			int y = getY(currIdx);
+
+			for (EDirection direction : EDirection.VALUES) {
+				int neighborX = x + direction.gridDeltaX;
+				int neighborY = y + direction.gridDeltaY;
+
+				if (isInSearchArea(neighborX, neighborY)) {
+					int neighborIdx = getFlatIdx(neighborX, neighborY);
+					if (floodIds[neighborIdx] != floodId && !map.isBlocked(requester, neighborX, neighborY)) {
+						floodIds[neighborIdx] = floodId;
+						if (stackSize == componentStack.length) {
+							componentStack = Arrays.copyOf(componentStack, stackSize * 2);
+						}
+						componentStack[stackSize++] = neighborIdx;
+					}
+				}
+			}
+		}
+	}
+
+	private boolean isInSearchArea(int x, int y) {
+		return isInBounds(x, y)
+				&& ShortPoint2D.getOnGridDist(x - areaCenterX, y - areaCenterY) < areaMaxRadius
+				&& (areaCircle == null || areaCircle.contains(x, y));
+	}
+
+	private final boolean isInBounds(int x, int y) {
 		return 0 <= x && x < width && 0 <= y && y < height;
 	}
 
+	private int getFlatIdx(int x, int y) {
+		return y * width + x;
+	}
+
+	private int getX(int flatIdx) {
+		return flatIdx % width;
+	}
+
+	private int getY(int flatIdx) {
+		return flatIdx / width;
+	}
+
 	public final static class DijkstraContinuableRequest implements Serializable {
 		private static final long serialVersionUID = -1350601280043056439L;
 
@@ -108,6 +301,10 @@ public final class DijkstraAlgorithm {
 		Set<ESearchType> searchTypes;
 
 		short radius;
+		/**
+		 * Index of the next position to check on the ring given by {@link #radius}.
+		 */
+		int ringIndex;
 
 		public DijkstraContinuableRequest(final IPathCalculatable requester, short cX, short cY, short minRadius, short maxRadius) {
 			this.requester = requester;
@@ -126,17 +323,31 @@ public final class DijkstraAlgorithm {
 
 		void setRadius(short radius) {
 			this.radius = (short) (radius - this.minRadius + 1);
+			this.ringIndex = 0;
+		}
+
+		/**
+		 * Continues the next search directly behind the given position of the given ring.
+		 */
+		void setFound(short radius, int ringIndex) {
+			if (ringIndex + 1 < 6 * radius) {
+				this.radius = (short) (radius - this.minRadius);
+				this.ringIndex = ringIndex + 1;
+			} else {
+				setRadius(radius);
+			}
 		}
 
 		public void setSearchTypes(Set<ESearchType> searchTypes) {
 			if (!this.searchTypes.equals(searchTypes)) {
 				this.searchTypes = searchTypes;
-				radius = 0;
+				reset();
 			}
 		}
 
 		public void reset() {
 			radius = 0;
+			ringIndex = 0;
 		}
 	}
 
@@ -149,32 +360,40 @@ public final class DijkstraAlgorithm {
 
 		short radiusSteps = request.getRadiusSteps();
 		short radius = 1;
+		int startIndex = request.ringIndex;
 
-		for (short deltaRadius = 0; deltaRadius < radiusSteps; deltaRadius++) {
-			radius = (short) ((deltaRadius + request.radius) % request.maxRadius + request.minRadius);
-			short x = request.cX, y = (short) (request.cY - radius);
-
-			for (byte direction = 0; direction < 6; direction++) {
-				byte dx = directionIncreaseX[direction];
-				byte dy = directionIncreaseY[direction];
-				for (short length = 0; length < radius; length++) {
-					x += dx;
-					y += dy;
-					if (circle.contains(x, y) && isInBounds(x, y)) {
-						map.setDijkstraSearched(x, y);
-						if (map.fitsSearchType(x, y, request.searchTypes, request.requester)) {
-							Path path = findPathTo(request.requester, x, y);
-							if (path != null) {
-								request.setRadius(radius);
-								return path;
+		startSearch(request.requester, request.cX, request.cY, request.maxRadius + request.minRadius, circle);
+		try {
+			for (short deltaRadius = 0; deltaRadius < radiusSteps; deltaRadius++) {
+				radius = (short) ((deltaRadius + request.radius) % request.maxRadius + request.minRadius);
+				short x = request.cX, y = (short) (request.cY - radius);
+				int ringIndex = 0;
+
+				for (byte direction = 0; direction < 6; direction++) {
+					byte dx = directionIncreaseX[direction];
+					byte dy = directionIncreaseY[direction];
+					for (short length = 0; length < radius; length++, ringIndex++) {
+						x += dx;
+						y += dy;
+						if (ringIndex >= startIndex && circle.contains(x, y) && isInBounds(x, y)) {
+							map.setDijkstraSearched(x, y);
+							if (map.fitsSearchType(x, y, request.searchTypes, request.requester)) {
+								Path path = findPathTo(x, y);
+								if (path != null) {
+									request.setFound(radius, ringIndex);
+									return path;
+								}
 							}
 						}
 					}
 				}
+				startIndex = 0;
 			}
-		}
 
-		request.setRadius(radius);
-		return null;
+			request.setRadius(radius);
+			return null;
+		} finally {
+			endSearch();
+		}
 	}
 }
@@ -17,9 +17,10 @@ package jsettlers.algorithms.path.dijkstra;
 import java.util.Set;
 
 import jsettlers.algorithms.path.IPathCalculatable;
+import jsettlers.algorithms.path.astar.IAStarPathMap;
 import jsettlers.common.material.ESearchType;
 
-public interface IDijkstraPathMap {
+public interface IDijkstraPathMap extends IAStarPathMap {
 
 	boolean fitsSearchType(int x, int y, ESearchType type, IPathCalculatable requester);
 
@@ -0,0 +1,243 @@
+/*******************************************************************************
+ * Copyright (c) 2026
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE.
+ *******************************************************************************/
+package jsettlers.algorithms.path.flowfield;
+
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import jsettlers.algorithms.path.IPathCalculatable;
+import jsettlers.algorithms.path.Path;
+import jsettlers.algorithms.path.astar.AbstractAStar;
+import jsettlers.algorithms.path.astar.hierarchical.IHierarchicalAStarMap;
+import jsettlers.common.movable.EDirection;
+import jsettlers.common.position.ShortPoint2D;
+
+/**
+ * Integration field of the distances to a group of targets. The field is calculated once with a breadth first search starting at all targets and
+ * can then be shared by all movables of a group that are sent to these targets: A movable descends the field, preferring the steps towards its own
+ * target, and only needs a short local search from the reached target to its own one.
+ * <p />
+ * The distance to the nearest target is a lower bound of the distance to the movable's own target. A path is only returned if it is at most
+ * {@link #MAX_DETOUR} steps longer than this bound, so it is never more than {@link #MAX_DETOUR} steps longer than the shortest path.
+ * <p />
+ * The field only covers the given bounds and only land movables that may leave their player's ground can use it. Every movable can use the field
+ * once, movables that can not follow the field have to use their own path search.
+ */
+public final class FlowField {
+	private static final byte[] xDeltaArray = EDirection.getXDeltaArray();
+	private static final byte[] yDeltaArray = EDirection.getYDeltaArray();
+
+	private static final int UNREACHABLE = -1;
+
+	/**
+	 * Number of steps a path found with the field may be longer than the shortest path.
+	 */
+	public static final int MAX_DETOUR = 4;
+
+	private final IHierarchicalAStarMap map;
+	private final int                   minX;
+	private final int                   minY;
+	private final int                   width;
+	private final int                   height;
+
+	private final int[] distances;
+
+	private final Map<IPathCalculatable, ShortPoint2D> targetsOfRequesters = new IdentityHashMap<>();
+
+	/**
+	 * Calculates the field.
+	 *
+	 * @param map
+	 *            The map providing the blocking information.
+	 * @param minX
+	 *            Smallest x coordinate covered by the field.
+	 * @param minY
+	 *            Smallest y coordinate covered by the field.
+	 * @param maxX
+	 *            Biggest x coordinate covered by the field.
+	 * @param maxY
+	 *            Biggest y coordinate covered by the field.
+	 * @param requesters
+	 *            The movables of the group.
+	 * @param targets
+	 *            The targets of the movables, in the same order as the movables. Targets outside of the bounds are ignored.
+	 */
+	public FlowField(IHierarchicalAStarMap map, int minX, int minY, int maxX, int maxY, List<? extends IPathCalculatable> requesters,
+			List<ShortPoint2D> targets) {
+		this.map = map;
+		this.minX = minX;
+		this.minY = minY;
+		this.width = maxX - minX + 1;
+		this.height = maxY - minY + 1;
+
+		this.distances = new int[width * height];
+
+		calculateDistances(requesters, targets);
+	}
+
+	private void calculateDistances(List<? extends IPathCalculatable> requesters, List<ShortPoint2D> targets) {
+		Arrays.fill(distances, UNREACHABLE);
+
+		int[] queue = new int[distances.length];
+		int queueEnd = 0;
+
+		for (int i = 0; i < targets.size(); i++) {
+			ShortPoint2D target = targets.get(i);
+			int idx = getIndex(target.x, target.y);
+			if (idx < 0) {
+				continue;
+			}
+
+			targetsOfRequesters.put(requesters.get(i), target);
+			if (distances[idx] == UNREACHABLE) {
+				distances[idx] = 0;
+				queue[queueEnd++] = idx;
+			}
+		}
+
+		for (int queueStart = 0; queueStart < queueEnd; queueStart++) { // all steps have the same costs, so a breadth first search is sufficient
+			int idx = queue[queueStart];
+			int x = minX + idx % width;
+			int y = minY + idx / width;
+			int neighborDistance = distances[idx] + 1;
+
+			for (int direction = 0; direction < EDirection.NUMBER_OF_DIRECTIONS; direction++) {
+				int neighborIdx = getIndex(x + xDeltaArray[direction], y + yDeltaArray[direction]);
+
+				if (neighborIdx >= 0 && distances[neighborIdx] == UNREACHABLE
+						&& !map.isBlocked(x + xDeltaArray[direction], y + yDeltaArray[direction])) {
+					distances[neighborIdx] = neighborDistance;
+					queue[queueEnd++] = neighborIdx;
+				}
+			}
+		}
+	}
+
+	/**
+	 * @param requester
+	 *            A movable.
+	 * @param target
+	 *            The position the movable is sent to.
+	 * @return true if the given movable is one of the movables of the group that has not used this field yet and the given target is its target.
+	 */
+	public boolean leadsTo(IPathCalculatable requester, ShortPoint2D target) {
+		return target.equals(targetsOfRequesters.get(requester));
+	}
+
+	/**
+	 * @return true if not all movables of the group have used this field.
+	 */
+	public boolean hasRequesters() {
+		return !targetsOfRequesters.isEmpty();
+	}
+
+	/**
+	 * Builds the path of the given requester to the given target by descending the field and connecting the reached target with the given target.
+	 * The requester can use the field only once, no matter if a path is found.
+	 *
+	 * @param requester
+	 *            One of the movables of the group.
+	 * @param target
+	 *            The target of the requester.
+	 * @param aStar
+	 *            Algorithm used to connect the target reached by descending the field with the requested target.
+	 * @return The path or null if the requester can not follow this field or the path would be too long. In that case the requester has to search
+	 *         its own path.
+	 */
+	public Path findPath(IPathCalculatable requester, ShortPoint2D target, AbstractAStar aStar) {
+		if (!leadsTo(requester, target)) {
+			return null;
+		}
+		targetsOfRequesters.remove(requester);
+
+		ShortPoint2D position = requester.getPosition();
+		int idx = getIndex(position.x, position.y);
+		if (requester.isShip() || requester.needsPlayersGround() || idx < 0 || distances[idx] == UNREACHABLE
+				|| (position.x == target.x && position.y == target.y)) {
+			return null;
+		}
+
+		int maxLength = Math.max(distances[idx], position.getOnGridDistTo(target)) + MAX_DETOUR; // the shortest path is at least as long
+		int x = position.x;
+		int y = position.y;
+		short[] stepsX = new short[distances[idx]];
+		short[] stepsY = new short[distances[idx]];
+
+		for (int step = 0; step < stepsX.length; step++) {
+			int nextDistance = distances[idx] - 1;
+			int nextIdx = -1;
+			int nextTargetDistance = Integer.MAX_VALUE;
+
+			for (int direction = 0; direction < EDirection.NUMBER_OF_DIRECTIONS; direction++) { // of the steps down the field, take the one closest
+				int neighborX = x + xDeltaArray[direction]; // to the own target
+				int neighborY = y + yDeltaArray[direction];
+				int neighborIdx = getIndex(neighborX, neighborY);
+
+				if (neighborIdx >= 0 && distances[neighborIdx] == nextDistance && !map.isBlocked(requester, neighborX, neighborY)) {
+					int targetDistance = ShortPoint2D.getOnGridDist(neighborX, neighborY, target.x, target.y);
+					if (targetDistance < nextTargetDistance) {
+						nextIdx = neighborIdx;
+						nextTargetDistance = targetDistance;
+					}
+				}
+			}
+
+			if (nextIdx < 0) { // the blocking changed since the field has been calculated
+				return null;
+			}
+			idx = nextIdx;
+			x = minX + idx % width;
+			y = minY + idx / width;
+			stepsX[step] = (short) x;
+			stepsY[step] = (short) y;
+		}
+
+		Path remainingPath = null;
+		if (x != target.x || y != target.y) {
+			if (stepsX.length + ShortPoint2D.getOnGridDist(x, y, target.x, target.y) > maxLength) { // the field led to a target too far away
+				return null;
+			}
+			remainingPath = aStar.findPath(requester, (short) x, (short) y, target.x, target.y);
+			if (remainingPath == null) {
+				return null;
+			}
+		}
+
+		int length = stepsX.length + (remainingPath != null ? remainingPath.getLength() : 0);
+		if (length > maxLength) {
+			return null;
+		}
+		Path path = new Path(length);
+		for (int step = 0; step < stepsX.length; step++) {
+			path.insertAt(step, stepsX[step], stepsY[step]);
+		}
+		for (int step = stepsX.length; step < length; step++) {
+			path.insertAt(step, remainingPath.nextX(), remainingPath.nextY());
+			remainingPath.goToNextStep();
+		}
+		return path;
+	}
+
+	private int getIndex(int x, int y) {
+		int dx = x - minX;
+		int dy = y - minY;
+		if (dx < 0 || dy < 0 || dx >= width || dy >= height) {
+			return -1;
+		}
+		return dx + dy * width;
+	}
+}
@@ -1,8 +1,14 @@
 package jsettlers.algorithms.simplebehaviortree;
 
+import java.util.HashMap;
+import java.util.Map;
+
 public class Root<T> extends Decorator<T> {
 	private static final long serialVersionUID = 4857616270171506110L;
 
+	private static final Map<String, Root<?>> namedRoots = new HashMap<>();
+
+	private final   String  name;
 	private         int     maxID = -1;
 
 	public int getChildrenCount() {
@@ -10,8 +16,38 @@ public class Root<T> extends Decorator<T> {
 	}
 
 	public Root(Node<T> child) {
+		this(null, child);
+	}
+
+	/**
+	 * @param name
+	 *            Unique name of this tree. Ticks of named trees are saved without the tree, the tree is looked up by its name when loading them.
+	 * @param child
+	 *            The tree.
+	 */
+	public Root(String name, Node<T> child) {
 		super(child);
+		this.name = name;
 		maxID = initiate(-1);
+
+		if (name != null) {
+			synchronized (namedRoots) {
+				if (namedRoots.put(name, this) != null) {
+					throw new IllegalStateException("There already is a behavior tree named " + name);
+				}
+			}
+		}
+	}
+
+	public String getName() {
+		return name;
+	}
+
+	@SuppressWarnings("unchecked")
+	static <T> Root<T> getNamedRoot(String name) {
+		synchronized (namedRoots) {
+			return (Root<T>) namedRoots.get(name);
+		}
 	}
 
 	@Override
@@ -1,22 +1,54 @@
 package jsettlers.algorithms.simplebehaviortree;
 
+import java.io.IOException;
+import java.io.InvalidObjectException;
+import java.io.ObjectInputStream;
+import java.io.ObjectStreamField;
 import java.io.Serializable;
-import java.util.HashMap;
-import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
 
+import jsettlers.algorithms.simplebehaviortree.nodes.DynamicGuardSelector;
+
+/**
+ * The state of one execution of a behavior tree. The state is kept in arrays indexed by the ids the nodes got from their {@link Root}: a bit set
+ * of the open nodes and a slot per node for its properties.
+ * <p>
+ * Ticks of named roots are serialized without their tree. It is looked up again by its name when the tick is loaded. Ticks of older savegames,
+ * which kept their state in a set and a map, are converted when loading them.
+ */
 public class Tick<T> implements Serializable {
 	private static final long serialVersionUID = 3673558738736795584L;
 
 	public final Root<T> root;
 	public final T       target;
 
-	private final Set<Node<T>> openNodes = new HashSet<>();
+	private final long[]   openNodes;
+	private final int[]    intProperties;
+	private final Object[] properties;
+
+	/**
+	 * The fields of ticks saved before their state was kept in arrays. Ticks are now written as {@link SerializedTick}.
+	 */
+	private static final ObjectStreamField[] serialPersistentFields = {
+			new ObjectStreamField("root", Root.class),
+			new ObjectStreamField("target", Object.class),
+			new ObjectStreamField("openNodes", Set.class),
+			new ObjectStreamField("properties", Map.class)
+	};
+
+	private transient Tick<T> convertedTick;
 
 	public Tick(T target, Root<T> root) {
+		this(target, root, new long[(root.getChildrenCount() + 63) / 64], new int[root.getChildrenCount()], new Object[root.getChildrenCount()]);
+	}
+
+	private Tick(T target, Root<T> root, long[] openNodes, int[] intProperties, Object[] properties) {
 		this.root = root;
 		this.target = target;
+		this.openNodes = openNodes;
+		this.intProperties = intProperties;
+		this.properties = properties;
 	}
 
 	public NodeStatus tick() {
@@ -28,30 +60,121 @@ public class Tick<T> implements Serializable {
 	}
 
 	public boolean isOpen(Node<T> node) {
-		return openNodes.contains(node);
+		int id = node.getId();
+		return (openNodes[id >>> 6] & (1L << id)) != 0;
 	}
 
 	public void visitNode(Node<T> node) {
-		openNodes.add(node);
+		int id = node.getId();
+		openNodes[id >>> 6] |= 1L << id;
 	}
 
 	public void tickNode(Node<T> node) {
 	}
 
 	public void leaveNode(Node<T> node) {
-		openNodes.remove(node);
+		int id = node.getId();
+		openNodes[id >>> 6] &= ~(1L << id);
 	}
 
+	@SuppressWarnings("unchecked")
+	public <I> I getProperty(int id) {
+		return (I) properties[id];
+	}
 
+	public void setProperty(int id, Object value) {
+		properties[id] = value;
+	}
 
+	public int getIntProperty(int id) {
+		return intProperties[id];
+	}
 
-	private Map<Integer, Object> properties = new HashMap<>();
+	public void setIntProperty(int id, int value) {
+		intProperties[id] = value;
+	}
 
-	public <I> I getProperty(int id) {
-		return (I) properties.get(id);
+	private Object writeReplace() {
+		return new SerializedTick<>(this);
 	}
 
-	public void setProperty(int id, Object value) {
-		properties.put(id, value);
+	@SuppressWarnings("unchecked")
+	private void readObject(ObjectInputStream ois) throws IOException, ClassNotFoundException {
+		ObjectInputStream.GetField fields = ois.readFields();
+		Root<T> oldRoot = (Root<T>) fields.get("root", null);
+		Set<Node<T>> oldOpenNodes = (Set<Node<T>>) fields.get("openNodes", null);
+		Map<Integer, Object> oldProperties = (Map<Integer, Object>) fields.get("properties", null);
+		if (oldRoot == null || oldOpenNodes == null || oldProperties == null) {
+			throw new InvalidObjectException("Ticks are serialized as SerializedTick.");
+		}
+
+		Tick<T> tick = new Tick<>((T) fields.get("target", null), oldRoot);
+		for (Node<T> node : oldOpenNodes) {
+			tick.visitNode(node);
+		}
+		for (Map.Entry<Integer, Object> property : oldProperties.entrySet()) {
+			int id = property.getKey();
+			Object value = property.getValue();
+			Node<T> node = findNode(oldRoot, id);
+
+			if (node instanceof DynamicGuardSelector) { // the running child was stored as node, it is now stored as index
+				tick.intProperties[id] = value != null ? ((Composite<T>) node).children.indexOf(value) : -1; // -1 if no child is running
+			} else {
+				if (value instanceof Integer) { // counters and indices are now int properties, values of Property nodes stay objects
+					tick.intProperties[id] = (Integer) value;
+				}
+				tick.properties[id] = value;
+			}
+		}
+		convertedTick = tick;
+	}
+
+	private Object readResolve() {
+		return convertedTick;
+	}
+
+	private static <T> Node<T> findNode(Node<T> node, int id) {
+		if (node == null || node.getId() == id) {
+			return node;
+		} else if (node instanceof Composite) {
+			for (Node<T> child : ((Composite<T>) node).children) {
+				Node<T> found = findNode(child, id);
+				if (found != null) {
+					return found;
+				}
+			}
+		} else if (node instanceof Decorator) {
+			return findNode(((Decorator<T>) node).child, id);
+		}
+		return null;
+	}
+
+	private static final class SerializedTick<T> implements Serializable {
+		private static final long serialVersionUID = -3019431658771006152L;
+
+		private final T        target;
+		private final Object   root; // the name of named roots
+		private final long[]   openNodes;
+		private final int[]    intProperties;
+		private final Object[] properties;
+
+		SerializedTick(Tick<T> tick) {
+			this.target = tick.target;
+			this.root = tick.root.getName() != null ? tick.root.getName() : tick.root;
+			this.openNodes = tick.openNodes;
+			this.intProperties = tick.intProperties;
+			this.properties = tick.properties;
+		}
+
+		@SuppressWarnings("unchecked")
+		private Object readResolve() throws InvalidObjectException {
+			Root<T> resolvedRoot = root instanceof String ? Root.getNamedRoot((String) root) : (Root<T>) root;
+			if (resolvedRoot == null) {
+				throw new InvalidObjectException("Unknown behavior tree: " + root);
+			} else if (resolvedRoot.getChildrenCount() != intProperties.length) {
+				throw new InvalidObjectException("Behavior tree " + root + " changed since the tick was saved.");
+			}
+			return new Tick<>(target, resolvedRoot, openNodes, intProperties, properties);
+		}
 	}
 }
@@ -16,13 +16,13 @@
 package jsettlers.algorithms.simplebehaviortree.nodes;
 
 import jsettlers.algorithms.simplebehaviortree.Composite;
-import jsettlers.algorithms.simplebehaviortree.Node;
 import jsettlers.algorithms.simplebehaviortree.NodeStatus;
 import jsettlers.algorithms.simplebehaviortree.Tick;
 
 import static jsettlers.algorithms.simplebehaviortree.NodeStatus.*;
 
 public class DynamicGuardSelector<T> extends Composite<T> {
+	private static final int NO_RUNNING_CHILD = -1;
 
 	public DynamicGuardSelector(Guard<T>[] childrenGuards) {
 		super(childrenGuards);
@@ -30,18 +30,18 @@ public class DynamicGuardSelector<T> extends Composite<T> {
 
 	@Override
 	protected NodeStatus onTick(Tick<T> tick) {
-		for(Node<T> child : children) {
-			Guard<T> guard = (Guard<T>)child;
+		for(int index = 0; index < children.size(); index++) {
+			Guard<T> guard = (Guard<T>)children.get(index);
 
 			if(guard.checkGuardCondition(tick)) {
-				Node<T> runningChild = tick.getProperty(getId());
-				if(runningChild != null && runningChild != guard) runningChild.close(tick);
+				int runningChild = tick.getIntProperty(getId());
+				if(runningChild != NO_RUNNING_CHILD && runningChild != index) children.get(runningChild).close(tick);
 
 				NodeStatus returnStatus = guard.execute(tick);
 
 				switch (returnStatus) {
 					case RUNNING:
-						tick.setProperty(getId(), guard);
+						tick.setIntProperty(getId(), index);
 						return RUNNING;
 					case SUCCESS:
 						return SUCCESS;
@@ -57,12 +57,12 @@ public class DynamicGuardSelector<T> extends Composite<T> {
 
 	@Override
 	protected void onOpen(Tick<T> tick) {
-		tick.setProperty(getId(), null);
+		tick.setIntProperty(getId(), NO_RUNNING_CHILD);
 	}
 
 	@Override
 	protected void onClose(Tick<T> tick) {
-		Node<T> runningChild = tick.getProperty(getId());
-		if(runningChild != null) runningChild.close(tick);
+		int runningChild = tick.getIntProperty(getId());
+		if(runningChild != NO_RUNNING_CHILD) children.get(runningChild).close(tick);
 	}
 }
@@ -18,7 +18,7 @@ public final class Sleep<T> extends Leaf<T> {
 
 	@Override
 	public NodeStatus onTick(Tick<T> tick) {
-		int endTime = tick.getProperty(getId());
+		int endTime = tick.getIntProperty(getId());
 		int remaining = (endTime - MatchConstants.clock().getTime());
 		if (remaining <= 0) {
 			return NodeStatus.SUCCESS;
@@ -31,6 +31,6 @@ public final class Sleep<T> extends Leaf<T> {
 
 	@Override
 	public void onOpen(Tick<T> tick) {
-		tick.setProperty(getId(), MatchConstants.clock().getTime() + delaySupplier.apply(tick.target));
+		tick.setIntProperty(getId(), MatchConstants.clock().getTime() + delaySupplier.apply(tick.target));
 	}
 }
@@ -14,71 +14,134 @@
  *******************************************************************************/
 package jsettlers.algorithms.traversing.area;
 
-import java.util.BitSet;
-import java.util.LinkedList;
+import java.util.Arrays;
 
 import jsettlers.algorithms.interfaces.IContainingProvider;
 import jsettlers.algorithms.traversing.borders.IBorderVisitor;
-import jsettlers.common.movable.EDirection;
-import jsettlers.common.position.ShortPoint2D;
 
 /**
  * This algorithm offers a method to traverse a connected area with an {@link IBorderVisitor}.
+ * <p />
+ * The area is filled span by span: Every popped seed is extended to the whole row segment it belongs to and only the first position of every segment
+ * found in the rows above and below is pushed as new seed. The visited positions are stamped with the number of the traversal, so an instance can be
+ * reused without clearing its buffer and without allocating anything per position.
  * 
  * @author Andreas Eberle
  * 
  */
 public final class AreaTraversingAlgorithm {
+	private final int   width;
+	private final int   height;
+	private final int[] visitedEpochs;
+
+	private int   epoch      = 0;
+	private int[] seeds      = new int[64];
+	private int   seedsCount = 0;
 
 	/**
-	 * No instances of this class shall be created.
+	 * Creates an algorithm that can be used for any number of traversals of areas of the given size. Traversals must not be nested.
+	 * 
+	 * @param width
+	 *            The width of the area. So the maximum x value may be width - 1;
+	 * @param height
+	 *            The height of the area. So the maximum y value may be height - 1;
 	 */
-	private AreaTraversingAlgorithm() {
+	public AreaTraversingAlgorithm(int width, int height) {
+		this.width = width;
+		this.height = height;
+		this.visitedEpochs = new int[width * height];
 	}
 
 	/**
-	 * Traverses a connected area and calls the given visitor for every position.
+	 * Traverses a connected area and calls the given visitor for every position. The visitor may change the area of the visited positions.
 	 * 
 	 * @param containingProvider
 	 *            {@link IContainingProvider} defining what's part of the area and what isn't.
 	 * @param visitor
 	 *            The visitor that will be called on every position in the connected area reachable from the given start position.
-	 * @param startPos
-	 *            A start position somewhere in the area.
-	 * @param width
-	 *            The width of the area. So the maximum x value may be width - 1;
-	 * @param height
-	 *            The height of the area. So the maximum y value may be height - 1;
+	 * @param startX
+	 *            x coordinate of a start position somewhere in the area.
+	 * @param startY
+	 *            y coordinate of a start position somewhere in the area.
 	 * 
 	 * @return true if the traversing finished<br>
 	 *         false if the visitor returned false at any position and therefore caused the traversing to be canceled.
 	 */
-	public static boolean traverseArea(IContainingProvider containingProvider, IAreaVisitor visitor, ShortPoint2D startPos, int width, int height) {
-		LinkedList<ShortPoint2D> stack = new LinkedList<>();
-		stack.push(startPos);
-		BitSet touched = new BitSet(width * height);
-		touched.set(startPos.x + startPos.y * width);
-
-		while (!stack.isEmpty()) {
-			ShortPoint2D currPos = stack.poll();
-			if (!visitor.visit(currPos.x, currPos.y)) {
-				return false;
+	public boolean traverseArea(IContainingProvider containingProvider, IAreaVisitor visitor, int startX, int startY) {
+		startTraversal();
+		pushSeed(startX + startY * width);
+
+		while (seedsCount > 0) {
+			int seedIndex = seeds[--seedsCount];
+			if (visitedEpochs[seedIndex] == epoch) {
+				continue;
 			}
 
-			for (EDirection dir : EDirection.VALUES) {
-				int nextX = dir.gridDeltaX + currPos.x;
-				int nextY = dir.gridDeltaY + currPos.y;
+			int y = seedIndex / width;
+			int x = seedIndex - y * width;
+
+			int minX = x;
+			while (minX > 0 && isUnvisitedAndContained(containingProvider, minX - 1, y)) {
+				minX--;
+			}
+			int maxX = x;
+			while (maxX < width - 1 && isUnvisitedAndContained(containingProvider, maxX + 1, y)) {
+				maxX++;
+			}
 
-				if (0 <= nextX && nextX <= width && 0 <= nextY && nextY <= height) {
-					int nextIdx = nextX + nextY * width;
-					if (!touched.get(nextIdx) && containingProvider.contains(nextX, nextY)) {
-						stack.push(new ShortPoint2D(nextX, nextY));
-						touched.set(nextIdx);
-					}
+			int rowOffset = y * width;
+			for (int spanX = minX; spanX <= maxX; spanX++) {
+				visitedEpochs[rowOffset + spanX] = epoch;
+			}
+			for (int spanX = minX; spanX <= maxX; spanX++) {
+				if (!visitor.visit(spanX, y)) {
+					return false;
 				}
 			}
+
+			// on the hex grid, the upper neighbors are (x - 1, y - 1) and (x, y - 1), the lower ones (x, y + 1) and (x + 1, y + 1)
+			if (y > 0) {
+				pushSegmentSeeds(containingProvider, Math.max(minX - 1, 0), maxX, y - 1);
+			}
+			if (y < height - 1) {
+				pushSegmentSeeds(containingProvider, minX, Math.min(maxX + 1, width - 1), y + 1);
+			}
 		}
 
 		return true;
 	}
+
+	private void startTraversal() {
+		seedsCount = 0;
+		epoch++;
+		if (epoch == Integer.MAX_VALUE) {
+			Arrays.fill(visitedEpochs, 0);
+			epoch = 1;
+		}
+	}
+
+	private boolean isUnvisitedAndContained(IContainingProvider containingProvider, int x, int y) {
+		return visitedEpochs[x + y * width] != epoch && containingProvider.contains(x, y);
+	}
+
+	private void pushSegmentSeeds(IContainingProvider containingProvider, int minX, int maxX, int y) {
+		boolean inSegment = false;
+		for (int x = minX; x <= maxX; x++) {
+			if (isUnvisitedAndContained(containingProvider, x, y)) {
+				if (!inSegment) {
+					pushSeed(x + y * width);
+					inSegment = true;
+				}
+			} else {
+				inSegment = false;
+			}
+		}
+	}
+
+	private void pushSeed(int index) {
+		if (seedsCount == seeds.length) {
+			seeds = Arrays.copyOf(seeds, seedsCount * 2);
+		}
+		seeds[seedsCount++] = index;
+	}
 }
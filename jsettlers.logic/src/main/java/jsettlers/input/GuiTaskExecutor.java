@@ -15,6 +15,7 @@
 package jsettlers.input;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
 
@@ -74,20 +75,26 @@ import static java8.util.stream.StreamSupport.stream;
 /**
  * @author Andreas Eberle
  */
-class GuiTaskExecutor implements ITaskExecutor {
-	private static GuiTaskExecutor           instance = null;
+public class GuiTaskExecutor implements ITaskExecutor {
+	private static final int MIN_GROUP_MOVEMENT_SIZE = 10;
+
 	private final  IGuiInputGrid             grid;
 	private final  ITaskExecutorGuiInterface guiInterface;
 	private final  byte                      playerId;
+	private        boolean                   taskLogging = true;
 
-	GuiTaskExecutor(IGuiInputGrid grid, ITaskExecutorGuiInterface guiInterface, byte playerId) {
+	public GuiTaskExecutor(IGuiInputGrid grid, ITaskExecutorGuiInterface guiInterface, byte playerId) {
 		this.grid = grid;
 		this.guiInterface = guiInterface;
 		this.playerId = playerId;
 	}
 
-	public static GuiTaskExecutor get() {
-		return instance;
+	/**
+	 * @param taskLogging
+	 *            If false, the executed tasks are not printed to the console.
+	 */
+	public void setTaskLogging(boolean taskLogging) {
+		this.taskLogging = taskLogging;
 	}
 
 	@Override
@@ -101,7 +108,9 @@ class GuiTaskExecutor implements ITaskExecutor {
 			return;
 		}
 
-		System.out.println("executeTask(GuiTask): " + guiTask.getGuiAction());
+		if (taskLogging) {
+			System.out.println("executeTask(GuiTask): " + guiTask.getGuiAction());
+		}
 		switch (guiTask.getGuiAction()) {
 			case SET_WORK_AREA: {
 				setWorkArea((WorkAreaGuiTask) guiTask);
@@ -377,6 +386,9 @@ class GuiTaskExecutor implements ITaskExecutor {
 	}
 
 	private void sendManyMovables(ShortPoint2D targetPosition, List<ILogicMovable> movables, EMoveToType moveToType) {
+		List<ILogicMovable> sentMovables = new ArrayList<>();
+		List<ShortPoint2D> targets = new ArrayList<>();
+
 		for (int radius = 0, ringsWithoutSuccessCtr = 0; ringsWithoutSuccessCtr <= Math.max(5, 15 - radius + ringsWithoutSuccessCtr) && !movables.isEmpty(); radius++) {
 			MutableInt numberOfSendMovables = new MutableInt(0);
 
@@ -388,7 +400,8 @@ class GuiTaskExecutor implements ITaskExecutor {
 					Optional<ILogicMovable> movableOptional = removeMovableThatCanMoveTo(movables, x, y);
 
 					movableOptional.ifPresent(movable -> {
-						movable.moveTo(new ShortPoint2D(x, y), moveToType);
+						sentMovables.add(movable);
+						targets.add(new ShortPoint2D(x, y));
 						numberOfSendMovables.value++;
 					});
 				});
@@ -399,6 +412,14 @@ class GuiTaskExecutor implements ITaskExecutor {
 				ringsWithoutSuccessCtr++;
 			}
 		}
+
+		if (sentMovables.size() >= MIN_GROUP_MOVEMENT_SIZE) { // let the group share one flow field instead of searching a path for every movable
+			grid.prepareGroupMovement(sentMovables, targets);
+		}
+
+		for (int i = 0; i < sentMovables.size(); i++) {
+			sentMovables.get(i).moveTo(targets.get(i), moveToType);
+		}
 	}
 
 	private Optional<ILogicMovable> removeMovableThatCanMoveTo(List<ILogicMovable> movables, int x, int y) {
@@ -15,6 +15,7 @@
 package jsettlers.input;
 
 import java.io.IOException;
+import java.util.List;
 
 import jsettlers.algorithms.construction.AbstractConstructionMarkableMap;
 import jsettlers.common.buildings.EBuildingType;
@@ -25,6 +26,7 @@ import jsettlers.common.movable.EMovableType;
 import jsettlers.common.position.ShortPoint2D;
 import jsettlers.logic.FerryEntrance;
 import jsettlers.logic.map.grid.partition.manager.settings.MaterialProductionSettings;
+import jsettlers.logic.movable.interfaces.ILogicMovable;
 import jsettlers.logic.player.Player;
 
 import java8.util.Optional;
@@ -139,6 +141,17 @@ public interface IGuiInputGrid {
 
 	boolean isNavigable(int x, int y);
 
+	/**
+	 * Prepares the path searches of a group of movables that is sent to the given targets at once, so they don't need to search their paths one by
+	 * one.
+	 * 
+	 * @param movables
+	 *            The movables of the group.
+	 * @param targetPositions
+	 *            The targets the movables are sent to, in the same order as the movables.
+	 */
+	void prepareGroupMovement(List<ILogicMovable> movables, List<ShortPoint2D> targetPositions);
+
 	boolean hasLost(byte playerId);
 	
 	void changeMovableRatio(ShortPoint2D position, EMovableType moveableType, boolean add);
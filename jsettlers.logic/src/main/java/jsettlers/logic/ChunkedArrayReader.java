@@ -0,0 +1,134 @@
+/*******************************************************************************
+ * Copyright (c) 2026
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE.
+ *******************************************************************************/
+package jsettlers.logic;
+
+import java.io.IOException;
+import java.io.ObjectInput;
+import java.io.StreamCorruptedException;
+import java.nio.ByteBuffer;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+
+/**
+ * Reads the arrays written by a {@link ChunkedArrayWriter}. The arrays must be read in the same order and with the same types as they have been
+ * written.
+ */
+public final class ChunkedArrayReader {
+	private final ObjectInput in;
+	private final ByteBuffer  buffer   = ByteBuffer.allocate(ChunkedArrayWriter.CHUNK_SIZE);
+	private final Inflater    inflater = new Inflater();
+	private byte[]            compressed = new byte[ChunkedArrayWriter.CHUNK_SIZE];
+
+	public ChunkedArrayReader(ObjectInput in) throws IOException {
+		this.in = in;
+		byte version = in.readByte();
+		if (version != ChunkedArrayWriter.FORMAT_VERSION) {
+			throw new StreamCorruptedException("Unsupported chunked array format version: " + version);
+		}
+		buffer.limit(0);
+	}
+
+	public byte[] readBytes() throws IOException {
+		byte[] data = new byte[readLength()];
+		for (int offset = 0; offset < data.length;) {
+			ensureAvailable(1);
+			int count = Math.min(data.length - offset, buffer.remaining());
+			buffer.get(data, offset, count);
+			offset += count;
+		}
+		return data;
+	}
+
+	public short[] readShorts() throws IOException {
+		short[] data = new short[readLength()];
+		for (int offset = 0; offset < data.length;) {
+			ensureAvailable(2);
+			int count = Math.min(data.length - offset, buffer.remaining() / 2);
+			buffer.asShortBuffer().get(data, offset, count);
+			buffer.position(buffer.position() + count * 2);
+			offset += count;
+		}
+		return data;
+	}
+
+	public long[] readLongs() throws IOException {
+		long[] data = new long[readLength()];
+		for (int offset = 0; offset < data.length;) {
+			ensureAvailable(8);
+			int count = Math.min(data.length - offset, buffer.remaining() / 8);
+			buffer.asLongBuffer().get(data, offset, count);
+			buffer.position(buffer.position() + count * 8);
+			offset += count;
+		}
+		return data;
+	}
+
+	/**
+	 * Reads the end marker. The reader must not be used afterwards.
+	 */
+	public void finish() throws IOException {
+		if (buffer.hasRemaining() || in.readInt() != 0) {
+			throw new StreamCorruptedException("Chunked arrays have not been read completely.");
+		}
+		inflater.end();
+	}
+
+	private int readLength() throws IOException {
+		ensureAvailable(4);
+		return buffer.getInt();
+	}
+
+	private void ensureAvailable(int bytes) throws IOException {
+		if (buffer.remaining() >= bytes) {
+			return;
+		} else if (buffer.hasRemaining()) {
+			throw new StreamCorruptedException("Array element split across chunks.");
+		}
+
+		int rawLength = in.readInt();
+		int compressedLength = in.readInt();
+		if (rawLength <= 0 || rawLength > buffer.capacity() || compressedLength < 0) {
+			throw new StreamCorruptedException("Invalid chunk: " + rawLength + " / " + compressedLength);
+		}
+		if (compressed.length < compressedLength) {
+			compressed = new byte[compressedLength];
+		}
+		in.readFully(compressed, 0, compressedLength);
+
+		inflater.reset();
+		inflater.setInput(compressed, 0, compressedLength);
+		buffer.clear();
+		try {
+			int inflated = 0;
+			while (inflated < rawLength && !inflater.finished()) {
+				int count = inflater.inflate(buffer.array(), inflated, rawLength - inflated);
+				if (count == 0 && inflater.needsInput()) {
+					break;
+				}
+				inflated += count;
+			}
+			if (inflated != rawLength) {
+				throw new StreamCorruptedException("Chunk is shorter than announced.");
+			}
+		} catch (DataFormatException e) {
+			throw new StreamCorruptedException(e.getMessage());
+		}
+		buffer.limit(rawLength);
+
+		if (rawLength < bytes) {
+			throw new StreamCorruptedException("Array element split across chunks.");
+		}
+	}
+}
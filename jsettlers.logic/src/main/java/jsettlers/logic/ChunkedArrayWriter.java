@@ -0,0 +1,125 @@
+/*******************************************************************************
+ * Copyright (c) 2026
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE.
+ *******************************************************************************/
+package jsettlers.logic;
+
+import java.io.IOException;
+import java.io.ObjectOutput;
+import java.nio.ByteBuffer;
+import java.util.zip.Deflater;
+
+/**
+ * Writes primitive arrays in bulk to a stream. The data of all written arrays is put into chunks of {@link #CHUNK_SIZE} bytes, that are compressed
+ * with {@link Deflater} one by one. This is much smaller than the default Java serialization of the grid arrays and avoids going through the object
+ * stream element by element.
+ * <p>
+ * Format: version byte, followed by the chunks (raw length, compressed length, compressed data) and a terminating raw length of 0. The arrays are
+ * written as their length followed by their big endian elements.
+ *
+ * @see ChunkedArrayReader
+ */
+public final class ChunkedArrayWriter {
+	static final byte FORMAT_VERSION = 1;
+	static final int  CHUNK_SIZE     = 1 << 16;
+
+	private final ObjectOutput out;
+	private final ByteBuffer   buffer   = ByteBuffer.allocate(CHUNK_SIZE);
+	private final Deflater     deflater = new Deflater(Deflater.BEST_SPEED);
+	private byte[]             compressed = new byte[CHUNK_SIZE];
+
+	public ChunkedArrayWriter(ObjectOutput out) throws IOException {
+		this.out = out;
+		out.writeByte(FORMAT_VERSION);
+	}
+
+	public void write(byte[] data) throws IOException {
+		writeLength(data.length);
+		for (int offset = 0; offset < data.length;) {
+			int count = Math.min(data.length - offset, buffer.remaining());
+			buffer.put(data, offset, count);
+			offset += count;
+			flushIfFull();
+		}
+	}
+
+	public void write(short[] data) throws IOException {
+		writeLength(data.length);
+		for (int offset = 0; offset < data.length;) {
+			int count = Math.min(data.length - offset, buffer.remaining() / 2);
+			buffer.asShortBuffer().put(data, offset, count);
+			buffer.position(buffer.position() + count * 2);
+			offset += count;
+			flushIfFull();
+		}
+	}
+
+	public void write(long[] data) throws IOException {
+		writeLength(data.length);
+		for (int offset = 0; offset < data.length;) {
+			int count = Math.min(data.length - offset, buffer.remaining() / 8);
+			buffer.asLongBuffer().put(data, offset, count);
+			buffer.position(buffer.position() + count * 8);
+			offset += count;
+			flushIfFull();
+		}
+	}
+
+	/**
+	 * Writes the last chunk and the end marker. The writer must not be used afterwards.
+	 */
+	public void finish() throws IOException {
+		flushChunk();
+		out.writeInt(0);
+		deflater.end();
+	}
+
+	private void writeLength(int length) throws IOException {
+		if (buffer.remaining() < 4) {
+			flushChunk();
+		}
+		buffer.putInt(length);
+	}
+
+	private void flushIfFull() throws IOException {
+		if (buffer.remaining() < 8) { // only whole elements are put into a chunk, so the reader never needs to join them
+			flushChunk();
+		}
+	}
+
+	private void flushChunk() throws IOException {
+		int rawLength = buffer.position();
+		if (rawLength == 0) {
+			return;
+		}
+
+		deflater.reset();
+		deflater.setInput(buffer.array(), 0, rawLength);
+		deflater.finish();
+
+		int compressedLength = 0;
+		while (!deflater.finished()) {
+			if (compressedLength == compressed.length) {
+				byte[] newCompressed = new byte[compressed.length * 2];
+				System.arraycopy(compressed, 0, newCompressed, 0, compressedLength);
+				compressed = newCompressed;
+			}
+			compressedLength += deflater.deflate(compressed, compressedLength, compressed.length - compressedLength);
+		}
+
+		out.writeInt(rawLength);
+		out.writeInt(compressedLength);
+		out.write(compressed, 0, compressedLength);
+		buffer.clear();
+	}
+}
@@ -0,0 +1,137 @@
+/*******************************************************************************
+ * Copyright (c) 2026
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE.
+ *******************************************************************************/
+package jsettlers.logic;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import jsettlers.algorithms.fogofwar.FogOfWar;
+import jsettlers.logic.buildings.Building;
+import jsettlers.logic.buildings.trading.HarborBuilding;
+import jsettlers.logic.buildings.trading.MarketBuilding;
+import jsettlers.logic.constants.ExtendedRandom;
+import jsettlers.logic.movable.MovableManager;
+import jsettlers.logic.timer.RescheduleTimer;
+import jsettlers.network.client.interfaces.IGameClock;
+
+/**
+ * Holds the state of one running game that is not part of the grids: the clock, the random generators, the registries of movables and buildings, the
+ * {@link RescheduleTimer} and the {@link FogOfWar}. The static accessors like {@link jsettlers.logic.constants.MatchConstants#clock()},
+ * {@link MovableManager} or {@link RescheduleTimer#add(jsettlers.logic.timer.IScheduledTimerable, int)} resolve their state through
+ * {@link #current()}.
+ * <p />
+ * Without further setup, all threads share one default context, so a single game behaves as before. To run several games in one JVM, every game
+ * needs its own context bound with {@link #bind(GameContext)} to the thread that creates the game's clock, grid and threads. Threads started from
+ * that thread inherit the binding, so the clock, fog of war, borders and AI threads of the game see the same context.
+ */
+public final class GameContext {
+	private static final InheritableThreadLocal<GameContext> boundContext   = new InheritableThreadLocal<>();
+	private static final GameContext                         defaultContext = new GameContext();
+
+	private IGameClock     clock;
+	private ExtendedRandom gameRandom;
+	private ExtendedRandom aiRandom;
+
+	private final MovableManager       movableManager = new MovableManager();
+	private final Queue<Building>      buildings      = new ConcurrentLinkedQueue<>();
+	private final List<MarketBuilding> markets        = new ArrayList<>();
+	private final List<HarborBuilding> harbors        = new ArrayList<>();
+
+	private byte                     buildingsFowTeam = -1;
+	private volatile RescheduleTimer rescheduleTimer; // read without locking by every scheduling
+	private FogOfWar                 fogOfWar;
+
+	/**
+	 * @return The context bound to the current thread or the default context if none is bound.
+	 */
+	public static GameContext current() {
+		GameContext context = boundContext.get();
+		return context != null ? context : defaultContext;
+	}
+
+	/**
+	 * Binds the given context to the current thread and all threads started by it afterwards.
+	 * 
+	 * @param context
+	 *            The context to bind or <code>null</code> to fall back to the default context.
+	 */
+	public static void bind(GameContext context) {
+		if (context != null) {
+			boundContext.set(context);
+		} else {
+			boundContext.remove();
+		}
+	}
+
+	public IGameClock getClock() {
+		return clock;
+	}
+
+	public ExtendedRandom getGameRandom() {
+		return gameRandom;
+	}
+
+	public ExtendedRandom getAiRandom() {
+		return aiRandom;
+	}
+
+	public void setMatchState(IGameClock clock, ExtendedRandom gameRandom, ExtendedRandom aiRandom) {
+		this.clock = clock;
+		this.gameRandom = gameRandom;
+		this.aiRandom = aiRandom;
+	}
+
+	public MovableManager getMovableManager() {
+		return movableManager;
+	}
+
+	public Queue<Building> getBuildings() {
+		return buildings;
+	}
+
+	public byte getBuildingsFowTeam() {
+		return buildingsFowTeam;
+	}
+
+	public void setBuildingsFowTeam(byte buildingsFowTeam) {
+		this.buildingsFowTeam = buildingsFowTeam;
+	}
+
+	public List<MarketBuilding> getMarkets() {
+		return markets;
+	}
+
+	public List<HarborBuilding> getHarbors() {
+		return harbors;
+	}
+
+	public RescheduleTimer getRescheduleTimer() {
+		return rescheduleTimer;
+	}
+
+	public void setRescheduleTimer(RescheduleTimer rescheduleTimer) {
+		this.rescheduleTimer = rescheduleTimer;
+	}
+
+	public FogOfWar getFogOfWar() {
+		return fogOfWar;
+	}
+
+	public void setFogOfWar(FogOfWar fogOfWar) {
+		this.fogOfWar = fogOfWar;
+	}
+}
@@ -17,13 +17,12 @@ package jsettlers.logic.buildings.trading;
 import java.io.IOException;
 import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
-import java.util.ArrayList;
 import java.util.Collection;
-import java.util.List;
 
 import java8.util.stream.Stream;
 import jsettlers.common.buildings.EBuildingType;
 import jsettlers.common.position.ShortPoint2D;
+import jsettlers.logic.GameContext;
 import jsettlers.logic.buildings.IBuildingsGrid;
 import jsettlers.logic.player.Player;
 
@@ -35,28 +34,28 @@ import static java8.util.stream.StreamSupport.stream;
  *
  */
 public class MarketBuilding extends TradingBuilding {
-	private static final List<MarketBuilding> ALL_MARKETS = new ArrayList<>();
+	private static final long serialVersionUID = 6523103000786477025L;
 
 	public static Stream<MarketBuilding> getAllMarkets(final Player player) {
-		return stream(ALL_MARKETS).filter(building -> building.getPlayer() == player);
+		return stream(GameContext.current().getMarkets()).filter(building -> building.getPlayer() == player);
 	}
 
 	public static void clearState() {
-		ALL_MARKETS.clear();
+		GameContext.current().getMarkets().clear();
 	}
 
 	@SuppressWarnings("unchecked")
 	public static void readStaticState(ObjectInputStream ois) throws IOException, ClassNotFoundException {
-		ALL_MARKETS.addAll((Collection<? extends MarketBuilding>) ois.readObject());
+		GameContext.current().getMarkets().addAll((Collection<? extends MarketBuilding>) ois.readObject());
 	}
 
 	public static void writeStaticState(ObjectOutputStream oos) throws IOException {
-		oos.writeObject(ALL_MARKETS);
+		oos.writeObject(GameContext.current().getMarkets());
 	}
 
 	public MarketBuilding(EBuildingType type, Player player, ShortPoint2D position, IBuildingsGrid buildingsGrid) {
 		super(type, player, position, buildingsGrid);
-		ALL_MARKETS.add(this);
+		GameContext.current().getMarkets().add(this);
 	}
 
 	@Override
@@ -73,7 +72,7 @@ public class MarketBuilding extends TradingBuilding {
 	@Override
 	protected void killedEvent() {
 		super.killedEvent();
-		ALL_MARKETS.remove(this);
+		GameContext.current().getMarkets().remove(this);
 	}
 
 	@Override
@@ -18,6 +18,7 @@ import java.io.IOException;
 import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
 
+import jsettlers.logic.GameContext;
 import jsettlers.network.client.interfaces.IGameClock;
 
 /**
@@ -48,48 +49,45 @@ public final class MatchConstants {
 	private MatchConstants() {
 	}
 
-	private static IGameClock clock;
-	private static ExtendedRandom gameRandom;
-	private static ExtendedRandom aiRandom;
-
 	public static void init(IGameClock clock, long randomSeed) {
 		clearState();
-		MatchConstants.clock = clock;
-		MatchConstants.gameRandom = new ExtendedRandom(randomSeed);
-		MatchConstants.aiRandom = new ExtendedRandom(randomSeed);
+		GameContext.current().setMatchState(clock, new ExtendedRandom(randomSeed), new ExtendedRandom(randomSeed));
 	}
 
 	public static void clearState() {
-		if (clock != null) {
-			clock.stopExecution();
+		GameContext context = GameContext.current();
+		if (context.getClock() != null) {
+			context.getClock().stopExecution();
 		}
-		clock = null;
-		gameRandom = null;
-		aiRandom = null;
+		context.setMatchState(null, null, null);
 	}
 
 	public static IGameClock clock() {
-		return clock;
+		return GameContext.current().getClock();
 	}
 
 	public static ExtendedRandom random() {
-		return gameRandom;
+		return GameContext.current().getGameRandom();
 	}
 
 	public static ExtendedRandom aiRandom() {
-		return aiRandom;
+		return GameContext.current().getAiRandom();
 	}
 
 	public static void serialize(ObjectOutputStream oos) throws IOException {
-		oos.writeInt(clock.getTime());
-		oos.writeObject(gameRandom);
-		oos.writeObject(aiRandom);
+		GameContext context = GameContext.current();
+		oos.writeInt(context.getClock().getTime());
+		oos.writeObject(context.getGameRandom());
+		oos.writeObject(context.getAiRandom());
 	}
 
 	public static void deserialize(ObjectInputStream ois) throws IOException, ClassNotFoundException {
+		GameContext context = GameContext.current();
+		IGameClock clock = context.getClock();
 		clock.setTime(ois.readInt());
-		gameRandom = (ExtendedRandom) ois.readObject();
-		aiRandom = (ExtendedRandom) ois.readObject();
+		ExtendedRandom gameRandom = (ExtendedRandom) ois.readObject();
+		ExtendedRandom aiRandom = (ExtendedRandom) ois.readObject();
+		context.setMatchState(clock, gameRandom, aiRandom);
 	}
 
 }
@@ -26,6 +26,9 @@ import jsettlers.logic.movable.MovableManager;
 
 /**
  * This class serializes and deserializes the {@link MainGrid} and therefore the complete game state.
+ * <p>
+ * The position arrays of the landscape, flags and partitions grids are written in bulk by a {@link jsettlers.logic.ChunkedArrayWriter}. Savegames
+ * written with plain Java serialization can still be loaded, because these grids fall back to their default serialized fields.
  *
  * @author Andreas Eberle
  */
@@ -120,6 +123,7 @@ public class GameSerializer {
 				HarborBuilding.readStaticState(ois);
 				MovableManager.readStaticState(ois);
 				grid = (MainGrid) ois.readObject();
+				MovableManager.initProfessionCounts();
 			} catch (Throwable t) {
 				t.printStackTrace();
 				this.exception = t;
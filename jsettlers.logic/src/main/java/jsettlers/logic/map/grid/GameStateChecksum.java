@@ -0,0 +1,96 @@
+/*******************************************************************************
+ * Copyright (c) 2026
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE.
+ *******************************************************************************/
+package jsettlers.logic.map.grid;
+
+import jsettlers.common.position.ShortPoint2D;
+import jsettlers.logic.GameContext;
+import jsettlers.logic.buildings.Building;
+import jsettlers.logic.movable.MovableManager;
+import jsettlers.logic.movable.interfaces.ILogicMovable;
+import jsettlers.network.synchronic.checksum.IStateChecksumProvider;
+
+/**
+ * Supplies the checksums of the game state that are exchanged between the clients to detect desyncs.
+ * <p />
+ * The checksums of the grids are maintained incrementally by the grids themselves, so reading them is free. The movables and the buildings are
+ * digested on every call; their order does not matter, as their hashes are combined with XOR.
+ * <p />
+ * The borders and the fog of war are not included, because they are calculated on their own threads.
+ */
+public final class GameStateChecksum implements IStateChecksumProvider {
+	private static final String[] SUBSYSTEMS = { "landscape", "flags", "partitions", "movable grid", "movables", "buildings" };
+
+	private final MainGrid mainGrid;
+
+	public GameStateChecksum(MainGrid mainGrid) {
+		this.mainGrid = mainGrid;
+
+		mainGrid.landscapeGrid.recalculateChecksum();
+		mainGrid.flagsGrid.recalculateChecksum();
+		mainGrid.partitionsGrid.recalculateChecksum();
+		mainGrid.movableGrid.recalculateChecksum();
+	}
+
+	@Override
+	public String[] getSubsystems() {
+		return SUBSYSTEMS.clone();
+	}
+
+	@Override
+	public void calculateChecksums(int[] checksums) {
+		checksums[0] = mainGrid.landscapeGrid.getChecksum();
+		checksums[1] = mainGrid.flagsGrid.getChecksum();
+		checksums[2] = mainGrid.partitionsGrid.getChecksum();
+		checksums[3] = mainGrid.movableGrid.getChecksum();
+		checksums[4] = calculateMovablesChecksum();
+		checksums[5] = calculateBuildingsChecksum();
+	}
+
+	private static int calculateMovablesChecksum() {
+		int result = 0;
+		for (ILogicMovable movable : MovableManager.getAllMovables()) {
+			ShortPoint2D position = movable.getPosition();
+			int hash = StateChecksums.combine(movable.getID(), position.x);
+			hash = StateChecksums.combine(hash, position.y);
+			hash = StateChecksums.combine(hash, Float.floatToIntBits(movable.getHealth()));
+			hash = StateChecksums.combine(hash, ordinal(movable.getAction()));
+			hash = StateChecksums.combine(hash, ordinal(movable.getDirection()));
+			hash = StateChecksums.combine(hash, ordinal(movable.getMovableType()));
+			hash = StateChecksums.combine(hash, ordinal(movable.getMaterial()));
+			hash = StateChecksums.combine(hash, movable.getPlayer().getPlayerId());
+			hash = StateChecksums.combine(hash, movable.isAlive() ? 1 : 0);
+			result ^= hash;
+		}
+		return result;
+	}
+
+	private static int calculateBuildingsChecksum() {
+		int result = 0;
+		for (Building building : GameContext.current().getBuildings()) {
+			ShortPoint2D position = building.getPosition();
+			int hash = StateChecksums.combine(position.x, position.y);
+			hash = StateChecksums.combine(hash, building.getBuildingVariant().getType().ordinal());
+			hash = StateChecksums.combine(hash, building.getPlayer().getPlayerId());
+			hash = StateChecksums.combine(hash, Float.floatToIntBits(building.getStateProgress()));
+			hash = StateChecksums.combine(hash, (building.isConstructionFinished() ? 1 : 0) | (building.isDestroyed() ? 2 : 0) | (building.isOccupied() ? 4 : 0));
+			result ^= hash;
+		}
+		return result;
+	}
+
+	private static int ordinal(Enum<?> value) {
+		return value == null ? -1 : value.ordinal();
+	}
+}
@@ -0,0 +1,44 @@
+/*******************************************************************************
+ * Copyright (c) 2026
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE.
+ *******************************************************************************/
+package jsettlers.logic.map.grid;
+
+import java.util.Arrays;
+
+/**
+ * The listeners registered at a grid. Listeners can be added at any time, the notifications are not synchronized.
+ */
+public final class GridChangedListeners implements IGridChangedListener {
+	private volatile IGridChangedListener[] listeners = new IGridChangedListener[0];
+
+	public synchronized void add(IGridChangedListener listener) {
+		IGridChangedListener[] newListeners = Arrays.copyOf(listeners, listeners.length + 1);
+		newListeners[listeners.length] = listener;
+		listeners = newListeners;
+	}
+
+	@Override
+	public void positionChanged(int x, int y) {
+		for (IGridChangedListener listener : listeners) {
+			listener.positionChanged(x, y);
+		}
+	}
+
+	@Override
+	public void areaChanged(int xMin, int yMin, int xMax, int yMax) {
+		for (IGridChangedListener listener : listeners) {
+			listener.areaChanged(xMin, yMin, xMax, yMax);
+		}
+	}
+}
@@ -17,8 +17,12 @@ package jsettlers.logic.map.grid;
 import java.io.IOException;
 import java.io.ObjectInputStream;
 import java.io.Serializable;
+import java.util.ArrayList;
 import java.util.BitSet;
 import java.util.Date;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
 import java.util.Set;
 
 import java8.util.Objects;
@@ -26,6 +30,7 @@ import java8.util.Optional;
 import jsettlers.algorithms.borders.BordersThread;
 import jsettlers.algorithms.borders.IBordersThreadGrid;
 import jsettlers.algorithms.construction.AbstractConstructionMarkableMap;
+import jsettlers.algorithms.construction.BuildabilityCache;
 import jsettlers.algorithms.fogofwar.FogOfWar;
 import jsettlers.algorithms.landmarks.EnclosedBlockedAreaFinderAlgorithm;
 import jsettlers.algorithms.landmarks.IEnclosedBlockedAreaFinderGrid;
@@ -33,12 +38,13 @@ import jsettlers.algorithms.path.IPathCalculatable;
 import jsettlers.algorithms.path.Path;
 import jsettlers.algorithms.path.area.IInAreaFinderMap;
 import jsettlers.algorithms.path.area.InAreaFinder;
-import jsettlers.algorithms.path.astar.AbstractAStar;
-import jsettlers.algorithms.path.astar.BucketQueueAStar;
-import jsettlers.algorithms.path.astar.IAStarPathMap;
+import jsettlers.algorithms.path.astar.hierarchical.HierarchicalAStar;
+import jsettlers.algorithms.path.astar.hierarchical.IHierarchicalAStarMap;
 import jsettlers.algorithms.path.dijkstra.DijkstraAlgorithm;
 import jsettlers.algorithms.path.dijkstra.IDijkstraPathMap;
+import jsettlers.algorithms.path.flowfield.FlowField;
 import jsettlers.algorithms.previewimage.PreviewImageCreator;
+import jsettlers.algorithms.traversing.area.AreaTraversingAlgorithm;
 import jsettlers.algorithms.traversing.area.IAreaVisitor;
 import jsettlers.common.Color;
 import jsettlers.common.buildings.BuildingAreaBitSet;
@@ -68,6 +74,7 @@ import jsettlers.common.movable.EMovableType;
 import jsettlers.common.movable.IGraphicsMovable;
 import jsettlers.common.player.EWinState;
 import jsettlers.common.player.IPlayer;
+import jsettlers.common.position.ILocatable;
 import jsettlers.common.position.MutablePoint2D;
 import jsettlers.common.position.RelativePoint;
 import jsettlers.common.position.ShortPoint2D;
@@ -79,6 +86,7 @@ import jsettlers.input.IGuiInputGrid;
 import jsettlers.input.PlayerState;
 import jsettlers.logic.DockPosition;
 import jsettlers.logic.FerryEntrance;
+import jsettlers.logic.GameContext;
 import jsettlers.logic.buildings.Building;
 import jsettlers.logic.buildings.IBuildingsGrid;
 import jsettlers.logic.buildings.military.occupying.IOccupyableBuilding;
@@ -129,6 +137,7 @@ import jsettlers.logic.movable.interfaces.IAttackableHumanMovable;
 import jsettlers.logic.movable.interfaces.IAttackableMovable;
 import jsettlers.logic.movable.interfaces.IFerryMovable;
 import jsettlers.logic.movable.interfaces.ILogicMovable;
+import jsettlers.logic.movable.interfaces.IProfessionCount;
 import jsettlers.logic.movable.interfaces.ISoldierMovable;
 import jsettlers.logic.movable.other.AttackableHumanMovable;
 import jsettlers.logic.objects.arrow.ArrowObject;
@@ -166,6 +175,7 @@ public final class MainGrid implements Serializable {
 	transient         BordersThread                  bordersThread;
 	transient         IGuiInputGrid                  guiInputGrid;
 	private transient IEnclosedBlockedAreaFinderGrid enclosedBlockedAreaFinderGrid;
+	private transient GameContext                    gameContext;
 
 	public MainGrid(String mapId, String mapName, short width, short height, PlayerSetting[] playerSettings) {
 		this.mapId = mapId;
@@ -199,6 +209,7 @@ public final class MainGrid implements Serializable {
 	}
 
 	private void initAdditional() {
+		this.gameContext = GameContext.current();
 		this.graphicsGrid = new GraphicsGrid();
 		this.constructionMarksGrid = new ConstructionMarksGrid();
 		this.bordersThread = new BordersThread(new BordersThreadGrid());
@@ -234,17 +245,36 @@ public final class MainGrid implements Serializable {
 	public void startThreads() {
 		bordersThread.start();
 		if (fogOfWar != null) {
+			gameContext.setFogOfWar(fogOfWar);
 			fogOfWar.start();
 		}
 	}
 
+	/**
+	 * Calculates the borders of the positions changed since the last call on the calling thread. Headless games call this instead of
+	 * {@link #startThreads()}.
+	 */
+	public void calculateBorders() {
+		bordersThread.processQueuedPositions();
+	}
+
 	public void stopThreads() {
 		bordersThread.cancel();
 		if (fogOfWar != null) {
 			fogOfWar.cancel();
+			if (gameContext.getFogOfWar() == fogOfWar) {
+				gameContext.setFogOfWar(null);
+			}
 		}
 	}
 
+	/**
+	 * @return The context holding the clock, the movables, the buildings and the timers of the game this grid belongs to.
+	 */
+	public GameContext getGameContext() {
+		return gameContext;
+	}
+
 	public MainGrid(String mapId, String mapName, IMapData mapGrid, PlayerSetting[] playerSettings) {
 		this(mapId, mapName, (short) mapGrid.getWidth(), (short) mapGrid.getHeight(), playerSettings);
 
@@ -538,7 +568,7 @@ public final class MainGrid implements Serializable {
 		fogOfWar.showMap();
 	}
 
-	final class PathfinderGrid implements IAStarPathMap, IDijkstraPathMap, IInAreaFinderMap, Serializable {
+	final class PathfinderGrid implements IHierarchicalAStarMap, IDijkstraPathMap, IInAreaFinderMap, Serializable {
 		private static final long serialVersionUID = -2775530442375843213L;
 
 		@Override
@@ -549,6 +579,16 @@ public final class MainGrid implements Serializable {
 			return flagsGrid.isBlocked(x, y) || (requester.needsPlayersGround() && requester.getPlayer().getPlayerId() != partitionsGrid.getPlayerIdAt(x, y));
 		}
 
+		@Override
+		public boolean isBlocked(int x, int y) {
+			return flagsGrid.isBlocked(x, y);
+		}
+
+		@Override
+		public byte getPlayerIdAt(int x, int y) {
+			return partitionsGrid.getPlayerIdAt(x, y);
+		}
+
 		@Override
 		public final float getCost(int sx, int sy, int tx, int ty) {
 			return 1;
@@ -807,7 +847,7 @@ public final class MainGrid implements Serializable {
 
 		@Override
 		public final IMapObject getVisibleMapObjectsAt(int x, int y) {
-			if(fogOfWar.isHidden(x, y)) return fogOfWar.hiddenMapObjects[x][y];
+			if(fogOfWar.isHidden(x, y)) return fogOfWar.getHiddenMapObjectsAt(x, y);
 			return objectsGrid.getObjectsAt(x, y);
 		}
 
@@ -817,7 +857,7 @@ public final class MainGrid implements Serializable {
 
 		@Override
 		public final byte getVisibleHeightAt(int x, int y) {
-			if(fogOfWar.isHidden(x, y)) return fogOfWar.hiddenHeight[x][y];
+			if(fogOfWar.isHidden(x, y)) return fogOfWar.getHiddenHeightAt(x, y);
 			return landscapeGrid.getHeightAt(x, y);
 		}
 
@@ -896,7 +936,7 @@ public final class MainGrid implements Serializable {
 		}
 
 		@Override
-		public byte[][] getVisibleStatusArray() {
+		public byte[] getVisibleStatusArray() {
 			return fogOfWar.getVisibleStatusArray();
 		}
 
@@ -955,6 +995,11 @@ public final class MainGrid implements Serializable {
 			return objectsGrid.removeMapObject(x, y, mapObject);
 		}
 
+		@Override
+		public final void mapObjectChangedAt(int x, int y) {
+			objectsGrid.mapObjectChangedAt(x, y);
+		}
+
 		@Override
 		public final AbstractHexMapObject getMapObject(int x, int y, EMapObjectType mapObjectType) {
 			return objectsGrid.getMapObjectAt(x, y, mapObjectType);
@@ -1022,6 +1067,8 @@ public final class MainGrid implements Serializable {
 	}
 
 	final class EnclosedBlockedAreaFinderGrid implements IEnclosedBlockedAreaFinderGrid {
+		private final AreaTraversingAlgorithm areaTraversingAlgorithm = new AreaTraversingAlgorithm(width, height);
+
 		@Override
 		public final boolean isPioneerBlockedAndWithoutTowerProtection(int x, int y) {
 			return MainGrid.this.isInBounds(x, y) && flagsGrid.isPioneerBlocked(x, y) && !landscapeGrid.isBlockedPartition(x, y) && !partitionsGrid.isEnforcedByTower(x, y);
@@ -1061,6 +1108,11 @@ public final class MainGrid implements Serializable {
 			};
 		}
 
+		@Override
+		public AreaTraversingAlgorithm getAreaTraversingAlgorithm() {
+			return areaTraversingAlgorithm;
+		}
+
 		@Override
 		public short getHeight() {
 			return height;
@@ -1072,16 +1124,19 @@ public final class MainGrid implements Serializable {
 		}
 	}
 
-	final class ConstructionMarksGrid extends AbstractConstructionMarkableMap {
+	final class ConstructionMarksGrid extends AbstractConstructionMarkableMap implements BuildabilityCache.IConstructionMarkCalculator {
+		private final BuildabilityCache buildabilityCache = new BuildabilityCache(this, width, height, partitionsGrid.getNumberOfPlayers());
+
+		ConstructionMarksGrid() {
+			flagsGrid.getGridChangedListeners().add(buildabilityCache);
+			partitionsGrid.getGridChangedListeners().add(buildabilityCache);
+			landscapeGrid.getGridChangedListeners().add(buildabilityCache);
+		}
+
 		@Override
-		public final void setConstructMarking(int x, int y, boolean set, boolean binaryConstructionMarkValues, RelativePoint[] flattenPositions) {
+		public final void setConstructMarking(int x, int y, byte value) {
 			if (isInBounds(x, y)) {
-				if (set) {
-					byte newValue = binaryConstructionMarkValues ? 0 : calculateConstructionMarkValue(x, y, flattenPositions);
-					mapObjectsManager.setConstructionMarking(x, y, newValue);
-				} else {
-					mapObjectsManager.setConstructionMarking(x, y, (byte) -1);
-				}
+				mapObjectsManager.setConstructionMarking(x, y, value);
 			}
 		}
 
@@ -1100,23 +1155,41 @@ public final class MainGrid implements Serializable {
 			BuildingVariant building = buildingType.getVariant(partitionsGrid.getPlayer(playerId).getCivilisation());
 			if(building == null) return false;
 
+			return buildabilityCache.getConstructionMarkValue(x, y, building, playerId) >= 0;
+		}
+
+		/**
+		 * Checks the grids directly instead of the cache. The cache may hold values other threads calculated while the game thread changed the grids.
+		 */
+		boolean canConstructAtUncached(int x, int y, EBuildingType buildingType, byte playerId) {
+			BuildingVariant building = buildingType.getVariant(partitionsGrid.getPlayer(playerId).getCivilisation());
+			return building != null && calculateConstructionMarkValue(x, y, building, playerId) >= 0;
+		}
+
+		@Override
+		public byte getConstructionMarkValue(int x, int y, BuildingVariant building, byte playerId) {
+			return buildabilityCache.getConstructionMarkValue(x, y, building, playerId);
+		}
+
+		@Override
+		public byte calculateConstructionMarkValue(int x, int y, BuildingVariant building, byte playerId) {
 			RelativePoint[] buildingArea = building.getBuildingArea();
 			BuildingAreaBitSet areaBitSet = building.getBuildingAreaBitSet();
 			if (!isInBounds(areaBitSet.minX + x, areaBitSet.minY + y) || !isInBounds(areaBitSet.maxX + x, areaBitSet.maxY + y)) {
-				return false;
+				return -1;
 			}
 
 			short partitionId = getPartitionIdAt(areaBitSet.aPosition.calculateX(x), areaBitSet.aPosition.calculateY(y));
 
 			if (!canPlayerConstructOnPartition(playerId, partitionId)) {
-				return false;
+				return -1;
 			}
 			for (RelativePoint curr : buildingArea) {
 				int currX = curr.calculateX(x);
 				int currY = curr.calculateY(y);
 
 				if (!canUsePositionForConstruction(currX, currY, building.getRequiredGroundTypeAt(curr.getDx(), curr.getDy()), partitionId)) {
-					return false;
+					return -1;
 				}
 			}
 
@@ -1129,10 +1202,10 @@ public final class MainGrid implements Serializable {
 				if(!isInBounds(currX, currY)) continue;
 
 				ELandscapeType type = landscapeGrid.getLandscapeTypeAt(currX, currY);
-				if(!allowedGroundType.contains(type)) return false;
+				if(!allowedGroundType.contains(type)) return -1;
 			}
 
-			return !building.needsFlattenedGround() || calculateConstructionMarkValue(x, y, buildingArea) >= 0;
+			return building.needsFlattenedGround() ? calculateConstructionMarkValue(x, y, buildingArea) : 0;
 		}
 
 		@Override
@@ -1188,10 +1261,14 @@ public final class MainGrid implements Serializable {
 	final class MovablePathfinderGrid extends AbstractMovableGrid {
 		private static final long serialVersionUID = 4006228724969442801L;
 
+		private static final int MAX_FLOW_FIELDS   = 4;
+		private static final int FLOW_FIELD_MARGIN = 20;
+
 		private transient PathfinderGrid    pathfinderGrid;
-		private transient AbstractAStar     aStar;
+		private transient HierarchicalAStar aStar;
 		transient         DijkstraAlgorithm dijkstra; // not private, because it's used by BuildingsGrid
 		private transient InAreaFinder      inAreaFinder;
+		private transient LinkedList<FlowField> flowFields;
 
 		public MovablePathfinderGrid() {
 			initPathfinders();
@@ -1200,9 +1277,57 @@ public final class MainGrid implements Serializable {
 		private void initPathfinders() {
 			pathfinderGrid = new PathfinderGrid();
 
-			aStar = new BucketQueueAStar(pathfinderGrid, width, height);
+			aStar = new HierarchicalAStar(pathfinderGrid, width, height);
+			flagsGrid.setBlockedChangedListener(aStar::positionChanged);
 			dijkstra = new DijkstraAlgorithm(pathfinderGrid, aStar, width, height);
 			inAreaFinder = new InAreaFinder(pathfinderGrid, width, height);
+			flowFields = new LinkedList<>();
+		}
+
+		/**
+		 * Calculates a {@link FlowField} to the given targets that is used by the path searches of the movables sent to them.
+		 *
+		 * @param movables
+		 *            The movables of the group.
+		 * @param targetPositions
+		 *            The targets of the movables, in the same order as the movables.
+		 */
+		void addFlowField(List<ILogicMovable> movables, List<ShortPoint2D> targetPositions) {
+			List<ShortPoint2D> positions = new ArrayList<>(targetPositions);
+			for (ILogicMovable movable : movables) {
+				positions.add(movable.getPosition());
+			}
+
+			int minX = width;
+			int minY = height;
+			int maxX = 0;
+			int maxY = 0;
+			for (ShortPoint2D position : positions) {
+				minX = Math.min(minX, position.x);
+				minY = Math.min(minY, position.y);
+				maxX = Math.max(maxX, position.x);
+				maxY = Math.max(maxY, position.y);
+			}
+
+			if (flowFields.size() >= MAX_FLOW_FIELDS) {
+				flowFields.removeFirst(); // movables of the oldest group that still didn't start walking will search their own paths
+			}
+			flowFields.add(new FlowField(pathfinderGrid, Math.max(0, minX - FLOW_FIELD_MARGIN), Math.max(0, minY - FLOW_FIELD_MARGIN),
+					Math.min(width - 1, maxX + FLOW_FIELD_MARGIN), Math.min(height - 1, maxY + FLOW_FIELD_MARGIN), movables, targetPositions));
+		}
+
+		private Path findPathInFlowFields(IPathCalculatable pathRequester, ShortPoint2D targetPos) {
+			for (Iterator<FlowField> iterator = flowFields.iterator(); iterator.hasNext();) {
+				FlowField flowField = iterator.next();
+				if (flowField.leadsTo(pathRequester, targetPos)) {
+					Path path = flowField.findPath(pathRequester, targetPos, aStar);
+					if (!flowField.hasRequesters()) {
+						iterator.remove();
+					}
+					return path;
+				}
+			}
+			return null;
 		}
 
 		@Override
@@ -1264,9 +1389,9 @@ public final class MainGrid implements Serializable {
 
 		@Override
 		public void removeJobless(IManageableBearer bearer) {
-			for(Partition partition : partitionsGrid.getAllPartitions()) {
-				if(partition == null) continue;
-				partition.removeJobless(bearer);
+			PartitionManager manager = bearer.getJoblessManager();
+			if (manager != null) {
+				manager.removeJobless(bearer);
 			}
 		}
 
@@ -1433,8 +1558,29 @@ public final class MainGrid implements Serializable {
 			}
 		}
 
+		@Override
+		public IProfessionCount countProfession(ILocatable movable, EMovableType profession, Player player) {
+			return partitionsGrid.countProfession(movable, profession, player.getPlayerId());
+		}
+
+		@Override
+		public void uncountProfession(IProfessionCount professionCount) {
+			partitionsGrid.uncountProfession(professionCount);
+		}
+
+		@Override
+		public boolean isProfessionCountOutdated(ShortPoint2D position, IProfessionCount professionCount) {
+			return partitionsGrid.isProfessionCountOutdated(position.x, position.y, professionCount);
+		}
+
 		@Override
 		public Path calculatePathTo(IPathCalculatable pathRequester, ShortPoint2D targetPos) {
+			if (!flowFields.isEmpty()) {
+				Path path = findPathInFlowFields(pathRequester, targetPos);
+				if (path != null) {
+					return path;
+				}
+			}
 			return aStar.findPath(pathRequester, targetPos);
 		}
 
@@ -2069,6 +2215,11 @@ public final class MainGrid implements Serializable {
 			return MainGrid.this.isNavigable(x, y);
 		}
 
+		@Override
+		public void prepareGroupMovement(List<ILogicMovable> movables, List<ShortPoint2D> targetPositions) {
+			movablePathfinderGrid.addFlowField(movables, targetPositions);
+		}
+
 		@Override
 		public boolean hasLost(byte playerId) {
 			return partitionsGrid.getPlayer(playerId).getWinState() == EWinState.LOST;
@@ -2104,7 +2255,7 @@ public final class MainGrid implements Serializable {
 
 		@Override
 		public void constructBuildingAt(ShortPoint2D position, EBuildingType type, byte playerId) {
-			if (constructionMarksGrid.canConstructAt(position.x, position.y, type, playerId)) {
+			if (constructionMarksGrid.canConstructAtUncached(position.x, position.y, type, playerId)) {
 				MainGrid.this.constructBuildingAt(position, type, partitionsGrid.getPlayerAt(position.x, position.y), false);
 			} else {
 				System.out.println("WARNING: TRIED TO CONSTRUCT BUILDING WHERE IT WASN'T POSSIBLE! Type: " + type + "  pos: " + position
@@ -2194,6 +2345,7 @@ public final class MainGrid implements Serializable {
 		public void playerChangedAt(int x, int y, byte newPlayerId) {
 			final ShortPoint2D position = new ShortPoint2D(x, y);
 			bordersThread.checkPosition(position);
+			movablePathfinderGrid.aStar.positionChanged(x, y);
 
 			Building building = objectsGrid.getBuildingAt(x, y);
 			if (building != null && building.getPlayer().getPlayerId() != newPlayerId) {
@@ -2213,6 +2365,9 @@ public final class MainGrid implements Serializable {
 		@Override
 		public void backgroundLineChangedAt(int x, int y, int length) {}
 
+		@Override
+		public void backgroundAreaChangedAt(int x, int y, int width, int height) {}
+
 		@Override
 		public void fogOfWarEnabledStatusChanged(boolean enabled) {}
 	}
@@ -0,0 +1,155 @@
+/*******************************************************************************
+ * Copyright (c) 2026
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE.
+ *******************************************************************************/
+package jsettlers.logic.map.grid;
+
+import java.util.Arrays;
+
+import jsettlers.common.position.ShortPoint2D;
+import jsettlers.common.utils.coordinates.ICoordinateConsumer;
+import jsettlers.common.utils.coordinates.ICoordinatePredicate;
+
+/**
+ * Counts entries of a grid per group (e.g. team) in sectors of {@link #SECTOR_SIZE}x{@link #SECTOR_SIZE} positions. This lets area searches skip all
+ * sectors without entries of the groups they are interested in.
+ * <p>
+ * The positions found are visited in the same order a {@link jsettlers.common.map.shapes.HexGridArea} visits them: ring by ring and on each ring
+ * starting at the south east of its north east corner.
+ */
+public final class SectorIndex {
+	private static final int SECTOR_SHIFT = 3;
+	static final int         SECTOR_SIZE  = 1 << SECTOR_SHIFT;
+
+	private final int width;
+	private final int height;
+	private final int sectorsX;
+
+	private final short[] totals;
+	private short[][]     groupCounts = new short[0][];
+
+	private long[] foundKeys = new long[64];
+
+	public SectorIndex(int width, int height) {
+		this.width = width;
+		this.height = height;
+		this.sectorsX = (width + SECTOR_SIZE - 1) >> SECTOR_SHIFT;
+		int sectorsY = (height + SECTOR_SIZE - 1) >> SECTOR_SHIFT;
+		this.totals = new short[sectorsX * sectorsY];
+	}
+
+	public void add(int x, int y, int group) {
+		int sector = getSector(x, y);
+		totals[sector]++;
+		getGroupCounts(group)[sector]++;
+	}
+
+	public void remove(int x, int y, int group) {
+		int sector = getSector(x, y);
+		totals[sector]--;
+		getGroupCounts(group)[sector]--;
+	}
+
+	/**
+	 * Visits the positions with a hex distance between minRadius and maxRadius (both inclusive) to the center in the order of a
+	 * {@link jsettlers.common.map.shapes.HexGridArea}. Only sectors containing entries of other groups than the excluded one are searched.
+	 *
+	 * @param excludedGroup
+	 *            Group whose entries are not of interest or -1 to search all entries.
+	 * @param filter
+	 *            Selects the positions to visit. It is only asked for positions in sectors with entries.
+	 * @param visitor
+	 *            Called for the selected positions. It may change this index.
+	 */
+	public void forEachInRingOrder(int cX, int cY, int minRadius, int maxRadius, int excludedGroup, ICoordinatePredicate filter,
+			ICoordinateConsumer visitor) {
+		short[] excludedCounts = 0 <= excludedGroup && excludedGroup < groupCounts.length ? groupCounts[excludedGroup] : null;
+
+		int xMin = Math.max(0, cX - maxRadius);
+		int xMax = Math.min(width - 1, cX + maxRadius);
+		int yMin = Math.max(0, cY - maxRadius);
+		int yMax = Math.min(height - 1, cY + maxRadius);
+		int found = 0;
+
+		for (int sectorY = yMin >> SECTOR_SHIFT; sectorY <= yMax >> SECTOR_SHIFT; sectorY++) {
+			for (int sectorX = xMin >> SECTOR_SHIFT; sectorX <= xMax >> SECTOR_SHIFT; sectorX++) {
+				int sector = sectorX + sectorY * sectorsX;
+				if (totals[sector] - (excludedCounts != null ? excludedCounts[sector] : 0) <= 0) {
+					continue;
+				}
+
+				int sectorYMax = Math.min(yMax, (sectorY << SECTOR_SHIFT) + SECTOR_SIZE - 1);
+				int sectorXMax = Math.min(xMax, (sectorX << SECTOR_SHIFT) + SECTOR_SIZE - 1);
+				for (int y = Math.max(yMin, sectorY << SECTOR_SHIFT); y <= sectorYMax; y++) {
+					for (int x = Math.max(xMin, sectorX << SECTOR_SHIFT); x <= sectorXMax; x++) {
+						int radius = ShortPoint2D.getOnGridDist(x - cX, y - cY);
+						if (minRadius <= radius && radius <= maxRadius && filter.test(x, y)) {
+							if (found == foundKeys.length) {
+								foundKeys = Arrays.copyOf(foundKeys, found * 2);
+							}
+							foundKeys[found++] = ((long) getRingOrder(x - cX, y - cY, radius) << 32) | (x + y * width);
+						}
+					}
+				}
+			}
+		}
+
+		if (found == 0) {
+			return;
+		}
+
+		long[] keys = Arrays.copyOf(foundKeys, found); // the visitor may start another search
+		Arrays.sort(keys);
+		for (long key : keys) {
+			int index = (int) key;
+			visitor.accept(index % width, index / width);
+		}
+	}
+
+	/**
+	 * @return Position of (dx|dy) in the iteration order of the {@link jsettlers.common.map.shapes.HexGridArea}. The ring starts at (0|-radius) and
+	 *         walks south east, south west, west, north west, north east and east.
+	 */
+	static int getRingOrder(int dx, int dy, int radius) {
+		int ringIndex;
+		if (radius == 0) {
+			ringIndex = 0;
+		} else if (dx > 0 && dy <= 0) {
+			ringIndex = dx - 1;
+		} else if (dx > 0 && dx >= dy) {
+			ringIndex = radius + dy - 1;
+		} else if (dy > 0 || (dx < 0 && dy == 0)) {
+			ringIndex = 3 * radius - dx - 1;
+		} else if (dx <= dy) {
+			ringIndex = 4 * radius - dy - 1;
+		} else {
+			ringIndex = 6 * radius + dx - 1;
+		}
+		return (radius << 16) | ringIndex;
+	}
+
+	private int getSector(int x, int y) {
+		return (x >> SECTOR_SHIFT) + (y >> SECTOR_SHIFT) * sectorsX;
+	}
+
+	private short[] getGroupCounts(int group) {
+		if (group >= groupCounts.length) {
+			short[][] newGroupCounts = Arrays.copyOf(groupCounts, group + 1);
+			for (int i = groupCounts.length; i <= group; i++) {
+				newGroupCounts[i] = new short[totals.length];
+			}
+			groupCounts = newGroupCounts;
+		}
+		return groupCounts[group];
+	}
+}
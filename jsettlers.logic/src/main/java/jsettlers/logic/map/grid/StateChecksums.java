@@ -0,0 +1,63 @@
+/*******************************************************************************
+ * Copyright (c) 2026
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE.
+ *******************************************************************************/
+package jsettlers.logic.map.grid;
+
+/**
+ * Hash functions for the game state checksums. The checksum of a grid is the XOR of the hashes of all its tiles, so it can be updated incrementally
+ * by XORing the hashes of the old and the new value of a changed tile. The hash of the value 0 is 0, so a freshly created grid has the checksum 0.
+ */
+public final class StateChecksums {
+	private StateChecksums() {
+	}
+
+	/**
+	 * @param field
+	 *            Distinguishes the arrays of a grid, so that equal values in different arrays have different hashes.
+	 * @param index
+	 *            Index of the tile.
+	 * @param value
+	 *            Value of the tile.
+	 * @return The hash of the given tile value.
+	 */
+	public static int hashTile(int field, int index, int value) {
+		if (value == 0) {
+			return 0;
+		}
+		return mix(mix(field * 0x61C88647 + index) ^ value);
+	}
+
+	/**
+	 * @return The hash of the given tile value in a grid that has only one array.
+	 */
+	public static int hashTile(int index, int value) {
+		return hashTile(0, index, value);
+	}
+
+	/**
+	 * Combines a hash with a further value.
+	 */
+	public static int combine(int hash, int value) {
+		return mix(hash * 31 + value);
+	}
+
+	private static int mix(int hash) { // finalizer of MurmurHash3
+		hash ^= hash >>> 16;
+		hash *= 0x85EBCA6B;
+		hash ^= hash >>> 13;
+		hash *= 0xC2B2AE35;
+		hash ^= hash >>> 16;
+		return hash;
+	}
+}
@@ -14,10 +14,17 @@
  *******************************************************************************/
 package jsettlers.logic.map.grid.flags;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
 import java.io.Serializable;
 import java.util.BitSet;
 
 import jsettlers.algorithms.partitions.IBlockingProvider;
+import jsettlers.logic.ChunkedArrayReader;
+import jsettlers.logic.ChunkedArrayWriter;
+import jsettlers.logic.map.grid.GridChangedListeners;
+import jsettlers.logic.map.grid.StateChecksums;
 
 /**
  * Grid that's storing the blocked information for fast access.
@@ -28,13 +35,21 @@ import jsettlers.algorithms.partitions.IBlockingProvider;
 public final class FlagsGrid implements Serializable, IBlockingProvider, IProtectedProvider {
 	private static final long serialVersionUID = -413005884613149208L;
 
+	private static final int CHECKSUM_BLOCKED   = 1;
+	private static final int CHECKSUM_MARKED    = 2;
+	private static final int CHECKSUM_PROTECTED = 3;
+
 	private final short width;
 
-	private final BitSet blockedGrid;
-	private final BitSet markedGrid;
-	private final BitSet protectedGrid;
+	// not final, because they are written with the ChunkedArrayWriter
+	private BitSet blockedGrid;
+	private BitSet markedGrid;
+	private BitSet protectedGrid;
 
-	private IProtectedChangedListener protectedChangedListener = null;
+	private IProtectedChangedListener           protectedChangedListener = null;
+	private transient IBlockedChangedListener  blockedChangedListener   = null;
+	private transient GridChangedListeners     gridChangedListeners;
+	private transient int                      checksum;
 
 	public FlagsGrid(final short width, final short height) {
 		this.width = width;
@@ -44,6 +59,30 @@ public final class FlagsGrid implements Serializable, IBlockingProvider, IProtec
 		this.markedGrid = new BitSet(width * height);
 	}
 
+	private void writeObject(ObjectOutputStream oos) throws IOException {
+		ObjectOutputStream.PutField fields = oos.putFields(); // the bit sets are left null and written in bulk
+		fields.put("width", width);
+		fields.put("protectedChangedListener", protectedChangedListener);
+		oos.writeFields();
+
+		ChunkedArrayWriter writer = new ChunkedArrayWriter(oos);
+		writer.write(blockedGrid.toLongArray());
+		writer.write(markedGrid.toLongArray());
+		writer.write(protectedGrid.toLongArray());
+		writer.finish();
+	}
+
+	private void readObject(ObjectInputStream ois) throws IOException, ClassNotFoundException {
+		ois.defaultReadObject();
+		if (blockedGrid == null) { // savegames written with default serialization already contain the bit sets
+			ChunkedArrayReader reader = new ChunkedArrayReader(ois);
+			blockedGrid = BitSet.valueOf(reader.readLongs());
+			markedGrid = BitSet.valueOf(reader.readLongs());
+			protectedGrid = BitSet.valueOf(reader.readLongs());
+			reader.finish();
+		}
+	}
+
 	@Override
 	public boolean isBlocked(int x, int y) {
 		return blockedGrid.get(x + y * width);
@@ -78,14 +117,23 @@ public final class FlagsGrid implements Serializable, IBlockingProvider, IProtec
 	 */
 	public void setBlockedAndProtected(int x, int y, boolean newBlocked, boolean newProtected) {
 		final int idx = x + y * width;
+		boolean oldBlocked = this.blockedGrid.get(idx);
 		boolean oldProtected = this.protectedGrid.get(idx);
 
+		updateChecksum(CHECKSUM_BLOCKED, idx, oldBlocked, newBlocked);
+		updateChecksum(CHECKSUM_PROTECTED, idx, oldProtected, newProtected);
 		this.blockedGrid.set(idx, newBlocked);
 		this.protectedGrid.set(idx, newProtected);
 
+		if (blockedChangedListener != null && oldBlocked != newBlocked) {
+			this.blockedChangedListener.blockedChanged(x, y);
+		}
 		if (protectedChangedListener != null && oldProtected != newProtected) {
 			this.protectedChangedListener.protectedChanged(x, y, newProtected);
 		}
+		if (oldBlocked != newBlocked || oldProtected != newProtected) {
+			notifyGridChangedListeners(x, y);
+		}
 	}
 
 	public boolean isMarked(int x, int y) {
@@ -93,6 +141,7 @@ public final class FlagsGrid implements Serializable, IBlockingProvider, IProtec
 	}
 
 	public void setMarked(short x, short y, boolean marked) {
+		updateChecksum(CHECKSUM_MARKED, x + y * width, markedGrid.get(x + y * width), marked);
 		this.markedGrid.set(x + y * width, marked);
 	}
 
@@ -102,11 +151,13 @@ public final class FlagsGrid implements Serializable, IBlockingProvider, IProtec
 	}
 
 	public void setProtected(int x, int y, boolean newProtected) {
+		updateChecksum(CHECKSUM_PROTECTED, x + y * width, protectedGrid.get(x + y * width), newProtected);
 		this.protectedGrid.set(x + y * width, newProtected);
 
 		if (protectedChangedListener != null) {
 			this.protectedChangedListener.protectedChanged(x, y, newProtected);
 		}
+		notifyGridChangedListeners(x, y);
 	}
 
 	public boolean isPioneerBlocked(int x, int y) {
@@ -118,4 +169,60 @@ public final class FlagsGrid implements Serializable, IBlockingProvider, IProtec
 	public void setProtectedChangedListener(IProtectedChangedListener protectedChangedListener) {
 		this.protectedChangedListener = protectedChangedListener;
 	}
+
+	public void setBlockedChangedListener(IBlockedChangedListener blockedChangedListener) {
+		this.blockedChangedListener = blockedChangedListener;
+	}
+
+	/**
+	 * @return the listeners informed about changed positions of this grid.
+	 */
+	public GridChangedListeners getGridChangedListeners() {
+		if (gridChangedListeners == null) {
+			gridChangedListeners = new GridChangedListeners();
+		}
+		return gridChangedListeners;
+	}
+
+	private void notifyGridChangedListeners(int x, int y) {
+		if (gridChangedListeners != null) {
+			gridChangedListeners.positionChanged(x, y);
+		}
+	}
+
+	private void updateChecksum(int field, int index, boolean oldValue, boolean newValue) {
+		if (oldValue != newValue) {
+			checksum ^= StateChecksums.hashTile(field, index, 1);
+		}
+	}
+
+	/**
+	 * @return The checksum of this grid's state. It is updated with every change.
+	 */
+	public int getChecksum() {
+		return checksum;
+	}
+
+	/**
+	 * Calculates the checksum of this grid from scratch.
+	 */
+	public void recalculateChecksum() {
+		checksum = calculateChecksum(CHECKSUM_BLOCKED, blockedGrid) ^ calculateChecksum(CHECKSUM_MARKED, markedGrid)
+				^ calculateChecksum(CHECKSUM_PROTECTED, protectedGrid);
+	}
+
+	private static int calculateChecksum(int field, BitSet bits) {
+		int checksum = 0;
+		for (int index = bits.nextSetBit(0); index >= 0; index = bits.nextSetBit(index + 1)) {
+			checksum ^= StateChecksums.hashTile(field, index, 1);
+		}
+		return checksum;
+	}
+
+	/**
+	 * Listener informed when the blocked state of a position changes.
+	 */
+	public interface IBlockedChangedListener {
+		void blockedChanged(int x, int y);
+	}
 }
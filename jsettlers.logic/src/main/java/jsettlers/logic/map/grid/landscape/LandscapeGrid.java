@@ -16,6 +16,7 @@ package jsettlers.logic.map.grid.landscape;
 
 import java.io.IOException;
 import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
 import java.io.Serializable;
 
 import jsettlers.algorithms.partitions.IBlockingProvider;
@@ -28,9 +29,13 @@ import jsettlers.common.movable.EDirection;
 import jsettlers.common.movable.ESpellType;
 import jsettlers.common.position.RelativePoint;
 import jsettlers.common.position.ShortPoint2D;
+import jsettlers.logic.ChunkedArrayReader;
+import jsettlers.logic.ChunkedArrayWriter;
 import jsettlers.logic.constants.Constants;
 import jsettlers.logic.constants.MatchConstants;
+import jsettlers.logic.map.grid.GridChangedListeners;
 import jsettlers.logic.map.grid.MainGrid;
+import jsettlers.logic.map.grid.StateChecksums;
 import jsettlers.logic.map.grid.flags.IProtectedProvider;
 import jsettlers.logic.map.grid.flags.IProtectedProvider.IProtectedChangedListener;
 
@@ -44,12 +49,20 @@ public final class LandscapeGrid implements Serializable, IWalkableGround, IFlat
 
 	public static final short SEA_BLOCKED_PARTITION = 0;
 
-	private final byte[][] heightGrid;
-	private final byte[] landscapeGrid;
-	private final byte[] resourceAmount;
-	private final byte[] temporaryFlatened;
-	private final byte[] resourceType;
-	private final short[] blockedPartitions;
+	private static final int CHECKSUM_HEIGHT            = 1;
+	private static final int CHECKSUM_LANDSCAPE         = 2;
+	private static final int CHECKSUM_RESOURCE_AMOUNT   = 3;
+	private static final int CHECKSUM_RESOURCE_TYPE     = 4;
+	private static final int CHECKSUM_FLATTENED         = 5;
+	private static final int CHECKSUM_BLOCKED_PARTITION = 6;
+
+	// not final, because they are written with the ChunkedArrayWriter
+	private byte[][] heightGrid;
+	private byte[] landscapeGrid;
+	private byte[] resourceAmount;
+	private byte[] temporaryFlatened;
+	private byte[] resourceType;
+	private short[] blockedPartitions;
 
 	private final short width;
 	private final short height;
@@ -59,6 +72,8 @@ public final class LandscapeGrid implements Serializable, IWalkableGround, IFlat
 
 	private transient int[] debugColors;
 	private transient IGraphicsBackgroundListener backgroundListener;
+	private transient GridChangedListeners gridChangedListeners;
+	private transient int checksum;
 
 	public LandscapeGrid(short width, short height, IProtectedProvider protectedProvider) {
 		this.width = width;
@@ -80,8 +95,41 @@ public final class LandscapeGrid implements Serializable, IWalkableGround, IFlat
 		protectedProvider.setProtectedChangedListener(this);
 	}
 
+	private void writeObject(ObjectOutputStream oos) throws IOException {
+		ObjectOutputStream.PutField fields = oos.putFields(); // the arrays are left null and written in bulk
+		fields.put("width", width);
+		fields.put("height", height);
+		fields.put("protectedProvider", protectedProvider);
+		fields.put("flattenedResetter", flattenedResetter);
+		oos.writeFields();
+
+		ChunkedArrayWriter writer = new ChunkedArrayWriter(oos);
+		for (byte[] column : heightGrid) {
+			writer.write(column);
+		}
+		writer.write(landscapeGrid);
+		writer.write(resourceAmount);
+		writer.write(temporaryFlatened);
+		writer.write(resourceType);
+		writer.write(blockedPartitions);
+		writer.finish();
+	}
+
 	private void readObject(ObjectInputStream ois) throws IOException, ClassNotFoundException {
 		ois.defaultReadObject();
+		if (landscapeGrid == null) { // savegames written with default serialization already contain the arrays
+			ChunkedArrayReader reader = new ChunkedArrayReader(ois);
+			heightGrid = new byte[width][];
+			for (int x = 0; x < width; x++) {
+				heightGrid[x] = reader.readBytes();
+			}
+			landscapeGrid = reader.readBytes();
+			resourceAmount = reader.readBytes();
+			temporaryFlatened = reader.readBytes();
+			resourceType = reader.readBytes();
+			blockedPartitions = reader.readShorts();
+			reader.finish();
+		}
 		setBackgroundListener(null);
 
 		initDebugColors();
@@ -189,21 +237,34 @@ public final class LandscapeGrid implements Serializable, IWalkableGround, IFlat
 			flattenedResetter.addPosition(x, y);
 		}
 
-		this.landscapeGrid[x + y * width] = landscapeType.ordinal;
+		if (this.landscapeGrid[x + y * width] != landscapeType.ordinal) {
+			updateChecksum(CHECKSUM_LANDSCAPE, x + y * width, landscapeGrid[x + y * width], landscapeType.ordinal);
+			this.landscapeGrid[x + y * width] = landscapeType.ordinal;
+			notifyGridChangedListeners(x, y);
+		}
 		backgroundListener.backgroundLineChangedAt(x, y, 1);
 	}
 
 	public final void setHeightAt(short x, short y, byte height) {
-		this.heightGrid[x][y] = height;
+		if (heightGrid[x][y] != height) {
+			updateChecksum(CHECKSUM_HEIGHT, x + y * width, heightGrid[x][y], height);
+			this.heightGrid[x][y] = height;
+			notifyGridChangedListeners(x, y);
+		}
 		backgroundListener.backgroundLineChangedAt(x, y, 1);
 	}
 
 	public void flattenAndChangeHeightTowards(int x, int y, byte targetHeight) {
 		final int index = x + y * width;
 
-		this.heightGrid[x][y] += Math.signum(targetHeight - this.heightGrid[x][y]);
+		byte oldHeight = this.heightGrid[x][y];
+		this.heightGrid[x][y] += Math.signum(targetHeight - oldHeight);
+		updateChecksum(CHECKSUM_HEIGHT, index, oldHeight, heightGrid[x][y]);
+		if (heightGrid[x][y] != oldHeight) {
+			notifyGridChangedListeners(x, y);
+		}
 		setLandscapeTypeAt(x, y, ELandscapeType.FLATTENED, true);
-		this.temporaryFlatened[index] = Byte.MAX_VALUE; // cancel the flattening
+		setTemporaryFlattened(index, Byte.MAX_VALUE); // cancel the flattening
 
 		backgroundListener.backgroundLineChangedAt(x, y, 1);
 	}
@@ -216,9 +277,30 @@ public final class LandscapeGrid implements Serializable, IWalkableGround, IFlat
 		}
 	}
 
+	/**
+	 * @return the listeners informed about changed positions of this grid.
+	 */
+	public GridChangedListeners getGridChangedListeners() {
+		if (gridChangedListeners == null) {
+			gridChangedListeners = new GridChangedListeners();
+		}
+		return gridChangedListeners;
+	}
+
+	private void notifyGridChangedListeners(int x, int y) {
+		if (gridChangedListeners != null) {
+			gridChangedListeners.positionChanged(x, y);
+		}
+	}
+
 	public final void setResourceAt(short x, short y, EResourceType resourceType, byte amount) {
-		this.resourceType[x + y * width] = resourceType.ordinal;
-		this.resourceAmount[x + y * width] = (byte) Math.min(amount, Constants.MAX_RESOURCE_AMOUNT_PER_POSITION);
+		int index = x + y * width;
+		byte newAmount = (byte) Math.min(amount, Constants.MAX_RESOURCE_AMOUNT_PER_POSITION);
+		updateChecksum(CHECKSUM_RESOURCE_TYPE, index, this.resourceType[index], resourceType.ordinal);
+		updateChecksum(CHECKSUM_RESOURCE_AMOUNT, index, this.resourceAmount[index], newAmount);
+		this.resourceType[index] = resourceType.ordinal;
+		this.resourceAmount[index] = newAmount;
+		notifyGridChangedListeners(x, y);
 	}
 
 	/**
@@ -252,7 +334,11 @@ public final class LandscapeGrid implements Serializable, IWalkableGround, IFlat
 	public boolean tryTakingResource(ShortPoint2D position, EResourceType resource) {
 		int idx = position.x + position.y * width;
 		if (resourceType[idx] == resource.ordinal && resourceAmount[idx] > 0) {
+			updateChecksum(CHECKSUM_RESOURCE_AMOUNT, idx, resourceAmount[idx], resourceAmount[idx] - 1);
 			resourceAmount[idx]--;
+			if (resourceAmount[idx] == 0) {
+				notifyGridChangedListeners(position.x, position.y);
+			}
 			return true;
 		} else {
 			return false;
@@ -279,7 +365,7 @@ public final class LandscapeGrid implements Serializable, IWalkableGround, IFlat
 	public final void walkOn(int x, int y) {
 		int i = x + y * width;
 		if (temporaryFlatened[i] < 100) {
-			temporaryFlatened[i] += 3;
+			setTemporaryFlattened(i, (byte) (temporaryFlatened[i] + 3));
 			if (temporaryFlatened[i] > 20) {
 				flatten(x, y);
 			}
@@ -316,9 +402,9 @@ public final class LandscapeGrid implements Serializable, IWalkableGround, IFlat
 
 		// count down the value
 		flattenedValue--;
-		temporaryFlatened[index] = flattenedValue;
+		setTemporaryFlattened(index, flattenedValue);
 		if (flattenedValue <= -30) { // if the value is smaller than the hysteresis, set it to zero
-			temporaryFlatened[index] = 0;
+			setTemporaryFlattened(index, (byte) 0);
 			setLandscapeTypeAt(x, y, ELandscapeType.GRASS, true);
 			return true; // tell the flattened resetter that it does not need to work on this pos again.
 		} else {
@@ -327,7 +413,11 @@ public final class LandscapeGrid implements Serializable, IWalkableGround, IFlat
 	}
 
 	public void setBlockedPartition(short x, short y, short blockedPartition) {
-		this.blockedPartitions[x + y * width] = blockedPartition;
+		if (this.blockedPartitions[x + y * width] != blockedPartition) {
+			updateChecksum(CHECKSUM_BLOCKED_PARTITION, x + y * width, blockedPartitions[x + y * width], blockedPartition);
+			this.blockedPartitions[x + y * width] = blockedPartition;
+			notifyGridChangedListeners(x, y);
+		}
 	}
 
 	public short getBlockedPartitionAt(int x, int y) {
@@ -371,7 +461,7 @@ public final class LandscapeGrid implements Serializable, IWalkableGround, IFlat
 			return; // do not unflatten mountain or desert.
 		}
 
-		this.temporaryFlatened[x + y * width] = (byte) (40 + MatchConstants.random().nextFloat() * 80);
+		setTemporaryFlattened(x + y * width, (byte) (40 + MatchConstants.random().nextFloat() * 80));
 		this.flattenedResetter.addPosition(x, y);
 	}
 
@@ -388,6 +478,41 @@ public final class LandscapeGrid implements Serializable, IWalkableGround, IFlat
 		return true;
 	}
 
+	private void setTemporaryFlattened(int index, byte value) {
+		updateChecksum(CHECKSUM_FLATTENED, index, temporaryFlatened[index], value);
+		temporaryFlatened[index] = value;
+	}
+
+	private void updateChecksum(int field, int index, int oldValue, int newValue) {
+		checksum ^= StateChecksums.hashTile(field, index, oldValue) ^ StateChecksums.hashTile(field, index, newValue);
+	}
+
+	/**
+	 * @return The checksum of this grid's state. It is updated with every change.
+	 */
+	public int getChecksum() {
+		return checksum;
+	}
+
+	/**
+	 * Calculates the checksum of this grid from scratch.
+	 */
+	public void recalculateChecksum() {
+		int checksum = 0;
+		for (int y = 0; y < height; y++) {
+			for (int x = 0; x < width; x++) {
+				int index = x + y * width;
+				checksum ^= StateChecksums.hashTile(CHECKSUM_HEIGHT, index, heightGrid[x][y])
+						^ StateChecksums.hashTile(CHECKSUM_LANDSCAPE, index, landscapeGrid[index])
+						^ StateChecksums.hashTile(CHECKSUM_RESOURCE_AMOUNT, index, resourceAmount[index])
+						^ StateChecksums.hashTile(CHECKSUM_RESOURCE_TYPE, index, resourceType[index])
+						^ StateChecksums.hashTile(CHECKSUM_FLATTENED, index, temporaryFlatened[index])
+						^ StateChecksums.hashTile(CHECKSUM_BLOCKED_PARTITION, index, blockedPartitions[index]);
+			}
+		}
+		this.checksum = checksum;
+	}
+
 	@Override
 	public void protectedChanged(int x, int y, boolean newProtectedState) {
 		if (!newProtectedState) {
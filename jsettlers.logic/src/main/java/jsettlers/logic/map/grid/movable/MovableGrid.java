@@ -19,15 +19,15 @@ import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
 import java.io.Serializable;
 
-import jsettlers.common.map.shapes.HexGridArea;
 import jsettlers.common.movable.EMovableType;
 import jsettlers.common.movable.IGraphicsMovable;
 import jsettlers.common.player.IPlayer;
 import jsettlers.common.position.ShortPoint2D;
-import jsettlers.common.utils.coordinates.CoordinateStream;
 import jsettlers.common.utils.mutables.MutableBoolean;
 import jsettlers.logic.SerializationUtils;
 import jsettlers.logic.constants.Constants;
+import jsettlers.logic.map.grid.SectorIndex;
+import jsettlers.logic.map.grid.StateChecksums;
 import jsettlers.logic.map.grid.landscape.IWalkableGround;
 import jsettlers.logic.movable.interfaces.IAttackable;
 import jsettlers.logic.movable.interfaces.IAttackableMovable;
@@ -42,6 +42,8 @@ public final class MovableGrid implements Serializable {
 	private static final long serialVersionUID = 7003522358013103962L;
 
 	private transient ILogicMovable[] movableGrid;
+	private transient SectorIndex     attackablesIndex; // attackable movables per team
+	private transient int             checksum;
 	private final IWalkableGround ground;
 	private final short width;
 
@@ -52,6 +54,7 @@ public final class MovableGrid implements Serializable {
 		this.height = height;
 		this.ground = ground;
 		this.movableGrid = new ILogicMovable[width * height];
+		this.attackablesIndex = new SectorIndex(width, height);
 	}
 
 	private void writeObject(ObjectOutputStream oos) throws IOException {
@@ -62,12 +65,41 @@ public final class MovableGrid implements Serializable {
 	private void readObject(ObjectInputStream ois) throws ClassNotFoundException, IOException {
 		ois.defaultReadObject();
 		movableGrid = SerializationUtils.readSparseArray(ois, ILogicMovable.class);
+
+		attackablesIndex = new SectorIndex(width, height);
+		for (int index = 0; index < movableGrid.length; index++) {
+			if (movableGrid[index] instanceof IAttackableMovable) {
+				addToIndex(index % width, index / width, movableGrid[index]);
+			}
+		}
 	}
 
 	public final ILogicMovable getMovableAt(int x, int y) {
 		return this.movableGrid[x + y * width];
 	}
 
+	private static int hashTile(int index, ILogicMovable movable) {
+		return movable != null ? StateChecksums.hashTile(index, (movable.getID() ^ Integer.MIN_VALUE) + 1) : 0; // the ids start at Integer.MIN_VALUE
+	}
+
+	/**
+	 * @return The checksum of the positions of the movables. It is updated with every change.
+	 */
+	public int getChecksum() {
+		return checksum;
+	}
+
+	/**
+	 * Calculates the checksum of this grid from scratch.
+	 */
+	public void recalculateChecksum() {
+		int checksum = 0;
+		for (int index = 0; index < movableGrid.length; index++) {
+			checksum ^= hashTile(index, movableGrid[index]);
+		}
+		this.checksum = checksum;
+	}
+
 	public ILogicMovable[] getMovableArray() {
 		return movableGrid;
 	}
@@ -75,7 +107,9 @@ public final class MovableGrid implements Serializable {
 	public final void movableLeft(ShortPoint2D position, ILogicMovable movable) {
 		int idx = position.x + position.y * width;
 		if (this.movableGrid[idx] == movable) {
+			checksum ^= hashTile(idx, movable);
 			this.movableGrid[idx] = null;
+			removeFromIndex(position.x, position.y, movable);
 		}
 	}
 
@@ -91,12 +125,29 @@ public final class MovableGrid implements Serializable {
 		final short x = position.x;
 		final short y = position.y;
 
-		this.movableGrid[x + y * width] = movable;
+		final int idx = x + y * width;
+		removeFromIndex(x, y, this.movableGrid[idx]);
+		checksum ^= hashTile(idx, movableGrid[idx]) ^ hashTile(idx, movable);
+		this.movableGrid[idx] = movable;
+		addToIndex(x, y, movable);
+
 		if (movable != null && movable.getMovableType() == EMovableType.BEARER) {
 			ground.walkOn(x, y);
 		}
 	}
 
+	private void addToIndex(int x, int y, ILogicMovable movable) {
+		if (movable instanceof IAttackableMovable) {
+			attackablesIndex.add(x, y, movable.getPlayer().getTeamId());
+		}
+	}
+
+	private void removeFromIndex(int x, int y, ILogicMovable movable) {
+		if (movable instanceof IAttackableMovable) {
+			attackablesIndex.remove(x, y, movable.getPlayer().getTeamId());
+		}
+	}
+
 	/**
 	 * 
 	 * @param movable
@@ -111,17 +162,18 @@ public final class MovableGrid implements Serializable {
 	 */
 	public void informMovables(IAttackableMovable movable, short x, short y, boolean informFullArea) {
 		// inform all movables of the given movable
-		CoordinateStream area;
-		if (informFullArea) {
-			area = HexGridArea.stream(x, y, (short) 1, Constants.SOLDIER_SEARCH_RADIUS);
-		} else {
-			area = HexGridArea.streamBorder(x, y, Constants.SOLDIER_SEARCH_RADIUS - 1);
-		}
+		int minRadius = informFullArea ? 1 : Constants.SOLDIER_SEARCH_RADIUS - 1;
+		int maxRadius = Constants.SOLDIER_SEARCH_RADIUS - (informFullArea ? 0 : 1);
 
 		MutableBoolean foundOne = new MutableBoolean();
 		IPlayer movablePlayer = movable.getPlayer();
+		byte movableTeam = movablePlayer.getTeamId();
 
-		area.filterBounds(width, height).forEach((currX, currY) -> {
+		// only sectors with attackables of other teams are searched, in the same order as the full area
+		attackablesIndex.forEachInRingOrder(x, y, minRadius, maxRadius, movableTeam, (currX, currY) -> {
+			ILogicMovable currMovable = getMovableAt(currX, currY);
+			return currMovable instanceof IAttackableMovable && currMovable.getPlayer().getTeamId() != movableTeam;
+		}, (currX, currY) -> {
 			ILogicMovable currMovable = getMovableAt(currX, currY);
 			if (currMovable instanceof IAttackableMovable) {
 				IAttackable currAttackable = (IAttackable) currMovable;
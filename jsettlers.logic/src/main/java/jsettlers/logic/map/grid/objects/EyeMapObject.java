@@ -20,13 +20,14 @@ public class EyeMapObject extends SoundableSelfDeletingObject {
 
 	@Override
 	protected void changeState() {
-		if(FogOfWar.instance != null && FogOfWar.instance.team == getPlayer().getTeamId()) {
+		FogOfWar fogOfWar = FogOfWar.get();
+		if(fogOfWar != null && fogOfWar.team == getPlayer().getTeamId()) {
 			if(distance == -1) {
 				if(!drawn) {
-					FogOfWar.instance.showMap();
+					fogOfWar.showMap();
 					drawn = true;
 				} else {
-					FogOfWar.instance.hideMap();
+					fogOfWar.hideMap();
 				}
 			} else {
 				if(!drawn) {
@@ -21,15 +21,15 @@ import java.io.Serializable;
 import java.util.Set;
 
 import jsettlers.common.map.shapes.FreeMapArea;
-import jsettlers.common.map.shapes.HexGridArea;
 import jsettlers.common.mapobject.EMapObjectType;
 import jsettlers.common.mapobject.IMapObject;
 import jsettlers.common.movable.EDirection;
 import jsettlers.common.position.ShortPoint2D;
-import jsettlers.common.utils.coordinates.CoordinateStream;
 import jsettlers.logic.SerializationUtils;
 import jsettlers.logic.buildings.Building;
 import jsettlers.logic.constants.Constants;
+import jsettlers.logic.map.grid.GridChangedListeners;
+import jsettlers.logic.map.grid.SectorIndex;
 import jsettlers.logic.movable.interfaces.IAttackable;
 import jsettlers.logic.movable.interfaces.IInformable;
 
@@ -47,12 +47,15 @@ public final class ObjectsGrid implements Serializable {
 
 	private transient AbstractHexMapObject[] objectsGrid;
 	private transient Building[] buildingsGrid;
+	private transient GridChangedListeners gridChangedListeners;
+	private transient SectorIndex informablesIndex; // attackable towers and informable map objects
 
 	public ObjectsGrid(short width, short height) {
 		this.width = width;
 		this.height = height;
 		this.objectsGrid = new AbstractHexMapObject[width * height];
 		this.buildingsGrid = new Building[width * height];
+		this.informablesIndex = new SectorIndex(width, height);
 	}
 
 	private final void writeObject(ObjectOutputStream oos) throws IOException {
@@ -101,6 +104,27 @@ public final class ObjectsGrid implements Serializable {
 
 			index = ois.readInt();
 		}
+
+		informablesIndex = new SectorIndex(width, height);
+		for (int idx = 0; idx < length; idx++) {
+			for (int i = countInformables(objectsGrid[idx]); i > 0; i--) {
+				informablesIndex.add(idx % width, idx / width, 0);
+			}
+		}
+	}
+
+	private static boolean isInformable(EMapObjectType objectType) {
+		return objectType == EMapObjectType.ATTACKABLE_TOWER || objectType == EMapObjectType.INFORMABLE_MAP_OBJECT;
+	}
+
+	private static int countInformables(AbstractHexMapObject mapObjectHead) {
+		int count = 0;
+		for (AbstractHexMapObject curr = mapObjectHead; curr != null; curr = curr.getNextObject()) {
+			if (isInformable(curr.getObjectType())) {
+				count++;
+			}
+		}
+		return count;
 	}
 
 	public final AbstractHexMapObject getObjectsAt(int x, int y) {
@@ -120,6 +144,7 @@ public final class ObjectsGrid implements Serializable {
 	public final void removeMapObjectTypes(int x, int y, Set<EMapObjectType> mapObjectTypes) {
 		final int idx = x + y * width;
 		AbstractHexMapObject mapObjectHead = objectsGrid[idx];
+		int informablesBefore = countInformables(mapObjectHead);
 
 		while (mapObjectHead != null && mapObjectTypes.contains(mapObjectHead.getObjectType())) {
 			mapObjectHead = mapObjectHead.getNextObject();
@@ -129,6 +154,10 @@ public final class ObjectsGrid implements Serializable {
 		if (mapObjectHead != null) {
 			mapObjectHead.removeMapObjectTypes(mapObjectTypes);
 		}
+		for (int i = countInformables(mapObjectHead); i < informablesBefore; i++) {
+			informablesIndex.remove(x, y, 0);
+		}
+		notifyGridChangedListeners(x, y);
 	}
 
 	public final boolean removeMapObject(int x, int y, AbstractHexMapObject mapObject) {
@@ -143,6 +172,12 @@ public final class ObjectsGrid implements Serializable {
 				removed = mapObjectHead.removeMapObject(mapObject);
 			}
 
+			if (removed) {
+				if (isInformable(mapObject.getObjectType())) {
+					informablesIndex.remove(x, y, 0);
+				}
+				notifyGridChangedListeners(x, y);
+			}
 			return removed;
 		} else
 			return false;
@@ -158,6 +193,38 @@ public final class ObjectsGrid implements Serializable {
 		} else {
 			mapObjectHead.addMapObject(mapObject);
 		}
+		if (isInformable(mapObject.getObjectType())) {
+			informablesIndex.add(x, y, 0);
+		}
+		notifyGridChangedListeners(x, y);
+	}
+
+	/**
+	 * Informs the listeners that the state of a map object at the given position changed without the object being added or removed.
+	 *
+	 * @param x
+	 *            x coordinate of the map object.
+	 * @param y
+	 *            y coordinate of the map object.
+	 */
+	public final void mapObjectChangedAt(int x, int y) {
+		notifyGridChangedListeners(x, y);
+	}
+
+	/**
+	 * @return the listeners informed about changed positions of this grid.
+	 */
+	public GridChangedListeners getGridChangedListeners() {
+		if (gridChangedListeners == null) {
+			gridChangedListeners = new GridChangedListeners();
+		}
+		return gridChangedListeners;
+	}
+
+	private void notifyGridChangedListeners(int x, int y) {
+		if (gridChangedListeners != null) {
+			gridChangedListeners.positionChanged(x, y);
+		}
 	}
 
 	public final boolean hasCuttableObject(int x, int y, EMapObjectType mapObjectType) {
@@ -197,17 +264,14 @@ public final class ObjectsGrid implements Serializable {
 	 * @param informAttackable
 	 */
 	public void informObjectsAboutAttackable(ShortPoint2D position, IAttackable attackable, boolean informFullArea, boolean informAttackable) {
-		CoordinateStream area;
-		if (informFullArea) {
-			area = HexGridArea.stream(position.x, position.y, 1, Constants.TOWER_ATTACKABLE_SEARCH_RADIUS);
-		} else {
-			area = HexGridArea.streamBorder(position.x, position.y, Constants.TOWER_ATTACKABLE_SEARCH_RADIUS - 1);
-		}
+		int minRadius = informFullArea ? 1 : Constants.TOWER_ATTACKABLE_SEARCH_RADIUS - 1;
+		int maxRadius = Constants.TOWER_ATTACKABLE_SEARCH_RADIUS - (informFullArea ? 0 : 1);
 
 		byte movableTeam = attackable.getPlayer().getTeamId();
 
-		area.filterBounds(width, height)
-				.forEach((x, y) -> {
+		informablesIndex.forEachInRingOrder(position.x, position.y, minRadius, maxRadius, -1,
+				(x, y) -> getMapObjectAt(x, y, EMapObjectType.ATTACKABLE_TOWER) != null || getMapObjectAt(x, y, EMapObjectType.INFORMABLE_MAP_OBJECT) != null,
+				(x, y) -> {
 					IAttackable currTower = (IAttackable) getMapObjectAt(x, y, EMapObjectType.ATTACKABLE_TOWER);
 
 					if (currTower != null && currTower.getPlayer().getTeamId() != movableTeam) {
@@ -18,6 +18,7 @@ import java.io.Serializable;
 
 import jsettlers.common.player.IPlayer;
 import jsettlers.common.position.ShortPoint2D;
+import jsettlers.common.utils.coordinates.ICoordinatePredicate;
 import jsettlers.logic.map.grid.partition.data.PartitionDataSupplier;
 import jsettlers.logic.map.grid.partition.manager.PartitionManager;
 import jsettlers.logic.map.grid.partition.manager.materials.offers.IOffersCountListener;
@@ -41,16 +42,33 @@ public final class Partition extends PartitionManager implements Serializable {
 	private int xSum    = 0;
 	private int ySum    = 0;
 
+	/**
+	 * Bounding box of all positions that have been added to this partition. It is not shrunk when positions are removed. The bounds are unknown for
+	 * the no player partition and for partitions of loaded games.
+	 */
+	private transient boolean boundsKnown;
+	transient int             xMin, yMin, xMax, yMax;
+
+	/**
+	 * The movables counted in the profession statistics of this partition. They are counted again after loading a game.
+	 */
+	private transient ProfessionCount firstProfessionCount;
+
 	public Partition(PartitionsGrid grid, short partitionId, IPlayer player, IOffersCountListener countListener) {
 		super(player, countListener);
 		this.partitionId = partitionId;
 		this.playerId = player!=null?player.getPlayerId():(byte)-1;
 		this.grid = grid;
+
+		this.boundsKnown = true;
+		this.xMin = this.yMin = Integer.MAX_VALUE;
+		this.xMax = this.yMax = Integer.MIN_VALUE;
 	}
 
 	public Partition(PartitionsGrid grid, short partitionId, IPlayer player, int size) {
 		this(grid, partitionId, player, null);
 		this.counter = size;
+		this.boundsKnown = false;
 	}
 
 	void decrement(int x, int y) {
@@ -63,6 +81,21 @@ public final class Partition extends PartitionManager implements Serializable {
 		counter++;
 		xSum += x;
 		ySum += y;
+
+		if (boundsKnown) {
+			xMin = Math.min(xMin, x);
+			yMin = Math.min(yMin, y);
+			xMax = Math.max(xMax, x);
+			yMax = Math.max(yMax, y);
+		}
+	}
+
+	/**
+	 * @return true if {@link #xMin}, {@link #yMin}, {@link #xMax} and {@link #yMax} contain all positions of this partition. If no position has
+	 *         been added, xMin is bigger than xMax.
+	 */
+	boolean hasBounds() {
+		return boundsKnown;
 	}
 
 	public void mergeInto(Partition newPartition) {
@@ -71,9 +104,61 @@ public final class Partition extends PartitionManager implements Serializable {
 		newPartition.xSum += xSum;
 		newPartition.ySum += ySum;
 
+		newPartition.boundsKnown &= boundsKnown;
+		newPartition.xMin = Math.min(newPartition.xMin, xMin);
+		newPartition.yMin = Math.min(newPartition.yMin, yMin);
+		newPartition.xMax = Math.max(newPartition.xMax, xMax);
+		newPartition.yMax = Math.max(newPartition.yMax, yMax);
+
 		counter = 0;
 		xSum = 0;
 		ySum = 0;
+
+		while (firstProfessionCount != null) { // the counts themselves have been added by the manager
+			ProfessionCount professionCount = firstProfessionCount;
+			unlinkProfessionCount(professionCount);
+			newPartition.linkProfessionCount(professionCount);
+		}
+	}
+
+	/**
+	 * Counts the movable of the given entry in the profession statistics of this partition.
+	 */
+	void addProfessionCount(ProfessionCount professionCount) {
+		getPartitionSettings().getProfessionSettings().increment(professionCount.profession);
+		linkProfessionCount(professionCount);
+	}
+
+	/**
+	 * Removes the movable of the given entry from the profession statistics of this partition.
+	 */
+	void removeProfessionCount(ProfessionCount professionCount) {
+		getPartitionSettings().getProfessionSettings().decrement(professionCount.profession);
+		unlinkProfessionCount(professionCount);
+	}
+
+	private void linkProfessionCount(ProfessionCount professionCount) {
+		professionCount.partition = this;
+		professionCount.previous = null;
+		professionCount.next = firstProfessionCount;
+		if (firstProfessionCount != null) {
+			firstProfessionCount.previous = professionCount;
+		}
+		firstProfessionCount = professionCount;
+	}
+
+	private void unlinkProfessionCount(ProfessionCount professionCount) {
+		if (professionCount.previous != null) {
+			professionCount.previous.next = professionCount.next;
+		} else {
+			firstProfessionCount = professionCount.next;
+		}
+		if (professionCount.next != null) {
+			professionCount.next.previous = professionCount.previous;
+		}
+		professionCount.partition = null;
+		professionCount.previous = null;
+		professionCount.next = null;
 	}
 
 	public void removePositionTo(final int x, final int y, final Partition newPartitionObject) {
@@ -88,6 +173,35 @@ public final class Partition extends PartitionManager implements Serializable {
 		if (isEmpty()) { super.stopManager(); }
 	}
 
+	/**
+	 * Moves the offers, requests, jobless and the profession counts of the movables in a region to the given partition. The positions of the region
+	 * must already have been moved with {@link #decrement(int, int)} and {@link #increment(int, int)}.
+	 *
+	 * @param region
+	 *            Tells if a position is part of the region.
+	 * @param newPartitionObject
+	 *            The partition now owning the region.
+	 */
+	void removeRegionTo(ICoordinatePredicate region, Partition newPartitionObject) {
+		boolean newHasSamePlayer = newPartitionObject.playerId == this.playerId;
+		super.removeRegionTo(region, newPartitionObject, newHasSamePlayer);
+
+		ProfessionCount professionCount = firstProfessionCount;
+		while (professionCount != null) {
+			ProfessionCount next = professionCount.next;
+			ShortPoint2D position = professionCount.movable.getPosition();
+			if (region.test(position.x, position.y)) {
+				removeProfessionCount(professionCount);
+				if (newHasSamePlayer) { // movables on the ground of other players are not counted
+					newPartitionObject.addProfessionCount(professionCount);
+				}
+			}
+			professionCount = next;
+		}
+
+		if (isEmpty()) { super.stopManager(); }
+	}
+
 	public boolean isEmpty() {
 		return counter <= 0;
 	}
@@ -20,6 +20,7 @@ import java.io.ObjectOutputStream;
 import java.io.Serializable;
 import java.util.BitSet;
 import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
@@ -38,23 +39,27 @@ import jsettlers.common.map.shapes.IMapArea;
 import jsettlers.common.map.shapes.MapCircle;
 import jsettlers.common.map.shapes.MapShapeFilter;
 import jsettlers.common.movable.EDirection;
+import jsettlers.common.movable.EMovableType;
 import jsettlers.common.position.ILocatable;
 import jsettlers.common.position.SRectangle;
 import jsettlers.common.position.ShortPoint2D;
 import jsettlers.common.utils.Tuple;
 import jsettlers.common.utils.coordinates.CoordinateStream;
+import jsettlers.common.utils.coordinates.ICoordinatePredicate;
 import jsettlers.common.utils.mutables.MutableInt;
+import jsettlers.logic.ChunkedArrayReader;
+import jsettlers.logic.ChunkedArrayWriter;
+import jsettlers.logic.map.grid.GridChangedListeners;
+import jsettlers.logic.map.grid.StateChecksums;
 import jsettlers.logic.map.grid.partition.manager.settings.MaterialProductionSettings;
 import jsettlers.logic.map.grid.partition.PartitionsListingBorderVisitor.BorderPartitionInfo;
 import jsettlers.logic.map.grid.partition.manager.PartitionManager;
 import jsettlers.logic.map.grid.partition.manager.settings.PartitionManagerSettings;
-import jsettlers.logic.movable.MovableManager;
-import jsettlers.logic.movable.interfaces.ILogicMovable;
+import jsettlers.logic.movable.interfaces.IProfessionCount;
 import jsettlers.logic.player.Player;
 import jsettlers.logic.player.PlayerSetting;
 import jsettlers.logic.player.Team;
 import jsettlers.logic.timer.IScheduledTimerable;
-import jsettlers.logic.timer.RescheduleTimer;
 
 import static java8.util.stream.StreamSupport.stream;
 
@@ -67,13 +72,14 @@ import static java8.util.stream.StreamSupport.stream;
 public final class PartitionsGrid implements Serializable, IScheduledTimerable {
 	private static final long serialVersionUID = 8919380724171427679L;
 
-	private static final int RESCHEDULE_DELAY = 10000;
-
 	private static final int NUMBER_OF_START_PARTITION_OBJECTS = 3000;
 	private static final float PARTITIONS_EXPAND_FACTOR = 1.5f;
 
 	private static final short NO_PLAYER_PARTITION_ID = 0;
 
+	private static final int CHECKSUM_PLAYER = 1;
+	private static final int CHECKSUM_TOWERS = 2;
+
 	private final PartitionOccupyingTowerList occupyingTowers = new PartitionOccupyingTowerList();
 
 	final short width;
@@ -81,18 +87,35 @@ public final class PartitionsGrid implements Serializable, IScheduledTimerable {
 	private final Player[] players;
 	private final IBlockingProvider blockingProvider;
 
-	final short[] partitions;
-	private final byte[] towers;
+	// not final, because they are written with the ChunkedArrayWriter
+	short[] partitions;
+	private byte[] towers;
 
 	private final short[] blockedPartitionsForPlayers;
 	Partition[] partitionObjects = new Partition[NUMBER_OF_START_PARTITION_OBJECTS];
 
-	private transient IPlayerChangedListener playerChangedListener = IPlayerChangedListener.DEFAULT_IMPLEMENTATION;
+	private transient IPlayerChangedListener  playerChangedListener = IPlayerChangedListener.DEFAULT_IMPLEMENTATION;
+	private transient GridChangedListeners    gridChangedListeners;
+	private transient AreaTraversingAlgorithm areaTraversingAlgorithm;
+
+	/**
+	 * The ids sharing a partition object form a ring in this array, every id points to the next id of the same partition. A merge joins the rings of
+	 * both partitions, so only the ids of the merged partition need to be visited to point them to the resulting partition object.
+	 */
+	private transient short[] nextPartitionIds;
+	private transient int     numberOfMergedPartitionIds;
+
+	/**
+	 * XOR of the hashes of the player and the tower counter of every position. The partition ids themselves are not included, as they are renumbered
+	 * on saving and after merges.
+	 */
+	private transient int checksum;
 
 	public PartitionsGrid(short width, short height, PlayerSetting[] playerSettings, IBlockingProvider blockingProvider) {
 		this.width = width;
 		this.height = height;
 		this.blockingProvider = blockingProvider;
+		initPartitionIdRings();
 
 		this.players = new Player[playerSettings.length]; // create the players.
 		this.blockedPartitionsForPlayers = new short[playerSettings.length];
@@ -114,8 +137,6 @@ public final class PartitionsGrid implements Serializable, IScheduledTimerable {
 
 		// the no player partition (the manager won't be started)
 		this.partitionObjects[NO_PLAYER_PARTITION_ID] = new Partition(this, NO_PLAYER_PARTITION_ID, null, width * height);
-
-		RescheduleTimer.add(this, 1);
 	}
 
 	public void initWithPlayerSettings(PlayerSetting[] playerSettings) {
@@ -138,7 +159,51 @@ public final class PartitionsGrid implements Serializable, IScheduledTimerable {
 	private void writeObject(ObjectOutputStream oos) throws IOException {
 		int normalizedPartitions = checkNormalizePartitions(0);
 		System.out.println("Normalized " + normalizedPartitions + " partitions");
-		oos.defaultWriteObject();
+
+		ObjectOutputStream.PutField fields = oos.putFields(); // the position arrays are left null and written in bulk
+		fields.put("occupyingTowers", occupyingTowers);
+		fields.put("width", width);
+		fields.put("height", height);
+		fields.put("players", players);
+		fields.put("blockingProvider", blockingProvider);
+		fields.put("blockedPartitionsForPlayers", blockedPartitionsForPlayers);
+		fields.put("partitionObjects", partitionObjects);
+		oos.writeFields();
+
+		ChunkedArrayWriter writer = new ChunkedArrayWriter(oos);
+		writer.write(partitions);
+		writer.write(towers);
+		writer.finish();
+	}
+
+	private void readObject(ObjectInputStream ois) throws IOException, ClassNotFoundException {
+		ois.defaultReadObject();
+		if (partitions == null) { // savegames written with default serialization already contain the arrays
+			ChunkedArrayReader reader = new ChunkedArrayReader(ois);
+			partitions = reader.readShorts();
+			towers = reader.readBytes();
+			reader.finish();
+		}
+		initPartitionIdRings();
+	}
+
+	private void initPartitionIdRings() {
+		int numberOfPartitions = partitionObjects.length;
+		nextPartitionIds = new short[numberOfPartitions];
+		numberOfMergedPartitionIds = 0;
+
+		for (int i = 0; i < numberOfPartitions; i++) {
+			nextPartitionIds[i] = (short) i;
+		}
+		for (int i = 0; i < numberOfPartitions; i++) {
+			Partition partitionObject = partitionObjects[i];
+			if (partitionObject != null && partitionObject.partitionId != i) { // insert the merged id into the ring of its representative
+				short representative = partitionObject.partitionId;
+				nextPartitionIds[i] = nextPartitionIds[representative];
+				nextPartitionIds[representative] = (short) i;
+				numberOfMergedPartitionIds++;
+			}
+		}
 	}
 
 	public boolean isDefaultPartition(short partitionId) {
@@ -246,6 +311,7 @@ public final class PartitionsGrid implements Serializable, IScheduledTimerable {
 
 		// reduce the tower counter
 		changeTowerCounter(tower.playerId, tower.area.stream(), -1);
+		notifyGridChangedListeners(tower.areaBorders);
 		checkOtherTowersInArea(tower);
 	}
 
@@ -265,6 +331,7 @@ public final class PartitionsGrid implements Serializable, IScheduledTimerable {
 
 		// reduce the tower counter
 		changeTowerCounter(tower.playerId, tower.getAreaWithoutGround(), -1);
+		notifyGridChangedListeners(tower.areaBorders);
 
 		// let the other towers occupy the area
 		checkOtherTowersInArea(tower);
@@ -276,7 +343,7 @@ public final class PartitionsGrid implements Serializable, IScheduledTimerable {
 
 	private void occupyAreaOfTower(PartitionOccupyingTower tower) {
 		// set the tower counter of the groundArea to 0 => the ground area will be occupied
-		tower.groundArea.stream().forEach((x, y) -> towers[x + y * width] = 0);
+		tower.groundArea.stream().forEach((x, y) -> setTowerCounter(x + y * width, 0));
 
 		// occupy the area for the new player
 		occupyAreaByTower(tower.playerId, tower.area.stream(), tower.areaBorders);
@@ -316,13 +383,13 @@ public final class PartitionsGrid implements Serializable, IScheduledTimerable {
 	 * @param area
 	 */
 	private void recalculateTowerCounter(PartitionOccupyingTower tower, IMapArea area) {
-		area.stream().forEach((x, y) -> towers[x + y * width] = 0);
+		area.stream().forEach((x, y) -> setTowerCounter(x + y * width, 0));
 
 		List<Tuple<Integer, PartitionOccupyingTower>> towersInRange = occupyingTowers.getTowersInRange(tower.position, tower.radius, currTower -> currTower.playerId == tower.playerId);
 		stream(towersInRange)
 				.forEach(currTower -> area.stream()
 						.filter(currTower.e2.area::contains)
-						.forEach((x, y) -> towers[x + y * width]++));
+						.forEach((x, y) -> setTowerCounter(x + y * width, towers[x + y * width] + 1)));
 	}
 
 	/**
@@ -388,6 +455,7 @@ public final class PartitionsGrid implements Serializable, IScheduledTimerable {
 
 		// increase the tower counter
 		changeTowerCounter(playerId, influencingArea, +1);
+		notifyGridChangedListeners(borders);
 
 		filtered.forEach((x, y) -> notifyPlayerChangedListener(x, y, playerId));
 	}
@@ -482,27 +550,67 @@ public final class PartitionsGrid implements Serializable, IScheduledTimerable {
 		int width = partitioner.getWidth();
 		int height = partitioner.getHeight();
 
-		for (short dY = 0; dY < height; dY++) {
-			for (int dX = 0; dX < width; dX++) {
-				short partition = partitioner.getPartitionAt(dX, dY);
-
-				if (partition != PartitionCalculatorAlgorithm.NO_PARTITION) {
-					short x = (short) (dX + minX);
-					short y = (short) (dY + minY);
+		// set the new partitions and remember which partitions lose positions to which new ones
+		LinkedHashSet<Integer> regionMoves = new LinkedHashSet<>();
+		int lastRegionMove = -1;
+
+		for (int dY = 0; dY < height; dY++) {
+			synchronized (this) { // the lock is acquired per row to prevent requesting it for every position
+				for (int dX = 0; dX < width; dX++) {
+					short partition = partitioner.getPartitionAt(dX, dY);
+
+					if (partition != PartitionCalculatorAlgorithm.NO_PARTITION) {
+						int x = dX + minX;
+						int y = dY + minY;
+						short newPartition = newPartitionsMap[partition];
+						Partition oldPartitionObject = movePositionUnchecked(x, y, newPartition);
+
+						int regionMove = (oldPartitionObject.partitionId << 16) | newPartition;
+						if (regionMove != lastRegionMove) {
+							regionMoves.add(regionMove);
+							lastRegionMove = regionMove;
+						}
+					}
+				}
+			}
+		}
 
-					// Set the new partitions and take over goods and so on
-					changePartitionUncheckedAt(x, y, newPartitionsMap[partition]);
+		if (gridChangedListeners != null) {
+			for (int dY = 0; dY < height; dY++) {
+				for (int dX = 0; dX < width; dX++) {
+					if (partitioner.getPartitionAt(dX, dY) != PartitionCalculatorAlgorithm.NO_PARTITION) {
+						gridChangedListeners.positionChanged(dX + minX, dY + minY);
+					}
 				}
 			}
 		}
 
+		// take over goods and so on, once per pair of old and new partition
+		for (int regionMove : regionMoves) {
+			Partition oldPartitionObject = partitionObjects[regionMove >>> 16];
+			short newPartition = (short) (regionMove & 0xFFFF);
+			if (oldPartitionObject == partitionObjects[newPartition]) {
+				continue;
+			}
+
+			oldPartitionObject.removeRegionTo((x, y) -> {
+				int dX = x - minX;
+				int dY = y - minY;
+				if (dX < 0 || dX >= width || dY < 0 || dY >= height) {
+					return false;
+				}
+				short partition = partitioner.getPartitionAt(dX, dY);
+				return partition != PartitionCalculatorAlgorithm.NO_PARTITION && newPartitionsMap[partition] == newPartition;
+			}, partitionObjects[newPartition]);
+		}
+
 		return newPartitionsMap;
 	}
 
 	private void changeTowerCounter(final byte playerId, CoordinateStream influencingArea, int delta) {
 		influencingArea
 				.filter((x, y) -> partitionObjects[partitions[x + y * width]].playerId == playerId)
-				.forEach((x, y) -> towers[x + y * width] += delta);
+				.forEach((x, y) -> setTowerCounter(x + y * width, towers[x + y * width] + delta));
 	}
 
 	/**
@@ -541,19 +649,28 @@ public final class PartitionsGrid implements Serializable, IScheduledTimerable {
 		smallerPartitionObject.mergeInto(biggerPartitionObject);
 		smallerPartitionObject.stopManager();
 
-		partitionObjects[smallerPartition] = biggerPartitionObject;
-
 		/**
-		 * Flatten all hierarchies: <br>
+		 * Keep all hierarchies flat: <br>
 		 * start situation: 1 <- 2 and 3 <- 4 <br>
-		 * merge of 4 and 2 leads to a merge of 1 and 3. Say 1 is the resulting partition. Then we get: <br>
-		 * 1 <- 2, 1 <- 3 <- 4 <br>
-		 * The chain 1 <- 3 <- 4 will be cut to 1 <- 3 and 1 <- 4 by the following code. <br>
+		 * merge of 4 and 2 leads to a merge of 1 and 3. Say 1 is the resulting partition. Then all ids of the ring of 3 (3 and 4) are pointed to 1 and the
+		 * rings are joined: 1 <- 2, 1 <- 3 and 1 <- 4 <br>
 		 */
-		int numberOfPartitions = partitionObjects.length;
-		for (int i = 1; i < numberOfPartitions; i++) {
-			if (partitionObjects[i] == smallerPartitionObject) {
-				partitionObjects[i] = biggerPartitionObject;
+		short partitionId = smallerPartition;
+		do {
+			partitionObjects[partitionId] = biggerPartitionObject;
+			partitionId = nextPartitionIds[partitionId];
+		} while (partitionId != smallerPartition);
+
+		short nextOfBiggerPartition = nextPartitionIds[biggerPartition];
+		nextPartitionIds[biggerPartition] = nextPartitionIds[smallerPartition];
+		nextPartitionIds[smallerPartition] = nextOfBiggerPartition;
+		numberOfMergedPartitionIds++;
+
+		if (gridChangedListeners != null) { // only the positions of the smaller partition changed their partition id
+			if (!smallerPartitionObject.hasBounds()) {
+				gridChangedListeners.areaChanged(0, 0, width - 1, height - 1);
+			} else if (smallerPartitionObject.xMin <= smallerPartitionObject.xMax) {
+				gridChangedListeners.areaChanged(smallerPartitionObject.xMin, smallerPartitionObject.yMin, smallerPartitionObject.xMax, smallerPartitionObject.yMax);
 			}
 		}
 
@@ -601,10 +718,41 @@ public final class PartitionsGrid implements Serializable, IScheduledTimerable {
 		IContainingProvider containingProvider = (x, y) -> partitionObjects[partitions[x + y * width]].partitionId == oldPartition;
 
 		IAreaVisitor relabelAreaVisitor = (x, y) -> {
-			changePartitionUncheckedAt(x, y, newPartition);
+			movePositionUnchecked(x, y, newPartition);
+			if (gridChangedListeners != null) {
+				gridChangedListeners.positionChanged(x, y);
+			}
 			return true;
 		};
-		AreaTraversingAlgorithm.traverseArea(containingProvider, relabelAreaVisitor, relabelStartPos, width, height);
+		if (areaTraversingAlgorithm == null) {
+			areaTraversingAlgorithm = new AreaTraversingAlgorithm(width, height);
+		}
+		synchronized (this) {
+			areaTraversingAlgorithm.traverseArea(containingProvider, relabelAreaVisitor, relabelStartPos.x, relabelStartPos.y);
+		}
+
+		// take over goods and so on; the new partition has just been created, so it only owns the relabeled positions
+		partitionObjects[oldPartition].removeRegionTo((x, y) -> partitions[x + y * width] == newPartition, partitionObjects[newPartition]);
+	}
+
+	/**
+	 * Moves the given position to the given new partition without taking over the offers, requests and jobless at the position. The caller has to
+	 * hold the lock on this grid and to move them with {@link Partition#removeRegionTo(ICoordinatePredicate, Partition)}.
+	 *
+	 * @return the old partition of the position.
+	 */
+	private Partition movePositionUnchecked(int x, int y, short newPartition) {
+		int idx = x + y * width;
+		Partition oldPartitionObject = partitionObjects[partitions[idx]];
+
+		Partition newPartitionObject = partitionObjects[newPartition];
+
+		oldPartitionObject.decrement(x, y);
+		newPartitionObject.increment(x, y);
+		partitions[idx] = newPartition;
+		updatePlayerChecksum(idx, oldPartitionObject.playerId, newPartitionObject.playerId);
+
+		return oldPartitionObject;
 	}
 
 	/**
@@ -628,14 +776,56 @@ public final class PartitionsGrid implements Serializable, IScheduledTimerable {
 		synchronized (this) {
 			partitions[idx] = newPartition;
 		}
+		updatePlayerChecksum(idx, oldPartitionObject.playerId, newPartitionObject.playerId);
+		if (gridChangedListeners != null) {
+			gridChangedListeners.positionChanged(x, y);
+		}
 
 		return newPartitionObject.playerId;
 	}
 
+	private void setTowerCounter(int index, int value) {
+		byte newValue = (byte) value;
+		checksum ^= StateChecksums.hashTile(CHECKSUM_TOWERS, index, towers[index]) ^ StateChecksums.hashTile(CHECKSUM_TOWERS, index, newValue);
+		towers[index] = newValue;
+	}
+
+	private void updatePlayerChecksum(int index, byte oldPlayerId, byte newPlayerId) {
+		if (oldPlayerId != newPlayerId) { // the no player partition has player -1, which hashes to 0
+			checksum ^= StateChecksums.hashTile(CHECKSUM_PLAYER, index, oldPlayerId + 1) ^ StateChecksums.hashTile(CHECKSUM_PLAYER, index, newPlayerId + 1);
+		}
+	}
+
+	/**
+	 * @return The checksum of the players and tower counters of all positions. It is updated with every change and has to be initialized with
+	 *         {@link #recalculateChecksum()}.
+	 */
+	public int getChecksum() {
+		return checksum;
+	}
+
+	/**
+	 * Calculates the checksum of this grid from scratch.
+	 */
+	public void recalculateChecksum() {
+		int result = 0;
+		for (int index = 0; index < partitions.length; index++) {
+			result ^= StateChecksums.hashTile(CHECKSUM_PLAYER, index, partitionObjects[partitions[index]].playerId + 1)
+					^ StateChecksums.hashTile(CHECKSUM_TOWERS, index, towers[index]);
+		}
+		checksum = result;
+	}
+
 	private void notifyPlayerChangedListener(int x, int y, byte newPlayer) {
 		playerChangedListener.playerChangedAt(x, y, newPlayer);
 	}
 
+	private void notifyGridChangedListeners(SRectangle area) {
+		if (gridChangedListeners != null) {
+			gridChangedListeners.areaChanged(area.xMin, area.yMin, area.xMax, area.yMax);
+		}
+	}
+
 	short createNewPartition(byte playerId) { // package private for tests
 		checkNormalizePartitions(NUMBER_OF_START_PARTITION_OBJECTS / 2);
 
@@ -653,6 +843,13 @@ public final class PartitionsGrid implements Serializable, IScheduledTimerable {
 					System.arraycopy(partitionObjects, 0, newPartitionObjects, 0, length);
 					partitionObjects = newPartitionObjects;
 
+					short[] newNextPartitionIds = new short[newLength];
+					System.arraycopy(nextPartitionIds, 0, newNextPartitionIds, 0, length);
+					for (int i = length; i < newLength; i++) {
+						newNextPartitionIds[i] = (short) i;
+					}
+					nextPartitionIds = newNextPartitionIds;
+
 					System.out.println("PartitionsGrid: Expanded the number of possible partitions from " + length + " to " + newLength);
 				}
 			}
@@ -686,29 +883,38 @@ public final class PartitionsGrid implements Serializable, IScheduledTimerable {
 		}
 	}
 
+	/**
+	 * @return the listeners informed about positions that change their partition or tower enforcement. A merge of partitions is reported as a change
+	 *         of the whole grid.
+	 */
+	public GridChangedListeners getGridChangedListeners() {
+		if (gridChangedListeners == null) {
+			gridChangedListeners = new GridChangedListeners();
+		}
+		return gridChangedListeners;
+	}
+
 	public byte getNumberOfPlayers() {
 		return (byte) players.length;
 	}
 
 	private int checkNormalizePartitions(int mergePartitionsThreshold) {
+		int counter = numberOfMergedPartitionIds;
+		if (counter <= mergePartitionsThreshold) {
+			return 0;// skip the rest if nothing is to do.
+		}
+
 		int maxPartitions = this.partitionObjects.length;
 		BitSet stoppedManagers = new BitSet(maxPartitions);
 
-		int counter = 0;
-
 		for (int i = 1; i < maxPartitions; i++) {
 			PartitionManager partitionObject = this.partitionObjects[i];
 
 			if (partitionObject != null && this.partitionObjects[i].partitionId != i) {
 				stoppedManagers.set(i);
-				counter++;
 			}
 		}
 
-		if (counter <= mergePartitionsThreshold) {
-			return 0;// skip the rest if nothing is to do.
-		}
-
 		// normalize the partitions
 		for (int y = 0; y < height; y++) {
 			synchronized (this) { // the lock is acquired here to prevent holding it for a long time without requesting it every time
@@ -727,35 +933,61 @@ public final class PartitionsGrid implements Serializable, IScheduledTimerable {
 				}
 			}
 		}
+		initPartitionIdRings();
 
 		return counter;
 	}
 
 	@Override
 	public int timerEvent() {
-		updatePartitionProfessionStats();
-		return RESCHEDULE_DELAY;
+		return -1; // the profession counts are maintained by the movables, only grids of old savegames are still scheduled
 	}
 
-	public void updatePartitionProfessionStats() {
-		for(Partition partition : partitionObjects) {
-			if(partition == null) continue;
-
-			partition.getPartitionSettings().getProfessionSettings().resetCount();
+	/**
+	 * Counts a movable of the given profession in the partition at its position, if the partition belongs to the movable's player. The count moves
+	 * with the movable's position when partitions are merged or divided.
+	 *
+	 * @param movable
+	 *            The movable.
+	 * @param profession
+	 *            The type the movable is counted as.
+	 * @param playerId
+	 *            The player of the movable.
+	 * @return The entry of the movable in the statistics or null if it has not been counted.
+	 */
+	public IProfessionCount countProfession(ILocatable movable, EMovableType profession, byte playerId) {
+		ShortPoint2D position = movable.getPosition();
+		Partition partition = partitionObjects[partitions[position.x + position.y * width]];
+		if (profession.isPlayerControllable() || partition.playerId != playerId) {
+			return null;
 		}
 
-		for(ILogicMovable movable : MovableManager.getAllMovables()) {
-			if(movable.getMovableType().isPlayerControllable()) continue;
-
-			ShortPoint2D position = movable.getPosition();
-			Partition partition = getPartitionAt(position.x, position.y);
-
-			if(partition.playerId != movable.getPlayer().getPlayerId()) continue;
+		ProfessionCount professionCount = new ProfessionCount(movable, profession);
+		partition.addProfessionCount(professionCount);
+		return professionCount;
+	}
 
-			partition.getPartitionSettings().getProfessionSettings().increment(movable.getMovableType());
+	/**
+	 * Removes a movable counted with {@link #countProfession(ILocatable, EMovableType, byte)} from the statistics of the partition it is counted in.
+	 *
+	 * @param professionCount
+	 *            The entry returned when the movable has been counted.
+	 */
+	public void uncountProfession(IProfessionCount professionCount) {
+		Partition partition = ((ProfessionCount) professionCount).partition;
+		if (partition != null) {
+			partition.removeProfessionCount((ProfessionCount) professionCount);
 		}
 	}
 
+	/**
+	 * @return true if a movable counted with the given entry at the given position needs to be counted again, because the position belongs to
+	 *         another partition by now or it has been removed from the statistics.
+	 */
+	public boolean isProfessionCountOutdated(int x, int y, IProfessionCount professionCount) {
+		return partitionObjects[partitions[x + y * width]] != ((ProfessionCount) professionCount).partition;
+	}
+
 	@Override
 	public void kill() {
 		throw new IllegalAccessError("the PartitionsGrid itself can't be killed!");
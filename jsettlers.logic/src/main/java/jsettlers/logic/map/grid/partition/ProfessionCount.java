@@ -0,0 +1,45 @@
+/*******************************************************************************
+ * Copyright (c) 2026
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE.
+ *******************************************************************************/
+package jsettlers.logic.map.grid.partition;
+
+import jsettlers.common.movable.EMovableType;
+import jsettlers.common.position.ILocatable;
+import jsettlers.logic.movable.interfaces.IProfessionCount;
+
+/**
+ * A movable counted in the profession statistics of a {@link Partition}. The counts of a partition are chained, so they can be moved to another
+ * partition when the partition is merged or divided.
+ */
+final class ProfessionCount implements IProfessionCount {
+	final ILocatable   movable;
+	final EMovableType profession;
+
+	/**
+	 * The partition the movable is counted in or null if it is not counted any more.
+	 */
+	Partition       partition;
+	ProfessionCount previous;
+	ProfessionCount next;
+
+	ProfessionCount(ILocatable movable, EMovableType profession) {
+		this.movable = movable;
+		this.profession = profession;
+	}
+
+	@Override
+	public EMovableType getProfession() {
+		return profession;
+	}
+}
@@ -14,6 +14,8 @@
  *******************************************************************************/
 package jsettlers.logic.map.grid.partition.manager;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
 import java.io.Serializable;
 import java.util.Iterator;
 import java.util.LinkedList;
@@ -24,6 +26,7 @@ import jsettlers.common.movable.EMovableType;
 import jsettlers.common.player.IPlayer;
 import jsettlers.common.position.ILocatable;
 import jsettlers.common.position.ShortPoint2D;
+import jsettlers.common.utils.coordinates.ICoordinatePredicate;
 import jsettlers.logic.buildings.Building;
 import jsettlers.logic.buildings.workers.WorkerBuilding;
 import jsettlers.logic.constants.MatchConstants;
@@ -82,7 +85,7 @@ public abstract class PartitionManager implements IScheduledTimerable, Serializa
 
 	private final PartitionManagerSettings settings;
 
-	private final PositionableList<IManageableBearer> joblessBearer = new PositionableList<>();
+	private final PositionableList<IManageableBearer> joblessBearer = new PositionableList<>(true);
 	private final OffersList materialOffers;
 
 	private final MaterialsManager materialsManager;
@@ -109,7 +112,7 @@ public abstract class PartitionManager implements IScheduledTimerable, Serializa
 
 			@Override
 			public IManagerBearer removeJoblessCloseTo(ShortPoint2D position) {
-				return joblessBearer.removeObjectNextTo(position);
+				return removeJoblessBearerNextTo(position);
 			}
 
 			@Override
@@ -119,6 +122,12 @@ public abstract class PartitionManager implements IScheduledTimerable, Serializa
 		}, materialOffers, settings);
 	}
 
+	private void readObject(ObjectInputStream ois) throws IOException, ClassNotFoundException {
+		ois.defaultReadObject();
+		joblessBearer.indexPositions(); // the list of older savegames is not indexed
+		joblessBearer.forEach(bearer -> bearer.setJoblessManager(this));
+	}
+
 	public void startManager() {
 		stopped = false;
 		RescheduleTimer.add(this, SCHEDULING_PERIOD);
@@ -170,10 +179,29 @@ public abstract class PartitionManager implements IScheduledTimerable, Serializa
 
 	public void addJobless(IManageableBearer bearer) {
 		this.joblessBearer.insert(bearer);
+		bearer.setJoblessManager(this);
 	}
 
 	public void removeJobless(IManageableBearer bearer) {
 		this.joblessBearer.remove(bearer);
+		if (bearer.getJoblessManager() == this) {
+			bearer.setJoblessManager(null);
+		}
+	}
+
+	/**
+	 * Must be called after a jobless bearer of this manager changed its position.
+	 */
+	public void updateJoblessPosition(IManageableBearer bearer) {
+		this.joblessBearer.updatePosition(bearer);
+	}
+
+	private IManageableBearer removeJoblessBearerNextTo(ShortPoint2D position) {
+		IManageableBearer bearer = joblessBearer.removeObjectNextTo(position);
+		if (bearer != null) {
+			bearer.setJoblessManager(null);
+		}
+		return bearer;
 	}
 
 	public void addJobless(IManageableDigger digger) {
@@ -244,6 +272,51 @@ public abstract class PartitionManager implements IScheduledTimerable, Serializa
 		removePositionTo(position, this.soldierCreationRequests, newManager.soldierCreationRequests, newHasSamePlayer);
 	}
 
+	/**
+	 * Does the same as {@link #removePositionTo(int, int, PartitionManager, boolean)} for all positions of a region, but only walks the offers,
+	 * requests and jobless once.
+	 *
+	 * @param region
+	 * 		Tells if a position is part of the region that is removed from this manager and added to the given manager.
+	 * @param newManager
+	 * 		new manager of the positions in the region <br>
+	 * 		NOTE: the new manager MUST NOT be null!
+	 * @param newHasSamePlayer
+	 * 		Specifies if the new manager has the same player. If so, requests also need to be moved.
+	 */
+	public void removeRegionTo(ICoordinatePredicate region, PartitionManager newManager, boolean newHasSamePlayer) {
+		materialOffers.moveOffersInRegionTo(region, newManager.materialOffers);
+
+		if (newHasSamePlayer) {
+			materialsManager.moveRegionTo(region, newManager.materialsManager);
+
+			joblessBearer.moveObjectsInRegionTo(region, newManager.joblessBearer, bearer -> bearer.setJoblessManager(newManager));
+			joblessBricklayers.moveObjectsInRegionTo(region, newManager.joblessBricklayers, bricklayer -> {});
+			joblessDiggers.moveObjectsInRegionTo(region, newManager.joblessDiggers, digger -> {});
+			joblessWorkers.moveObjectsInRegionTo(region, newManager.joblessWorkers, worker -> {});
+		}
+
+		removeRegionTo(region, this.workerCreationRequests, newManager.workerCreationRequests, newHasSamePlayer);
+		removeRegionTo(region, this.bricklayerRequests, newManager.bricklayerRequests, newHasSamePlayer);
+		removeRegionTo(region, this.diggerRequests, newManager.diggerRequests, newHasSamePlayer);
+		removeRegionTo(region, this.workerRequests, newManager.workerRequests, newHasSamePlayer);
+		removeRegionTo(region, this.soldierCreationRequests, newManager.soldierCreationRequests, newHasSamePlayer);
+	}
+
+	private <T extends ILocatable> void removeRegionTo(ICoordinatePredicate region, LinkedList<T> fromList, LinkedList<T> toList, boolean newHasSamePlayer) {
+		Iterator<T> iter = fromList.iterator();
+		while (iter.hasNext()) {
+			T curr = iter.next();
+			ShortPoint2D position = curr.getPosition();
+			if (region.test(position.x, position.y)) {
+				iter.remove();
+				if (newHasSamePlayer) {
+					toList.offer(curr);
+				}
+			}
+		}
+	}
+
 	private <T extends ILocatable> void removePositionTo(ShortPoint2D pos, LinkedList<T> fromList, LinkedList<T> toList, boolean newHasSamePlayer) {
 		Iterator<T> iter = fromList.iterator();
 		while (iter.hasNext()) {
@@ -260,7 +333,7 @@ public abstract class PartitionManager implements IScheduledTimerable, Serializa
 	public final void mergeInto(PartitionManager newManager) {
 		newManager.bricklayerRequests.addAll(this.bricklayerRequests);
 		newManager.diggerRequests.addAll(this.diggerRequests);
-		newManager.joblessBearer.moveAll(this.joblessBearer);
+		newManager.joblessBearer.moveAll(this.joblessBearer, bearer -> bearer.setJoblessManager(newManager));
 		newManager.joblessBricklayers.moveAll(this.joblessBricklayers);
 		newManager.joblessDiggers.moveAll(this.joblessDiggers);
 		newManager.joblessWorkers.moveAll(this.joblessWorkers);
@@ -269,6 +342,7 @@ public abstract class PartitionManager implements IScheduledTimerable, Serializa
 		newManager.soldierCreationRequests.addAll(this.soldierCreationRequests);
 		newManager.workerCreationRequests.addAll(this.workerCreationRequests);
 		newManager.workerRequests.addAll(this.workerRequests);
+		newManager.settings.getProfessionSettings().addCounts(this.settings.getProfessionSettings());
 	}
 
 	@Override
@@ -341,12 +415,10 @@ public abstract class PartitionManager implements IScheduledTimerable, Serializa
 			}
 		}
 
-		IManageableBearer manageableBearer = joblessBearer.removeObjectNextTo(workerCreationRequest.getPosition());
+		IManageableBearer manageableBearer = removeJoblessBearerNextTo(workerCreationRequest.getPosition());
 		if(manageableBearer != null) {
 			if(manageableBearer.becomeWorker(this, workerCreationRequest, offer)) {
-				professionSettings.decrementBearerCount();
-				if(movableType == EMovableType.DIGGER || movableType == EMovableType.BRICKLAYER) professionSettings.increment(movableType);
-				return true;
+				return true; // the bearer is counted as the requested worker from now on
 			}
 		} 
 		return false;
@@ -360,7 +432,7 @@ public abstract class PartitionManager implements IScheduledTimerable, Serializa
 	private void handleSoldierCreationRequest() {
 		SoldierCreationRequest soilderRequest = soldierCreationRequests.poll();
 		if (soilderRequest != null) {
-			IManageableBearer manageableBearer = joblessBearer.removeObjectNextTo(soilderRequest.getPosition());
+			IManageableBearer manageableBearer = removeJoblessBearerNextTo(soilderRequest.getPosition());
 			if (manageableBearer == null || !manageableBearer.becomeSoldier(soilderRequest.getBarrack())) {
 				soldierCreationRequests.addLast(soilderRequest);
 			}
@@ -14,18 +14,28 @@
  *******************************************************************************/
 package jsettlers.logic.map.grid.partition.manager.datastructures;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamField;
 import java.io.Serializable;
-import java.util.Iterator;
+import java.util.IdentityHashMap;
 import java.util.LinkedList;
 
 import java8.util.function.Consumer;
+import java8.util.function.Predicate;
 import jsettlers.common.position.ILocatable;
 import jsettlers.common.position.ShortPoint2D;
+import jsettlers.common.utils.coordinates.ICoordinatePredicate;
 import jsettlers.common.utils.MathUtils;
 
 /**
  * This is a data structure for storing and retrieving objects at given positions.<br>
  * It is also possible to find the nearest object around a given position.
+ * <p>
+ * The objects are kept in insertion order, which is used to break ties between objects with the same distance. Lists with indexed positions (see
+ * {@link #PositionableList(boolean)}) additionally sort their objects into buckets of {@link #BUCKET_SIZE}x{@link #BUCKET_SIZE} positions to find
+ * the nearest object without looking at all of them. The buckets are stored in an array covering the buckets used so far.
  *
  * @param <T>
  * @author Andreas Eberle
@@ -33,27 +43,75 @@ import jsettlers.common.utils.MathUtils;
 public class PositionableList<T extends ILocatable> implements Serializable {
 	private static final long serialVersionUID = 414099060331344505L;
 
-	protected final LinkedList<T> data;
+	/**
+	 * The objects are stored in the list of older versions, so savegames of both versions can be read by each other.
+	 */
+	private static final ObjectStreamField[] serialPersistentFields = {
+			new ObjectStreamField("data", LinkedList.class),
+			new ObjectStreamField("indexPositions", boolean.class)
+	};
+
+	private static final int BUCKET_SIZE_BITS     = 4;
+	private static final int BUCKET_SIZE          = 1 << BUCKET_SIZE_BITS;
+	/**
+	 * Below this size, searching the buckets is not faster than looking at all objects.
+	 */
+	private static final int MIN_BUCKET_SEARCH_SIZE = 32;
+
+	/**
+	 * Free buckets added around the used ones when the bucket array grows.
+	 */
+	private static final int BUCKET_MARGIN = 2;
+
+	private boolean indexPositions;
+
+	private transient Entry<T>                     first;
+	private transient Entry<T>                     last;
+	private transient IdentityHashMap<T, Entry<T>> entries;
+	private transient long                         nextSequence;
+
+	/**
+	 * Buckets of the area [minBucketX, minBucketX + bucketsWidth) x [minBucketY, minBucketY + bucketsHeight) in row-major order, or null if the
+	 * positions are not indexed.
+	 */
+	private transient Bucket<T>[] buckets;
+	private transient int         minBucketX, minBucketY, bucketsWidth, bucketsHeight;
 
 	public PositionableList() {
-		data = new LinkedList<>();
+		this(false);
+	}
+
+	/**
+	 * @param indexPositions
+	 *            If true, the objects are indexed by their positions. Every change of the position of an object in this list must then be reported
+	 *            with {@link #updatePosition(ILocatable)}.
+	 */
+	public PositionableList(boolean indexPositions) {
+		this.indexPositions = indexPositions;
+		initTransients();
+	}
+
+	private void initTransients() {
+		first = last = null;
+		entries = new IdentityHashMap<>();
+		nextSequence = 0;
+		buckets = indexPositions ? newBuckets(0) : null;
+		minBucketX = minBucketY = 0;
+		bucketsWidth = bucketsHeight = 0;
 	}
 
 	public void insert(T object) {
-		if(!data.contains(object)) {
+		if (!entries.containsKey(object)) {
 			// TODO fix double inserts from the root
-			data.add(object);
+			append(object);
 		}
 	}
 
 	public T removeObjectAt(ShortPoint2D position) {
-		Iterator<T> iterator = data.iterator();
-		while (iterator.hasNext()) {
-			T curr = iterator.next();
-			if (curr.getPosition().equals(position)) {
-				iterator.remove();
-				return curr;
-			}
+		Entry<T> entry = getEntryAt(position);
+		if (entry != null) {
+			removeEntry(entry);
+			return entry.object;
 		}
 		return null;
 	}
@@ -66,12 +124,8 @@ public class PositionableList<T extends ILocatable> implements Serializable {
 	 * @return Returns the found object at the given position or null if no object has been found.
 	 */
 	public T getObjectAt(ShortPoint2D position) {
-		for (T curr : data) {
-			if (curr.getPosition().equals(position)) {
-				return curr;
-			}
-		}
-		return null;
+		Entry<T> entry = getEntryAt(position);
+		return entry != null ? entry.object : null;
 	}
 
 	/**
@@ -85,70 +139,471 @@ public class PositionableList<T extends ILocatable> implements Serializable {
 		T currBest = getObjectCloseTo(position);
 
 		if (currBest != null) {
-			data.remove(currBest);
+			remove(currBest);
 		}
 
 		return currBest;
 	}
 
 	protected T getObjectCloseTo(ShortPoint2D position) {
+		return findClosest(position, null, null);
+	}
+
+	/**
+	 * Finds the object closest to the given position. Of objects with the same distance, the one inserted first is chosen.
+	 *
+	 * @param position
+	 * 		position to be used to find the nearest accepted neighbor around it.
+	 * @param acceptor
+	 * 		if acceptor != null, only objects accepted by it are returned.
+	 * @param removeIf
+	 * 		if removeIf != null, objects that are looked at and accepted by it are removed from the list and ignored.
+	 * @return accepted object that's nearest to position
+	 */
+	protected final T findClosest(ShortPoint2D position, Predicate<? super T> acceptor, Predicate<? super T> removeIf) {
+		if (buckets != null && entries.size() >= MIN_BUCKET_SEARCH_SIZE) {
+			return findClosestInBuckets(position, acceptor, removeIf);
+		}
+
 		int bestDistance = Integer.MAX_VALUE;
 		T currBest = null;
 
-		for (T currEntry : data) {
-			int currDist = MathUtils.squareHypot(position, currEntry.getPosition());
+		for (Entry<T> entry = first; entry != null; ) {
+			Entry<T> next = entry.next;
+			T currEntry = entry.object;
+
+			if (removeIf != null && removeIf.test(currEntry)) {
+				removeEntry(entry);
+
+			} else if (acceptor == null || acceptor.test(currEntry)) {
+				int currDist = MathUtils.squareHypot(position, currEntry.getPosition());
 
-			if (bestDistance > currDist) {
-				bestDistance = currDist;
-				currBest = currEntry;
+				if (bestDistance > currDist) {
+					bestDistance = currDist;
+					currBest = currEntry;
+				}
 			}
+			entry = next;
 		}
 		return currBest;
 	}
 
+	private T findClosestInBuckets(ShortPoint2D position, Predicate<? super T> acceptor, Predicate<? super T> removeIf) {
+		int bucketX = position.x >> BUCKET_SIZE_BITS;
+		int bucketY = position.y >> BUCKET_SIZE_BITS;
+		int maxBucketX = minBucketX + bucketsWidth - 1;
+		int maxBucketY = minBucketY + bucketsHeight - 1;
+		int maxRing = Math.max(Math.max(bucketX - minBucketX, maxBucketX - bucketX), Math.max(bucketY - minBucketY, maxBucketY - bucketY));
+
+		BestEntry<T> best = new BestEntry<>();
+
+		for (int ring = 0; ring <= maxRing; ring++) {
+			if (ring == 0) {
+				searchBucket(bucketX, bucketY, position, acceptor, removeIf, best);
+			} else {
+				for (int x = bucketX - ring; x <= bucketX + ring; x++) {
+					searchBucket(x, bucketY - ring, position, acceptor, removeIf, best);
+					searchBucket(x, bucketY + ring, position, acceptor, removeIf, best);
+				}
+				for (int y = bucketY - ring + 1; y < bucketY + ring; y++) {
+					searchBucket(bucketX - ring, y, position, acceptor, removeIf, best);
+					searchBucket(bucketX + ring, y, position, acceptor, removeIf, best);
+				}
+			}
+
+			// every object in the next ring is at least ring * BUCKET_SIZE + 1 away in x or y direction
+			int minNextDistance = ring * BUCKET_SIZE + 1;
+			if (best.entry != null && best.distance < minNextDistance * minNextDistance) {
+				break;
+			}
+		}
+		return best.entry != null ? best.entry.object : null;
+	}
+
+	private void searchBucket(int bucketX, int bucketY, ShortPoint2D position, Predicate<? super T> acceptor, Predicate<? super T> removeIf, BestEntry<T> best) {
+		Bucket<T> bucket = getBucket(bucketX, bucketY);
+		if (bucket == null) {
+			return;
+		}
+
+		for (Entry<T> entry = bucket.first; entry != null; ) {
+			Entry<T> next = entry.nextInBucket;
+			T currEntry = entry.object;
+
+			if (removeIf != null && removeIf.test(currEntry)) {
+				removeEntry(entry);
+
+			} else if (acceptor == null || acceptor.test(currEntry)) {
+				int currDist = MathUtils.squareHypot(position, currEntry.getPosition());
+
+				if (currDist < best.distance || (currDist == best.distance && entry.sequence < best.entry.sequence)) {
+					best.distance = currDist;
+					best.entry = entry;
+				}
+			}
+			entry = next;
+		}
+	}
+
+	/**
+	 * Finds the first object in insertion order accepted by the given acceptor.
+	 *
+	 * @param acceptor
+	 * 		predicate the result must fulfill.
+	 * @param removeIf
+	 * 		if removeIf != null, objects that are looked at and accepted by it are removed from the list and ignored.
+	 * @return the first accepted object or null.
+	 */
+	protected final T findFirst(Predicate<? super T> acceptor, Predicate<? super T> removeIf) {
+		for (Entry<T> entry = first; entry != null; ) {
+			Entry<T> next = entry.next;
+
+			if (removeIf != null && removeIf.test(entry.object)) {
+				removeEntry(entry);
+
+			} else if (acceptor.test(entry.object)) {
+				return entry.object;
+			}
+			entry = next;
+		}
+		return null;
+	}
+
 	@Override
 	public String toString() {
-		return data.toString();
+		StringBuilder builder = new StringBuilder("[");
+		for (Entry<T> entry = first; entry != null; entry = entry.next) {
+			builder.append(entry.object);
+			if (entry.next != null) {
+				builder.append(", ");
+			}
+		}
+		return builder.append(']').toString();
 	}
 
 	public void moveAll(PositionableList<T> otherList) {
-		LinkedList<T> othersData = otherList.data;
-		data.addAll(othersData);
-		othersData.clear();
+		for (Entry<T> entry = otherList.first; entry != null; entry = entry.next) {
+			insert(entry.object);
+		}
+		otherList.initTransients();
 	}
 
 	public void moveAll(PositionableList<T> otherList, Consumer<T> movedVisitor) {
-		LinkedList<T> othersData = otherList.data;
-		for (T othersDatum : othersData) {
-			movedVisitor.accept(othersDatum);
-			data.add(othersDatum);
+		for (Entry<T> entry = otherList.first; entry != null; entry = entry.next) {
+			movedVisitor.accept(entry.object);
+			insert(entry.object);
+		}
+		otherList.initTransients();
+	}
+
+	/**
+	 * Updates the index of this list after the position of the given object changed. Does nothing if the positions are not indexed.
+	 *
+	 * @param object
+	 * 		The object that changed its position.
+	 * @return true if the object is in this list.
+	 */
+	public boolean updatePosition(T object) {
+		Entry<T> entry = entries.get(object);
+		if (entry == null) {
+			return false;
 		}
-		othersData.clear();
+
+		if (buckets != null) {
+			ShortPoint2D position = object.getPosition();
+			int bucketX = position.x >> BUCKET_SIZE_BITS;
+			int bucketY = position.y >> BUCKET_SIZE_BITS;
+			if (bucketX != entry.bucketX || bucketY != entry.bucketY) {
+				removeFromBucket(entry);
+				addToBucket(entry, bucketX, bucketY);
+			}
+		}
+		return true;
 	}
 
 	public void remove(T object) {
-		this.data.remove(object);
+		Entry<T> entry = entries.get(object);
+		if (entry != null) {
+			removeEntry(entry);
+		}
 	}
 
 	public boolean isEmpty() {
-		return data.isEmpty();
+		return entries.isEmpty();
 	}
 
 	public void moveObjectsAtPositionTo(ShortPoint2D position, PositionableList<T> newList, Consumer<T> movedVisitor) {
-		if(data.isEmpty()) return;
-
-		Iterator<T> iterator = data.iterator();
-		while (iterator.hasNext()) {
-			T curr = iterator.next();
-			if (curr.getPosition().equals(position)) {
-				iterator.remove();
-				movedVisitor.accept(curr);
-				newList.data.add(curr);
+		if (entries.isEmpty()) return;
+
+		Entry<T> entry;
+		while ((entry = getEntryAt(position)) != null) {
+			removeEntry(entry);
+			movedVisitor.accept(entry.object);
+			newList.insert(entry.object);
+		}
+	}
+
+	/**
+	 * Moves all objects positioned in the given region to the given list. The objects keep their order.
+	 *
+	 * @param region
+	 * 		Tells if a position is part of the region.
+	 * @param newList
+	 * 		The list receiving the objects.
+	 * @param movedVisitor
+	 * 		Called for every moved object.
+	 */
+	public void moveObjectsInRegionTo(ICoordinatePredicate region, PositionableList<T> newList, Consumer<T> movedVisitor) {
+		Entry<T> entry = first;
+		while (entry != null) {
+			Entry<T> next = entry.next;
+			ShortPoint2D position = entry.object.getPosition();
+			if (region.test(position.x, position.y)) {
+				removeEntry(entry);
+				movedVisitor.accept(entry.object);
+				newList.insert(entry.object);
 			}
+			entry = next;
 		}
 	}
 
 	public int size() {
-		return data.size();
+		return entries.size();
+	}
+
+	/**
+	 * Calls the given action for every object in insertion order.
+	 */
+	public void forEach(Consumer<? super T> action) {
+		for (Entry<T> entry = first; entry != null; entry = entry.next) {
+			action.accept(entry.object);
+		}
+	}
+
+	private Entry<T> getEntryAt(ShortPoint2D position) {
+		if (buckets != null) {
+			Bucket<T> bucket = getBucket(position.x >> BUCKET_SIZE_BITS, position.y >> BUCKET_SIZE_BITS);
+			for (Entry<T> entry = bucket != null ? bucket.first : null; entry != null; entry = entry.nextInBucket) {
+				if (entry.object.getPosition().equals(position)) {
+					return entry;
+				}
+			}
+		} else {
+			for (Entry<T> entry = first; entry != null; entry = entry.next) {
+				if (entry.object.getPosition().equals(position)) {
+					return entry;
+				}
+			}
+		}
+		return null;
+	}
+
+	private void append(T object) {
+		Entry<T> entry = new Entry<>(object, nextSequence++);
+		entries.put(object, entry);
+
+		entry.prev = last;
+		if (last == null) {
+			first = entry;
+		} else {
+			last.next = entry;
+		}
+		last = entry;
+
+		if (buckets != null) {
+			ShortPoint2D position = object.getPosition();
+			addToBucket(entry, position.x >> BUCKET_SIZE_BITS, position.y >> BUCKET_SIZE_BITS);
+		}
+	}
+
+	private void removeEntry(Entry<T> entry) {
+		entries.remove(entry.object);
+
+		if (entry.prev == null) {
+			first = entry.next;
+		} else {
+			entry.prev.next = entry.next;
+		}
+		if (entry.next == null) {
+			last = entry.prev;
+		} else {
+			entry.next.prev = entry.prev;
+		}
+
+		if (buckets != null) {
+			removeFromBucket(entry);
+			if (entries.isEmpty()) {
+				initTransients();
+			}
+		}
+	}
+
+	/**
+	 * Adds the entry to the given bucket. The entries of a bucket are kept in insertion order.
+	 */
+	private void addToBucket(Entry<T> entry, int bucketX, int bucketY) {
+		ensureBucketExists(bucketX, bucketY);
+		int index = (bucketY - minBucketY) * bucketsWidth + bucketX - minBucketX;
+		Bucket<T> bucket = buckets[index];
+		if (bucket == null) {
+			bucket = new Bucket<>();
+			buckets[index] = bucket;
+		}
+
+		Entry<T> prev = bucket.last;
+		while (prev != null && prev.sequence > entry.sequence) {
+			prev = prev.prevInBucket;
+		}
+		Entry<T> next = prev == null ? bucket.first : prev.nextInBucket;
+
+		entry.prevInBucket = prev;
+		entry.nextInBucket = next;
+		if (prev == null) {
+			bucket.first = entry;
+		} else {
+			prev.nextInBucket = entry;
+		}
+		if (next == null) {
+			bucket.last = entry;
+		} else {
+			next.prevInBucket = entry;
+		}
+		entry.bucketX = bucketX;
+		entry.bucketY = bucketY;
+	}
+
+	private void removeFromBucket(Entry<T> entry) {
+		int index = (entry.bucketY - minBucketY) * bucketsWidth + entry.bucketX - minBucketX;
+		Bucket<T> bucket = buckets[index];
+		if (entry.prevInBucket == null) {
+			bucket.first = entry.nextInBucket;
+		} else {
+			entry.prevInBucket.nextInBucket = entry.nextInBucket;
+		}
+		if (entry.nextInBucket == null) {
+			bucket.last = entry.prevInBucket;
+		} else {
+			entry.nextInBucket.prevInBucket = entry.prevInBucket;
+		}
+		if (bucket.first == null) {
+			buckets[index] = null;
+		}
+		entry.prevInBucket = entry.nextInBucket = null;
+	}
+
+	private Bucket<T> getBucket(int bucketX, int bucketY) {
+		int column = bucketX - minBucketX;
+		int row = bucketY - minBucketY;
+		if (column < 0 || column >= bucketsWidth || row < 0 || row >= bucketsHeight) {
+			return null;
+		}
+		return buckets[row * bucketsWidth + column];
+	}
+
+	private void ensureBucketExists(int bucketX, int bucketY) {
+		if (bucketsWidth == 0) {
+			minBucketX = bucketX;
+			minBucketY = bucketY;
+			bucketsWidth = bucketsHeight = 1;
+			buckets = newBuckets(1);
+			return;
+		}
+
+		int maxBucketX = minBucketX + bucketsWidth - 1;
+		int maxBucketY = minBucketY + bucketsHeight - 1;
+		if (bucketX >= minBucketX && bucketX <= maxBucketX && bucketY >= minBucketY && bucketY <= maxBucketY) {
+			return;
+		}
+
+		int newMinX = bucketX < minBucketX ? Math.max(0, bucketX - BUCKET_MARGIN) : minBucketX;
+		int newMinY = bucketY < minBucketY ? Math.max(0, bucketY - BUCKET_MARGIN) : minBucketY;
+		int newMaxX = bucketX > maxBucketX ? bucketX + BUCKET_MARGIN : maxBucketX;
+		int newMaxY = bucketY > maxBucketY ? bucketY + BUCKET_MARGIN : maxBucketY;
+		int newWidth = newMaxX - newMinX + 1;
+		int newHeight = newMaxY - newMinY + 1;
+
+		Bucket<T>[] newBuckets = newBuckets(newWidth * newHeight);
+		for (int row = 0; row < bucketsHeight; row++) {
+			System.arraycopy(buckets, row * bucketsWidth, newBuckets, (row + minBucketY - newMinY) * newWidth + minBucketX - newMinX, bucketsWidth);
+		}
+
+		buckets = newBuckets;
+		minBucketX = newMinX;
+		minBucketY = newMinY;
+		bucketsWidth = newWidth;
+		bucketsHeight = newHeight;
+	}
+
+	@SuppressWarnings("unchecked")
+	private Bucket<T>[] newBuckets(int length) {
+		return (Bucket<T>[]) new Bucket<?>[length];
+	}
+
+	/**
+	 * Starts indexing the objects by their positions. Used for the lists of older savegames, which didn't store if a list is indexed.
+	 */
+	public void indexPositions() {
+		if (indexPositions) {
+			return;
+		}
+
+		LinkedList<T> objects = getObjectsInOrder();
+		indexPositions = true;
+		initTransients();
+		for (T object : objects) {
+			append(object);
+		}
+	}
+
+	private LinkedList<T> getObjectsInOrder() {
+		LinkedList<T> objects = new LinkedList<>();
+		for (Entry<T> entry = first; entry != null; entry = entry.next) {
+			objects.add(entry.object);
+		}
+		return objects;
+	}
+
+	private void writeObject(ObjectOutputStream oos) throws IOException {
+		ObjectOutputStream.PutField fields = oos.putFields();
+		fields.put("data", getObjectsInOrder());
+		fields.put("indexPositions", indexPositions);
+		oos.writeFields();
+	}
+
+	@SuppressWarnings("unchecked")
+	private void readObject(ObjectInputStream ois) throws IOException, ClassNotFoundException {
+		ObjectInputStream.GetField fields = ois.readFields();
+		indexPositions = fields.get("indexPositions", false);
+		initTransients();
+
+		for (T object : (LinkedList<T>) fields.get("data", null)) {
+			append(object);
+		}
+	}
+
+	private static final class Entry<T> {
+		final T    object;
+		final long sequence;
+		int        bucketX;
+		int        bucketY;
+		Entry<T>   prev;
+		Entry<T>   next;
+		Entry<T>   prevInBucket;
+		Entry<T>   nextInBucket;
+
+		Entry(T object, long sequence) {
+			this.object = object;
+			this.sequence = sequence;
+		}
+	}
+
+	private static final class Bucket<T> {
+		Entry<T> first;
+		Entry<T> last;
+	}
+
+	private static final class BestEntry<T> {
+		Entry<T> entry;
+		int      distance = Integer.MAX_VALUE;
 	}
 }
@@ -15,6 +15,7 @@
 package jsettlers.logic.map.grid.partition.manager.manageables;
 
 import jsettlers.common.position.ILocatable;
+import jsettlers.logic.map.grid.partition.manager.PartitionManager;
 import jsettlers.logic.map.grid.partition.manager.manageables.interfaces.IBarrack;
 import jsettlers.logic.map.grid.partition.manager.materials.interfaces.IManagerBearer;
 import jsettlers.logic.map.grid.partition.manager.materials.interfaces.IMaterialOffer;
@@ -31,6 +32,16 @@ public interface IManageableBearer extends IManageable, ILocatable, IManagerBear
 
 	boolean becomeSoldier(IBarrack barrack);
 
+	/**
+	 * Remembers the manager listing this bearer as jobless, so the manager can be informed about position changes without searching it.
+	 *
+	 * @param manager
+	 * 		The manager listing this bearer or null if the bearer isn't listed anymore.
+	 */
+	void setJoblessManager(PartitionManager manager);
+
+	PartitionManager getJoblessManager();
+
 	/**
 	 * This interface is used by the bearers to signal the need of a reoffer of the worker creation request.
 	 *
@@ -16,6 +16,7 @@ package jsettlers.logic.map.grid.partition.manager.materials.offers;
 
 import jsettlers.common.material.EMaterialType;
 import jsettlers.common.position.ShortPoint2D;
+import jsettlers.common.utils.coordinates.ICoordinatePredicate;
 import jsettlers.logic.map.grid.partition.data.MaterialCounts;
 import jsettlers.logic.map.grid.partition.manager.materials.interfaces.IOfferEmptiedListener;
 import jsettlers.logic.map.grid.partition.manager.materials.offers.list.PrioritizedPositionableList;
@@ -137,6 +138,12 @@ public final class OffersList implements Serializable {
 		}
 	}
 
+	public void moveOffersInRegionTo(ICoordinatePredicate region, final OffersList otherList) {
+		for (int materialTypeIndex = 0; materialTypeIndex < EMaterialType.NUMBER_OF_MATERIALS; materialTypeIndex++) {
+			offersLists[materialTypeIndex].moveObjectsInRegionTo(region, otherList.offersLists[materialTypeIndex], movedOffer -> movedOffer.changeOffersCountListener(otherList.materialCounts));
+		}
+	}
+
 	public void moveAll(OffersList otherList) {
 		for (int materialTypeIndex = 0; materialTypeIndex < EMaterialType.NUMBER_OF_MATERIALS; materialTypeIndex++) {
 			offersLists[materialTypeIndex].moveAll(otherList.offersLists[materialTypeIndex], movedOffer -> movedOffer.changeOffersCountListener(materialCounts));
@@ -14,11 +14,12 @@
  *******************************************************************************/
 package jsettlers.logic.map.grid.partition.manager.materials.offers.list;
 
-import java.util.Iterator;
+import java.io.IOException;
+import java.io.ObjectInputStream;
 
+import java8.util.function.Predicate;
 import jsettlers.common.position.ILocatable;
 import jsettlers.common.position.ShortPoint2D;
-import jsettlers.common.utils.MathUtils;
 import jsettlers.logic.map.grid.partition.manager.datastructures.PositionableList;
 
 /**
@@ -29,41 +30,27 @@ import jsettlers.logic.map.grid.partition.manager.datastructures.PositionableLis
  * @author Andreas Eberle
  */
 public class ManagingPositionableList<T extends ILocatable & IListManageable> extends PositionableList<T> {
+	private static final long serialVersionUID = 5373491460834642792L;
 
-	@Override
-	protected T getObjectCloseTo(ShortPoint2D position) {
-		int bestDistance = Integer.MAX_VALUE;
-		T currBest = null;
-
-		for (Iterator<T> iterator = data.iterator(); iterator.hasNext(); ) {
-			T currEntry = iterator.next();
+	private static final Predicate<IListManageable> IS_ACTIVE      = IListManageable::isActive;
+	private static final Predicate<IListManageable> CAN_BE_REMOVED = IListManageable::canBeRemoved;
 
-			if (currEntry.canBeRemoved()) { // remove old entries no longer needed
-				iterator.remove();
+	public ManagingPositionableList() {
+		super(true);
+	}
 
-			} else if (currEntry.isActive()) { // only use the active ones
-				int currDist = MathUtils.squareHypot(position, currEntry.getPosition());
+	private void readObject(ObjectInputStream ois) throws IOException, ClassNotFoundException {
+		ois.defaultReadObject();
+		indexPositions(); // lists of older savegames are not indexed
+	}
 
-				if (bestDistance > currDist) {
-					bestDistance = currDist;
-					currBest = currEntry;
-				}
-			}
-		}
-		return currBest;
+	@Override
+	protected T getObjectCloseTo(ShortPoint2D position) {
+		// remove old entries no longer needed and only use the active ones
+		return findClosest(position, IS_ACTIVE, CAN_BE_REMOVED);
 	}
 
 	public boolean hasNoActive() {
-		for (Iterator<T> iterator = data.iterator(); iterator.hasNext(); ) {
-			T datum = iterator.next();
-
-			if (datum.canBeRemoved()) {
-				iterator.remove();
-
-			} else if (datum.isActive()) {
-				return false;
-			}
-		}
-		return true;
+		return findFirst(IS_ACTIVE, CAN_BE_REMOVED) == null;
 	}
 }
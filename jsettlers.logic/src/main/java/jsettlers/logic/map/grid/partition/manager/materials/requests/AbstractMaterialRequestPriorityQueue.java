@@ -20,6 +20,7 @@ import jsettlers.common.buildings.EBuildingType;
 import jsettlers.common.material.EPriority;
 import jsettlers.common.position.ShortPoint2D;
 import jsettlers.common.utils.collections.list.DoubleLinkedList;
+import jsettlers.common.utils.coordinates.ICoordinatePredicate;
 
 /**
  * This class is an abstract priority queue for material requests. The possible priorities are specified in the {@link EPriority} enum.
@@ -134,7 +135,19 @@ public abstract class AbstractMaterialRequestPriorityQueue implements Serializab
 	 * @param newQueue
 	 *            The queue that receives the objects removed from this queue.
 	 */
-	public abstract void moveObjectsOfPositionTo(ShortPoint2D position, AbstractMaterialRequestPriorityQueue newQueue);
+	public void moveObjectsOfPositionTo(ShortPoint2D position, AbstractMaterialRequestPriorityQueue newQueue) {
+		moveObjectsInRegionTo((x, y) -> x == position.x && y == position.y, newQueue);
+	}
+
+	/**
+	 * Removes any requests that are positioned in the given region from this queue and adds them to the given queue.
+	 * 
+	 * @param region
+	 *            Tells if a position is part of the region. Any request in the region will be moved to the given queue.
+	 * @param newQueue
+	 *            The queue that receives the objects removed from this queue.
+	 */
+	public abstract void moveObjectsInRegionTo(ICoordinatePredicate region, AbstractMaterialRequestPriorityQueue newQueue);
 
 	/**
 	 * Merges this queue into the given {@link AbstractMaterialRequestPriorityQueue}.
@@ -23,6 +23,7 @@ import jsettlers.common.buildings.EBuildingType;
 import jsettlers.common.material.EPriority;
 import jsettlers.common.position.ShortPoint2D;
 import jsettlers.common.utils.collections.list.DoubleLinkedList;
+import jsettlers.common.utils.coordinates.ICoordinatePredicate;
 import jsettlers.logic.map.grid.partition.manager.settings.MaterialDistributionSettings;
 
 /**
@@ -118,7 +119,7 @@ public final class MaterialsForBuildingsRequestPriorityQueue extends AbstractMat
 	}
 
 	@Override
-	public void moveObjectsOfPositionTo(ShortPoint2D position, AbstractMaterialRequestPriorityQueue newAbstractQueue) {
+	public void moveObjectsInRegionTo(ICoordinatePredicate region, AbstractMaterialRequestPriorityQueue newAbstractQueue) {
 		assert newAbstractQueue instanceof MaterialsForBuildingsRequestPriorityQueue : "can't move positions between different types of queues.";
 
 		MaterialsForBuildingsRequestPriorityQueue newQueue = (MaterialsForBuildingsRequestPriorityQueue) newAbstractQueue;
@@ -129,7 +130,8 @@ public final class MaterialsForBuildingsRequestPriorityQueue extends AbstractMat
 				Iterator<MaterialRequestObject> iterator = priorityQueue[queueIdx].iterator();
 				while (iterator.hasNext()) {
 					MaterialRequestObject curr = iterator.next();
-					if (curr.getPosition().equals(position)) {
+					ShortPoint2D position = curr.getPosition();
+					if (region.test(position.x, position.y)) {
 						iterator.remove();
 						newQueue.queues[priorityIndex][queueIdx].pushEnd(curr);
 						curr.requestQueue = newQueue;
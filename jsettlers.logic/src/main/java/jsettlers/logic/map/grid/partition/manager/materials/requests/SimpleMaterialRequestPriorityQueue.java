@@ -21,6 +21,7 @@ import jsettlers.common.buildings.EBuildingType;
 import jsettlers.common.material.EPriority;
 import jsettlers.common.position.ShortPoint2D;
 import jsettlers.common.utils.collections.list.DoubleLinkedList;
+import jsettlers.common.utils.coordinates.ICoordinatePredicate;
 
 /**
  * This class is a simple priority queue for material requests. The possible priorities are specified in the {@link EPriority} enum.
@@ -44,7 +45,7 @@ public final class SimpleMaterialRequestPriorityQueue extends AbstractMaterialRe
 	}
 
 	@Override
-	public void moveObjectsOfPositionTo(ShortPoint2D position, AbstractMaterialRequestPriorityQueue newAbstractQueue) {
+	public void moveObjectsInRegionTo(ICoordinatePredicate region, AbstractMaterialRequestPriorityQueue newAbstractQueue) {
 		assert newAbstractQueue instanceof SimpleMaterialRequestPriorityQueue : "can't move positions between diffrent types of queues.";
 
 		SimpleMaterialRequestPriorityQueue newQueue = (SimpleMaterialRequestPriorityQueue) newAbstractQueue;
@@ -53,7 +54,8 @@ public final class SimpleMaterialRequestPriorityQueue extends AbstractMaterialRe
 			Iterator<MaterialRequestObject> iter = queues[queueIdx].iterator();
 			while (iter.hasNext()) {
 				MaterialRequestObject curr = iter.next();
-				if (curr.getPosition().equals(position)) {
+				ShortPoint2D position = curr.getPosition();
+				if (region.test(position.x, position.y)) {
 					iter.remove();
 					newQueue.queues[queueIdx].pushEnd(curr);
 					curr.requestQueue = newQueue;
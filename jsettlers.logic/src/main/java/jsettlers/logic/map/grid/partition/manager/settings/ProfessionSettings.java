@@ -115,32 +115,46 @@ public class ProfessionSettings implements Serializable, IProfessionSettings {
 	}
 	
 	public void increment(EMovableType movableType) {
-		if(!movableType.isPlayerControllable()) workerCount++;
+		changeCount(movableType, 1);
+	}
+
+	public void decrement(EMovableType movableType) {
+		changeCount(movableType, -1);
+	}
+
+	private void changeCount(EMovableType movableType, int delta) {
+		if(!movableType.isPlayerControllable()) workerCount += delta;
 
 		switch (movableType) {
 			case BEARER:
-				bearerCount++;
+				bearerCount += delta;
 				break;
 			case DIGGER:
-				diggerCount++;
+				diggerCount += delta;
 				break;
 			case BRICKLAYER:
-				bricklayerCount++;
+				bricklayerCount += delta;
 				break;
 			default:
 				break;
 		}
 	}
+
+	/**
+	 * Adds the counts of the given settings to the counts of these settings. Used when partitions are merged.
+	 */
+	public void addCounts(ProfessionSettings other) {
+		workerCount += other.workerCount;
+		bearerCount += other.bearerCount;
+		diggerCount += other.diggerCount;
+		bricklayerCount += other.bricklayerCount;
+	}
 	
 	@Override
 	public int getBearerCount() {
 		return bearerCount;
 	}
 
-	public void decrementBearerCount() {
-		this.bearerCount--;
-	}
-
 	@Override
 	public int getDiggerCount() {
 		return diggerCount;
@@ -42,25 +42,44 @@ public abstract class MapLoader implements IGameCreator, Comparable<MapLoader>,
 	public abstract MapFileHeader getFileHeader();
 
 	public static MapLoader getLoaderForListedMap(IListedMap listedMap) throws MapLoadException {
-		if ((checkExtension(listedMap.getFileName(), MapLoader.MAP_EXTENSION_ORIGINAL))
-				|| (checkExtension(listedMap.getFileName(), MapLoader.MAP_EXTENSION_ORIGINAL_MAP_EDITOR))) {
+		if (isOriginalMap(listedMap.getFileName())) {
 			// - original Siedler 3 Map
 			return new OriginalMapLoader(listedMap);
 		} else {
 			// - Siedler 3 Remake Savegame or Map
-			MapFileHeader header = RemakeMapLoader.loadHeader(listedMap);
+			return getLoaderForHeader(listedMap, RemakeMapLoader.loadHeader(listedMap));
+		}
+	}
 
-			switch (header.getType()) {
-			case NORMAL:
-				return new FreshMapLoader(listedMap, header);
-			case SAVED_SINGLE:
-				return new SavegameLoader(listedMap, header);
-			default:
-				throw new MapLoadException("Unkown EMapType: " + header.getType());
-			}
+	/**
+	 * Creates the loader for a Siedler 3 Remake map or savegame whose header is already known, e.g. from the {@link jsettlers.logic.map.loading.list.MapCatalogue}.
+	 *
+	 * @param listedMap
+	 * 		The map file.
+	 * @param header
+	 * 		The header of the map file.
+	 * @return The loader for the map.
+	 * @throws MapLoadException
+	 * 		If the type of the map is not supported.
+	 */
+	public static MapLoader getLoaderForHeader(IListedMap listedMap, MapFileHeader header) throws MapLoadException {
+		switch (header.getType()) {
+		case NORMAL:
+			return new FreshMapLoader(listedMap, header);
+		case SAVED_SINGLE:
+			return new SavegameLoader(listedMap, header);
+		default:
+			throw new MapLoadException("Unkown EMapType: " + header.getType());
 		}
 	}
 
+	/**
+	 * @return true if the file is an original Siedler 3 map, whose loader needs to read the whole file.
+	 */
+	public static boolean isOriginalMap(String fileName) {
+		return checkExtension(fileName, MapLoader.MAP_EXTENSION_ORIGINAL) || checkExtension(fileName, MapLoader.MAP_EXTENSION_ORIGINAL_MAP_EDITOR);
+	}
+
 	public static boolean checkExtension(String filename, String Extention) {
 		if (filename == null)
 			return false;
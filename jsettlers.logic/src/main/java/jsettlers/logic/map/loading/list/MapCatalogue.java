@@ -0,0 +1,204 @@
+/*******************************************************************************
+ * Copyright (c) 2026
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE.
+ *******************************************************************************/
+package jsettlers.logic.map.loading.list;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import jsettlers.logic.map.loading.newmap.MapFileHeader;
+
+/**
+ * A persistent index of the headers of the map files and savegames, so the map list doesn't need to open every file on startup.
+ * <p>
+ * An entry is only used as long as the size and the modification time of its file don't change.
+ */
+public class MapCatalogue {
+	private static final int MAGIC   = 0x4d415043;
+	private static final int VERSION = 1;
+
+	private final File                        indexFile;
+	private final Map<String, CatalogueEntry> entries = new ConcurrentHashMap<>();
+	private volatile boolean                  changed = false;
+
+	/**
+	 * Creates a catalogue stored in the given file and reads the entries stored in it.
+	 *
+	 * @param indexFile
+	 * 		The file the catalogue is stored in. It doesn't need to exist.
+	 */
+	public MapCatalogue(File indexFile) {
+		this.indexFile = indexFile;
+		read();
+	}
+
+	/**
+	 * @param file
+	 * 		The map file.
+	 * @return The header stored for the file or null if the file isn't in the catalogue or has been changed since.
+	 */
+	public MapFileHeader getHeader(File file) {
+		CatalogueEntry entry = entries.get(file.getAbsolutePath());
+		if (entry == null || entry.length != file.length() || entry.lastModified != file.lastModified()) {
+			return null;
+		}
+
+		try {
+			return MapFileHeader.readFromStream(new ByteArrayInputStream(entry.header));
+		} catch (IOException e) {
+			entries.remove(file.getAbsolutePath());
+			return null;
+		}
+	}
+
+	/**
+	 * Stores the header of the given file in the catalogue.
+	 *
+	 * @param file
+	 * 		The map file.
+	 * @param length
+	 * 		The length of the file taken before its header has been read.
+	 * @param lastModified
+	 * 		The modification time of the file taken before its header has been read. If the file is changed while its header is read, the entry
+	 * 		doesn't match the file and the header is read again the next time.
+	 * @param header
+	 * 		The header read from the file.
+	 */
+	public void putHeader(File file, long length, long lastModified, MapFileHeader header) {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		try {
+			header.writeTo(out);
+		} catch (IOException | RuntimeException e) {
+			return; // headers of old versions can miss values needed to write them, they are read from their file every time
+		}
+
+		entries.put(file.getAbsolutePath(), new CatalogueEntry(length, lastModified, out.toByteArray()));
+		changed = true;
+	}
+
+	/**
+	 * Removes the entries of all files that aren't in the given collection, e.g. because they have been deleted.
+	 */
+	public void retainFiles(Collection<File> files) {
+		Set<String> paths = new HashSet<>();
+		for (File file : files) {
+			paths.add(file.getAbsolutePath());
+		}
+
+		for (Iterator<String> iterator = entries.keySet().iterator(); iterator.hasNext(); ) {
+			if (!paths.contains(iterator.next())) {
+				iterator.remove();
+				changed = true;
+			}
+		}
+	}
+
+	/**
+	 * Writes the catalogue to its file if it has been changed.
+	 */
+	public synchronized void save() {
+		if (!changed) {
+			return;
+		}
+		changed = false;
+
+		File tempFile = new File(indexFile.getPath() + ".tmp");
+		try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(tempFile)))) {
+			out.writeInt(MAGIC);
+			out.writeInt(VERSION);
+
+			Map<String, CatalogueEntry> entriesToWrite = new ConcurrentHashMap<>(entries);
+			out.writeInt(entriesToWrite.size());
+			for (Map.Entry<String, CatalogueEntry> entry : entriesToWrite.entrySet()) {
+				out.writeUTF(entry.getKey());
+				out.writeLong(entry.getValue().length);
+				out.writeLong(entry.getValue().lastModified);
+				out.writeInt(entry.getValue().header.length);
+				out.write(entry.getValue().header);
+			}
+		} catch (IOException e) {
+			System.err.println("Could not write map catalogue " + indexFile + ": " + e.getMessage());
+			tempFile.delete();
+			return;
+		}
+
+		indexFile.delete();
+		if (!tempFile.renameTo(indexFile)) {
+			tempFile.delete();
+		}
+	}
+
+	private void read() {
+		if (!indexFile.isFile()) {
+			return;
+		}
+
+		try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(indexFile)))) {
+			if (in.readInt() != MAGIC || in.readInt() != VERSION) {
+				return;
+			}
+
+			int size = in.readInt();
+			for (int i = 0; i < size; i++) {
+				String path = in.readUTF();
+				long length = in.readLong();
+				long lastModified = in.readLong();
+				byte[] header = new byte[readLength(in)];
+				in.readFully(header);
+				entries.put(path, new CatalogueEntry(length, lastModified, header));
+			}
+		} catch (IOException | RuntimeException e) {
+			System.err.println("Could not read map catalogue " + indexFile + ": " + e.getMessage());
+			entries.clear();
+		}
+	}
+
+	/**
+	 * Reads the length of a header, which can't be longer than the rest of the file.
+	 */
+	private static int readLength(DataInputStream in) throws IOException {
+		int length = in.readInt();
+		int remaining = in.available();
+		if (length < 0 || length > remaining) {
+			throw new IOException("Invalid header length " + length + " with " + remaining + " bytes remaining");
+		}
+		return length;
+	}
+
+	private static class CatalogueEntry {
+		final long   length;
+		final long   lastModified;
+		final byte[] header;
+
+		CatalogueEntry(long length, long lastModified, byte[] header) {
+			this.length = length;
+			this.lastModified = lastModified;
+			this.header = header;
+		}
+	}
+}
@@ -21,6 +21,12 @@ import java.io.ObjectOutputStream;
 import java.io.OutputStream;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import java8.util.function.BiConsumer;
 import java8.util.function.Consumer;
@@ -31,6 +37,7 @@ import jsettlers.input.PlayerState;
 import jsettlers.logic.constants.MatchConstants;
 import jsettlers.logic.map.grid.GameSerializer;
 import jsettlers.logic.map.grid.MainGrid;
+import jsettlers.logic.map.loading.MapLoadException;
 import jsettlers.logic.map.loading.MapLoader;
 import jsettlers.logic.map.loading.data.IMapData;
 import jsettlers.logic.map.loading.list.IMapLister.IMapListerCallable;
@@ -45,7 +52,8 @@ import jsettlers.logic.timer.RescheduleTimer;
  * <p>
  * It lists all available maps, and it can be used to add maps to the game.
  * <p>
- * TODO: load maps before they are needed, to decrease startup time.
+ * The maps are listed on a background thread. The headers of the Siedler 3 Remake maps and savegames are taken from the {@link MapCatalogue} as long as
+ * their files didn't change, all other maps are read in parallel. The maps are added to the lists as soon as they have been read.
  *
  * @author michael
  * @author Andreas Eberle
@@ -67,43 +75,204 @@ public class MapList implements IMapListerCallable {
 
 	private final ArrayList<IMapLister> mapDirectories;
 	private final IMapLister saveDirectory;
+	private final MapCatalogue catalogue;
 
-	private final ChangingList<MapLoader> freshMaps = new ChangingList<>();
-	private final ChangingList<RemakeMapLoader> savedMaps = new ChangingList<>();
+	private final ChangingList<MapLoader> freshMaps = new ChangingList<>(new CopyOnWriteArrayList<>());
+	private final ChangingList<RemakeMapLoader> savedMaps = new ChangingList<>(new CopyOnWriteArrayList<>());
 
-	private boolean fileListLoaded = false;
+	private final ExecutorService listingExecutor = Executors.newSingleThreadExecutor(runnable -> {
+		Thread thread = new Thread(runnable, "map lister");
+		thread.setDaemon(true);
+		return thread;
+	});
+	private Future<?> fileListLoading = null;
 
 	public MapList(Collection<IMapLister> mapDirectories, IMapLister saveDirectory) {
+		this(mapDirectories, saveDirectory, null);
+	}
+
+	/**
+	 * @param catalogue
+	 * 		The catalogue used to cache the map headers. May be null.
+	 */
+	public MapList(Collection<IMapLister> mapDirectories, IMapLister saveDirectory, MapCatalogue catalogue) {
 		this.mapDirectories = new ArrayList<>(mapDirectories);
 		this.saveDirectory = saveDirectory;
+		this.catalogue = catalogue;
+	}
+
+	/**
+	 * Starts listing the maps on the listing thread. The listings are executed one after another, so the lists always end up in the state of the last
+	 * listing.
+	 */
+	private synchronized void loadFileList() {
+		fileListLoading = listingExecutor.submit(this::listMaps);
+	}
+
+	private synchronized Future<?> startFileListLoading() {
+		if (fileListLoading == null) {
+			loadFileList();
+		}
+		return fileListLoading;
 	}
 
-	private void loadFileList() {
+	private void waitForFileList() {
+		try {
+			startFileListLoading().get();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		} catch (ExecutionException e) {
+			e.printStackTrace();
+		}
+	}
+
+	private void listMaps() {
+		MilliStopWatch watch = new MilliStopWatch();
 		freshMaps.clear();
 		savedMaps.clear();
 
+		List<IListedMap> listedMaps = new ArrayList<>();
 		for (IMapLister dir : mapDirectories) {
-			dir.listMaps(this);
+			dir.listMaps(listedMaps::add);
+		}
+
+		List<File> files = new ArrayList<>();
+		MapLoader[] loaders = new MapLoader[listedMaps.size()];
+		List<Integer> mapsToRead = new ArrayList<>();
+		for (int index = 0; index < loaders.length; index++) {
+			IListedMap map = listedMaps.get(index);
+			File file = getCatalogueFile(map);
+			if (file != null) {
+				files.add(file);
+				loaders[index] = getCataloguedLoader(map, file);
+			}
+
+			if (loaders[index] != null) {
+				addMap(loaders[index]);
+			} else {
+				mapsToRead.add(index);
+			}
+		}
+
+		readMaps(listedMaps, mapsToRead, loaders);
+		setMapsInListingOrder(loaders);
+
+		if (catalogue != null) {
+			catalogue.retainFiles(files);
+			catalogue.save();
 		}
+		watch.stop("Listing " + listedMaps.size() + " maps (" + mapsToRead.size() + " read from their files) required");
 	}
 
-	@Override
-	public synchronized void foundMap(IListedMap map) {
-		MapLoader loader;
+	/**
+	 * Reads the headers of the maps at the given indices of the listed maps in parallel. The maps are added to the lists as soon as they have been
+	 * read and are stored in the loaders at their index.
+	 */
+	private void readMaps(List<IListedMap> listedMaps, List<Integer> indices, MapLoader[] loaders) {
+		if (indices.isEmpty()) {
+			return;
+		}
+
+		ExecutorService executor = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors(), runnable -> {
+			Thread thread = new Thread(runnable, "map header reader");
+			thread.setDaemon(true);
+			return thread;
+		});
 
 		try {
-			loader = MapLoader.getLoaderForListedMap(map);
+			List<Future<?>> futures = new ArrayList<>();
+			for (int index : indices) {
+				IListedMap map = listedMaps.get(index);
+				futures.add(executor.submit(() -> {
+					File file = getCatalogueFile(map);
+					long length = file != null ? file.length() : 0; // taken before reading, so a change while reading invalidates the entry
+					long lastModified = file != null ? file.lastModified() : 0;
+
+					MapLoader loader = createLoader(map);
+					if (loader != null) {
+						if (file != null && loader instanceof RemakeMapLoader) {
+							catalogue.putHeader(file, length, lastModified, loader.getFileHeader());
+						}
+						loaders[index] = loader;
+						addMap(loader);
+					}
+				}));
+			}
+
+			for (Future<?> future : futures) {
+				future.get();
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		} catch (ExecutionException e) {
+			e.printStackTrace();
+		} finally {
+			executor.shutdown();
+		}
+	}
+
+	/**
+	 * Replaces the lists by the given maps in the order they have been listed, because the maps that have been read are added in the order their
+	 * headers have been read.
+	 */
+	private void setMapsInListingOrder(MapLoader[] loaders) {
+		List<MapLoader> fresh = new ArrayList<>();
+		List<RemakeMapLoader> saved = new ArrayList<>();
+		for (MapLoader loader : loaders) {
+			if (loader == null || loader.getFileHeader() == null) {
+				continue;
+			}
+
+			if (loader.getFileHeader().getType() == MapType.SAVED_SINGLE) {
+				saved.add((RemakeMapLoader) loader);
+			} else {
+				fresh.add(loader);
+			}
+		}
+
+		freshMaps.setList(new CopyOnWriteArrayList<>(fresh));
+		savedMaps.setList(new CopyOnWriteArrayList<>(saved));
+	}
+
+	/**
+	 * @return The file the catalogue entry of the map belongs to or null if the map can't be cached.
+	 */
+	private File getCatalogueFile(IListedMap map) {
+		if (catalogue == null || !(map instanceof DirectoryMapLister.ListedMapFile) || MapLoader.isOriginalMap(map.getFileName())) {
+			return null; // the loader of an original map needs the whole map, so it is read every time
+		}
+		return map.getFile();
+	}
+
+	private MapLoader getCataloguedLoader(IListedMap map, File file) {
+		MapFileHeader header = catalogue.getHeader(file);
+		if (header == null) {
+			return null;
+		}
+
+		try {
+			return MapLoader.getLoaderForHeader(map, header);
+		} catch (MapLoadException e) {
+			return null;
+		}
+	}
+
+	private static MapLoader createLoader(IListedMap map) {
+		try {
+			return MapLoader.getLoaderForListedMap(map);
 		} catch (Exception e) {
 			System.err.println("Cought exception while loading header for " + map.getFileName());
 			e.printStackTrace();
-			return;
+			return null;
 		}
+	}
 
+	private void addMap(MapLoader loader) {
 		MapFileHeader mapHead = loader.getFileHeader();
 
 		// - if the map can't be load (e.g. caused by wrong format) the mapHead gets NULL! -> hide/ignore this map from user
 		if (mapHead != null) {
-			MapType type = loader.getFileHeader().getType();
+			MapType type = mapHead.getType();
 
 			if ((type == MapType.SAVED_SINGLE)) {
 				savedMaps.add((RemakeMapLoader) loader);
@@ -113,19 +282,57 @@ public class MapList implements IMapListerCallable {
 		}
 	}
 
-	public synchronized ChangingList<RemakeMapLoader> getSavedMaps() {
-		if (!fileListLoaded) {
-			loadFileList();
-			fileListLoaded = true;
+	/**
+	 * Adds the found map on the listing thread after the running listing, so the listing doesn't remove it from the lists again.
+	 */
+	@Override
+	public void foundMap(IListedMap map) {
+		startFileListLoading();
+		Future<?> adding = listingExecutor.submit(() -> {
+			MapLoader loader = createLoader(map);
+			if (loader != null) {
+				addMap(loader);
+			}
+		});
+
+		try {
+			adding.get();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		} catch (ExecutionException e) {
+			e.printStackTrace();
 		}
+	}
+
+	/**
+	 * @return The savegames. Waits until all maps have been listed.
+	 */
+	public ChangingList<RemakeMapLoader> getSavedMaps() {
+		waitForFileList();
 		return savedMaps;
 	}
 
-	public synchronized ChangingList<MapLoader> getFreshMaps() {
-		if (!fileListLoaded) {
-			loadFileList();
-			fileListLoaded = true;
-		}
+	/**
+	 * @return The maps that can be used to start a new game. Waits until all maps have been listed.
+	 */
+	public ChangingList<MapLoader> getFreshMaps() {
+		waitForFileList();
+		return freshMaps;
+	}
+
+	/**
+	 * Like {@link #getSavedMaps()}, but doesn't wait for the listing. The listener of the list is informed about every savegame that is found.
+	 */
+	public ChangingList<RemakeMapLoader> getSavedMapsIncrementally() {
+		startFileListLoading();
+		return savedMaps;
+	}
+
+	/**
+	 * Like {@link #getFreshMaps()}, but doesn't wait for the listing. The listener of the list is informed about every map that is found.
+	 */
+	public ChangingList<MapLoader> getFreshMapsIncrementally() {
+		startFileListLoading();
 		return freshMaps;
 	}
 
@@ -260,6 +467,7 @@ public class MapList implements IMapListerCallable {
 	public static class DefaultMapListFactory implements IMapListFactory {
 		protected ArrayList<IMapLister> directories = new ArrayList<>();
 		protected IMapLister saveDirectory = null;
+		protected File catalogueFile = null;
 
 		public void addMapDirectory(String directory, boolean create) {
 			directories.add(new DirectoryMapLister(new File(directory), create));
@@ -276,10 +484,11 @@ public class MapList implements IMapListerCallable {
 			if (saveDirectory == null) {
 				throw new RuntimeException("Savegame directory not set.");
 			}
-			return new MapList(getMapListers(), saveDirectory);
+			return new MapList(getMapListers(), saveDirectory, catalogueFile == null ? null : new MapCatalogue(catalogueFile));
 		}
 
 		public void addResourcesDirectory(File resources) {
+			catalogueFile = new File(resources, "maps.catalogue");
 			addMapDirectory(new DirectoryMapLister(new File(resources, "maps"), true));
 			saveDirectory = new DirectoryMapLister(new File(resources, "save"), true);
 			addMapDirectory(saveDirectory);
@@ -48,6 +48,7 @@ import jsettlers.logic.movable.interfaces.AbstractMovableGrid;
 import jsettlers.logic.movable.interfaces.IAttackableHumanMovable;
 import jsettlers.logic.movable.interfaces.IFerryMovable;
 import jsettlers.logic.movable.interfaces.ILogicMovable;
+import jsettlers.logic.movable.interfaces.IProfessionCount;
 import jsettlers.logic.movable.military.BowmanMovable;
 import jsettlers.logic.movable.military.InfantryMovable;
 import jsettlers.logic.movable.military.MageMovable;
@@ -104,6 +105,11 @@ public abstract class Movable implements ILogicMovable, FoWTask {
 	private transient boolean selected    = false;
 	private transient boolean soundPlayed = false;
 
+	/**
+	 * The entry of this movable in the profession statistics of its partition or null if it is not counted.
+	 */
+	private transient IProfessionCount professionCount;
+
 	// the following data only for ship passengers
 	protected IFerryMovable ferryToEnter = null;
 
@@ -111,7 +117,7 @@ public abstract class Movable implements ILogicMovable, FoWTask {
 
 	private boolean leavePosition = false;
 
-	private Tick<? extends Movable> tick;//TODO fix behaviour tree serialisation
+	private Tick<? extends Movable> tick;
 
 	protected Movable(AbstractMovableGrid grid, EMovableType movableType, ShortPoint2D position, Player player, Movable replace, Root<? extends Movable> behaviour) {
 		this.grid = grid;
@@ -580,10 +586,13 @@ public abstract class Movable implements ILogicMovable, FoWTask {
 	private void initGoingSingleStep(ShortPoint2D position) {
 		direction = EDirection.getDirection(this.position, position);
 		playAnimation(EMovableAction.WALKING, movableType.getStepDurationMs());
+		ShortPoint2D oldPosition = this.position;
 		grid.leavePosition(this.position, this);
 		grid.enterPosition(position, this, false);
 		this.position = position;
 		isRightstep = !isRightstep;
+		updateProfessionCount();
+		positionChanged(oldPosition);
 	}
 
 	protected static <T extends Movable> Guard<T> doingNothingGuard() {
@@ -842,7 +851,19 @@ public abstract class Movable implements ILogicMovable, FoWTask {
 			grid.enterPosition(position, this, true);
 		}
 
+		ShortPoint2D oldPosition = this.position;
 		this.position = position;
+		updateProfessionCount();
+		positionChanged(oldPosition);
+	}
+
+	/**
+	 * Called after the position of this movable changed.
+	 *
+	 * @param oldPosition
+	 * 		The position before the change or null.
+	 */
+	protected void positionChanged(ShortPoint2D oldPosition) {
 	}
 
 	public final void setVisible(boolean visible) {
@@ -936,6 +957,37 @@ public abstract class Movable implements ILogicMovable, FoWTask {
 		grid.leavePosition(this.position, this);
 
 		MovableManager.remove(this);
+		uncountProfession();
+	}
+
+	/**
+	 * @return The type this movable is counted as in the profession statistics of its partition.
+	 */
+	protected EMovableType getProfession() {
+		return movableType;
+	}
+
+	/**
+	 * Updates the profession statistics after the position or the profession of this movable changed.
+	 */
+	protected final void updateProfessionCount() {
+		EMovableType profession = getProfession();
+		if (profession.isPlayerControllable() && professionCount == null) {
+			return; // soldiers and specialists are not part of the statistics
+		}
+		if (professionCount != null && profession == professionCount.getProfession() && !grid.isProfessionCountOutdated(position, professionCount)) {
+			return;
+		}
+
+		uncountProfession();
+		professionCount = grid.countProfession(this, profession, player);
+	}
+
+	private void uncountProfession() {
+		if (professionCount != null) {
+			grid.uncountProfession(professionCount);
+			professionCount = null;
+		}
 	}
 
 	protected void killMovable() {
@@ -1108,6 +1160,7 @@ public abstract class Movable implements ILogicMovable, FoWTask {
 
 		MovableManager.add(movable);
 		grid.enterPosition(position, movable, true);
+		movable.updateProfessionCount();
 
 		if(replaceMovable != null) replaceMovable.killMovable();
 		return movable;
@@ -3,50 +3,66 @@ package jsettlers.logic.movable;
 import java.io.IOException;
 import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
-import java.util.HashMap;
-import java.util.Map;
-import java.util.Queue;
-import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
 
 import jsettlers.algorithms.fogofwar.FogOfWar;
+import jsettlers.common.movable.EMovableType;
+import jsettlers.logic.GameContext;
 import jsettlers.logic.constants.Constants;
 import jsettlers.logic.constants.MatchConstants;
 import jsettlers.logic.movable.interfaces.ILogicMovable;
 import jsettlers.logic.timer.RescheduleTimer;
 
+/**
+ * Registry of the movables of one game. The instance of the current game is held by its {@link GameContext}.
+ * <p />
+ * The number of movables of every player and type and the wounded movables of every player are maintained when movables are added, removed or
+ * change their health, so they can be queried without iterating all movables.
+ */
 public final class MovableManager {
 
-	static final HashMap<Integer, ILogicMovable> movablesByID = new HashMap<>();
-	static final ConcurrentLinkedQueue<ILogicMovable> allMovables  = new ConcurrentLinkedQueue<>();
-	static       int                                  nextID       = Integer.MIN_VALUE;
-	static byte fowTeam = -1;
+	private final MovableRegistry allMovables = new MovableRegistry();
+	private       int             nextID      = Integer.MIN_VALUE;
+	private       byte            fowTeam     = -1;
+
+	private int[][]                           movableCounts = new int[0][];
+	private List<LinkedHashSet<ILogicMovable>> wounded       = new ArrayList<>();
+
+	private static MovableManager get() {
+		return GameContext.current().getMovableManager();
+	}
 
 	public static void initFow(byte fow) {
-		fowTeam = fow;
-		for(ILogicMovable lm : allMovables) {
+		MovableManager manager = get();
+		manager.fowTeam = fow;
+		for(ILogicMovable lm : manager.allMovables) {
 			if(lm instanceof Movable) {
 				Movable mv = (Movable) lm;
-				if(MatchConstants.ENABLE_ALL_PLAYER_FOG_OF_WAR || lm.getPlayer().getTeamId() == fowTeam) {
-					FogOfWar.instance.refThread.nextTasks.offer(mv);
+				if(MatchConstants.ENABLE_ALL_PLAYER_FOG_OF_WAR || lm.getPlayer().getTeamId() == fow) {
+					FogOfWar.get().refThread.nextTasks.offer(mv);
 				}
 			}
 		}
 	}
 
-	@SuppressWarnings("unchecked")
 	public static void readStaticState(ObjectInputStream ois) throws IOException, ClassNotFoundException {
-		nextID = ois.readInt();
-		allMovables.clear();
-		fowTeam = -1;
-		allMovables.addAll((Collection<? extends ILogicMovable>) ois.readObject());
-		movablesByID.putAll((Map<? extends Integer, ? extends ILogicMovable>) ois.readObject());
+		MovableManager manager = get();
+		manager.nextID = ois.readInt();
+		manager.fowTeam = -1;
+		manager.allMovables.readFrom(ois);
+		manager.recountMovables();
 	}
 
 	public static void writeStaticState(ObjectOutputStream oos) throws IOException {
-		oos.writeInt(nextID);
-		oos.writeObject(allMovables);
-		oos.writeObject(movablesByID);
+		MovableManager manager = get();
+		oos.writeInt(manager.nextID);
+		manager.allMovables.writeTo(oos);
 	}
 
 	/**
@@ -58,18 +74,96 @@ public final class MovableManager {
 	 * or null if the id can not be found
 	 */
 	public static ILogicMovable getMovableByID(int id) {
-		return movablesByID.get(id);
+		return get().allMovables.getById(id);
 	}
 
-	public static Queue<ILogicMovable> getAllMovables() {
-		return allMovables;
+	public static MovableRegistry getAllMovables() {
+		return get().allMovables;
 	}
 
 	public static void resetState() {
-		allMovables.clear();
-		movablesByID.clear();
-		nextID = Integer.MIN_VALUE;
-		fowTeam = -1;
+		MovableManager manager = get();
+		manager.allMovables.clear();
+		manager.nextID = Integer.MIN_VALUE;
+		manager.fowTeam = -1;
+		manager.recountMovables();
+	}
+
+	/**
+	 * @param playerId
+	 * 		The player.
+	 * @param movableType
+	 * 		The type of the movables.
+	 * @return The number of living movables of the given player and type.
+	 */
+	public static int getMovableCount(byte playerId, EMovableType movableType) {
+		int[] counts = get().getMovableCounts(playerId);
+		return counts[movableType.ordinal()];
+	}
+
+	/**
+	 * @param playerId
+	 * 		The player.
+	 * @return The living movables of the given player that don't have their full health. The collection must not be modified.
+	 */
+	public static Collection<ILogicMovable> getWoundedMovables(byte playerId) {
+		return Collections.unmodifiableSet(get().getWounded(playerId));
+	}
+
+	/**
+	 * Needs to be called when the health of the given movable changed.
+	 */
+	public static void healthChanged(ILogicMovable movable) {
+		get().updateWounded(movable);
+	}
+
+	/**
+	 * Counts the movables that have been loaded from a savegame in the profession statistics of their partitions. Needs to be called after the grid
+	 * has been loaded.
+	 */
+	public static void initProfessionCounts() {
+		for (ILogicMovable movable : get().allMovables) {
+			if (movable instanceof Movable) {
+				((Movable) movable).updateProfessionCount();
+			}
+		}
+	}
+
+	private void recountMovables() {
+		movableCounts = new int[0][];
+		wounded = new ArrayList<>();
+
+		for (ILogicMovable movable : allMovables) {
+			getMovableCounts(movable.getPlayer().getPlayerId())[movable.getMovableType().ordinal()]++;
+			updateWounded(movable);
+		}
+	}
+
+	private int[] getMovableCounts(byte playerId) {
+		if (playerId >= movableCounts.length) {
+			int[][] newCounts = Arrays.copyOf(movableCounts, playerId + 1);
+			for (int i = movableCounts.length; i < newCounts.length; i++) {
+				newCounts[i] = new int[EMovableType.NUMBER_OF_MOVABLETYPES];
+			}
+			movableCounts = newCounts;
+		}
+		return movableCounts[playerId];
+	}
+
+	private Set<ILogicMovable> getWounded(byte playerId) {
+		while (playerId >= wounded.size()) {
+			wounded.add(new LinkedHashSet<>());
+		}
+		return wounded.get(playerId);
+	}
+
+	private void updateWounded(ILogicMovable movable) {
+		Set<ILogicMovable> woundedOfPlayer = getWounded(movable.getPlayer().getPlayerId());
+		if (movable.isAlive() && movable.isWounded()) {
+			woundedOfPlayer.add(movable);
+		} else {
+			woundedOfPlayer.remove(movable);
+		}
 	}
 
 	static int requestId(Movable movable, Movable replace) {
@@ -78,26 +172,30 @@ public final class MovableManager {
 		if(replace != null) {
 			id = replace.getID();
 		} else {
-			id = nextID++;
+			id = get().nextID++;
 		}
 		return id;
 	}
 
 	static void add(Movable movable) {
+		MovableManager manager = get();
+		manager.allMovables.register(movable);
+		manager.getMovableCounts(movable.getPlayer().getPlayerId())[movable.getMovableType().ordinal()]++;
+		manager.updateWounded(movable);
 
-		movablesByID.put(movable.getID(), movable);
-		allMovables.offer(movable);
-
-
+		byte fowTeam = manager.fowTeam;
 		if((fowTeam != -1 && MatchConstants.ENABLE_ALL_PLAYER_FOG_OF_WAR) || fowTeam == movable.player.getTeamId()) {
-			FogOfWar.instance.refThread.nextTasks.offer(movable);
+			FogOfWar.get().refThread.nextTasks.offer(movable);
 		}
 
 		RescheduleTimer.add(movable, Constants.MOVABLE_INTERRUPT_PERIOD);
 	}
 
 	static void remove(Movable movable) {
-		movablesByID.remove(movable.getID());
-		allMovables.remove(movable);
+		MovableManager manager = get();
+		if (manager.allMovables.unregister(movable)) {
+			manager.getMovableCounts(movable.getPlayer().getPlayerId())[movable.getMovableType().ordinal()]--;
+			manager.getWounded(movable.getPlayer().getPlayerId()).remove(movable);
+		}
 	}
 }
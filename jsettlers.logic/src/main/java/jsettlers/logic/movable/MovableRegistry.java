@@ -0,0 +1,256 @@
+/*******************************************************************************
+ * Copyright (c) 2026
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE.
+ *******************************************************************************/
+package jsettlers.logic.movable;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.AbstractCollection;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import jsettlers.logic.movable.interfaces.ILogicMovable;
+
+/**
+ * Registry of all movables. The movables are appended to a slot array and iterated in the order they have been added. Slots of removed movables
+ * are left empty until the array is full, then the array is compacted in order. The slot of a movable is found with a primitive open addressing
+ * map from the movable's id, so adding and removing are amortized O(1).
+ * <p>
+ * The registry is written by the game thread only. Other threads may iterate it, they see a weakly consistent view of the movables. The slots are
+ * published through an {@link AtomicReferenceArray}, and a compacted array replaces the old one instead of being changed in place.
+ */
+public final class MovableRegistry extends AbstractCollection<ILogicMovable> {
+	private static final int INITIAL_CAPACITY = 64;
+
+	private volatile AtomicReferenceArray<ILogicMovable> slots    = new AtomicReferenceArray<>(INITIAL_CAPACITY);
+	private volatile int                                 slotsEnd = 0;
+	private          int                                 size     = 0;
+
+	/**
+	 * Open addressing map from ids to slots. A value of 0 marks an empty entry, otherwise the value is slot + 1.
+	 */
+	private int[] idKeys   = new int[2 * INITIAL_CAPACITY];
+	private int[] idValues = new int[2 * INITIAL_CAPACITY];
+	private int   idMask   = 2 * INITIAL_CAPACITY - 1;
+
+	void register(ILogicMovable movable) {
+		if (slotsEnd == slots.length()) {
+			compact();
+		}
+
+		int slot = slotsEnd;
+		slots.set(slot, movable);
+		putSlot(movable.getID(), slot);
+		slotsEnd = slot + 1;
+		size++;
+	}
+
+	/**
+	 * Removes the given movable. If another movable is registered with the same id, nothing is changed.
+	 *
+	 * @return true if the movable has been removed.
+	 */
+	boolean unregister(ILogicMovable movable) {
+		int slot = getSlot(movable.getID());
+		if (slot < 0 || slots.get(slot) != movable) {
+			return false;
+		}
+
+		slots.set(slot, null);
+		removeSlot(movable.getID());
+		size--;
+		return true;
+	}
+
+	public ILogicMovable getById(int id) {
+		int slot = getSlot(id);
+		return slot >= 0 ? slots.get(slot) : null;
+	}
+
+	@Override
+	public int size() {
+		return size;
+	}
+
+	@Override
+	public void clear() {
+		slots = new AtomicReferenceArray<>(INITIAL_CAPACITY);
+		slotsEnd = 0;
+		size = 0;
+		clearIdMap(2 * INITIAL_CAPACITY);
+	}
+
+	@Override
+	public Iterator<ILogicMovable> iterator() {
+		final AtomicReferenceArray<ILogicMovable> slots = this.slots;
+		final int end = Math.min(slotsEnd, slots.length());
+
+		return new Iterator<ILogicMovable>() {
+			private int           nextSlot = 0;
+			private ILogicMovable next     = findNext();
+
+			private ILogicMovable findNext() {
+				while (nextSlot < end) {
+					ILogicMovable movable = slots.get(nextSlot++);
+					if (movable != null) {
+						return movable;
+					}
+				}
+				return null;
+			}
+
+			@Override
+			public boolean hasNext() {
+				return next != null;
+			}
+
+			@Override
+			public ILogicMovable next() {
+				if (next == null) {
+					throw new NoSuchElementException();
+				}
+				ILogicMovable movable = next;
+				next = findNext();
+				return movable;
+			}
+		};
+	}
+
+	/**
+	 * Writes the movables as one array in the order of their slots. The ids are part of the movables, so the map from ids to slots is rebuilt when
+	 * they are read.
+	 */
+	void writeTo(ObjectOutputStream oos) throws IOException {
+		oos.writeObject(toArray(new ILogicMovable[size]));
+	}
+
+	/**
+	 * Reads the movables written by {@link #writeTo(ObjectOutputStream)}. Older versions wrote a queue of all movables followed by a map from their
+	 * ids to them, these are read as well.
+	 */
+	@SuppressWarnings("unchecked")
+	void readFrom(ObjectInputStream ois) throws IOException, ClassNotFoundException {
+		clear();
+
+		Object movables = ois.readObject();
+		if (movables instanceof ILogicMovable[]) {
+			for (ILogicMovable movable : (ILogicMovable[]) movables) {
+				register(movable);
+			}
+		} else {
+			ois.readObject(); // the map from ids is restored from the movables
+			for (ILogicMovable movable : (Collection<ILogicMovable>) movables) {
+				register(movable);
+			}
+		}
+	}
+
+	/**
+	 * Moves the movables to the front of a new array, keeping their order. The array is doubled if more than half of it is used.
+	 */
+	private void compact() {
+		AtomicReferenceArray<ILogicMovable> oldSlots = slots;
+		int capacity = 2 * size > oldSlots.length() ? 2 * oldSlots.length() : oldSlots.length();
+		AtomicReferenceArray<ILogicMovable> newSlots = new AtomicReferenceArray<>(capacity);
+
+		clearIdMap(idKeys.length);
+		int newEnd = 0;
+		for (int slot = 0; slot < slotsEnd; slot++) {
+			ILogicMovable movable = oldSlots.get(slot);
+			if (movable != null) {
+				newSlots.set(newEnd, movable);
+				putSlot(movable.getID(), newEnd);
+				newEnd++;
+			}
+		}
+
+		slots = newSlots;
+		slotsEnd = newEnd;
+	}
+
+	private void clearIdMap(int capacity) {
+		idKeys = new int[capacity];
+		idValues = new int[capacity];
+		idMask = capacity - 1;
+	}
+
+	private int getSlot(int id) {
+		for (int index = hash(id); idValues[index] != 0; index = (index + 1) & idMask) {
+			if (idKeys[index] == id) {
+				return idValues[index] - 1;
+			}
+		}
+		return -1;
+	}
+
+	private void putSlot(int id, int slot) {
+		if (2 * (size + 1) > idKeys.length) {
+			growIdMap();
+		}
+
+		int index = hash(id);
+		while (idValues[index] != 0 && idKeys[index] != id) {
+			index = (index + 1) & idMask;
+		}
+		idKeys[index] = id;
+		idValues[index] = slot + 1;
+	}
+
+	private void removeSlot(int id) {
+		int index = hash(id);
+		while (idKeys[index] != id || idValues[index] == 0) {
+			index = (index + 1) & idMask;
+		}
+
+		// shift the following entries of the probe sequence back, so no tombstones are needed
+		int gap = index;
+		for (int next = (gap + 1) & idMask; idValues[next] != 0; next = (next + 1) & idMask) {
+			int home = hash(idKeys[next]);
+			if (((next - home) & idMask) >= ((next - gap) & idMask)) {
+				idKeys[gap] = idKeys[next];
+				idValues[gap] = idValues[next];
+				gap = next;
+			}
+		}
+		idValues[gap] = 0;
+	}
+
+	private void growIdMap() {
+		int[] oldKeys = idKeys;
+		int[] oldValues = idValues;
+
+		idKeys = new int[2 * oldKeys.length];
+		idValues = new int[2 * oldKeys.length];
+		idMask = idKeys.length - 1;
+
+		for (int i = 0; i < oldKeys.length; i++) {
+			if (oldValues[i] != 0) {
+				int index = hash(oldKeys[i]);
+				while (idValues[index] != 0) {
+					index = (index + 1) & idMask;
+				}
+				idKeys[index] = oldKeys[i];
+				idValues[index] = oldValues[i];
+			}
+		}
+	}
+
+	private int hash(int id) {
+		int hash = id * 0x9E3779B9;
+		return (hash ^ (hash >>> 16)) & idMask;
+	}
+}
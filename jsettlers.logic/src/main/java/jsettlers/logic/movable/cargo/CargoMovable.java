@@ -32,7 +32,7 @@ public abstract class CargoMovable extends AttackableMovable {
 		super(grid, movableType, position, player, movable, tree);
 	}
 
-	private static final Root<CargoMovable> tree = new Root<>(createCargoBehaviour());
+	private static final Root<CargoMovable> tree = new Root<>("CargoMovable", createCargoBehaviour());
 
 	private static Node<CargoMovable> createCargoBehaviour() {
 		return sequence(
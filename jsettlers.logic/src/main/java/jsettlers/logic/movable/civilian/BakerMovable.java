@@ -20,7 +20,7 @@ public class BakerMovable extends BuildingWorkerMovable {
 		super(grid, EMovableType.BAKER, position, player, replace, tree);
 	}
 
-	private static final Root<BakerMovable> tree = new Root<>(createBakerBehaviour());
+	private static final Root<BakerMovable> tree = new Root<>("BakerMovable", createBakerBehaviour());
 
 	private static Node<BakerMovable> createBakerBehaviour() {
 		return defaultWorkCycle(
@@ -7,6 +7,7 @@ import jsettlers.common.action.EMoveToType;
 import jsettlers.common.material.EMaterialType;
 import jsettlers.common.movable.EMovableType;
 import jsettlers.common.position.ShortPoint2D;
+import jsettlers.logic.map.grid.partition.manager.PartitionManager;
 import jsettlers.logic.map.grid.partition.manager.manageables.IManageableBearer;
 import jsettlers.logic.map.grid.partition.manager.manageables.interfaces.IBarrack;
 import jsettlers.logic.map.grid.partition.manager.materials.interfaces.IMaterialOffer;
@@ -22,6 +23,7 @@ import jsettlers.logic.player.Player;
 import static jsettlers.algorithms.simplebehaviortree.BehaviorTreeHelper.*;
 
 public class BearerMovable extends CivilianMovable implements IBearerMovable, IManageableBearer {
+	private static final long serialVersionUID = -8885729619104678704L;
 
 	private IMaterialOffer   offer;
 	private IMaterialRequest request;
@@ -33,11 +35,13 @@ public class BearerMovable extends CivilianMovable implements IBearerMovable, IM
 
 	private boolean registered = false;
 
+	private transient PartitionManager joblessManager;
+
 	public BearerMovable(AbstractMovableGrid grid, ShortPoint2D position, Player player, Movable movable) {
 		super(grid, EMovableType.BEARER, position, player, movable, tree);
 	}
 
-	private static final Root<BearerMovable> tree = new Root<>(createBearerBehaviour());
+	private static final Root<BearerMovable> tree = new Root<>("BearerMovable", createBearerBehaviour());
 
 	@Override
 	public ILogicMovable convertTo(EMovableType newMovableType) {
@@ -121,6 +125,7 @@ public class BearerMovable extends CivilianMovable implements IBearerMovable, IM
 						mov.workerCreationRequest = null;
 						mov.registered = true;
 						mov.pathStep = null;
+						mov.updateProfessionCount();
 						mov.grid.addJobless(mov);
 					})
 				),
@@ -151,6 +156,7 @@ public class BearerMovable extends CivilianMovable implements IBearerMovable, IM
 			workerRequester.workerCreationRequestFailed(workerCreationRequest);
 			workerRequester = null;
 			workerCreationRequest = null;
+			updateProfessionCount();
 		}
 
 		if(request != null) {
@@ -189,9 +195,18 @@ public class BearerMovable extends CivilianMovable implements IBearerMovable, IM
 			offer.distributionAccepted();
 		}
 		registered = false;
+		updateProfessionCount();
 		return true;
 	}
 
+	/**
+	 * A bearer that is going to become a worker is already counted as that worker, so no further workers are created in the meantime.
+	 */
+	@Override
+	protected EMovableType getProfession() {
+		return workerCreationRequest != null ? workerCreationRequest.requestedMovableType() : EMovableType.BEARER;
+	}
+
 	@Override
 	public boolean becomeSoldier(IBarrack barrack) {
 		if(!registered) return false;
@@ -201,6 +216,23 @@ public class BearerMovable extends CivilianMovable implements IBearerMovable, IM
 		return true;
 	}
 
+	@Override
+	public void setJoblessManager(PartitionManager manager) {
+		this.joblessManager = manager;
+	}
+
+	@Override
+	public PartitionManager getJoblessManager() {
+		return joblessManager;
+	}
+
+	@Override
+	protected void positionChanged(ShortPoint2D oldPosition) {
+		if(joblessManager != null) {
+			joblessManager.updateJoblessPosition(this);
+		}
+	}
+
 	@Override
 	protected void decoupleMovable() {
 		super.decoupleMovable();
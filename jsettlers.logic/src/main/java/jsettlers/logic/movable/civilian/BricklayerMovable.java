@@ -28,7 +28,7 @@ public class BricklayerMovable extends CivilianMovable implements IManageableBri
 		super(grid, EMovableType.BRICKLAYER, position, player, movable, tree);
 	}
 
-	private static final Root<BricklayerMovable> tree = new Root<>(createBricklayerBehaviour());
+	private static final Root<BricklayerMovable> tree = new Root<>("BricklayerMovable", createBricklayerBehaviour());
 
 	private static Node<BricklayerMovable> createBricklayerBehaviour() {
 		return guardSelector(
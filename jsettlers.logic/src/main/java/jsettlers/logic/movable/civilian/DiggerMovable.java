@@ -27,7 +27,7 @@ public class DiggerMovable extends CivilianMovable implements IManageableDigger
 		super(grid, EMovableType.DIGGER, position, player, movable, tree);
 	}
 
-	private static final Root<DiggerMovable> tree = new Root<>(createDiggerBehaviour());
+	private static final Root<DiggerMovable> tree = new Root<>("DiggerMovable", createDiggerBehaviour());
 
 	private static Node<DiggerMovable> createDiggerBehaviour() {
 		return guardSelector(
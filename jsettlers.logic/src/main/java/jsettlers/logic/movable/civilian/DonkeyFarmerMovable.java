@@ -23,7 +23,7 @@ public class DonkeyFarmerMovable extends BuildingWorkerMovable {
 		super(grid, EMovableType.DONKEY_FARMER, position, player, replace, tree);
 	}
 
-	private static final Root<DonkeyFarmerMovable> tree = new Root<>(createDonkeyBehaviour());
+	private static final Root<DonkeyFarmerMovable> tree = new Root<>("DonkeyFarmerMovable", createDonkeyBehaviour());
 
 	private static Node<DonkeyFarmerMovable> createDonkeyBehaviour() {
 		return defaultWorkCycle(
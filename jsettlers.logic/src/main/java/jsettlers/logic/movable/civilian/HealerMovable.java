@@ -27,7 +27,7 @@ public class HealerMovable extends BuildingWorkerMovable implements IHealerMovab
 		super(grid, EMovableType.HEALER, position, player, replace, tree);
 	}
 
-	private static final Root<HealerMovable> tree = new Root<>(createHealerBehaviour());
+	private static final Root<HealerMovable> tree = new Root<>("HealerMovable", createHealerBehaviour());
 
 	private static Node<HealerMovable> createHealerBehaviour() {
 		return defaultWorkCycle(
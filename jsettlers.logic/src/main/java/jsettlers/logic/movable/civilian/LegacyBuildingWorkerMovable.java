@@ -35,7 +35,7 @@ public class LegacyBuildingWorkerMovable extends BuildingWorkerMovable {
 		super(grid, movableType, position, player, replace, tree);
 	}
 
-	private static final Root<LegacyBuildingWorkerMovable> tree = new Root<>(createBuildingWorkerBehaviour());
+	private static final Root<LegacyBuildingWorkerMovable> tree = new Root<>("LegacyBuildingWorkerMovable", createBuildingWorkerBehaviour());
 
 	private static Node<LegacyBuildingWorkerMovable> createBuildingWorkerBehaviour() {
 		return defaultFramework(
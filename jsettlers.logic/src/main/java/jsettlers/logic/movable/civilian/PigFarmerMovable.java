@@ -24,7 +24,7 @@ public class PigFarmerMovable extends BuildingWorkerMovable {
 		super(grid, EMovableType.PIG_FARMER, position, player, replace, tree);
 	}
 
-	private static final Root<PigFarmerMovable> tree = new Root<>(createPigFarmerBehaviour());
+	private static final Root<PigFarmerMovable> tree = new Root<>("PigFarmerMovable", createPigFarmerBehaviour());
 
 	private ShortPoint2D targetKillablePig;
 	private ShortPoint2D targetFreePig;
@@ -19,7 +19,7 @@ public class SawMillerMovable extends BuildingWorkerMovable {
 		super(grid, EMovableType.SAWMILLER, position, player, replace, tree);
 	}
 
-	private static final Root<SawMillerMovable> tree = new Root<>(createSawMillerBehaviour());
+	private static final Root<SawMillerMovable> tree = new Root<>("SawMillerMovable", createSawMillerBehaviour());
 
 	private static Node<SawMillerMovable> createSawMillerBehaviour() {
 		return defaultWorkCycle(
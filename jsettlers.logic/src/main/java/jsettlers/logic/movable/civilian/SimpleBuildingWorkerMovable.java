@@ -32,17 +32,17 @@ public class SimpleBuildingWorkerMovable extends BuildingWorkerMovable {
 	private static final Map<EMovableType, Root<SimpleBuildingWorkerMovable>> trees = new EnumMap<>(EMovableType.class);
 
 	static {
-		trees.put(EMovableType.FORESTER, new Root<>(createForesterBehaviour()));
-		trees.put(EMovableType.LUMBERJACK, new Root<>(createLumberjackBehaviour()));
-		trees.put(EMovableType.WATERWORKER, new Root<>(createWaterworkerBehaviour()));
-		trees.put(EMovableType.FISHERMAN, new Root<>(createFishermanBehaviour()));
-		trees.put(EMovableType.STONECUTTER, new Root<>(createStonecutterBehaviour()));
-		trees.put(EMovableType.WINEGROWER, new Root<>(createWinegrowerBehaviour()));
-		trees.put(EMovableType.FARMER, new Root<>(createFarmerBehaviour()));
-		trees.put(EMovableType.DOCKWORKER, new Root<>(createDockworkerBehaviour()));
-		trees.put(EMovableType.MILLER, new Root<>(createMillerBehaviour()));
-		trees.put(EMovableType.SLAUGHTERER, new Root<>(createSlaughtererBehaviour()));
-		trees.put(EMovableType.CHARCOAL_BURNER, new Root<>(createCharcoalBurnerBehaviour()));
+		trees.put(EMovableType.FORESTER, new Root<>("SimpleBuildingWorkerMovable.FORESTER", createForesterBehaviour()));
+		trees.put(EMovableType.LUMBERJACK, new Root<>("SimpleBuildingWorkerMovable.LUMBERJACK", createLumberjackBehaviour()));
+		trees.put(EMovableType.WATERWORKER, new Root<>("SimpleBuildingWorkerMovable.WATERWORKER", createWaterworkerBehaviour()));
+		trees.put(EMovableType.FISHERMAN, new Root<>("SimpleBuildingWorkerMovable.FISHERMAN", createFishermanBehaviour()));
+		trees.put(EMovableType.STONECUTTER, new Root<>("SimpleBuildingWorkerMovable.STONECUTTER", createStonecutterBehaviour()));
+		trees.put(EMovableType.WINEGROWER, new Root<>("SimpleBuildingWorkerMovable.WINEGROWER", createWinegrowerBehaviour()));
+		trees.put(EMovableType.FARMER, new Root<>("SimpleBuildingWorkerMovable.FARMER", createFarmerBehaviour()));
+		trees.put(EMovableType.DOCKWORKER, new Root<>("SimpleBuildingWorkerMovable.DOCKWORKER", createDockworkerBehaviour()));
+		trees.put(EMovableType.MILLER, new Root<>("SimpleBuildingWorkerMovable.MILLER", createMillerBehaviour()));
+		trees.put(EMovableType.SLAUGHTERER, new Root<>("SimpleBuildingWorkerMovable.SLAUGHTERER", createSlaughtererBehaviour()));
+		trees.put(EMovableType.CHARCOAL_BURNER, new Root<>("SimpleBuildingWorkerMovable.CHARCOAL_BURNER", createCharcoalBurnerBehaviour()));
 	}
 
 	private static Node<SimpleBuildingWorkerMovable> createForesterBehaviour() {
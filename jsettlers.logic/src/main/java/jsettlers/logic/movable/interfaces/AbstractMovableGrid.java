@@ -19,6 +19,7 @@ import jsettlers.algorithms.path.Path;
 import jsettlers.common.mapobject.EMapObjectType;
 import jsettlers.common.material.ESearchType;
 import jsettlers.common.movable.EMovableType;
+import jsettlers.common.position.ILocatable;
 import jsettlers.common.position.ShortPoint2D;
 import jsettlers.logic.player.Player;
 
@@ -105,4 +106,26 @@ public abstract class AbstractMovableGrid extends AbstractStrategyGrid {
 	public abstract int getHeight();
 
 	public abstract boolean isWater(int x, int y);
+
+	/**
+	 * Counts a movable in the profession statistics of the partition at its position.
+	 *
+	 * @param movable
+	 *            The movable.
+	 * @param profession
+	 *            The type the movable is counted as.
+	 * @param player
+	 *            The player of the movable.
+	 * @return The entry of the movable in the statistics or null if it has not been counted. It needs to be passed to
+	 *         {@link #uncountProfession(IProfessionCount)} to remove the movable from the statistics again.
+	 */
+	public abstract IProfessionCount countProfession(ILocatable movable, EMovableType profession, Player player);
+
+	public abstract void uncountProfession(IProfessionCount professionCount);
+
+	/**
+	 * @return true if the movable of the given entry needs to be counted again, because the given position doesn't belong to the partition it is
+	 *         counted in any more.
+	 */
+	public abstract boolean isProfessionCountOutdated(ShortPoint2D position, IProfessionCount professionCount);
 }
@@ -55,7 +55,7 @@ public class MageMovable extends AttackableHumanMovable implements IMageMovable
 		super(grid, EMovableType.MAGE, position, player, movable, behaviour);
 	}
 
-	private static final Root<MageMovable> behaviour = new Root<>(createMageBehaviour());
+	private static final Root<MageMovable> behaviour = new Root<>("MageMovable", createMageBehaviour());
 
 	private static Node<MageMovable> createMageBehaviour() {
 		return guardSelector(
@@ -5,6 +5,7 @@ import jsettlers.common.action.EMoveToType;
 import jsettlers.common.movable.EMovableType;
 import jsettlers.common.position.ShortPoint2D;
 import jsettlers.logic.movable.Movable;
+import jsettlers.logic.movable.MovableManager;
 import jsettlers.logic.movable.interfaces.AbstractMovableGrid;
 import jsettlers.logic.movable.interfaces.IAttackableHumanMovable;
 import jsettlers.logic.movable.interfaces.IFerryMovable;
@@ -60,6 +61,7 @@ public class AttackableHumanMovable extends AttackableMovable implements IAttack
 	@Override
 	public void heal() {
 		health = getMovableType().getHealth();
+		MovableManager.healthChanged(this);
 	}
 
 	@Override
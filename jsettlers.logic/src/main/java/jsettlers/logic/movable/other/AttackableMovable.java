@@ -6,6 +6,7 @@ import jsettlers.common.movable.EEffectType;
 import jsettlers.common.movable.EMovableType;
 import jsettlers.common.position.ShortPoint2D;
 import jsettlers.logic.movable.Movable;
+import jsettlers.logic.movable.MovableManager;
 import jsettlers.logic.movable.interfaces.AbstractMovableGrid;
 import jsettlers.logic.movable.interfaces.IAttackable;
 import jsettlers.logic.movable.interfaces.IAttackableMovable;
@@ -26,6 +27,7 @@ public class AttackableMovable extends Movable implements IAttackableMovable {
 		if(hasEffect(EEffectType.SHIELDED)) hitStrength *= EEffectType.SHIELDED_DAMAGE_FACTOR;
 
 		this.health -= hitStrength;
+		MovableManager.healthChanged(this);
 		if (health <= 0) {
 			this.kill();
 		}
@@ -35,7 +35,7 @@ public class FerryMovable extends AttackableMovable implements IFerryMovable {
 
 	}
 
-	private static final Root<FerryMovable> behaviour = new Root<>(createFerryBehaviour());
+	private static final Root<FerryMovable> behaviour = new Root<>("FerryMovable", createFerryBehaviour());
 
 	private static Node<FerryMovable> createFerryBehaviour() {
 		return guardSelector(
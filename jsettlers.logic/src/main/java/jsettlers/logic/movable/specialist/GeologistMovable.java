@@ -33,7 +33,7 @@ public class GeologistMovable extends AttackableHumanMovable {
 		super(grid, EMovableType.GEOLOGIST, position, player, movable, behaviour);
 	}
 
-	private static final Root<GeologistMovable> behaviour = new Root<>(createGeologistBehaviour());
+	private static final Root<GeologistMovable> behaviour = new Root<>("GeologistMovable", createGeologistBehaviour());
 
 	public static Node<GeologistMovable> createGeologistBehaviour() {
 		return guardSelector(
@@ -32,7 +32,7 @@ public class PioneerMovable extends AttackableHumanMovable implements IPioneerMo
 		super(grid, EMovableType.PIONEER, position, player, movable, behaviour);
 	}
 
-	private static final Root<PioneerMovable> behaviour = new Root<>(createPioneerBehaviour());
+	private static final Root<PioneerMovable> behaviour = new Root<>("PioneerMovable", createPioneerBehaviour());
 
 	private static Node<PioneerMovable> createPioneerBehaviour() {
 		return guardSelector(
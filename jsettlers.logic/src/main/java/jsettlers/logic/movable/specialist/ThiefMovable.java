@@ -36,7 +36,7 @@ public class ThiefMovable extends AttackableHumanMovable implements IThiefMovabl
 		super(grid, EMovableType.THIEF, position, player, movable, behaviour);
 	}
 
-	private static final Root<ThiefMovable> behaviour = new Root<>(createThiefBehaviour());
+	private static final Root<ThiefMovable> behaviour = new Root<>("ThiefMovable", createThiefBehaviour());
 
 	public static Node<ThiefMovable> createThiefBehaviour() {
 		return guardSelector(
@@ -0,0 +1,128 @@
+/*******************************************************************************
+ * Copyright (c) 2026
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE.
+ *******************************************************************************/
+package jsettlers.logic.timer;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Accumulates how often and how long the sections of a game were executed, e.g. the timerables of the {@link RescheduleTimer} grouped by their
+ * class. The profile is not thread safe and must only be filled by the thread executing the game.
+ */
+public final class ExecutionProfile {
+	private final Map<String, Section>   sections      = new LinkedHashMap<>();
+	private final Map<Class<?>, Section> classSections = new IdentityHashMap<>();
+
+	/**
+	 * @param name
+	 *            Name of the section.
+	 * @return The section with the given name. It is created if it does not exist yet.
+	 */
+	public Section getSection(String name) {
+		Section section = sections.get(name);
+		if (section == null) {
+			section = new Section(name);
+			sections.put(name, section);
+		}
+		return section;
+	}
+
+	/**
+	 * @param type
+	 *            Class of the executed objects.
+	 * @return The section named after the given class. It is created if it does not exist yet.
+	 */
+	public Section getSection(Class<?> type) {
+		Section section = classSections.get(type);
+		if (section == null) {
+			String name = type.getSimpleName();
+			section = getSection(name.isEmpty() ? type.getName() : name);
+			classSections.put(type, section);
+		}
+		return section;
+	}
+
+	/**
+	 * @return The sections ordered by the time spent in them, the longest first.
+	 */
+	public List<Section> getSections() {
+		List<Section> result = new ArrayList<>(sections.values());
+		Collections.sort(result, (first, second) -> Long.compare(second.nanos, first.nanos));
+		return result;
+	}
+
+	/**
+	 * @return The time in nanoseconds spent in all sections.
+	 */
+	public long getTotalNanos() {
+		long total = 0;
+		for (Section section : sections.values()) {
+			total += section.nanos;
+		}
+		return total;
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder builder = new StringBuilder();
+		long total = Math.max(1, getTotalNanos());
+		for (Section section : getSections()) {
+			builder.append(String.format(Locale.ENGLISH, "%-32s %10d executions %10.1f ms %5.1f%%%n", section.name, section.executions,
+					section.nanos / 1e6, section.nanos * 100.0 / total));
+		}
+		return builder.toString();
+	}
+
+	/**
+	 * Execution count and time of one section of an {@link ExecutionProfile}.
+	 */
+	public static final class Section {
+		private final String name;
+		private long         executions;
+		private long         nanos;
+
+		private Section(String name) {
+			this.name = name;
+		}
+
+		/**
+		 * Records one execution of this section.
+		 *
+		 * @param nanos
+		 *            Duration of the execution in nanoseconds.
+		 */
+		public void record(long nanos) {
+			this.executions++;
+			this.nanos += nanos;
+		}
+
+		public String getName() {
+			return name;
+		}
+
+		public long getExecutions() {
+			return executions;
+		}
+
+		public long getNanos() {
+			return nanos;
+		}
+	}
+}
@@ -17,50 +17,101 @@ package jsettlers.logic.timer;
 import java.io.IOException;
 import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
+import java.io.ObjectStreamField;
 import java.io.Serializable;
-import java.util.ArrayDeque;
 import java.util.ArrayList;
-import java.util.Iterator;
+import java.util.IdentityHashMap;
 
+import jsettlers.logic.GameContext;
 import jsettlers.logic.map.loading.MapLoadException;
-import jsettlers.logic.constants.MatchConstants;
 import jsettlers.network.client.interfaces.IGameClock;
 import jsettlers.network.synchronic.timer.INetworkTimerable;
 
+/**
+ * Executes {@link IScheduledTimerable}s after a requested delay. The timerables are stored in a hierarchical timing wheel: every level has
+ * {@link #SLOTS_PER_LEVEL} slots, a slot of level n spans {@link #SLOTS_PER_LEVEL}^n time slices. When the lower levels have run through, the next
+ * slot of the higher level is distributed onto the lower levels. With {@link #LEVELS} levels every positive int delay can be scheduled.
+ * <p>
+ * The timerables of a slot are executed in the order in which they have been added or rescheduled, also if they have been distributed from a
+ * higher level. This is the same order as in the former single level wheel, so replays and savegames keep their behavior.
+ */
 public final class RescheduleTimer implements INetworkTimerable, Serializable {
 	private static final long serialVersionUID = -1962430988827211391L;
 
-	private static final int FUTURE_TIME = 32000;
-	private static final short TIME_SLICE = 25; // ms
-	private static final int TIME_SLOTS = FUTURE_TIME / TIME_SLICE;
+	private static final short TIME_SLICE      = 25; // ms
+	private static final int   SLOT_BITS       = 8;
+	private static final int   SLOTS_PER_LEVEL = 1 << SLOT_BITS;
+	private static final int   SLOT_MASK       = SLOTS_PER_LEVEL - 1;
+	private static final int   LEVELS          = 4;
+	private static final int   BATCH_SLOT      = LEVELS * SLOTS_PER_LEVEL;
+	private static final int   NO_SLOT         = -1;
 
-	private static RescheduleTimer uniIns;
+	/**
+	 * Number of slots of the single level wheel that has been used by old savegames.
+	 */
+	private static final int OLD_TIME_SLOTS = 32000 / TIME_SLICE;
 
-	@SuppressWarnings("unchecked")
-	private final ArrayList<IScheduledTimerable> timerables[] = new ArrayList[TIME_SLOTS];
-	private int currTimeSlot = 0;
+	/**
+	 * The fields of the old single level wheel are kept to be able to read old savegames, see {@link #readObject(ObjectInputStream)}.
+	 */
+	private static final ObjectStreamField[] serialPersistentFields = {
+			new ObjectStreamField("timerables", ArrayList[].class),
+			new ObjectStreamField("currTimeSlot", int.class),
+			new ObjectStreamField("currentTick", long.class),
+			new ObjectStreamField("nextSequence", long.class)
+	};
+
+	private long currentTick  = 0;
+	private long nextSequence = 0;
+
+	private transient Node[] slotHeads;
+	private transient Node[] slotTails;
+	private transient int[]  slotSizes;
+	private transient int    scheduledCount;
+
+	private transient IdentityHashMap<IScheduledTimerable, Node> scheduledNodes;
+	private transient Node                                       freeNodes;
+	private transient Node                                       executingNode;
+
+	private transient long lastTickDuration;
+	private transient long maxTickDuration;
+	private transient int  lastTickExecutions;
+
+	private transient ExecutionProfile profile;
 
 	protected RescheduleTimer() {
-		for (int i = 0; i < TIME_SLOTS; i++) {
-			timerables[i] = new ArrayList<>();
-		}
+		initTransients();
 	}
 
-	public static synchronized void stopAndClear() {
-		if (uniIns != null) {
-			if (MatchConstants.clock() != null) {
-				MatchConstants.clock().remove(uniIns);
+	private void initTransients() {
+		slotHeads = new Node[BATCH_SLOT + 1];
+		slotTails = new Node[BATCH_SLOT + 1];
+		slotSizes = new int[BATCH_SLOT + 1];
+		scheduledNodes = new IdentityHashMap<>();
+	}
+
+	public static void stopAndClear() {
+		GameContext context = GameContext.current();
+		RescheduleTimer timer;
+		synchronized (context) {
+			timer = context.getRescheduleTimer();
+			if (timer == null) {
+				return;
 			}
-			uniIns = null;
-			try {
-				Thread.sleep(100L); // stopping takes some time
-			} catch (InterruptedException e) {
+			if (context.getClock() != null) {
+				context.getClock().remove(timer);
 			}
+			context.setRescheduleTimer(null);
+		}
+
+		try {
+			Thread.sleep(100L); // stopping takes some time
+		} catch (InterruptedException e) {
 		}
 	}
 
 	/**
-	 * Schedules the given {@link IScheduledTimerable} in max delay milliseconds.
+	 * Schedules the given {@link IScheduledTimerable} in delay milliseconds.
 	 * 
 	 * @param t
 	 * @param delay
@@ -69,38 +120,96 @@ public final class RescheduleTimer implements INetworkTimerable, Serializable {
 		get().addTimerable(t, delay);
 	}
 
+	/**
+	 * Removes all schedulings of the given {@link IScheduledTimerable}. If it is currently executed, the delay it returns is ignored.
+	 * 
+	 * @param t
+	 */
+	public static void cancel(IScheduledTimerable t) {
+		get().cancelTimerable(t);
+	}
+
 	private void addTimerable(IScheduledTimerable t, int delay) {
 		if (delay <= 0) {
 			return; // don't schedule if requested delay is negative or zero
 		}
 
+		Node node = obtainNode(t);
+		schedule(node, delay);
+	}
+
+	private void schedule(Node node, int delay) {
+		node.expiry = currentTick + getDelaySlots(delay);
+		node.sequence = nextSequence++;
+		link(node);
+	}
+
+	private static int getDelaySlots(int delay) {
 		int delaySlots = delay / TIME_SLICE;
-		delaySlots = delaySlots > 0 ? delaySlots : 1; // ensure at least one slot delay
+		return delaySlots > 0 ? delaySlots : 1; // ensure at least one slot delay
+	}
 
-		assert delaySlots < TIME_SLOTS : "SCHEDULED TO FAR IN THE FUTURE! " + delay + "ms";
+	private void cancelTimerable(IScheduledTimerable t) {
+		Node node = scheduledNodes.remove(t);
+		while (node != null) {
+			Node next = node.nextOfTimerable;
+			node.nextOfTimerable = null;
 
-		timerables[(currTimeSlot + delaySlots) % TIME_SLOTS].add(t);
+			if (node == executingNode) {
+				node.canceled = true;
+			} else {
+				unlink(node);
+				recycle(node);
+			}
+			node = next;
+		}
 	}
 
-	private static synchronized RescheduleTimer get() {
-		if (uniIns == null) {
-			uniIns = new RescheduleTimer();
+	static RescheduleTimer get() {
+		GameContext context = GameContext.current();
+		RescheduleTimer timer = context.getRescheduleTimer();
+		if (timer != null) {
+			return timer;
+		}
+
+		synchronized (context) { // every game has its own timer, so only the threads of the same game need to wait for each other
+			timer = context.getRescheduleTimer();
+			if (timer == null) {
+				timer = new RescheduleTimer();
+				context.setRescheduleTimer(timer);
+			}
+			return timer;
 		}
-		return uniIns;
 	}
 
 	@Override
 	public void timerEvent() {
-		ArrayList<IScheduledTimerable> queue = timerables[currTimeSlot];
+		long startTime = System.nanoTime();
+		int executions = 0;
+
+		cascade();
+		moveSlot(getSlot(0, currentTick), BATCH_SLOT);
 
-		for (IScheduledTimerable curr : queue) {
-			if (uniIns != this) { // fast stop when stopAndClear() is called.
+		GameContext context = GameContext.current();
+		Node node;
+		while ((node = slotHeads[BATCH_SLOT]) != null) {
+			if (context.getRescheduleTimer() != this) { // fast stop when stopAndClear() is called.
 				return;
 			}
 
+			unlink(node);
+			executingNode = node;
+			IScheduledTimerable curr = node.timerable;
+
+			int delay;
 			try {
-				int delay = curr.timerEvent();
-				addTimerable(curr, delay);
+				if (profile == null) {
+					delay = curr.timerEvent();
+				} else {
+					long executionStart = System.nanoTime();
+					delay = curr.timerEvent();
+					profile.getSection(curr.getClass()).record(System.nanoTime() - executionStart);
+				}
 			} catch (Throwable t) {
 				System.err.println("RescheduleTimer catched: ");
 				t.printStackTrace();
@@ -110,28 +219,321 @@ public final class RescheduleTimer implements INetworkTimerable, Serializable {
 					System.err.println("RescheduleTimer had trouble killing bad timerable!");
 					t2.printStackTrace();
 				}
+				delay = 0;
 			}
+			executingNode = null;
+			executions++;
+
+			if (node.canceled) {
+				recycle(node);
+			} else if (delay > 0) {
+				schedule(node, delay);
+			} else {
+				release(node);
+			}
+		}
+
+		currentTick++;
+
+		lastTickExecutions = executions;
+		lastTickDuration = System.nanoTime() - startTime;
+		if (lastTickDuration > maxTickDuration) {
+			maxTickDuration = lastTickDuration;
+		}
+	}
+
+	/**
+	 * Distributes the slots of the higher levels, that start with the current tick, onto the lower levels.
+	 */
+	private void cascade() {
+		for (int level = 1; level < LEVELS; level++) {
+			if ((currentTick & ((1L << (level * SLOT_BITS)) - 1)) != 0) {
+				break;
+			}
+
+			int slot = getSlot(level, currentTick);
+			Node node = slotHeads[slot];
+			slotHeads[slot] = slotTails[slot] = null;
+			scheduledCount -= slotSizes[slot];
+			slotSizes[slot] = 0;
+
+			while (node != null) {
+				Node next = node.next;
+				node.prev = node.next = null;
+				node.slot = NO_SLOT;
+				link(node);
+				node = next;
+			}
+		}
+	}
+
+	private static int getSlot(int level, long tick) {
+		return level * SLOTS_PER_LEVEL + (int) ((tick >>> (level * SLOT_BITS)) & SLOT_MASK);
+	}
+
+	private void link(Node node) {
+		long ticksLeft = node.expiry - currentTick;
+		int level = 0;
+		while (level < LEVELS - 1 && ticksLeft >= 1L << ((level + 1) * SLOT_BITS)) {
+			level++;
+		}
+		insert(node, getSlot(level, node.expiry));
+	}
+
+	/**
+	 * Inserts the node into the slot ordered by the sequence. Added and rescheduled nodes have the highest sequence and are simply appended. Only
+	 * distributed nodes need to walk back over the nodes added after them.
+	 */
+	private void insert(Node node, int slot) {
+		Node previous = slotTails[slot];
+		while (previous != null && previous.sequence > node.sequence) {
+			previous = previous.prev;
 		}
 
-		queue.clear();
-		currTimeSlot = (currTimeSlot + 1) % TIME_SLOTS;
+		Node next = previous == null ? slotHeads[slot] : previous.next;
+		node.slot = slot;
+		node.prev = previous;
+		node.next = next;
+		if (previous == null) {
+			slotHeads[slot] = node;
+		} else {
+			previous.next = node;
+		}
+		if (next == null) {
+			slotTails[slot] = node;
+		} else {
+			next.prev = node;
+		}
+		slotSizes[slot]++;
+		scheduledCount++;
+	}
+
+	private void unlink(Node node) {
+		int slot = node.slot;
+		if (slot == NO_SLOT) {
+			return;
+		}
+
+		if (node.prev == null) {
+			slotHeads[slot] = node.next;
+		} else {
+			node.prev.next = node.next;
+		}
+		if (node.next == null) {
+			slotTails[slot] = node.prev;
+		} else {
+			node.next.prev = node.prev;
+		}
+		node.prev = node.next = null;
+		node.slot = NO_SLOT;
+		slotSizes[slot]--;
+		scheduledCount--;
+	}
+
+	private void moveSlot(int from, int to) {
+		for (Node node = slotHeads[from]; node != null; node = node.next) {
+			node.slot = to;
+		}
+		slotHeads[to] = slotHeads[from];
+		slotTails[to] = slotTails[from];
+		slotSizes[to] = slotSizes[from];
+		slotHeads[from] = slotTails[from] = null;
+		slotSizes[from] = 0;
+	}
+
+	private Node obtainNode(IScheduledTimerable t) {
+		Node node = freeNodes;
+		if (node != null) {
+			freeNodes = node.next;
+			node.next = null;
+		} else {
+			node = new Node();
+		}
+
+		node.timerable = t;
+		node.nextOfTimerable = scheduledNodes.put(t, node);
+		return node;
+	}
+
+	/**
+	 * Removes the node from the schedulings of its timerable and recycles it.
+	 */
+	private void release(Node node) {
+		IScheduledTimerable t = node.timerable;
+		Node head = scheduledNodes.get(t);
+		if (head == node) {
+			if (node.nextOfTimerable == null) {
+				scheduledNodes.remove(t);
+			} else {
+				scheduledNodes.put(t, node.nextOfTimerable);
+			}
+		} else {
+			Node previous = head;
+			while (previous.nextOfTimerable != node) {
+				previous = previous.nextOfTimerable;
+			}
+			previous.nextOfTimerable = node.nextOfTimerable;
+		}
+		recycle(node);
+	}
+
+	private void recycle(Node node) {
+		node.timerable = null;
+		node.nextOfTimerable = null;
+		node.canceled = false;
+		node.prev = null;
+		node.next = freeNodes;
+		freeNodes = node;
+	}
+
+	/**
+	 * @return The timer of the current game or null if it hasn't been created. Used by the metrics, so reading them doesn't create a timer.
+	 */
+	private static RescheduleTimer find() {
+		return GameContext.current().getRescheduleTimer();
+	}
+
+	/**
+	 * @return The number of currently scheduled {@link IScheduledTimerable}s.
+	 */
+	public static int getNumberOfScheduled() {
+		RescheduleTimer timer = find();
+		return timer != null ? timer.scheduledCount : 0;
+	}
+
+	/**
+	 * @param level
+	 *            Level of the timing wheel in [0, {@link #LEVELS}).
+	 * @param slot
+	 *            Slot of the level in [0, {@link #SLOTS_PER_LEVEL}).
+	 * @return The number of {@link IScheduledTimerable}s stored in the given slot.
+	 */
+	public static int getSlotOccupancy(int level, int slot) {
+		RescheduleTimer timer = find();
+		return timer != null ? timer.slotSizes[level * SLOTS_PER_LEVEL + slot] : 0;
+	}
+
+	/**
+	 * @return The time in nanoseconds needed to execute the last time slice.
+	 */
+	public static long getLastTickDuration() {
+		RescheduleTimer timer = find();
+		return timer != null ? timer.lastTickDuration : 0;
+	}
+
+	/**
+	 * @return The longest time in nanoseconds needed to execute a time slice.
+	 */
+	public static long getMaxTickDuration() {
+		RescheduleTimer timer = find();
+		return timer != null ? timer.maxTickDuration : 0;
+	}
+
+	/**
+	 * @return The number of {@link IScheduledTimerable}s executed in the last time slice.
+	 */
+	public static int getLastTickExecutions() {
+		RescheduleTimer timer = find();
+		return timer != null ? timer.lastTickExecutions : 0;
+	}
+
+	/**
+	 * Records the execution time of every executed {@link IScheduledTimerable} grouped by its class into the given profile.
+	 *
+	 * @param profile
+	 *            The profile to fill or null to stop profiling.
+	 */
+	public static void setProfile(ExecutionProfile profile) {
+		get().profile = profile;
+	}
+
+	private void writeObject(ObjectOutputStream oos) throws IOException {
+		ObjectOutputStream.PutField fields = oos.putFields();
+		fields.put("currentTick", currentTick);
+		fields.put("nextSequence", nextSequence);
+		oos.writeFields();
+
+		oos.writeInt(scheduledCount);
+		writeSlot(oos, BATCH_SLOT);
+		for (int slot = 0; slot < BATCH_SLOT; slot++) {
+			writeSlot(oos, slot);
+		}
+	}
+
+	private void writeSlot(ObjectOutputStream oos, int slot) throws IOException {
+		for (Node node = slotHeads[slot]; node != null; node = node.next) {
+			oos.writeObject(node.timerable);
+			oos.writeLong(node.expiry);
+			oos.writeLong(node.sequence);
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	private void readObject(ObjectInputStream ois) throws IOException, ClassNotFoundException {
+		ObjectInputStream.GetField fields = ois.readFields();
+		initTransients();
+
+		ArrayList<IScheduledTimerable>[] oldTimerables = (ArrayList<IScheduledTimerable>[]) fields.get("timerables", null);
+		if (oldTimerables != null) {
+			readOldWheel(oldTimerables, fields.get("currTimeSlot", 0));
+			return;
+		}
+
+		currentTick = fields.get("currentTick", 0L);
+		nextSequence = fields.get("nextSequence", 0L);
+		int count = ois.readInt();
+		for (int i = 0; i < count; i++) {
+			Node node = obtainNode((IScheduledTimerable) ois.readObject());
+			node.expiry = ois.readLong();
+			node.sequence = ois.readLong();
+			link(node);
+		}
+	}
+
+	/**
+	 * Old savegames store one list per time slice of the next 32 seconds. The list of the current slot is executed next.
+	 */
+	private void readOldWheel(ArrayList<IScheduledTimerable>[] timerables, int currTimeSlot) {
+		for (int delaySlots = 0; delaySlots < OLD_TIME_SLOTS; delaySlots++) {
+			for (IScheduledTimerable timerable : timerables[(currTimeSlot + delaySlots) % OLD_TIME_SLOTS]) {
+				Node node = obtainNode(timerable);
+				node.expiry = currentTick + delaySlots;
+				node.sequence = nextSequence++;
+				link(node);
+			}
+		}
 	}
 
 	public static void loadFrom(ObjectInputStream ois) throws MapLoadException {
 		try {
 			stopAndClear();
-			uniIns = (RescheduleTimer) ois.readObject();
+			GameContext.current().setRescheduleTimer((RescheduleTimer) ois.readObject());
 		} catch (Throwable t) {
 			throw new MapLoadException(t);
 		}
 	}
 
 	public static void saveTo(ObjectOutputStream oos) throws IOException {
-		oos.writeObject(uniIns);
+		oos.writeObject(GameContext.current().getRescheduleTimer());
 		oos.flush();
 	}
 
 	public static void schedule(IGameClock gameClock) {
 		gameClock.schedule(get(), TIME_SLICE);
 	}
+
+	/**
+	 * Entry of a slot list. The nodes of all schedulings of the same timerable are chained by {@link #nextOfTimerable} to allow cancellation.
+	 * Unused nodes are kept in a free list to be reused.
+	 */
+	private static final class Node {
+		IScheduledTimerable timerable;
+		long                expiry;
+		long                sequence;
+		int                 slot = NO_SLOT;
+		Node                prev;
+		Node                next;
+		Node                nextOfTimerable;
+		boolean             canceled;
+	}
 }
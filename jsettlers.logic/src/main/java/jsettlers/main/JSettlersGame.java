@@ -36,7 +36,9 @@ import jsettlers.common.menu.IMapInterfaceConnector;
 import jsettlers.common.menu.IStartedGame;
 import jsettlers.common.menu.IStartingGame;
 import jsettlers.common.menu.IStartingGameListener;
+import jsettlers.common.menu.messages.SimpleMessage;
 import jsettlers.common.player.IInGamePlayer;
+import jsettlers.common.position.ShortPoint2D;
 import jsettlers.common.resources.ResourceManager;
 import jsettlers.common.statistics.IGameTimeProvider;
 import jsettlers.input.GuiInterface;
@@ -46,6 +48,7 @@ import jsettlers.logic.buildings.Building;
 import jsettlers.logic.buildings.trading.HarborBuilding;
 import jsettlers.logic.buildings.trading.MarketBuilding;
 import jsettlers.logic.constants.MatchConstants;
+import jsettlers.logic.map.grid.GameStateChecksum;
 import jsettlers.logic.map.grid.MainGrid;
 import jsettlers.logic.map.loading.IGameCreator;
 import jsettlers.logic.map.loading.IGameCreator.MainGridWithUiSettings;
@@ -57,6 +60,7 @@ import jsettlers.logic.timer.RescheduleTimer;
 import jsettlers.main.replay.ReplayUtils;
 import jsettlers.network.client.OfflineNetworkConnector;
 import jsettlers.network.client.interfaces.INetworkConnector;
+import jsettlers.network.synchronic.checksum.StateChecksumHistory;
 
 /**
  * This class can start a Thread that loads and sets up a game and wait's for its termination.
@@ -236,6 +240,13 @@ public class JSettlersGame {
 				aiExecutor = new AiExecutor(playerSettings, mainGrid, networkConnector.getTaskScheduler());
 				networkConnector.getGameClock().schedule(aiExecutor, (short) 1000);
 
+				StateChecksumHistory stateChecksums = MatchConstants.clock().setStateChecksumProvider(new GameStateChecksum(mainGrid));
+				ShortPoint2D desyncMessagePosition = new ShortPoint2D(mainGrid.getWidth() / 2, mainGrid.getHeight() / 2);
+				stateChecksums.setDesyncListener((lockstep, subsystem) -> {
+					System.err.println("DESYNC detected after lockstep " + lockstep + " in subsystem " + subsystem);
+					connector.showMessage(SimpleMessage.desync(desyncMessagePosition));
+				});
+
 				MatchConstants.clock().startExecution(); // WARNING: GAME CLOCK IS STARTED!
 				// NO CONFIGURATION AFTER THIS POINT! =================================
 				gameRunning = true;
@@ -0,0 +1,284 @@
+/*******************************************************************************
+ * Copyright (c) 2026
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE.
+ *******************************************************************************/
+package jsettlers.main.replay;
+
+import java.io.File;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.Locale;
+
+import jsettlers.ai.highlevel.AiExecutor;
+import jsettlers.common.menu.UIState;
+import jsettlers.common.position.ShortPoint2D;
+import jsettlers.input.GuiTaskExecutor;
+import jsettlers.input.ITaskExecutorGuiInterface;
+import jsettlers.logic.GameContext;
+import jsettlers.logic.constants.MatchConstants;
+import jsettlers.logic.map.grid.MainGrid;
+import jsettlers.logic.map.loading.MapLoadException;
+import jsettlers.logic.map.loading.MapLoader;
+import jsettlers.logic.map.loading.list.DirectoryMapLister.ListedMapFile;
+import jsettlers.logic.player.PlayerSetting;
+import jsettlers.logic.timer.ExecutionProfile;
+import jsettlers.logic.timer.RescheduleTimer;
+import jsettlers.network.client.OfflineNetworkConnector;
+import jsettlers.network.synchronic.timer.INetworkTimerable;
+import jsettlers.network.synchronic.timer.NetworkTimer;
+
+/**
+ * Runs a game without GUI as fast as possible and measures its throughput. The {@link NetworkTimer} is stepped on the calling thread without any
+ * wall-clock pacing, there is no fog of war and the borders are calculated inline after every time slice. The game gets its own
+ * {@link GameContext}, so several runners can be used in parallel.
+ * <p />
+ * Usage: <code>HeadlessGameRunner &lt;map file&gt; &lt;game minutes&gt; [random seed]</code>. All players of the map are played by the AI.
+ */
+public class HeadlessGameRunner {
+	private static final short AI_PERIOD = 1000; // ms
+
+	private final MapLoader       map;
+	private final long            randomSeed;
+	private final PlayerSetting[] playerSettings;
+
+	public HeadlessGameRunner(MapLoader map, long randomSeed, PlayerSetting[] playerSettings) {
+		this.map = map;
+		this.randomSeed = randomSeed;
+		this.playerSettings = playerSettings;
+	}
+
+	public static void main(String[] args) throws MapLoadException {
+		if (args.length < 2) {
+			System.err.println("Usage: HeadlessGameRunner <map file> <game minutes> [random seed]");
+			return;
+		}
+
+		MapLoader map = MapLoader.getLoaderForListedMap(new ListedMapFile(new File(args[0])));
+		int targetGameTimeMs = Integer.parseInt(args[1]) * 60 * 1000;
+		long randomSeed = args.length > 2 ? Long.parseLong(args[2]) : 0L;
+		PlayerSetting[] playerSettings = PlayerSetting.createDefaultSettings((byte) -1, (byte) map.getMaxPlayers());
+
+		System.out.print(new HeadlessGameRunner(map, randomSeed, playerSettings).run(targetGameTimeMs));
+	}
+
+	/**
+	 * Loads the map and plays it until the given game time is reached.
+	 *
+	 * @param targetGameTimeMs
+	 *            Game time in milliseconds at which the run ends.
+	 * @return The measured throughput of the run.
+	 * @throws MapLoadException
+	 *             If the map can not be loaded.
+	 */
+	public Result run(int targetGameTimeMs) throws MapLoadException {
+		GameContext previousContext = GameContext.current();
+		GameContext.bind(new GameContext());
+
+		OfflineNetworkConnector networkConnector = new OfflineNetworkConnector();
+		NetworkTimer clock = networkConnector.getGameClock();
+		clock.setTaskLogging(false); // the game logs every task, don't let the console slow down the run
+		AiExecutor aiExecutor = null;
+		try {
+			MatchConstants.init(clock, randomSeed);
+			MainGrid mainGrid = map.loadMainGrid(playerSettings).getMainGrid();
+
+			ExecutionProfile profile = new ExecutionProfile();
+			RescheduleTimer.schedule(clock);
+			RescheduleTimer.setProfile(profile);
+
+			GuiTaskExecutor taskExecutor = new GuiTaskExecutor(mainGrid.getGuiInputGrid(), new HeadlessGuiInterface(), getFirstAvailablePlayer());
+			taskExecutor.setTaskLogging(false);
+			ExecutionProfile.Section tasksSection = profile.getSection("Tasks");
+			clock.setTaskExecutor(task -> {
+				long start = System.nanoTime();
+				taskExecutor.executeTask(task);
+				tasksSection.record(System.nanoTime() - start);
+			});
+
+			aiExecutor = new AiExecutor(playerSettings, mainGrid, networkConnector.getTaskScheduler());
+			clock.schedule(profiled(aiExecutor, profile.getSection("AiExecutor")), AI_PERIOD);
+
+			ExecutionProfile.Section bordersSection = profile.getSection("Borders");
+			mainGrid.calculateBorders(); // the initial borders are not part of the measurement
+
+			AllocationCounter allocationCounter = new AllocationCounter();
+			int startGameTime = clock.getTime();
+			int timeSlices = 0;
+			long startNanos = System.nanoTime();
+
+			while (clock.getTime() < targetGameTimeMs) {
+				clock.executeTimeSlice();
+
+				long bordersStart = System.nanoTime();
+				mainGrid.calculateBorders();
+				bordersSection.record(System.nanoTime() - bordersStart);
+				timeSlices++;
+			}
+
+			long wallNanos = System.nanoTime() - startNanos;
+			return new Result(map.getMapName(), clock.getTime() - startGameTime, timeSlices, wallNanos, allocationCounter.getAllocatedBytes(), profile);
+		} finally {
+			clock.stopExecution();
+			if (aiExecutor != null) {
+				aiExecutor.shutdown();
+			}
+			RescheduleTimer.stopAndClear();
+			MatchConstants.clearState();
+			GameContext.bind(previousContext);
+		}
+	}
+
+	private byte getFirstAvailablePlayer() {
+		for (byte playerId = 0; playerId < playerSettings.length; playerId++) {
+			if (playerSettings[playerId].isAvailable()) {
+				return playerId;
+			}
+		}
+		return 0;
+	}
+
+	private static INetworkTimerable profiled(INetworkTimerable timerable, ExecutionProfile.Section section) {
+		return () -> {
+			long start = System.nanoTime();
+			timerable.timerEvent();
+			section.record(System.nanoTime() - start);
+		};
+	}
+
+	/**
+	 * The measurements of one run of a {@link HeadlessGameRunner}.
+	 */
+	public static class Result {
+		private final String           mapName;
+		private final int              gameTimeMs;
+		private final int              timeSlices;
+		private final long             wallNanos;
+		private final long             allocatedBytes;
+		private final ExecutionProfile profile;
+
+		Result(String mapName, int gameTimeMs, int timeSlices, long wallNanos, long allocatedBytes, ExecutionProfile profile) {
+			this.mapName = mapName;
+			this.gameTimeMs = gameTimeMs;
+			this.timeSlices = timeSlices;
+			this.wallNanos = wallNanos;
+			this.allocatedBytes = allocatedBytes;
+			this.profile = profile;
+		}
+
+		/**
+		 * @return The simulated game time in milliseconds.
+		 */
+		public int getGameTimeMs() {
+			return gameTimeMs;
+		}
+
+		/**
+		 * @return The number of executed time slices of the {@link NetworkTimer}.
+		 */
+		public int getTimeSlices() {
+			return timeSlices;
+		}
+
+		public long getWallNanos() {
+			return wallNanos;
+		}
+
+		/**
+		 * @return How many milliseconds of game time were simulated per millisecond of wall-clock time.
+		 */
+		public double getGameMsPerWallMs() {
+			return gameTimeMs / Math.max(wallNanos / 1e6, Double.MIN_VALUE);
+		}
+
+		public double getTimeSlicesPerSecond() {
+			return timeSlices / Math.max(wallNanos / 1e9, Double.MIN_VALUE);
+		}
+
+		/**
+		 * @return The bytes allocated by the thread executing the run or -1 if the JVM does not support measuring it.
+		 */
+		public long getAllocatedBytes() {
+			return allocatedBytes;
+		}
+
+		/**
+		 * @return The allocated bytes per second of wall-clock time or -1 if the JVM does not support measuring it.
+		 */
+		public double getAllocationRate() {
+			return allocatedBytes < 0 ? -1 : allocatedBytes / Math.max(wallNanos / 1e9, Double.MIN_VALUE);
+		}
+
+		/**
+		 * @return The time spent in the timerables of the {@link RescheduleTimer} grouped by class, the AI, the tasks and the borders.
+		 */
+		public ExecutionProfile getProfile() {
+			return profile;
+		}
+
+		@Override
+		public String toString() {
+			return String.format(Locale.ENGLISH, "%s: %d ms game time in %.1f ms%n", mapName, gameTimeMs, wallNanos / 1e6)
+					+ String.format(Locale.ENGLISH, "game-ms per wall-ms: %.2f%n", getGameMsPerWallMs())
+					+ String.format(Locale.ENGLISH, "time slices per second: %.1f%n", getTimeSlicesPerSecond())
+					+ String.format(Locale.ENGLISH, "allocation rate: %.1f MB/s%n", getAllocationRate() / (1024 * 1024))
+					+ profile;
+		}
+	}
+
+	/**
+	 * Measures the bytes allocated by the thread that created it. The game is executed on that thread, so other games running in parallel are not
+	 * counted.
+	 */
+	private static class AllocationCounter {
+		private final long threadId = Thread.currentThread().getId();
+		private final long startBytes;
+
+		AllocationCounter() {
+			long startBytes;
+			try {
+				startBytes = readAllocatedBytes(threadId);
+			} catch (Throwable t) { // the JVM does not provide com.sun.management
+				startBytes = -1;
+			}
+			this.startBytes = startBytes;
+		}
+
+		long getAllocatedBytes() {
+			if (startBytes < 0) {
+				return -1;
+			}
+			return readAllocatedBytes(threadId) - startBytes;
+		}
+
+		private static long readAllocatedBytes(long threadId) {
+			ThreadMXBean threadBean = ManagementFactory.getThreadMXBean();
+			if (!(threadBean instanceof com.sun.management.ThreadMXBean)) {
+				return -1;
+			}
+			return ((com.sun.management.ThreadMXBean) threadBean).getThreadAllocatedBytes(threadId);
+		}
+	}
+
+	private static class HeadlessGuiInterface implements ITaskExecutorGuiInterface {
+		private final UIState uiState = new UIState(new ShortPoint2D(0, 0));
+
+		@Override
+		public void renewSelection() {
+		}
+
+		@Override
+		public UIState getUIState() {
+			return uiState;
+		}
+	}
+}
@@ -0,0 +1,123 @@
+/*******************************************************************************
+ * Copyright (c) 2026
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE.
+ *******************************************************************************/
+package jsettlers.ai.construction;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Test;
+
+import jsettlers.ai.highlevel.AiDensityTable;
+import jsettlers.common.position.RelativePoint;
+
+public class PlantingBuildingConstructionPositionFinderTest {
+	private static final int SIZE = 30;
+
+	@Test
+	public void testRectanglesCoverTheCircleExactly() {
+		List<RelativePoint> points = new ArrayList<>();
+		for (int x = -8; x < 8; x++) {
+			for (int y = -8; y < 8; y++) {
+				if (Math.sqrt(x * x + y * y) <= 8) {
+					points.add(new RelativePoint(x + 2, y - 1));
+				}
+			}
+		}
+
+		assertRectanglesCoverPoints(points);
+	}
+
+	@Test
+	public void testRectanglesCoverRandomPointsExactly() {
+		Random random = new Random(13);
+		for (int round = 0; round < 50; round++) {
+			List<RelativePoint> points = new ArrayList<>();
+			for (int x = -10; x < 10; x++) {
+				for (int y = -10; y < 10; y++) {
+					if (random.nextInt(3) != 0) {
+						points.add(new RelativePoint(x, y));
+					}
+				}
+			}
+			assertRectanglesCoverPoints(points);
+		}
+	}
+
+	@Test
+	public void testScoreOfRectanglesEqualsCountOfPoints() {
+		Random random = new Random(17);
+		boolean[][] plantable = new boolean[SIZE][SIZE];
+		for (int x = 0; x < SIZE; x++) {
+			for (int y = 0; y < SIZE; y++) {
+				plantable[x][y] = random.nextBoolean();
+			}
+		}
+		AiDensityTable densityTable = new AiDensityTable();
+		densityTable.calculate((x, y) -> plantable[x][y], 0, 0, SIZE - 1, SIZE - 1);
+
+		List<RelativePoint> points = new ArrayList<>();
+		for (int x = -6; x < 6; x++) {
+			for (int y = -6; y < 6; y++) {
+				if (Math.sqrt(x * x + y * y) <= 6) {
+					points.add(new RelativePoint(x, y));
+				}
+			}
+		}
+		int[][] rectangles = PlantingBuildingConstructionPositionFinder.toRectangles(points.toArray(new RelativePoint[points.size()]));
+
+		for (int x = 0; x < SIZE; x++) {
+			for (int y = 0; y < SIZE; y++) {
+				int expected = 0;
+				for (RelativePoint point : points) {
+					int pointX = x + point.getDx();
+					int pointY = y + point.getDy();
+					if (pointX >= 0 && pointX < SIZE && pointY >= 0 && pointY < SIZE && plantable[pointX][pointY]) {
+						expected++;
+					}
+				}
+
+				int score = 0;
+				for (int[] rectangle : rectangles) {
+					score += densityTable.count(x + rectangle[0], y + rectangle[1], x + rectangle[2], y + rectangle[3]);
+				}
+				assertEquals("score at " + x + "|" + y, expected, score);
+			}
+		}
+	}
+
+	private static void assertRectanglesCoverPoints(List<RelativePoint> points) {
+		int[][] rectangles = PlantingBuildingConstructionPositionFinder.toRectangles(points.toArray(new RelativePoint[points.size()]));
+
+		int[][] coverage = new int[2 * SIZE][2 * SIZE];
+		for (int[] rectangle : rectangles) {
+			for (int dx = rectangle[0]; dx <= rectangle[2]; dx++) {
+				for (int dy = rectangle[1]; dy <= rectangle[3]; dy++) {
+					coverage[dx + SIZE][dy + SIZE]++;
+				}
+			}
+		}
+		for (RelativePoint point : points) {
+			assertEquals("coverage of " + point, 1, coverage[point.getDx() + SIZE][point.getDy() + SIZE]--);
+		}
+		for (int x = 0; x < 2 * SIZE; x++) {
+			for (int y = 0; y < 2 * SIZE; y++) {
+				assertEquals("coverage of " + (x - SIZE) + "|" + (y - SIZE), 0, coverage[x][y]);
+			}
+		}
+	}
+}
@@ -0,0 +1,170 @@
+/*******************************************************************************
+ * Copyright (c) 2026
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE.
+ *******************************************************************************/
+package jsettlers.ai.highlevel;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Test;
+
+import jsettlers.common.position.ShortPoint2D;
+
+public class AiDistanceFieldTest {
+	private static final int WIDTH  = 60;
+	private static final int HEIGHT = 50;
+
+	@Test
+	public void testDistancesEqualNearestPointDistances() {
+		Random random = new Random(42);
+		List<ShortPoint2D> points = new ArrayList<>();
+		for (int i = 0; i < 12; i++) {
+			points.add(new ShortPoint2D(random.nextInt(WIDTH), random.nextInt(HEIGHT)));
+		}
+
+		AiDistanceField field = new AiDistanceField();
+		field.calculate(points, 10, 15, 40, 35); // most points are outside the window
+
+		for (int x = 10; x <= 40; x++) {
+			for (int y = 15; y <= 35; y++) {
+				assertEquals("distance at " + x + "|" + y, getNearestDistance(points, x, y), field.getDistance(x, y));
+			}
+		}
+		assertEquals(AiDistanceField.UNKNOWN_DISTANCE, field.getDistance(9, 15));
+	}
+
+	@Test
+	public void testDistanceMapIsLimitedAndUpdated() {
+		AiPositions positions = new AiPositions();
+		positions.add(20, 20);
+		AiDistanceMap distanceMap = new AiDistanceMap(positions, 10, WIDTH, HEIGHT);
+
+		assertEquals(0, distanceMap.getDistance(20, 20));
+		assertEquals(3, distanceMap.getDistance(23, 23));
+		assertEquals(6, distanceMap.getDistance(23, 17));
+		assertEquals(10, distanceMap.getDistance(50, 20));
+
+		positions.add(48, 20);
+		distanceMap.invalidate(48, 20, 48, 20);
+		assertEquals(2, distanceMap.getDistance(50, 20));
+		assertEquals(3, distanceMap.getDistance(23, 23));
+	}
+
+	@Test
+	public void testDensityTableCountsRectangles() {
+		AiDensityTable densityTable = new AiDensityTable();
+		densityTable.calculate((x, y) -> (x + y) % 3 == 0, 5, 5, 30, 20);
+
+		assertEquals(countBruteForce(7, 8, 19, 13), densityTable.count(7, 8, 19, 13));
+		assertEquals(countBruteForce(5, 5, 30, 20), densityTable.count(0, 0, 40, 40));
+		assertEquals(0, densityTable.count(31, 5, 40, 20));
+	}
+
+	@Test
+	public void testDistanceMapEqualsBruteForceAfterInvalidations() {
+		Random random = new Random(7);
+		AiPositions positions = new AiPositions();
+		List<ShortPoint2D> points = new ArrayList<>();
+		for (int i = 0; i < 8; i++) {
+			addRandomPoint(random, positions, points);
+		}
+		AiDistanceMap distanceMap = new AiDistanceMap(positions, 12, WIDTH, HEIGHT);
+		assertDistanceMapEqualsBruteForce(distanceMap, points, 12);
+
+		for (int round = 0; round < 20; round++) {
+			if (random.nextBoolean() && !points.isEmpty()) {
+				ShortPoint2D removed = points.remove(random.nextInt(points.size()));
+				positions.remove(removed.x, removed.y);
+				distanceMap.invalidate(removed.x, removed.y, removed.x, removed.y);
+			} else {
+				ShortPoint2D added = addRandomPoint(random, positions, points);
+				distanceMap.invalidate(added.x, added.y, added.x, added.y);
+			}
+			assertDistanceMapEqualsBruteForce(distanceMap, points, 12);
+		}
+	}
+
+	@Test
+	public void testDensityTableEqualsBruteForceForRandomRectangles() {
+		Random random = new Random(11);
+		boolean[][] accepted = new boolean[WIDTH][HEIGHT];
+		for (int x = 0; x < WIDTH; x++) {
+			for (int y = 0; y < HEIGHT; y++) {
+				accepted[x][y] = random.nextInt(4) == 0;
+			}
+		}
+
+		AiDensityTable densityTable = new AiDensityTable();
+		densityTable.calculate((x, y) -> accepted[x][y], 8, 4, 50, 41);
+
+		for (int i = 0; i < 500; i++) {
+			int xMin = random.nextInt(WIDTH);
+			int yMin = random.nextInt(HEIGHT);
+			int xMax = xMin + random.nextInt(WIDTH - xMin);
+			int yMax = yMin + random.nextInt(HEIGHT - yMin);
+
+			int expected = 0;
+			for (int x = Math.max(xMin, 8); x <= Math.min(xMax, 50); x++) {
+				for (int y = Math.max(yMin, 4); y <= Math.min(yMax, 41); y++) {
+					if (accepted[x][y]) {
+						expected++;
+					}
+				}
+			}
+			assertEquals("count of " + xMin + "|" + yMin + " - " + xMax + "|" + yMax, expected, densityTable.count(xMin, yMin, xMax, yMax));
+		}
+	}
+
+	private static ShortPoint2D addRandomPoint(Random random, AiPositions positions, List<ShortPoint2D> points) {
+		ShortPoint2D point;
+		do {
+			point = new ShortPoint2D(random.nextInt(WIDTH), random.nextInt(HEIGHT));
+		} while (points.contains(point));
+		positions.add(point.x, point.y);
+		points.add(point);
+		return point;
+	}
+
+	private static void assertDistanceMapEqualsBruteForce(AiDistanceMap distanceMap, List<ShortPoint2D> points, int maxDistance) {
+		for (int x = 0; x < WIDTH; x++) {
+			for (int y = 0; y < HEIGHT; y++) {
+				int expected = Math.min(getNearestDistance(points, x, y), maxDistance);
+				assertEquals("distance at " + x + "|" + y, expected, distanceMap.getDistance(x, y));
+			}
+		}
+	}
+
+	private static int getNearestDistance(List<ShortPoint2D> points, int x, int y) {
+		int nearest = Integer.MAX_VALUE;
+		for (ShortPoint2D point : points) {
+			nearest = Math.min(nearest, point.getOnGridDistTo(x, y));
+		}
+		return nearest;
+	}
+
+	private static int countBruteForce(int xMin, int yMin, int xMax, int yMax) {
+		int count = 0;
+		for (int x = xMin; x <= xMax; x++) {
+			for (int y = yMin; y <= yMax; y++) {
+				if ((x + y) % 3 == 0) {
+					count++;
+				}
+			}
+		}
+		return count;
+	}
+}
@@ -0,0 +1,164 @@
+/*******************************************************************************
+ * Copyright (c) 2026
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE.
+ *******************************************************************************/
+package jsettlers.algorithms.construction;
+
+import java.util.Random;
+
+import jsettlers.algorithms.partitions.IBlockingProvider;
+import jsettlers.common.buildings.BuildingVariant;
+import jsettlers.common.buildings.EBuildingType;
+import jsettlers.common.map.shapes.FreeMapArea;
+import jsettlers.common.map.shapes.MapCircle;
+import jsettlers.common.player.ECivilisation;
+import jsettlers.common.position.RelativePoint;
+import jsettlers.common.position.ShortPoint2D;
+import jsettlers.logic.map.grid.flags.FlagsGrid;
+import jsettlers.logic.map.grid.landscape.LandscapeGrid;
+import jsettlers.logic.map.grid.partition.PartitionsGrid;
+import jsettlers.logic.player.PlayerSetting;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class BuildabilityCacheTest {
+	private static final BuildingVariant TOWER = EBuildingType.TOWER.getVariant(ECivilisation.ROMAN);
+
+	private final byte[][] values       = new byte[200][200];
+	private       int      calculations = 0;
+
+	private final BuildabilityCache cache = new BuildabilityCache((x, y, building, playerId) -> {
+		calculations++;
+		return values[x][y];
+	}, 200, 200, 2);
+
+	@Test
+	public void testValuesAreCached() {
+		assertEquals(0, cache.getConstructionMarkValue(10, 10, TOWER, (byte) 0));
+		int calculationsOfChunk = calculations;
+
+		for (int x = 0; x < 16; x++) {
+			cache.getConstructionMarkValue(x, 10, TOWER, (byte) 0);
+		}
+		assertEquals(calculationsOfChunk, calculations);
+	}
+
+	@Test
+	public void testChangeInvalidatesNeighbourhoodOnly() {
+		assertEquals(0, cache.getConstructionMarkValue(100, 100, TOWER, (byte) 0));
+		assertEquals(0, cache.getConstructionMarkValue(10, 10, TOWER, (byte) 0));
+		values[100][100] = 5;
+		values[10][10] = 3;
+
+		cache.positionChanged(100, 100);
+
+		assertEquals(5, cache.getConstructionMarkValue(100, 100, TOWER, (byte) 0));
+		assertEquals("far away chunks must stay cached", 0, cache.getConstructionMarkValue(10, 10, TOWER, (byte) 0));
+	}
+
+	@Test
+	public void testPlayersAreCachedSeparately() {
+		assertEquals(0, cache.getConstructionMarkValue(10, 10, TOWER, (byte) 0));
+		values[10][10] = -1;
+		assertEquals(-1, cache.getConstructionMarkValue(10, 10, TOWER, (byte) 1));
+	}
+
+	@Test
+	public void testUnusedLayersAreEvicted() {
+		BuildingVariant[] buildings = { TOWER, EBuildingType.LUMBERJACK.getVariant(ECivilisation.ROMAN),
+				EBuildingType.FORESTER.getVariant(ECivilisation.ROMAN) };
+		BuildabilityCache largeCache = new BuildabilityCache((x, y, building, playerId) -> (byte) 0, 2000, 2000, 2);
+
+		for (int round = 0; round < 3; round++) {
+			for (BuildingVariant building : buildings) {
+				for (int x = 0; x < 2000; x += 16) {
+					for (int y = 0; y < 2000; y += 16) {
+						largeCache.getConstructionMarkValue(x, y, building, (byte) (round % 2));
+					}
+				}
+				assertTrue(largeCache.getNumberOfCachedChunks() <= BuildabilityCache.MAX_CACHED_CHUNKS);
+			}
+		}
+	}
+
+	@Test
+	public void testChangedGridsInvalidateCachedValues() {
+		short size = 120;
+		FlagsGrid flagsGrid = new FlagsGrid(size, size);
+		LandscapeGrid landscapeGrid = new LandscapeGrid(size, size, flagsGrid);
+		landscapeGrid.setBackgroundListener(null);
+		PartitionsGrid partitionsGrid = new PartitionsGrid(size, size, PlayerSetting.createDefaultSettings((byte) 0, (byte) 2),
+				IBlockingProvider.DEFAULT_IMPLEMENTATION);
+
+		BuildabilityCache.IConstructionMarkCalculator calculator = (x, y, building, playerId) -> {
+			short partition = partitionsGrid.getPartitionIdAt(x, y);
+			if (!partitionsGrid.ownsPlayerPartition(partition, playerId)) {
+				return -1;
+			}
+			int minHeight = Integer.MAX_VALUE;
+			int maxHeight = Integer.MIN_VALUE;
+			for (RelativePoint point : building.getBuildingArea()) {
+				int currX = point.calculateX(x);
+				int currY = point.calculateY(y);
+				if (currX < 0 || currY < 0 || currX >= size || currY >= size || flagsGrid.isProtected(currX, currY)
+						|| partitionsGrid.getPartitionIdAt(currX, currY) != partition) {
+					return -1;
+				}
+				minHeight = Math.min(minHeight, landscapeGrid.getHeightAt(currX, currY));
+				maxHeight = Math.max(maxHeight, landscapeGrid.getHeightAt(currX, currY));
+			}
+			return (byte) Math.min(Byte.MAX_VALUE, maxHeight - minHeight);
+		};
+		BuildabilityCache gridCache = new BuildabilityCache(calculator, size, size, 2);
+		flagsGrid.getGridChangedListeners().add(gridCache);
+		landscapeGrid.getGridChangedListeners().add(gridCache);
+		partitionsGrid.getGridChangedListeners().add(gridCache);
+
+		Random random = new Random(19);
+		addTower(partitionsGrid, 0, 40, 40);
+		assertCacheEqualsCalculator(gridCache, calculator, size);
+
+		for (int i = 0; i < 30; i++) {
+			flagsGrid.setProtected(random.nextInt(size), random.nextInt(size), random.nextBoolean());
+			landscapeGrid.setHeightAt((short) random.nextInt(size), (short) random.nextInt(size), (byte) random.nextInt(20));
+		}
+		assertCacheEqualsCalculator(gridCache, calculator, size);
+
+		addTower(partitionsGrid, 1, 70, 60);
+		addTower(partitionsGrid, 0, 90, 90);
+		assertCacheEqualsCalculator(gridCache, calculator, size);
+
+		partitionsGrid.removeTowerAndFreeOccupiedArea(new ShortPoint2D(70, 60));
+		partitionsGrid.changePlayerOfTower(new ShortPoint2D(90, 90), (byte) 1);
+		assertCacheEqualsCalculator(gridCache, calculator, size);
+	}
+
+	private static void addTower(PartitionsGrid partitionsGrid, int playerId, int x, int y) {
+		ShortPoint2D position = new ShortPoint2D(x, y);
+		partitionsGrid.addTowerAndOccupyArea((byte) playerId, new MapCircle(position, 25), new FreeMapArea(position, TOWER.getProtectedTiles()));
+	}
+
+	private static void assertCacheEqualsCalculator(BuildabilityCache cache, BuildabilityCache.IConstructionMarkCalculator calculator, int size) {
+		for (byte playerId = 0; playerId < 2; playerId++) {
+			for (int x = 0; x < size; x++) {
+				for (int y = 0; y < size; y++) {
+					assertEquals("value at " + x + "|" + y, calculator.calculateConstructionMarkValue(x, y, TOWER, playerId),
+							cache.getConstructionMarkValue(x, y, TOWER, playerId));
+				}
+			}
+		}
+	}
+}
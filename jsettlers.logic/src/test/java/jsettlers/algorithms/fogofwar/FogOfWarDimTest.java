@@ -0,0 +1,97 @@
+/*******************************************************************************
+ * Copyright (c) 2026
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE.
+ *******************************************************************************/
+package jsettlers.algorithms.fogofwar;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import jsettlers.common.CommonConstants;
+import jsettlers.common.map.IGraphicsBackgroundListener;
+import jsettlers.common.position.ShortPoint2D;
+import jsettlers.logic.constants.MatchConstants;
+import jsettlers.logic.map.grid.flags.IProtectedProvider;
+import jsettlers.logic.map.grid.landscape.LandscapeGrid;
+import jsettlers.logic.map.grid.objects.ObjectsGrid;
+import jsettlers.network.synchronic.timer.NetworkTimer;
+
+public class FogOfWarDimTest {
+	private static final short WIDTH  = 99;
+	private static final short HEIGHT = 150;
+
+	@BeforeClass
+	public static void setUpClass() {
+		MatchConstants.init(new NetworkTimer(true), 0);
+	}
+
+	@Test
+	public void testCircleBecomesVisibleAndChangesAreReported() {
+		FogOfWar fogOfWar = createFogOfWar();
+		final List<int[]> changedAreas = new ArrayList<>();
+		fogOfWar.setBackgroundListener(new IGraphicsBackgroundListener() {
+			@Override
+			public void backgroundLineChangedAt(int x, int y, int length) {
+				changedAreas.add(new int[] { x, y, length, 1 });
+			}
+
+			@Override
+			public void backgroundAreaChangedAt(int x, int y, int width, int height) {
+				changedAreas.add(new int[] { x, y, width, height });
+			}
+
+			@Override
+			public void fogOfWarEnabledStatusChanged(boolean enabled) {
+			}
+		});
+
+		fogOfWar.circleDrawer.drawCircleToBuffer(new ShortPoint2D(50, 100), 5, FogOfWar.CIRCLE_ADD | FogOfWar.CIRCLE_DIM);
+		for (int i = 0; i < 100; i++) {
+			fogOfWar.dimThread.taskProcessor();
+		}
+		fogOfWar.dimThread.shutdown();
+
+		assertEquals(CommonConstants.FOG_OF_WAR_VISIBLE, fogOfWar.getVisibleStatus(50, 100));
+		assertEquals(CommonConstants.FOG_OF_WAR_VISIBLE, fogOfWar.getVisibleStatus(55, 100));
+		assertEquals(0, fogOfWar.getVisibleStatus(50, 10));
+		assertEquals(0, fogOfWar.getVisibleStatus(10, 100));
+
+		assertTrue(!changedAreas.isEmpty());
+		for (int[] area : changedAreas) {
+			assertTrue(area[0] >= 50 - 25 && area[0] + area[2] <= 50 + 25);
+			assertTrue(area[1] >= 100 - 25 && area[1] + area[3] <= 100 + 25);
+		}
+	}
+
+	private static FogOfWar createFogOfWar() {
+		LandscapeGrid landscapeGrid = new LandscapeGrid(WIDTH, HEIGHT, new IProtectedProvider() {
+			@Override
+			public boolean isProtected(int x, int y) {
+				return false;
+			}
+
+			@Override
+			public void setProtectedChangedListener(IProtectedChangedListener listener) {
+			}
+		});
+		FogOfWar fogOfWar = new FogOfWar(WIDTH, HEIGHT, (byte) 0, landscapeGrid, new ObjectsGrid(WIDTH, HEIGHT));
+		fogOfWar.enabled = true;
+		return fogOfWar;
+	}
+}
@@ -0,0 +1,87 @@
+/*******************************************************************************
+ * Copyright (c) 2026
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE.
+ *******************************************************************************/
+package jsettlers.algorithms.fogofwar;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+
+import org.junit.Test;
+
+import jsettlers.common.position.ShortPoint2D;
+
+public class FogOfWarSerializationTest {
+	private static final short SIZE = 100;
+
+	@Test
+	public void testSerializationKeepsRefs() throws IOException, ClassNotFoundException {
+		FogOfWar fogOfWar = new FogOfWar(SIZE, SIZE, (byte) 3, null, null);
+		fogOfWar.circleDrawer.drawCircleToBuffer(new ShortPoint2D(40, 50), 12, FogOfWar.CIRCLE_ADD);
+		fogOfWar.circleDrawer.drawCircleToBuffer(new ShortPoint2D(45, 50), 5, FogOfWar.CIRCLE_ADD);
+
+		FogOfWar read = serializeAndDeserialize(fogOfWar);
+
+		assertEquals(3, read.team);
+		assertEquals(SIZE, read.width);
+		assertArrayEquals(fogOfWar.visibleRefs, read.visibleRefs);
+		assertEquals(fogOfWar.isHidden(40, 50), read.isHidden(40, 50));
+	}
+
+	@Test
+	public void testRefCountsAboveByteRange() throws IOException, ClassNotFoundException {
+		FogOfWar fogOfWar = new FogOfWar(SIZE, SIZE, (byte) 0, null, null);
+		ShortPoint2D position = new ShortPoint2D(50, 50);
+		int refsStart = (50 * SIZE + 50) * FogOfWar.REF_DEPTH;
+
+		for (int i = 0; i < 600; i++) {
+			fogOfWar.circleDrawer.drawCircleToBuffer(position, 3, FogOfWar.CIRCLE_ADD);
+		}
+		assertEquals(600, getRefCount(fogOfWar, refsStart));
+		assertEquals("the counts survive a savegame", 600, getRefCount(serializeAndDeserialize(fogOfWar), refsStart));
+
+		for (int i = 0; i < 599; i++) {
+			fogOfWar.circleDrawer.drawCircleToBuffer(position, 3, FogOfWar.CIRCLE_REMOVE);
+		}
+		assertEquals(1, getRefCount(fogOfWar, refsStart));
+
+		fogOfWar.circleDrawer.drawCircleToBuffer(position, 3, FogOfWar.CIRCLE_REMOVE);
+		for (byte ref : fogOfWar.visibleRefs) {
+			assertEquals(0, ref);
+		}
+	}
+
+	private static int getRefCount(FogOfWar fogOfWar, int refsStart) {
+		int count = 0;
+		for (int i = 0; i < FogOfWar.REF_DEPTH; i++) {
+			count += fogOfWar.getRefCount(refsStart + i);
+		}
+		return count;
+	}
+
+	private static FogOfWar serializeAndDeserialize(FogOfWar fogOfWar) throws IOException, ClassNotFoundException {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		try (ObjectOutputStream oos = new ObjectOutputStream(out)) {
+			oos.writeObject(fogOfWar);
+		}
+		try (ObjectInputStream ois = new ObjectInputStream(new ByteArrayInputStream(out.toByteArray()))) {
+			return (FogOfWar) ois.readObject();
+		}
+	}
+}
@@ -0,0 +1,93 @@
+/*******************************************************************************
+ * Copyright (c) 2026
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE.
+ *******************************************************************************/
+package jsettlers.algorithms.fogofwar;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.Random;
+
+import org.junit.Test;
+
+import jsettlers.common.logging.MilliStopWatch;
+import jsettlers.common.movable.EDirection;
+import jsettlers.common.position.ShortPoint2D;
+
+public class FogOfWarSpeedTest {
+	private static final short SIZE           = 1024;
+	private static final int   UNITS          = 5000;
+	private static final int   VIEW_DISTANCE  = 8;
+	private static final int   WARM_UP_ROUNDS = 2;
+	private static final int   ROUNDS         = 5;
+
+	@Test
+	public void testDrawCircleToBufferSpeed() {
+		testSpeed(false);
+	}
+
+	@Test
+	public void testDrawCircleDeltaToBufferSpeed() {
+		testSpeed(true);
+	}
+
+	private static void testSpeed(boolean useDelta) {
+		FogOfWar fogOfWar = new FogOfWar(SIZE, SIZE, (byte) 0, null, null);
+		ShortPoint2D[] positions = createPositions();
+
+		for (ShortPoint2D position : positions) {
+			fogOfWar.circleDrawer.drawCircleToBuffer(position, VIEW_DISTANCE, FogOfWar.CIRCLE_ADD | FogOfWar.CIRCLE_DIM);
+		}
+
+		moveUnits(fogOfWar, positions, WARM_UP_ROUNDS, useDelta);
+
+		MilliStopWatch watch = new MilliStopWatch();
+		moveUnits(fogOfWar, positions, ROUNDS, useDelta);
+		watch.stop((useDelta ? "delta " : "full ") + "moving " + UNITS + " units " + ROUNDS + " times on a " + SIZE + "x" + SIZE + " fog of war needed");
+
+		for (ShortPoint2D position : positions) {
+			fogOfWar.circleDrawer.drawCircleToBuffer(position, VIEW_DISTANCE, FogOfWar.CIRCLE_REMOVE | FogOfWar.CIRCLE_DIM);
+		}
+
+		for (byte ref : fogOfWar.visibleRefs) {
+			assertEquals(0, ref);
+		}
+	}
+
+	private static ShortPoint2D[] createPositions() {
+		Random random = new Random(1);
+		ShortPoint2D[] positions = new ShortPoint2D[UNITS];
+		for (int i = 0; i < UNITS; i++) {
+			positions[i] = new ShortPoint2D(1 + random.nextInt(SIZE - 2), 1 + random.nextInt(SIZE - 2));
+		}
+		return positions;
+	}
+
+	private static void moveUnits(FogOfWar fogOfWar, ShortPoint2D[] positions, int rounds, boolean useDelta) {
+		for (int round = 0; round < rounds; round++) {
+			EDirection direction = (round & 1) == 0 ? EDirection.EAST : EDirection.WEST;
+			for (int i = 0; i < positions.length; i++) {
+				ShortPoint2D oldPosition = positions[i];
+				ShortPoint2D newPosition = direction.getNextHexPoint(oldPosition);
+
+				if (useDelta) {
+					fogOfWar.circleDrawer.drawCircleDeltaToBuffer(newPosition, VIEW_DISTANCE, direction);
+				} else {
+					fogOfWar.circleDrawer.drawCircleToBuffer(newPosition, VIEW_DISTANCE, FogOfWar.CIRCLE_ADD | FogOfWar.CIRCLE_DIM);
+					fogOfWar.circleDrawer.drawCircleToBuffer(oldPosition, VIEW_DISTANCE, FogOfWar.CIRCLE_REMOVE | FogOfWar.CIRCLE_DIM);
+				}
+				positions[i] = newPosition;
+			}
+		}
+	}
+}
@@ -0,0 +1,51 @@
+/*******************************************************************************
+ * Copyright (c) 2026
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE.
+ *******************************************************************************/
+package jsettlers.algorithms.fogofwar;
+
+import static org.junit.Assert.assertArrayEquals;
+
+import org.junit.Test;
+
+import jsettlers.common.movable.EDirection;
+import jsettlers.common.position.ShortPoint2D;
+
+public class ViewCircleDeltaTest {
+	private static final short SIZE = 200;
+
+	@Test
+	public void testDeltaEqualsRemovingAndAddingTheCircle() {
+		for (int viewDistance : new int[] { 0, 1, 5, 8, 13, FogOfWar.MAX_VIEW_DISTANCE - 1 }) {
+			for (EDirection direction : EDirection.VALUES) {
+				assertDeltaEqualsFullRedraw(new ShortPoint2D(100, 100), viewDistance, direction);
+				assertDeltaEqualsFullRedraw(new ShortPoint2D(3, 1), viewDistance, direction);
+			}
+		}
+	}
+
+	private static void assertDeltaEqualsFullRedraw(ShortPoint2D oldPosition, int viewDistance, EDirection direction) {
+		ShortPoint2D newPosition = direction.getNextHexPoint(oldPosition);
+
+		FogOfWar expected = new FogOfWar(SIZE, SIZE, (byte) 0, null, null);
+		expected.circleDrawer.drawCircleToBuffer(oldPosition, viewDistance, FogOfWar.CIRCLE_ADD);
+		expected.circleDrawer.drawCircleToBuffer(newPosition, viewDistance, FogOfWar.CIRCLE_ADD);
+		expected.circleDrawer.drawCircleToBuffer(oldPosition, viewDistance, FogOfWar.CIRCLE_REMOVE);
+
+		FogOfWar actual = new FogOfWar(SIZE, SIZE, (byte) 0, null, null);
+		actual.circleDrawer.drawCircleToBuffer(oldPosition, viewDistance, FogOfWar.CIRCLE_ADD);
+		actual.circleDrawer.drawCircleDeltaToBuffer(newPosition, viewDistance, direction);
+
+		assertArrayEquals(expected.visibleRefs, actual.visibleRefs);
+	}
+}
@@ -0,0 +1,290 @@
+/*******************************************************************************
+ * Copyright (c) 2026
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE.
+ *******************************************************************************/
+package jsettlers.algorithms.path.astar.hierarchical;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.Test;
+
+import jsettlers.algorithms.path.IPathCalculatable;
+import jsettlers.algorithms.path.Path;
+import jsettlers.algorithms.path.astar.BucketQueueAStar;
+import jsettlers.common.Color;
+import jsettlers.common.player.IPlayer;
+import jsettlers.common.position.ShortPoint2D;
+
+public class HierarchicalAStarTest {
+	private static final short WIDTH  = 200;
+	private static final short HEIGHT = 180;
+
+	private final TestMap           map               = new TestMap();
+	private final HierarchicalAStar hierarchicalAStar = new HierarchicalAStar(map, WIDTH, HEIGHT);
+	private final BucketQueueAStar  aStar             = new BucketQueueAStar(map, WIDTH, HEIGHT);
+
+	@Test
+	public void testPathOnEmptyMapIsNearlyOptimal() {
+		Path path = hierarchicalAStar.findPath(getPathable(10, 10), new ShortPoint2D(190, 10));
+
+		assertNotNull(path);
+		assertTrue(path.getLength() <= 180 + ClusterGraph.CLUSTER_SIZE / 2);
+		assertValidPath(10, 10, 190, 10, path);
+	}
+
+	@Test
+	public void testFindsPathsWhereAStarFindsPaths() {
+		Random random = new Random(42);
+		for (int i = 0; i < 3000; i++) {
+			map.setBlocked(random.nextInt(WIDTH), random.nextInt(HEIGHT), true);
+		}
+		for (int x = 20; x < 180; x++) {
+			map.setBlocked(x, 90, true);
+		}
+		informAll();
+
+		for (int i = 0; i < 200; i++) {
+			int sx = random.nextInt(WIDTH);
+			int sy = random.nextInt(HEIGHT);
+			int tx = random.nextInt(WIDTH);
+			int ty = random.nextInt(HEIGHT);
+			if (map.blocked[sx][sy] || map.blocked[tx][ty] || (sx == tx && sy == ty)) {
+				continue;
+			}
+
+			Path expected = aStar.findPath(getPathable(sx, sy), new ShortPoint2D(tx, ty));
+			Path actual = hierarchicalAStar.findPath(getPathable(sx, sy), new ShortPoint2D(tx, ty));
+
+			assertEquals(expected == null, actual == null);
+			if (actual != null) {
+				assertValidPath(sx, sy, tx, ty, actual);
+				assertTrue(actual.getLength() >= expected.getLength());
+
+				int abstractCosts = hierarchicalAStar.findAbstractPathCosts(getPathable(sx, sy), (short) sx, (short) sy, (short) tx, (short) ty);
+				if (abstractCosts >= 0) {
+					assertTrue("the refined path must not be longer than the abstract path", actual.getLength() <= abstractCosts);
+				}
+			}
+		}
+	}
+
+	@Test
+	public void testAbstractPathIsOptimalOnAbstractGraph() {
+		Random random = new Random(7);
+		for (int i = 0; i < 4000; i++) {
+			map.setBlocked(random.nextInt(WIDTH), random.nextInt(HEIGHT), true);
+		}
+		informAll();
+
+		int checkedPaths = 0;
+		for (int i = 0; i < 100; i++) {
+			short sx = (short) random.nextInt(WIDTH);
+			short sy = (short) random.nextInt(HEIGHT);
+			short tx = (short) random.nextInt(WIDTH);
+			short ty = (short) random.nextInt(HEIGHT);
+
+			IPathCalculatable requester = getPathable(sx, sy);
+			int costs = hierarchicalAStar.findAbstractPathCosts(requester, sx, sy, tx, ty);
+			if (costs >= 0) {
+				assertEquals(getShortestAbstractCosts(hierarchicalAStar.getGraph(requester), sx, sy, tx, ty), costs);
+				checkedPaths++;
+			}
+		}
+		assertTrue(checkedPaths > 20);
+	}
+
+	/**
+	 * Brute force Bellman-Ford over all nodes of the graph.
+	 */
+	private static int getShortestAbstractCosts(ClusterGraph graph, int sx, int sy, int tx, int ty) {
+		int nodesPerCluster = ClusterGraph.MAX_NODES_PER_CLUSTER;
+		int[] costs = new int[graph.getNumberOfClusters() * nodesPerCluster];
+		Arrays.fill(costs, Integer.MAX_VALUE);
+
+		int[] startCosts = new int[nodesPerCluster];
+		int startCluster = graph.getClusterIdx(sx, sy);
+		graph.calculateCostsToNodes(startCluster, sx, sy, startCosts);
+		for (int nodeIdx = 0; nodeIdx < graph.getNodes(startCluster).length; nodeIdx++) {
+			if (startCosts[nodeIdx] >= 0) {
+				costs[startCluster * nodesPerCluster + nodeIdx] = startCosts[nodeIdx];
+			}
+		}
+
+		boolean changed = true;
+		while (changed) {
+			changed = false;
+			for (int clusterIdx = 0; clusterIdx < graph.getNumberOfClusters(); clusterIdx++) {
+				int[] nodes = graph.getNodes(clusterIdx);
+				for (int nodeIdx = 0; nodeIdx < nodes.length; nodeIdx++) {
+					int nodeCosts = costs[clusterIdx * nodesPerCluster + nodeIdx];
+					if (nodeCosts == Integer.MAX_VALUE) {
+						continue;
+					}
+
+					for (int otherNodeIdx = 0; otherNodeIdx < nodes.length; otherNodeIdx++) {
+						int intraCost = graph.getIntraCost(clusterIdx, nodeIdx, otherNodeIdx);
+						if (intraCost > 0) {
+							changed |= relax(costs, clusterIdx * nodesPerCluster + otherNodeIdx, nodeCosts + intraCost);
+						}
+					}
+					for (int i = graph.getPartnersStart(clusterIdx, nodeIdx); i < graph.getPartnersEnd(clusterIdx, nodeIdx); i++) {
+						int partner = graph.getPartner(clusterIdx, i);
+						int partnerCluster = graph.getClusterIdx(partner);
+						int partnerNodeIdx = graph.getNodeIdx(partnerCluster, partner);
+						if (partnerNodeIdx >= 0) {
+							changed |= relax(costs, partnerCluster * nodesPerCluster + partnerNodeIdx, nodeCosts + 1);
+						}
+					}
+				}
+			}
+		}
+
+		int[] targetCosts = new int[nodesPerCluster];
+		int targetCluster = graph.getClusterIdx(tx, ty);
+		graph.calculateCostsToNodes(targetCluster, tx, ty, targetCosts);
+		int best = Integer.MAX_VALUE;
+		for (int nodeIdx = 0; nodeIdx < graph.getNodes(targetCluster).length; nodeIdx++) {
+			int nodeCosts = costs[targetCluster * nodesPerCluster + nodeIdx];
+			if (targetCosts[nodeIdx] >= 0 && nodeCosts != Integer.MAX_VALUE) {
+				best = Math.min(best, nodeCosts + targetCosts[nodeIdx]);
+			}
+		}
+		return best;
+	}
+
+	private static boolean relax(int[] costs, int id, int newCosts) {
+		if (newCosts < costs[id]) {
+			costs[id] = newCosts;
+			return true;
+		}
+		return false;
+	}
+
+	@Test
+	public void testChangedPositionsAreRespected() {
+		assertNotNull(hierarchicalAStar.findPath(getPathable(10, 10), new ShortPoint2D(10, 170)));
+
+		for (int x = 0; x < WIDTH; x++) {
+			map.setBlocked(x, 100, true);
+			hierarchicalAStar.positionChanged(x, 100);
+		}
+		assertNull(hierarchicalAStar.findPath(getPathable(10, 10), new ShortPoint2D(10, 170)));
+
+		map.setBlocked(150, 100, false);
+		hierarchicalAStar.positionChanged(150, 100);
+
+		Path path = hierarchicalAStar.findPath(getPathable(10, 10), new ShortPoint2D(10, 170));
+		assertNotNull(path);
+		assertValidPath(10, 10, 10, 170, path);
+	}
+
+	private void informAll() {
+		for (int x = 0; x < WIDTH; x++) {
+			for (int y = 0; y < HEIGHT; y++) {
+				hierarchicalAStar.positionChanged(x, y);
+			}
+		}
+	}
+
+	private void assertValidPath(int sx, int sy, int tx, int ty, Path path) {
+		int x = sx;
+		int y = sy;
+		while (path.hasNextStep()) {
+			int nextX = path.nextX();
+			int nextY = path.nextY();
+			assertEquals(1, ShortPoint2D.getOnGridDist(x, y, nextX, nextY));
+			assertFalse(map.blocked[nextX][nextY]);
+			x = nextX;
+			y = nextY;
+			path.goToNextStep();
+		}
+		assertEquals(tx, x);
+		assertEquals(ty, y);
+	}
+
+	private static IPathCalculatable getPathable(final int x, final int y) {
+		return new IPathCalculatable() {
+			@Override
+			public ShortPoint2D getPosition() {
+				return new ShortPoint2D(x, y);
+			}
+
+			@Override
+			public IPlayer getPlayer() {
+				return IPlayer.DEFAULT_DUMMY_PLAYER0;
+			}
+
+			@Override
+			public boolean needsPlayersGround() {
+				return false;
+			}
+
+			@Override
+			public boolean isShip() {
+				return false;
+			}
+		};
+	}
+
+	private static class TestMap implements IHierarchicalAStarMap {
+		private final boolean[][] blocked = new boolean[WIDTH][HEIGHT];
+
+		void setBlocked(int x, int y, boolean isBlocked) {
+			blocked[x][y] = isBlocked;
+		}
+
+		@Override
+		public boolean isBlocked(int x, int y) {
+			return blocked[x][y];
+		}
+
+		@Override
+		public byte getPlayerIdAt(int x, int y) {
+			return 0;
+		}
+
+		@Override
+		public boolean isBlocked(IPathCalculatable requester, int x, int y) {
+			return blocked[x][y];
+		}
+
+		@Override
+		public float getCost(int sx, int sy, int tx, int ty) {
+			return 1;
+		}
+
+		@Override
+		public void markAsOpen(int x, int y) {
+		}
+
+		@Override
+		public void markAsClosed(int x, int y) {
+		}
+
+		@Override
+		public void setDebugColor(int x, int y, Color color) {
+		}
+
+		@Override
+		public short getBlockedPartition(int x, int y) {
+			return 1;
+		}
+	}
+}
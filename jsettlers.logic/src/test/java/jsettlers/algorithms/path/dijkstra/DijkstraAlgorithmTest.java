@@ -0,0 +1,231 @@
+/*******************************************************************************
+ * Copyright (c) 2026
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE.
+ *******************************************************************************/
+package jsettlers.algorithms.path.dijkstra;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+
+import java.util.EnumSet;
+import java.util.Random;
+import java.util.Set;
+
+import org.junit.Test;
+
+import jsettlers.algorithms.path.IPathCalculatable;
+import jsettlers.algorithms.path.Path;
+import jsettlers.algorithms.path.astar.BucketQueueAStar;
+import jsettlers.algorithms.path.dijkstra.DijkstraAlgorithm.DijkstraContinuableRequest;
+import jsettlers.common.Color;
+import jsettlers.common.material.ESearchType;
+import jsettlers.common.player.IPlayer;
+import jsettlers.common.position.ShortPoint2D;
+
+public class DijkstraAlgorithmTest {
+	private static final short WIDTH  = 120;
+	private static final short HEIGHT = 100;
+
+	private final TestMap           map      = new TestMap();
+	private final BucketQueueAStar  aStar    = new BucketQueueAStar(map, WIDTH, HEIGHT);
+	private final DijkstraAlgorithm dijkstra = new DijkstraAlgorithm(map, aStar, WIDTH, HEIGHT);
+
+	@Test
+	public void testFindsSameTargetsAsRingSearchWithAStar() {
+		Random random = new Random(7);
+		for (int i = 0; i < 2500; i++) {
+			map.blocked[random.nextInt(WIDTH)][random.nextInt(HEIGHT)] = true;
+		}
+		for (int y = 10; y < 90; y++) {
+			map.blocked[60][y] = true;
+		}
+		for (int i = 0; i < 150; i++) {
+			map.fitting[random.nextInt(WIDTH)][random.nextInt(HEIGHT)] = true;
+		}
+
+		for (int i = 0; i < 300; i++) {
+			int sx = random.nextInt(WIDTH);
+			int sy = random.nextInt(HEIGHT);
+			if (map.blocked[sx][sy]) {
+				continue;
+			}
+			short cX = (short) (random.nextBoolean() ? sx : random.nextInt(WIDTH));
+			short cY = (short) (random.nextBoolean() ? sy : random.nextInt(HEIGHT));
+			short maxRadius = (short) (5 + random.nextInt(25));
+
+			ShortPoint2D expected = findWithRingSearch(getPathable(sx, sy), cX, cY, maxRadius);
+			Path path = dijkstra.find(getPathable(sx, sy), cX, cY, (short) 0, maxRadius, ESearchType.CUTTABLE_TREE);
+
+			if (expected == null) {
+				assertNull(path);
+			} else {
+				assertNotNull(path);
+				assertEquals(expected, path.getTargetPosition());
+				assertValidPath(sx, sy, path);
+			}
+		}
+	}
+
+	@Test
+	public void testUnreachableCandidatesAreSkipped() {
+		for (int x = 0; x < WIDTH; x++) {
+			map.blocked[x][50] = true;
+		}
+		for (int x = 20; x < 80; x++) {
+			map.fitting[x][40] = true;
+		}
+		map.fitting[50][70] = true;
+
+		Path path = dijkstra.find(getPathable(50, 80), (short) 50, (short) 45, (short) 0, (short) 30, ESearchType.CUTTABLE_TREE);
+
+		assertNotNull(path);
+		assertEquals(new ShortPoint2D(50, 70), path.getTargetPosition());
+		assertValidPath(50, 80, path);
+	}
+
+	@Test
+	public void testContinuableRequestResumesBehindLastTarget() {
+		map.fitting[50][48] = true;
+		map.fitting[48][50] = true;
+		map.fitting[50][44] = true;
+
+		DijkstraContinuableRequest request = new DijkstraContinuableRequest(getPathable(50, 50), (short) 50, (short) 50, (short) 1, (short) 20);
+		request.setSearchTypes(EnumSet.of(ESearchType.CUTTABLE_TREE));
+
+		assertEquals(new ShortPoint2D(48, 50), dijkstra.find(request).getTargetPosition());
+		assertEquals(new ShortPoint2D(50, 48), dijkstra.find(request).getTargetPosition());
+		assertEquals(new ShortPoint2D(50, 44), dijkstra.find(request).getTargetPosition());
+
+		request.reset();
+		assertEquals(new ShortPoint2D(48, 50), dijkstra.find(request).getTargetPosition());
+	}
+
+	private ShortPoint2D findWithRingSearch(IPathCalculatable requester, short cX, short cY, short maxRadius) {
+		for (ShortPoint2D position : getRingPositions(cX, cY, maxRadius)) {
+			if (isInBounds(position.x, position.y) && map.fitting[position.x][position.y] && aStar.findPath(requester, position) != null) {
+				return position;
+			}
+		}
+		return null;
+	}
+
+	private static ShortPoint2D[] getRingPositions(short cX, short cY, short maxRadius) {
+		final byte[] directionIncreaseX = { -1, 0, 1, 1, 0, -1 };
+		final byte[] directionIncreaseY = { 0, 1, 1, 0, -1, -1 };
+
+		ShortPoint2D[] positions = new ShortPoint2D[1 + 3 * maxRadius * (maxRadius - 1)];
+		int index = 0;
+		positions[index++] = new ShortPoint2D(cX, cY);
+		for (int radius = 1; radius < maxRadius; radius++) {
+			int x = cX, y = cY - radius;
+			for (int direction = 0; direction < 6; direction++) {
+				for (int length = 0; length < radius; length++) {
+					x += directionIncreaseX[direction];
+					y += directionIncreaseY[direction];
+					positions[index++] = new ShortPoint2D(x, y);
+				}
+			}
+		}
+		return positions;
+	}
+
+	private void assertValidPath(int sx, int sy, Path path) {
+		int x = sx;
+		int y = sy;
+		while (path.hasNextStep()) {
+			int nextX = path.nextX();
+			int nextY = path.nextY();
+			assertEquals(1, ShortPoint2D.getOnGridDist(x - nextX, y - nextY));
+			assertFalse(map.blocked[nextX][nextY]);
+			x = nextX;
+			y = nextY;
+			path.goToNextStep();
+		}
+	}
+
+	private static boolean isInBounds(int x, int y) {
+		return 0 <= x && x < WIDTH && 0 <= y && y < HEIGHT;
+	}
+
+	private static IPathCalculatable getPathable(final int x, final int y) {
+		return new IPathCalculatable() {
+			@Override
+			public ShortPoint2D getPosition() {
+				return new ShortPoint2D(x, y);
+			}
+
+			@Override
+			public IPlayer getPlayer() {
+				return IPlayer.DEFAULT_DUMMY_PLAYER0;
+			}
+
+			@Override
+			public boolean needsPlayersGround() {
+				return false;
+			}
+
+			@Override
+			public boolean isShip() {
+				return false;
+			}
+		};
+	}
+
+	private static class TestMap implements IDijkstraPathMap {
+		private final boolean[][] blocked = new boolean[WIDTH][HEIGHT];
+		private final boolean[][] fitting = new boolean[WIDTH][HEIGHT];
+
+		@Override
+		public boolean fitsSearchType(int x, int y, ESearchType type, IPathCalculatable requester) {
+			return fitting[x][y];
+		}
+
+		@Override
+		public boolean fitsSearchType(int x, int y, Set<ESearchType> types, IPathCalculatable requester) {
+			return fitting[x][y];
+		}
+
+		@Override
+		public void setDijkstraSearched(int x, int y) {
+		}
+
+		@Override
+		public boolean isBlocked(IPathCalculatable requester, int x, int y) {
+			return blocked[x][y];
+		}
+
+		@Override
+		public float getCost(int sx, int sy, int tx, int ty) {
+			return 1;
+		}
+
+		@Override
+		public void markAsOpen(int x, int y) {
+		}
+
+		@Override
+		public void markAsClosed(int x, int y) {
+		}
+
+		@Override
+		public void setDebugColor(int x, int y, Color color) {
+		}
+
+		@Override
+		public short getBlockedPartition(int x, int y) {
+			return 1;
+		}
+	}
+}
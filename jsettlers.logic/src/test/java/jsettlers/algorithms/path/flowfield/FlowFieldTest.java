@@ -0,0 +1,229 @@
+/*******************************************************************************
+ * Copyright (c) 2026
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE.
+ *******************************************************************************/
+package jsettlers.algorithms.path.flowfield;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Test;
+
+import jsettlers.algorithms.path.IPathCalculatable;
+import jsettlers.algorithms.path.Path;
+import jsettlers.algorithms.path.astar.BucketQueueAStar;
+import jsettlers.algorithms.path.astar.hierarchical.IHierarchicalAStarMap;
+import jsettlers.common.Color;
+import jsettlers.common.player.IPlayer;
+import jsettlers.common.position.ShortPoint2D;
+
+public class FlowFieldTest {
+	private static final short WIDTH  = 200;
+	private static final short HEIGHT = 180;
+
+	private final TestMap          map   = new TestMap();
+	private final BucketQueueAStar aStar = new BucketQueueAStar(map, WIDTH, HEIGHT);
+
+	@Test
+	public void testGroupPathsReachTheirTargets() {
+		Random random = new Random(42);
+		for (int i = 0; i < 3000; i++) {
+			map.setBlocked(random.nextInt(WIDTH), random.nextInt(HEIGHT), true);
+		}
+
+		List<IPathCalculatable> requesters = new ArrayList<>();
+		List<ShortPoint2D> targets = new ArrayList<>();
+		while (requesters.size() < 100) {
+			ShortPoint2D start = new ShortPoint2D(20 + random.nextInt(30), 20 + random.nextInt(30));
+			ShortPoint2D target = new ShortPoint2D(150 + random.nextInt(20), 140 + random.nextInt(20));
+			if (!map.blocked[start.x][start.y] && !map.blocked[target.x][target.y] && !targets.contains(target)) {
+				requesters.add(getPathable(start.x, start.y, false));
+				targets.add(target);
+			}
+		}
+
+		FlowField flowField = new FlowField(map, 0, 0, WIDTH - 1, HEIGHT - 1, requesters, targets);
+		int pathsFollowingTheField = 0;
+		for (int i = 0; i < requesters.size(); i++) {
+			IPathCalculatable requester = requesters.get(i);
+			ShortPoint2D target = targets.get(i);
+			assertTrue(flowField.leadsTo(requester, target));
+
+			Path expected = aStar.findPath(requester, target);
+			Path actual = flowField.findPath(requester, target, aStar);
+
+			if (actual != null) {
+				assertValidPath(requester.getPosition(), target, actual);
+				assertTrue(actual.getLength() >= expected.getLength());
+				assertTrue(actual.getLength() <= expected.getLength() + FlowField.MAX_DETOUR);
+				pathsFollowingTheField++;
+			}
+			assertFalse(flowField.leadsTo(requester, target)); // every movable uses the field once
+		}
+		assertFalse(flowField.hasRequesters());
+		assertTrue(pathsFollowingTheField > requesters.size() / 2);
+	}
+
+	@Test
+	public void testFieldIsOnlyUsedByTheMovablesOfTheGroup() {
+		IPathCalculatable member = getPathable(100, 60, false);
+		IPathCalculatable stranger = getPathable(100, 60, false);
+		ShortPoint2D target = new ShortPoint2D(100, 100);
+		List<ShortPoint2D> targets = new ArrayList<>();
+		targets.add(target);
+		FlowField flowField = new FlowField(map, 50, 50, 150, 150, Collections.singletonList(member), targets);
+
+		assertFalse(flowField.leadsTo(stranger, target));
+		assertNull(flowField.findPath(stranger, target, aStar));
+		assertFalse(flowField.leadsTo(member, new ShortPoint2D(101, 100)));
+		assertTrue(flowField.leadsTo(member, target));
+
+		Path path = flowField.findPath(member, target, aStar);
+		assertNotNull(path);
+		assertValidPath(member.getPosition(), target, path);
+		assertEquals(40, path.getLength());
+		assertFalse(flowField.hasRequesters());
+	}
+
+	@Test
+	public void testChangedBlockingIsNotFollowed() {
+		List<IPathCalculatable> requesters = new ArrayList<>();
+		requesters.add(getPathable(100, 60, false));
+		requesters.add(getPathable(100, 90, false));
+		List<ShortPoint2D> targets = new ArrayList<>();
+		targets.add(new ShortPoint2D(100, 100));
+		targets.add(new ShortPoint2D(102, 100));
+		FlowField flowField = new FlowField(map, 50, 50, 150, 150, requesters, targets);
+
+		for (int x = 0; x < WIDTH; x++) {
+			map.setBlocked(x, 80, true);
+		}
+		assertNull(flowField.findPath(requesters.get(0), targets.get(0), aStar));
+		assertFalse(flowField.leadsTo(requesters.get(0), targets.get(0)));
+
+		Path path = flowField.findPath(requesters.get(1), targets.get(1), aStar);
+		assertNotNull(path);
+		assertValidPath(requesters.get(1).getPosition(), targets.get(1), path);
+	}
+
+	@Test
+	public void testPositionsOutsideOfTheFieldAreNotCovered() {
+		List<IPathCalculatable> requesters = new ArrayList<>();
+		requesters.add(getPathable(10, 10, false));
+		requesters.add(getPathable(95, 95, true));
+		requesters.add(getPathable(100, 95, false));
+		List<ShortPoint2D> targets = new ArrayList<>();
+		targets.add(new ShortPoint2D(100, 100));
+		targets.add(new ShortPoint2D(101, 101));
+		targets.add(new ShortPoint2D(120, 120));
+		FlowField flowField = new FlowField(map, 90, 90, 110, 110, requesters, targets);
+
+		assertNull(flowField.findPath(requesters.get(0), targets.get(0), aStar));
+		assertNull(flowField.findPath(requesters.get(1), targets.get(1), aStar));
+		assertFalse(flowField.leadsTo(requesters.get(2), targets.get(2))); // the target is outside of the field
+		assertFalse(flowField.hasRequesters());
+	}
+
+	private void assertValidPath(ShortPoint2D start, ShortPoint2D target, Path path) {
+		int x = start.x;
+		int y = start.y;
+		while (path.hasNextStep()) {
+			int nextX = path.nextX();
+			int nextY = path.nextY();
+			assertEquals(1, ShortPoint2D.getOnGridDist(x, y, nextX, nextY));
+			assertFalse(map.blocked[nextX][nextY]);
+			x = nextX;
+			y = nextY;
+			path.goToNextStep();
+		}
+		assertEquals(target.x, x);
+		assertEquals(target.y, y);
+	}
+
+	private static IPathCalculatable getPathable(final int x, final int y, final boolean needsPlayersGround) {
+		return new IPathCalculatable() {
+			@Override
+			public ShortPoint2D getPosition() {
+				return new ShortPoint2D(x, y);
+			}
+
+			@Override
+			public IPlayer getPlayer() {
+				return IPlayer.DEFAULT_DUMMY_PLAYER0;
+			}
+
+			@Override
+			public boolean needsPlayersGround() {
+				return needsPlayersGround;
+			}
+
+			@Override
+			public boolean isShip() {
+				return false;
+			}
+		};
+	}
+
+	private static class TestMap implements IHierarchicalAStarMap {
+		private final boolean[][] blocked = new boolean[WIDTH][HEIGHT];
+
+		void setBlocked(int x, int y, boolean isBlocked) {
+			blocked[x][y] = isBlocked;
+		}
+
+		@Override
+		public boolean isBlocked(int x, int y) {
+			return blocked[x][y];
+		}
+
+		@Override
+		public byte getPlayerIdAt(int x, int y) {
+			return 0;
+		}
+
+		@Override
+		public boolean isBlocked(IPathCalculatable requester, int x, int y) {
+			return blocked[x][y];
+		}
+
+		@Override
+		public float getCost(int sx, int sy, int tx, int ty) {
+			return 1;
+		}
+
+		@Override
+		public void markAsOpen(int x, int y) {
+		}
+
+		@Override
+		public void markAsClosed(int x, int y) {
+		}
+
+		@Override
+		public void setDebugColor(int x, int y, Color color) {
+		}
+
+		@Override
+		public short getBlockedPartition(int x, int y) {
+			return 1;
+		}
+	}
+}
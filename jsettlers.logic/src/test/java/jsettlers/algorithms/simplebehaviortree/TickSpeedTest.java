@@ -0,0 +1,46 @@
+/*******************************************************************************
+ * Copyright (c) 2026
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE.
+ *******************************************************************************/
+package jsettlers.algorithms.simplebehaviortree;
+
+import org.junit.Test;
+
+import jsettlers.common.logging.MilliStopWatch;
+
+public class TickSpeedTest {
+	private static final int TARGETS = 20000;
+	private static final int ROUNDS  = 50;
+
+	@Test
+	public void testTickSpeed() {
+		TickTest.Worker[] workers = new TickTest.Worker[TARGETS];
+		for (int i = 0; i < TARGETS; i++) {
+			workers[i] = new TickTest.Worker(i % 7);
+		}
+
+		for (int round = 0; round < ROUNDS; round++) { // warm up
+			for (TickTest.Worker worker : workers) {
+				worker.tick.tick();
+			}
+		}
+
+		MilliStopWatch watch = new MilliStopWatch();
+		for (int round = 0; round < ROUNDS; round++) {
+			for (TickTest.Worker worker : workers) {
+				worker.tick.tick();
+			}
+		}
+		watch.stop("ticking " + TARGETS + " behavior trees " + ROUNDS + " times needed");
+	}
+}
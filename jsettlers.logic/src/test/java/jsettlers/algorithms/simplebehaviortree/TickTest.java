@@ -0,0 +1,225 @@
+/*******************************************************************************
+ * Copyright (c) 2026
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE.
+ *******************************************************************************/
+package jsettlers.algorithms.simplebehaviortree;
+
+import static jsettlers.algorithms.simplebehaviortree.BehaviorTreeHelper.action;
+import static jsettlers.algorithms.simplebehaviortree.BehaviorTreeHelper.condition;
+import static jsettlers.algorithms.simplebehaviortree.BehaviorTreeHelper.guard;
+import static jsettlers.algorithms.simplebehaviortree.BehaviorTreeHelper.guardSelector;
+import static jsettlers.algorithms.simplebehaviortree.BehaviorTreeHelper.repeatLoop;
+import static jsettlers.algorithms.simplebehaviortree.BehaviorTreeHelper.selector;
+import static jsettlers.algorithms.simplebehaviortree.BehaviorTreeHelper.sequence;
+import static jsettlers.algorithms.simplebehaviortree.BehaviorTreeHelper.waitFor;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamClass;
+import java.io.Serializable;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.Test;
+
+import jsettlers.algorithms.simplebehaviortree.nodes.DynamicGuardSelector;
+import jsettlers.algorithms.simplebehaviortree.nodes.RepeatCount;
+import jsettlers.algorithms.simplebehaviortree.nodes.Selector;
+import jsettlers.algorithms.simplebehaviortree.nodes.Sequence;
+import jsettlers.algorithms.simplebehaviortree.nodes.Sleep;
+
+public class TickTest {
+	static final Root<Worker> WORKER_TREE = new Root<>("TickTest.Worker", createWorkerBehaviour());
+
+	@Test
+	public void testSerializedTickContinuesWithSharedTree() throws IOException, ClassNotFoundException {
+		Worker worker = new Worker(1);
+		Worker reference = new Worker(1);
+		for (int i = 0; i < 7; i++) {
+			worker.tick.tick();
+			reference.tick.tick();
+		}
+
+		ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+		try (ObjectOutputStream oos = new ObjectOutputStream(buffer)) {
+			oos.writeObject(worker);
+		}
+		Worker loaded;
+		try (ObjectInputStream ois = new ObjectInputStream(new ByteArrayInputStream(buffer.toByteArray()))) {
+			loaded = (Worker) ois.readObject();
+		}
+
+		assertSame(WORKER_TREE, loaded.tick.root);
+		assertSame(loaded, loaded.tick.target);
+		for (int i = 0; i < 30; i++) {
+			assertEquals(reference.tick.tick(), loaded.tick.tick());
+			assertEquals(reference.carried, loaded.carried);
+			assertEquals(reference.steps, loaded.steps);
+		}
+		assertTrue(loaded.carried > 0);
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void testTickOfOldSavegameIsConverted() throws IOException, ClassNotFoundException {
+		Root<Worker> root = new Root<>(createWorkerBehaviour());
+		Worker worker = new Worker(1);
+		Tick<Worker> tick = new Tick<>(worker, root);
+		for (int i = 0; i < 7; i++) {
+			tick.tick();
+		}
+
+		ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+		try (ObjectOutputStream oos = new ObjectOutputStream(buffer)) {
+			oos.writeObject(new OldTick(tick));
+		}
+		Tick<Worker> loaded;
+		try (ObjectInputStream ois = new ObjectInputStream(new ByteArrayInputStream(buffer.toByteArray())) {
+			@Override
+			protected ObjectStreamClass readClassDescriptor() throws IOException, ClassNotFoundException {
+				ObjectStreamClass descriptor = super.readClassDescriptor();
+				return descriptor.getName().equals(OldTick.class.getName()) ? ObjectStreamClass.lookup(Tick.class) : descriptor;
+			}
+		}) {
+			loaded = (Tick<Worker>) ois.readObject();
+		}
+
+		for (int i = 0; i < 30; i++) {
+			assertEquals(tick.tick(), loaded.tick());
+			assertEquals(worker.carried, loaded.target.carried);
+			assertEquals(worker.steps, loaded.target.steps);
+		}
+		assertTrue(worker.carried > 0);
+	}
+
+	/**
+	 * Shaped like the bearer's tree: a guard selector choosing between jobs, each job a sequence of waiting steps.
+	 */
+	private static Node<Worker> createWorkerBehaviour() {
+		return guardSelector(
+				guard(Worker::hasJob,
+						sequence(
+								waitFor(condition(Worker::walk)),
+								action(Worker::takeMaterial),
+								waitFor(condition(Worker::walk)),
+								repeatLoop(2, action(Worker::dropMaterial)),
+								action(Worker::finishJob)
+						)
+				),
+				guard(Worker::isIdle,
+						selector(
+								condition(Worker::findJob),
+								action(Worker::idle)
+						)
+				)
+		);
+	}
+
+	static class Worker implements Serializable {
+		private static final long serialVersionUID = 1L;
+
+		final Tick<Worker> tick;
+
+		int     jobDelay;
+		boolean hasJob;
+		int     steps;
+		int     carried;
+
+		Worker(int jobDelay) {
+			this.jobDelay = jobDelay;
+			this.tick = new Tick<>(this, WORKER_TREE);
+		}
+
+		boolean hasJob() {
+			return hasJob;
+		}
+
+		boolean isIdle() {
+			return !hasJob;
+		}
+
+		boolean walk() {
+			return ++steps % 3 == 0;
+		}
+
+		void takeMaterial() {
+			carried++;
+		}
+
+		void dropMaterial() {
+			steps++;
+		}
+
+		void finishJob() {
+			hasJob = false;
+		}
+
+		boolean findJob() {
+			hasJob = jobDelay-- <= 0;
+			if (hasJob) {
+				jobDelay = 2;
+			}
+			return hasJob;
+		}
+
+		void idle() {
+		}
+	}
+
+	/**
+	 * Has the fields of ticks saved before their state was kept in arrays.
+	 */
+	private static class OldTick implements Serializable {
+		private static final long serialVersionUID = 1L;
+
+		final Root<Worker>         root;
+		final Worker               target;
+		final Set<Node<Worker>>    openNodes  = new HashSet<>();
+		final Map<Integer, Object> properties = new HashMap<>();
+
+		OldTick(Tick<Worker> tick) {
+			this.root = tick.root;
+			this.target = tick.target;
+			addState(tick, root);
+		}
+
+		private void addState(Tick<Worker> tick, Node<Worker> node) {
+			if (tick.isOpen(node)) {
+				openNodes.add(node);
+			}
+
+			if (node instanceof DynamicGuardSelector) {
+				int runningChild = tick.getIntProperty(node.getId());
+				properties.put(node.getId(), runningChild >= 0 ? ((Composite<Worker>) node).children.get(runningChild) : null);
+			} else if (node instanceof Sequence || node instanceof Selector || node instanceof RepeatCount || node instanceof Sleep) {
+				properties.put(node.getId(), tick.getIntProperty(node.getId()));
+			}
+
+			if (node instanceof Composite) {
+				for (Node<Worker> child : ((Composite<Worker>) node).children) {
+					addState(tick, child);
+				}
+			} else if (node instanceof Decorator) {
+				addState(tick, ((Decorator<Worker>) node).child);
+			}
+		}
+	}
+}
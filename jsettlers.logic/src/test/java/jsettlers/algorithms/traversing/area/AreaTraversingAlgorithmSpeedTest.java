@@ -0,0 +1,47 @@
+/*******************************************************************************
+ * Copyright (c) 2026
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE.
+ *******************************************************************************/
+package jsettlers.algorithms.traversing.area;
+
+import static org.junit.Assert.assertEquals;
+
+import org.junit.Test;
+
+import jsettlers.algorithms.interfaces.IContainingProvider;
+import jsettlers.common.logging.MilliStopWatch;
+
+public class AreaTraversingAlgorithmSpeedTest {
+
+	@Test
+	public void testTraversingSpeed() {
+		final int size = 1024;
+		AreaTraversingAlgorithm algorithm = new AreaTraversingAlgorithm(size, size);
+		IContainingProvider containingProvider = (x, y) -> (x % 64 != 32 || y % 128 == 0);
+		int[] visits = new int[1];
+		IAreaVisitor visitor = (x, y) -> {
+			visits[0]++;
+			return true;
+		};
+
+		algorithm.traverseArea(containingProvider, visitor, 0, 0); // warm up
+
+		MilliStopWatch watch = new MilliStopWatch();
+		for (int i = 0; i < 10; i++) {
+			algorithm.traverseArea(containingProvider, visitor, i, i);
+		}
+		watch.stop("traversing a " + size + "x" + size + " area 10 times needed");
+
+		assertEquals(11 * (size * size - 16 * (size - 8)), visits[0]);
+	}
+}
@@ -14,15 +14,18 @@
  *******************************************************************************/
 package jsettlers.algorithms.traversing.area;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
 import java.util.BitSet;
 import java.util.LinkedList;
+import java.util.Random;
 
 import jsettlers.algorithms.interfaces.IContainingProvider;
 import jsettlers.common.map.shapes.FreeMapArea;
 import jsettlers.common.map.shapes.MapCircle;
+import jsettlers.common.movable.EDirection;
 import jsettlers.common.position.ShortPoint2D;
 
 import org.junit.Test;
@@ -51,7 +54,8 @@ public class AreaTraversingAlgorithmTest {
 			return true;
 		};
 
-		boolean result = AreaTraversingAlgorithm.traverseArea(containingProvider, visitor, c1.iterator().next(), WIDTH, HEIGHT);
+		ShortPoint2D start = c1.iterator().next();
+		boolean result = new AreaTraversingAlgorithm(WIDTH, HEIGHT).traverseArea(containingProvider, visitor, start.x, start.y);
 		assertTrue(result);
 
 		// check if all positions in the area have been traversed
@@ -62,4 +66,76 @@ public class AreaTraversingAlgorithmTest {
 			}
 		}
 	}
+
+	@Test
+	public void testReusedAlgorithmVisitsSameAreaAsNeighborFlood() {
+		Random random = new Random(3);
+		boolean[][] blocked = new boolean[WIDTH][HEIGHT];
+		AreaTraversingAlgorithm algorithm = new AreaTraversingAlgorithm(WIDTH, HEIGHT);
+
+		for (int round = 0; round < 20; round++) {
+			for (int i = 0; i < 2000; i++) {
+				blocked[random.nextInt(WIDTH)][random.nextInt(HEIGHT)] = random.nextBoolean();
+			}
+			int startX = random.nextInt(WIDTH);
+			int startY = random.nextInt(HEIGHT);
+			blocked[startX][startY] = false;
+
+			BitSet expected = floodNeighbors(blocked, startX, startY);
+			BitSet visited = new BitSet(WIDTH * HEIGHT);
+			assertTrue(algorithm.traverseArea((x, y) -> !blocked[x][y], (x, y) -> {
+				assertFalse(visited.get(x + y * WIDTH));
+				visited.set(x + y * WIDTH);
+				return true;
+			}, startX, startY));
+
+			assertEquals(expected, visited);
+		}
+	}
+
+	@Test
+	public void testAreaDoesNotWrapAroundRightBorder() {
+		// the column at x = WIDTH - 1 is contained and so is the column at x = 0, but both are only connected by wrapping around the border
+		final IContainingProvider containingProvider = (x, y) -> x == 0 || x == WIDTH - 1;
+		final BitSet visited = new BitSet(WIDTH * HEIGHT);
+
+		new AreaTraversingAlgorithm(WIDTH, HEIGHT).traverseArea(containingProvider, (x, y) -> {
+			visited.set(x + y * WIDTH);
+			return true;
+		}, WIDTH - 1, 0);
+
+		assertEquals(HEIGHT, visited.cardinality());
+		for (int y = 0; y < HEIGHT; y++) {
+			assertTrue(visited.get(WIDTH - 1 + y * WIDTH));
+		}
+	}
+
+	@Test
+	public void testTraversingIsCanceled() {
+		int[] visits = new int[1];
+		boolean result = new AreaTraversingAlgorithm(WIDTH, HEIGHT).traverseArea((x, y) -> true, (x, y) -> ++visits[0] < 100, 50, 50);
+
+		assertFalse(result);
+		assertEquals(100, visits[0]);
+	}
+
+	private static BitSet floodNeighbors(boolean[][] blocked, int startX, int startY) {
+		BitSet reached = new BitSet(WIDTH * HEIGHT);
+		LinkedList<ShortPoint2D> open = new LinkedList<>();
+		open.add(new ShortPoint2D(startX, startY));
+		reached.set(startX + startY * WIDTH);
+
+		while (!open.isEmpty()) {
+			ShortPoint2D current = open.poll();
+			for (EDirection direction : EDirection.VALUES) {
+				int x = current.x + direction.gridDeltaX;
+				int y = current.y + direction.gridDeltaY;
+				if (0 <= x && x < WIDTH && 0 <= y && y < HEIGHT && !blocked[x][y] && !reached.get(x + y * WIDTH)) {
+					reached.set(x + y * WIDTH);
+					open.add(new ShortPoint2D(x, y));
+				}
+			}
+		}
+		return reached;
+	}
 }
@@ -14,6 +14,7 @@
  *******************************************************************************/
 package jsettlers.integration.ai;
 
+import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
 import java.util.Arrays;
@@ -116,6 +117,7 @@ public class AiDifficultiesIT {
 						+ "the maximumTimeToWin.", startedGame, startingGame.getMainGrid(), expectedWinnerSlotId);
 			}
 		} while (aiStatistics.isAlive(expectedLooserSlotId));
+		assertTrue("incrementally updated statistics differ from a full rescan", aiStatistics.checkIncrementalMapStatistics());
 		System.out.println("The battle between " + expectedWinner + " and " + expectedLooser + " took " + (MatchConstants.clock().getTime() / 60000) +
 				" minutes.");
 		ReplayUtils.awaitShutdown(startedGame);
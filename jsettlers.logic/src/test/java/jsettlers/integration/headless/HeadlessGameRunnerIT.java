@@ -0,0 +1,54 @@
+/*******************************************************************************
+ * Copyright (c) 2026
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE.
+ *******************************************************************************/
+package jsettlers.integration.headless;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import jsettlers.logic.map.loading.MapLoadException;
+import jsettlers.logic.map.loading.MapLoader;
+import jsettlers.logic.player.PlayerSetting;
+import jsettlers.main.replay.HeadlessGameRunner;
+import jsettlers.network.synchronic.timer.NetworkTimer;
+import jsettlers.testutils.TestUtils;
+import jsettlers.testutils.map.MapUtils;
+
+public class HeadlessGameRunnerIT {
+	private static final int GAME_TIME = 2 * 60 * 1000;
+
+	static {
+		TestUtils.setupTempResourceManager();
+	}
+
+	@Test
+	public void testRunReachesTargetTime() throws MapLoadException {
+		MapLoader map = MapUtils.getMountainlake();
+		PlayerSetting[] playerSettings = PlayerSetting.createDefaultSettings((byte) -1, (byte) map.getMaxPlayers());
+
+		HeadlessGameRunner.Result result = new HeadlessGameRunner(map, 1L, playerSettings).run(GAME_TIME);
+
+		assertEquals(GAME_TIME, result.getGameTimeMs());
+		assertEquals(GAME_TIME / NetworkTimer.TIME_SLICE, result.getTimeSlices());
+		assertTrue(result.getWallNanos() > 0);
+		assertTrue(result.getGameMsPerWallMs() > 0);
+		assertTrue(result.getTimeSlicesPerSecond() > 0);
+		assertTrue(result.getAllocatedBytes() != 0);
+		assertEquals(GAME_TIME / 1000, result.getProfile().getSection("AiExecutor").getExecutions());
+		assertTrue(result.getProfile().getSection("BearerMovable").getExecutions() > 0);
+		assertTrue(result.toString().startsWith(map.getMapName() + ": " + GAME_TIME + " ms game time"));
+	}
+}
@@ -0,0 +1,193 @@
+/*******************************************************************************
+ * Copyright (c) 2026
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE.
+ *******************************************************************************/
+package jsettlers.logic;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.lang.reflect.Array;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.BitSet;
+import java.util.Random;
+
+import org.junit.Test;
+
+import jsettlers.common.buildings.EBuildingType;
+import jsettlers.common.landscape.ELandscapeType;
+import jsettlers.common.landscape.EResourceType;
+import jsettlers.common.map.shapes.FreeMapArea;
+import jsettlers.common.map.shapes.MapCircle;
+import jsettlers.common.player.ECivilisation;
+import jsettlers.common.position.ShortPoint2D;
+import jsettlers.logic.map.grid.flags.FlagsGrid;
+import jsettlers.logic.map.grid.landscape.LandscapeGrid;
+import jsettlers.logic.map.grid.partition.PartitionsGrid;
+import jsettlers.logic.player.PlayerSetting;
+
+public class ChunkedArrayWriterTest {
+
+	@Test
+	public void testArraysSpanningSeveralChunks() throws IOException {
+		Random random = new Random(3);
+		byte[] bytes = new byte[ChunkedArrayWriter.CHUNK_SIZE * 2 + 3];
+		random.nextBytes(bytes);
+		short[] shorts = new short[ChunkedArrayWriter.CHUNK_SIZE + 7];
+		for (int i = 0; i < shorts.length; i++) {
+			shorts[i] = (short) random.nextInt();
+		}
+		long[] longs = new long[ChunkedArrayWriter.CHUNK_SIZE / 4 + 1];
+		for (int i = 0; i < longs.length; i++) {
+			longs[i] = random.nextLong();
+		}
+
+		ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+		try (ObjectOutputStream oos = new ObjectOutputStream(buffer)) {
+			ChunkedArrayWriter writer = new ChunkedArrayWriter(oos);
+			writer.write(new byte[0]);
+			writer.write(bytes);
+			writer.write(shorts);
+			writer.write(new byte[] { 42 });
+			writer.write(longs);
+			writer.finish();
+			oos.writeInt(1234);
+		}
+
+		try (ObjectInputStream ois = new ObjectInputStream(new ByteArrayInputStream(buffer.toByteArray()))) {
+			ChunkedArrayReader reader = new ChunkedArrayReader(ois);
+			assertEquals(0, reader.readBytes().length);
+			assertArrayEquals(bytes, reader.readBytes());
+			assertArrayEquals(shorts, reader.readShorts());
+			assertArrayEquals(new byte[] { 42 }, reader.readBytes());
+			assertArrayEquals(longs, reader.readLongs());
+			reader.finish();
+			assertEquals(1234, ois.readInt());
+		}
+	}
+
+	@Test
+	public void testUniformArraysAreCompressed() throws IOException {
+		short[] shorts = new short[1024 * 1024];
+
+		ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+		try (ObjectOutputStream oos = new ObjectOutputStream(buffer)) {
+			ChunkedArrayWriter writer = new ChunkedArrayWriter(oos);
+			writer.write(shorts);
+			writer.finish();
+		}
+
+		assertTrue(buffer.size() < shorts.length / 100);
+	}
+
+	@Test
+	public void testFlagsGridSerialization() throws IOException, ClassNotFoundException {
+		FlagsGrid flagsGrid = new FlagsGrid((short) 300, (short) 200);
+		flagsGrid.setBlockedAndProtected(10, 20, true);
+		flagsGrid.setProtected(299, 199, true);
+		flagsGrid.setMarked((short) 150, (short) 100, true);
+
+		ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+		try (ObjectOutputStream oos = new ObjectOutputStream(buffer)) {
+			oos.writeObject(flagsGrid);
+		}
+		FlagsGrid loaded;
+		try (ObjectInputStream ois = new ObjectInputStream(new ByteArrayInputStream(buffer.toByteArray()))) {
+			loaded = (FlagsGrid) ois.readObject();
+		}
+
+		assertTrue(loaded.isBlocked(10, 20));
+		assertTrue(loaded.isProtected(10, 20));
+		assertTrue(loaded.isProtected(299, 199));
+		assertTrue(loaded.isMarked(150, 100));
+		assertFalse(loaded.isBlocked(11, 20));
+	}
+
+	/**
+	 * The grids write their fields with putFields and their arrays in bulk. This test fails if a field is missing from the field list.
+	 */
+	@Test
+	public void testGridsKeepAllFields() throws IOException, ClassNotFoundException, IllegalAccessException {
+		short width = 300;
+		short height = 200;
+		FlagsGrid flagsGrid = new FlagsGrid(width, height);
+		LandscapeGrid landscapeGrid = new LandscapeGrid(width, height, flagsGrid);
+		PartitionsGrid partitionsGrid = new PartitionsGrid(width, height, PlayerSetting.createDefaultSettings((byte) 0, (byte) 3), landscapeGrid);
+
+		Random random = new Random(5);
+		for (int i = 0; i < 1000; i++) {
+			short x = (short) random.nextInt(width);
+			short y = (short) random.nextInt(height);
+			flagsGrid.setBlockedAndProtected(x, y, random.nextBoolean(), random.nextBoolean());
+			flagsGrid.setMarked(x, y, random.nextBoolean());
+			landscapeGrid.setHeightAt(x, y, (byte) random.nextInt(100));
+			landscapeGrid.setLandscapeTypeAt(x, y, ELandscapeType.VALUES[random.nextInt(ELandscapeType.VALUES.length)], false);
+			landscapeGrid.setResourceAt(x, y, EResourceType.VALUES[random.nextInt(EResourceType.VALUES.length)], (byte) random.nextInt(20));
+			landscapeGrid.setBlockedPartition(x, y, (short) random.nextInt(10));
+		}
+		ShortPoint2D towerPosition = new ShortPoint2D(100, 100);
+		partitionsGrid.addTowerAndOccupyArea((byte) 1, new MapCircle(towerPosition, 40),
+				new FreeMapArea(towerPosition, EBuildingType.TOWER.getVariant(ECivilisation.ROMAN).getProtectedTiles()));
+
+		ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+		try (ObjectOutputStream oos = new ObjectOutputStream(buffer)) {
+			oos.writeObject(flagsGrid);
+			oos.writeObject(landscapeGrid);
+			oos.writeObject(partitionsGrid);
+		}
+		try (ObjectInputStream ois = new ObjectInputStream(new ByteArrayInputStream(buffer.toByteArray()))) {
+			assertAllFieldsEqual(flagsGrid, ois.readObject());
+			assertAllFieldsEqual(landscapeGrid, ois.readObject());
+			assertAllFieldsEqual(partitionsGrid, ois.readObject());
+		}
+	}
+
+	private static void assertAllFieldsEqual(Object expected, Object actual) throws IllegalAccessException {
+		assertEquals(expected.getClass(), actual.getClass());
+		for (Field field : expected.getClass().getDeclaredFields()) {
+			if ((field.getModifiers() & (Modifier.STATIC | Modifier.TRANSIENT)) == 0) {
+				field.setAccessible(true);
+				assertValueEquals(field.getName(), field.get(expected), field.get(actual));
+			}
+		}
+	}
+
+	/**
+	 * Compares arrays element by element and simple values by equality. Of other objects only the class is compared.
+	 */
+	private static void assertValueEquals(String name, Object expected, Object actual) {
+		if (expected == null || actual == null) {
+			assertEquals(name, expected, actual);
+			return;
+		}
+
+		assertEquals(name, expected.getClass(), actual.getClass());
+		if (expected.getClass().isArray()) {
+			int length = Array.getLength(expected);
+			assertEquals(name, length, Array.getLength(actual));
+			for (int i = 0; i < length; i++) {
+				assertValueEquals(name, Array.get(expected, i), Array.get(actual, i));
+			}
+		} else if (expected instanceof Number || expected instanceof Boolean || expected instanceof BitSet || expected instanceof Enum) {
+			assertEquals(name, expected, actual);
+		}
+	}
+}
@@ -0,0 +1,131 @@
+/*******************************************************************************
+ * Copyright (c) 2026
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE.
+ *******************************************************************************/
+package jsettlers.logic;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.After;
+import org.junit.Test;
+
+import jsettlers.logic.constants.MatchConstants;
+import jsettlers.logic.timer.IScheduledTimerable;
+import jsettlers.logic.timer.RescheduleTimer;
+
+public class GameContextTest {
+	private static final int GAMES = 4;
+	private static final int TICKS = 1000;
+
+	@After
+	public void tearDown() {
+		GameContext.bind(null);
+	}
+
+	@Test
+	public void testUnboundThreadsShareTheDefaultContext() throws InterruptedException {
+		GameContext mainContext = GameContext.current();
+		AtomicReference<GameContext> threadContext = new AtomicReference<>();
+
+		Thread thread = new Thread(() -> threadContext.set(GameContext.current()));
+		thread.start();
+		thread.join();
+
+		assertSame(mainContext, threadContext.get());
+	}
+
+	@Test
+	public void testStartedThreadsInheritTheBoundContext() throws InterruptedException {
+		GameContext context = new GameContext();
+		GameContext.bind(context);
+		AtomicReference<GameContext> threadContext = new AtomicReference<>();
+
+		Thread thread = new Thread(() -> threadContext.set(GameContext.current()));
+		thread.start();
+		thread.join();
+
+		assertSame(context, threadContext.get());
+		GameContext.bind(null);
+		assertNotSame(context, GameContext.current());
+	}
+
+	@Test
+	public void testGamesInParallelDoNotShareState() throws Exception {
+		ExecutorService executor = Executors.newFixedThreadPool(GAMES);
+		try {
+			Future<?>[] results = new Future<?>[GAMES];
+			for (int game = 0; game < GAMES; game++) {
+				results[game] = executor.submit(new SimulatedGame(game));
+			}
+
+			for (int game = 0; game < GAMES; game++) {
+				assertEquals(new SimulatedGame(game).call(), results[game].get()); // rerun every game alone
+			}
+		} finally {
+			executor.shutdown();
+		}
+	}
+
+	/**
+	 * Schedules timerables that draw from the game's random generator and reschedule themselves. The result only depends on the seed if no state is
+	 * shared with other games.
+	 */
+	private static class SimulatedGame implements Callable<Long> {
+		private final int seed;
+
+		SimulatedGame(int seed) {
+			this.seed = seed;
+		}
+
+		@Override
+		public Long call() {
+			GameContext.bind(new GameContext());
+			try {
+				MatchConstants.init(null, seed);
+
+				long[] sum = new long[1];
+				for (int i = 0; i < 10; i++) {
+					RescheduleTimer.add(new IScheduledTimerable() {
+						@Override
+						public int timerEvent() {
+							int value = MatchConstants.random().nextInt(100);
+							sum[0] = sum[0] * 31 + value;
+							return 25 + value;
+						}
+
+						@Override
+						public void kill() {
+						}
+					}, 25 * (i + 1));
+				}
+
+				RescheduleTimer timer = GameContext.current().getRescheduleTimer();
+				for (int tick = 0; tick < TICKS; tick++) {
+					timer.timerEvent();
+				}
+				assertEquals(10, RescheduleTimer.getNumberOfScheduled());
+				return sum[0];
+			} finally {
+				GameContext.bind(null);
+			}
+		}
+	}
+}
@@ -0,0 +1,80 @@
+/*******************************************************************************
+ * Copyright (c) 2026
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE.
+ *******************************************************************************/
+package jsettlers.logic.map.grid;
+
+import static jsettlers.logic.map.grid.SectorIndexTest.HEIGHT;
+import static jsettlers.logic.map.grid.SectorIndexTest.WIDTH;
+import static org.junit.Assert.assertEquals;
+
+import org.junit.Test;
+
+import jsettlers.common.logging.MilliStopWatch;
+import jsettlers.common.position.ShortPoint2D;
+
+public class SectorIndexSpeedTest {
+	private final SectorIndexTest.Fixture fixture = new SectorIndexTest.Fixture();
+
+	@Test
+	public void testArmyMarchSpeed() {
+		ShortPoint2D[] positions = new ShortPoint2D[4 * 250];
+		for (int i = 0; i < positions.length; i++) {
+			byte team = (byte) (i / 250);
+			int row = (i % 250) / 25;
+			int column = i % 25;
+			int x = team % 2 == 0 ? 20 + column : WIDTH - 45 + column;
+			int y = team < 2 ? 20 + row : HEIGHT - 30 + row;
+			positions[i] = new ShortPoint2D(x, y);
+			fixture.set(x, y, team);
+		}
+
+		long scanSum = 0;
+		long indexSum = 0;
+		long scanTime = 0;
+		long indexTime = 0;
+		for (int step = 0; step < 120; step++) {
+			for (int i = 0; i < positions.length; i++) {
+				byte team = (byte) (i / 250);
+				ShortPoint2D position = positions[i];
+				int dx = team % 2 == 0 ? 1 : -1;
+				int dy = team < 2 ? 1 : -1;
+				ShortPoint2D newPosition = new ShortPoint2D(position.x + dx, position.y + dy);
+				if (fixture.teams[newPosition.x + newPosition.y * WIDTH] == 0) {
+					fixture.clear(position.x, position.y);
+					fixture.set(newPosition.x, newPosition.y, team);
+					positions[i] = newPosition;
+				} else {
+					newPosition = position;
+				}
+
+				long start = System.nanoTime();
+				scanSum += fixture.scanArea(newPosition.x, newPosition.y, team, false).size();
+				long middle = System.nanoTime();
+				indexSum += fixture.searchIndex(newPosition.x, newPosition.y, team, false).size();
+				long end = System.nanoTime();
+				scanTime += middle - start;
+				indexTime += end - middle;
+			}
+		}
+
+		assertEquals(scanSum, indexSum);
+		System.out.println("4 player army march: area scan needed " + scanTime / 1000000 + " ms, sector index needed " + indexTime / 1000000 + " ms");
+
+		MilliStopWatch watch = new MilliStopWatch();
+		for (ShortPoint2D position : positions) {
+			fixture.searchIndex(position.x, position.y, (byte) 0, true);
+		}
+		watch.stop("informing the full area of " + positions.length + " soldiers needed");
+	}
+}
@@ -0,0 +1,113 @@
+/*******************************************************************************
+ * Copyright (c) 2026
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE.
+ *******************************************************************************/
+package jsettlers.logic.map.grid;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Test;
+
+import jsettlers.common.map.shapes.HexGridArea;
+import jsettlers.common.position.ShortPoint2D;
+
+public class SectorIndexTest {
+	static final short WIDTH         = 400;
+	static final short HEIGHT        = 300;
+	static final int   SEARCH_RADIUS = 30;
+
+	private final Fixture fixture = new Fixture();
+
+	@Test
+	public void testRingOrderMatchesHexGridArea() {
+		List<ShortPoint2D> expected = new ArrayList<>();
+		HexGridArea.stream(0, 0, 1, 12).forEach((x, y) -> expected.add(new ShortPoint2D(x, y)));
+
+		int lastKey = -1;
+		for (ShortPoint2D position : expected) {
+			int key = SectorIndex.getRingOrder(position.x, position.y, ShortPoint2D.getOnGridDist(position.x, position.y));
+			assertTrue(key > lastKey);
+			lastKey = key;
+		}
+	}
+
+	@Test
+	public void testVisitsSameEntriesAsAreaScan() {
+		Random random = new Random(5);
+		for (int i = 0; i < 3000; i++) {
+			fixture.set(random.nextInt(WIDTH), random.nextInt(HEIGHT), (byte) random.nextInt(4));
+		}
+		for (int i = 0; i < 1000; i++) {
+			int x = random.nextInt(WIDTH);
+			int y = random.nextInt(HEIGHT);
+			if (fixture.teams[x + y * WIDTH] != 0) {
+				fixture.clear(x, y);
+			}
+		}
+
+		for (int i = 0; i < 200; i++) {
+			int x = random.nextInt(WIDTH);
+			int y = random.nextInt(HEIGHT);
+			byte team = (byte) random.nextInt(4);
+			boolean fullArea = random.nextBoolean();
+			assertEquals(fixture.scanArea(x, y, team, fullArea), fixture.searchIndex(x, y, team, fullArea));
+		}
+	}
+
+	static class Fixture {
+		final byte[]      teams = new byte[WIDTH * HEIGHT]; // team + 1 of the entry at a position, 0 if empty
+		final SectorIndex index = new SectorIndex(WIDTH, HEIGHT);
+
+		void set(int x, int y, byte team) {
+			if (teams[x + y * WIDTH] == 0) {
+				teams[x + y * WIDTH] = (byte) (team + 1);
+				index.add(x, y, team);
+			}
+		}
+
+		void clear(int x, int y) {
+			index.remove(x, y, teams[x + y * WIDTH] - 1);
+			teams[x + y * WIDTH] = 0;
+		}
+
+		boolean isEnemy(int x, int y, byte team) {
+			byte entry = teams[x + y * WIDTH];
+			return entry != 0 && entry != team + 1;
+		}
+
+		List<ShortPoint2D> scanArea(int x, int y, byte team, boolean fullArea) {
+			List<ShortPoint2D> found = new ArrayList<>();
+			HexGridArea.stream(x, y, fullArea ? 1 : SEARCH_RADIUS - 1, fullArea ? SEARCH_RADIUS : SEARCH_RADIUS - 1)
+					.filterBounds(WIDTH, HEIGHT)
+					.forEach((currX, currY) -> {
+						if (isEnemy(currX, currY, team)) {
+							found.add(new ShortPoint2D(currX, currY));
+						}
+					});
+			return found;
+		}
+
+		List<ShortPoint2D> searchIndex(int x, int y, byte team, boolean fullArea) {
+			List<ShortPoint2D> found = new ArrayList<>();
+			index.forEachInRingOrder(x, y, fullArea ? 1 : SEARCH_RADIUS - 1, fullArea ? SEARCH_RADIUS : SEARCH_RADIUS - 1, team,
+					(currX, currY) -> isEnemy(currX, currY, team),
+					(currX, currY) -> found.add(new ShortPoint2D(currX, currY)));
+			return found;
+		}
+	}
+}
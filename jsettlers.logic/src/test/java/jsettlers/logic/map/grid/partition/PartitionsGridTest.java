@@ -19,18 +19,29 @@ import jsettlers.common.buildings.EBuildingType;
 import jsettlers.common.map.shapes.FreeMapArea;
 import jsettlers.common.map.shapes.MapCircle;
 import jsettlers.common.material.EMaterialType;
+import jsettlers.common.movable.EMovableType;
 import jsettlers.common.player.ECivilisation;
+import jsettlers.common.position.SRectangle;
 import jsettlers.common.position.ShortPoint2D;
+import jsettlers.logic.map.grid.IGridChangedListener;
 import jsettlers.logic.map.grid.partition.manager.PartitionManager;
 import jsettlers.logic.map.grid.partition.manager.materials.offers.EOfferPriority;
 import jsettlers.logic.map.grid.partition.manager.materials.offers.MaterialOffer;
+import jsettlers.logic.movable.interfaces.IProfessionCount;
 import jsettlers.logic.player.PlayerSetting;
 import org.junit.Test;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 
 public class PartitionsGridTest {
@@ -60,6 +71,36 @@ public class PartitionsGridTest {
 		grid.mergePartitions(partition1, partition2);
 	}
 
+	@Test
+	public void testMergeNotifiesAreaOfMergedPartition() {
+		short partition1 = grid.createNewPartition((byte) 1);
+		short partition2 = grid.createNewPartition((byte) 1);
+		setPartitionInCircle(partition1, 75, 75, 30);
+		setPartitionInCircle(partition2, 130, 125, 10);
+
+		List<SRectangle> changedAreas = new ArrayList<>();
+		grid.getGridChangedListeners().add(new IGridChangedListener() {
+			@Override
+			public void positionChanged(int x, int y) {
+				changedAreas.add(new SRectangle((short) x, (short) y, (short) x, (short) y));
+			}
+
+			@Override
+			public void areaChanged(int xMin, int yMin, int xMax, int yMax) {
+				changedAreas.add(new SRectangle((short) xMin, (short) yMin, (short) xMax, (short) yMax));
+			}
+		});
+
+		grid.mergePartitions(partition1, partition2);
+
+		assertEquals(1, changedAreas.size());
+		SRectangle area = changedAreas.get(0);
+		for (ShortPoint2D position : new MapCircle(new ShortPoint2D(130, 125), 10)) {
+			assertTrue(area.contains(position));
+		}
+		assertTrue(area.xMin >= 115 && area.xMax <= 145 && area.yMin >= 110 && area.yMax <= 140);
+	}
+
 	@Test
 	public void testMergeAndRepresentatives() {
 		short partitions[] = new short[] { grid.createNewPartition((byte) 1), grid.createNewPartition((byte) 1), grid.createNewPartition((byte) 1),
@@ -75,6 +116,53 @@ public class PartitionsGridTest {
 		}
 	}
 
+	@Test
+	public void testManyMergesKeepRepresentativesThroughNormalizing() {
+		short[] partitions = new short[2000];
+		for (int i = 0; i < partitions.length; i++) {
+			partitions[i] = grid.createNewPartition((byte) 1);
+		}
+		setPartitionInCircle(partitions[0], 50, 50, 10);
+		setPartitionInCircle(partitions[partitions.length - 1], 150, 150, 10);
+
+		for (int step = 1; step < partitions.length; step *= 2) { // merge pairwise to build deep hierarchies
+			for (int i = 0; i + step < partitions.length; i += 2 * step) {
+				grid.mergePartitions(partitions[i + step], partitions[i]);
+			}
+		}
+
+		Partition merged = grid.partitionObjects[partitions[0]];
+		for (short partition : partitions) {
+			assertSame(merged, grid.partitionObjects[partition]);
+		}
+		assertSame(merged, grid.getPartitionAt(50, 50));
+		assertSame(merged, grid.getPartitionAt(150, 150));
+
+		short newPartition = grid.createNewPartition((byte) 1); // normalizes the merged ids
+
+		assertFalse(merged == grid.partitionObjects[newPartition]);
+		assertEquals(merged.partitionId, grid.getPartitionIdAt(50, 50));
+		assertEquals(merged.partitionId, grid.getRealPartitionIdAt(150, 150));
+		assertSame(merged, grid.getPartitionAt(150, 150));
+	}
+
+	@Test
+	public void testTowerTakesOverOffersOfItsArea() {
+		ShortPoint2D materialPos = new ShortPoint2D(110, 100);
+		Partition noPlayerPartition = grid.getPartitionAt(materialPos.x, materialPos.y);
+		noPlayerPartition.addOffer(materialPos, EMaterialType.STONE, EOfferPriority.NORMAL);
+		noPlayerPartition.addOffer(new ShortPoint2D(190, 100), EMaterialType.STONE, EOfferPriority.NORMAL);
+
+		addTower(0, 100, 100, 40);
+
+		Partition towerPartition = grid.getPartitionAt(100, 100);
+		assertEquals(0, towerPartition.getPlayerId());
+		assertOfferAt(materialPos, EMaterialType.STONE, 1);
+		assertNull(noPlayerPartition.getMaterialOfferAt(materialPos, EMaterialType.STONE, EOfferPriority.NORMAL));
+		assertNotNull(noPlayerPartition.getMaterialOfferAt(new ShortPoint2D(190, 100), EMaterialType.STONE, EOfferPriority.NORMAL));
+		assertEquals(WIDTH * HEIGHT, countPositionsOfAllPartitions());
+	}
+
 	@Test
 	public void testMergeWithAreaAndGoods() {
 		short partition1 = grid.createNewPartition((byte) 1);
@@ -204,6 +292,49 @@ public class PartitionsGridTest {
 		assertOfferAt(materialPos, EMaterialType.STONE, 2);
 	}
 
+	@Test
+	public void testProfessionCountsMoveWhenPartitionsAreDivided() {
+		addTower(0, 50, 100, 40);
+		addTower(0, 150, 100, 40);
+		addTower(0, 100, 100, 40);
+		IProfessionCount left = countBearerAt(50, 100);
+		IProfessionCount right = countBearerAt(150, 100);
+		IProfessionCount middle = countBearerAt(100, 100);
+		assertEquals(3, getBearerCountAt(150, 100));
+
+		removeTower(100, 100);
+		addTower(1, 100, 100, 40);
+
+		// the bearers of the divided parts are counted in their new partitions, the one on the ground of the other player isn't counted any more
+		assertEquals(1, getBearerCountAt(50, 100));
+		assertEquals(1, getBearerCountAt(150, 100));
+		assertEquals(0, getBearerCountAt(100, 100));
+		assertFalse(grid.isProfessionCountOutdated(50, 100, left));
+		assertFalse(grid.isProfessionCountOutdated(150, 100, right));
+		assertTrue(grid.isProfessionCountOutdated(100, 100, middle));
+
+		grid.uncountProfession(left);
+		grid.uncountProfession(middle);
+		assertEquals(0, getBearerCountAt(50, 100));
+		assertEquals(1, getBearerCountAt(150, 100));
+		assertEquals(0, getBearerCountAt(100, 100));
+	}
+
+	@Test
+	public void testProfessionCountsMoveWhenPartitionsAreMerged() {
+		addTower(0, 50, 100, 40);
+		addTower(0, 150, 100, 40);
+		IProfessionCount left = countBearerAt(50, 100);
+		countBearerAt(150, 100);
+
+		addTower(0, 100, 100, 40);
+		assertEquals(2, getBearerCountAt(100, 100));
+		assertFalse(grid.isProfessionCountOutdated(50, 100, left));
+
+		grid.uncountProfession(left);
+		assertEquals(1, getBearerCountAt(100, 100));
+	}
+
 	@Test
 	public void testTakeOverCloseTower() {
 		addTower(0, 50, 100, 40);
@@ -244,6 +375,15 @@ public class PartitionsGridTest {
 		assertEquals(3, grid.getTowerCountAt(94, 71));
 	}
 
+	private IProfessionCount countBearerAt(int x, int y) {
+		ShortPoint2D position = new ShortPoint2D(x, y);
+		return grid.countProfession(() -> position, EMovableType.BEARER, (byte) 0);
+	}
+
+	private int getBearerCountAt(int x, int y) {
+		return grid.getPartitionAt(x, y).getPartitionSettings().getProfessionSettings().getBearerCount();
+	}
+
 	private void changePlayerOfTower(int x, int y, int newPlayer) {
 		ShortPoint2D pos = new ShortPoint2D(x, y);
 		grid.changePlayerOfTower(pos, (byte) newPlayer);
@@ -278,6 +418,17 @@ public class PartitionsGridTest {
 		assertEquals(amount, offer.getAmount());
 	}
 
+	private int countPositionsOfAllPartitions() {
+		Set<Partition> partitions = Collections.newSetFromMap(new IdentityHashMap<>());
+		int positions = 0;
+		for (Partition partition : grid.partitionObjects) {
+			if (partition != null && partitions.add(partition)) {
+				positions += partition.getNumberOfElements();
+			}
+		}
+		return positions;
+	}
+
 	private int setPartitionInCircle(short partition, int x, int y, float radius) {
 		MapCircle circle = new MapCircle(new ShortPoint2D(x, y), radius);
 		int positions = 0;
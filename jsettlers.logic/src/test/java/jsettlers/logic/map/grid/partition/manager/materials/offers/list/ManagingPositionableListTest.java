@@ -0,0 +1,285 @@
+/*******************************************************************************
+ * Copyright (c) 2026
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE.
+ *******************************************************************************/
+package jsettlers.logic.map.grid.partition.manager.materials.offers.list;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Test;
+
+import jsettlers.common.position.ILocatable;
+import jsettlers.common.position.ShortPoint2D;
+import jsettlers.common.utils.MathUtils;
+import jsettlers.logic.map.grid.partition.manager.datastructures.PositionableList;
+
+public class ManagingPositionableListTest {
+	private static final int SIZE = 300;
+
+	private final Random random = new Random(7);
+
+	@Test
+	public void testRemoveObjectNextToMatchesLinearScan() {
+		ManagingPositionableList<TestObject> list = new ManagingPositionableList<>();
+		List<TestObject> reference = new ArrayList<>();
+
+		for (int i = 0; i < 3000; i++) {
+			int operation = random.nextInt(10);
+			if (operation < 5) {
+				TestObject object = new TestObject(random.nextInt(SIZE), random.nextInt(SIZE));
+				list.insert(object);
+				reference.add(object);
+
+			} else if (operation < 7 && !reference.isEmpty()) {
+				TestObject object = reference.get(random.nextInt(reference.size()));
+				if (random.nextBoolean()) {
+					object.active = !object.active;
+				} else {
+					object.removable = true;
+				}
+
+			} else {
+				ShortPoint2D position = new ShortPoint2D(random.nextInt(SIZE), random.nextInt(SIZE));
+				TestObject expected = removeLinear(reference, position);
+				assertSame(expected, list.removeObjectNextTo(position));
+			}
+
+			assertEquals(hasNoActiveLinear(reference), list.hasNoActive());
+		}
+	}
+
+	@Test
+	public void testTiesAreBrokenByInsertionOrder() {
+		ManagingPositionableList<TestObject> list = new ManagingPositionableList<>();
+		for (int i = 0; i < 100; i++) {
+			list.insert(new TestObject(200 + i, 200));
+		}
+		TestObject first = new TestObject(50, 40);
+		TestObject second = new TestObject(50, 60);
+		list.insert(second);
+		list.insert(first);
+
+		assertSame(second, list.removeObjectNextTo(new ShortPoint2D(50, 50)));
+		assertSame(first, list.removeObjectNextTo(new ShortPoint2D(50, 50)));
+	}
+
+	@Test
+	public void testMovingObjectsMatchLinearScan() {
+		PositionableList<MovingObject> list = new PositionableList<>(true);
+		List<MovingObject> reference = new ArrayList<>();
+
+		for (int i = 0; i < 5000; i++) {
+			int operation = random.nextInt(10);
+			if (operation < 3) {
+				MovingObject object = new MovingObject(random.nextInt(SIZE), random.nextInt(SIZE));
+				list.insert(object);
+				reference.add(object);
+
+			} else if (operation < 8 && !reference.isEmpty()) {
+				MovingObject object = reference.get(random.nextInt(reference.size()));
+				int x = Math.max(0, Math.min(SIZE - 1, object.position.x + random.nextInt(41) - 20));
+				int y = Math.max(0, Math.min(SIZE - 1, object.position.y + random.nextInt(41) - 20));
+				object.position = new ShortPoint2D(x, y);
+				assertTrue(list.updatePosition(object));
+
+			} else {
+				ShortPoint2D position = new ShortPoint2D(random.nextInt(SIZE), random.nextInt(SIZE));
+				MovingObject expected = null;
+				int bestDistance = Integer.MAX_VALUE;
+				for (MovingObject object : reference) {
+					int distance = MathUtils.squareHypot(position, object.position);
+					if (distance < bestDistance) {
+						bestDistance = distance;
+						expected = object;
+					}
+				}
+				reference.remove(expected);
+				assertSame(expected, list.removeObjectNextTo(position));
+			}
+		}
+		assertFalse(list.updatePosition(new MovingObject(0, 0)));
+	}
+
+	@Test
+	public void testMoveObjectsAtPositionAndSerialization() throws IOException, ClassNotFoundException {
+		ManagingPositionableList<TestObject> list = new ManagingPositionableList<>();
+		for (int i = 0; i < 50; i++) {
+			list.insert(new TestObject(i, i));
+		}
+		list.insert(new TestObject(10, 10));
+
+		ManagingPositionableList<TestObject> other = new ManagingPositionableList<>();
+		List<TestObject> moved = new ArrayList<>();
+		list.moveObjectsAtPositionTo(new ShortPoint2D(10, 10), other, moved::add);
+		assertEquals(2, moved.size());
+		assertEquals(49, list.size());
+		assertEquals(2, other.size());
+		assertTrue(list.getObjectAt(new ShortPoint2D(10, 10)) == null);
+
+		ManagingPositionableList<TestObject> copy = serializeAndDeserialize(list);
+		assertEquals(49, copy.size());
+		assertEquals(new ShortPoint2D(9, 9), copy.removeObjectNextTo(new ShortPoint2D(10, 10)).getPosition());
+		assertFalse(copy.hasNoActive());
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void testLayoutOfOlderVersionsIsRead() throws IOException, ClassNotFoundException {
+		LegacyPositionableList legacy = new LegacyPositionableList();
+		for (int i = 0; i < 50; i++) {
+			legacy.data.add(new TestObject(i, 2 * i));
+		}
+
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		try (ObjectOutputStream oos = new ObjectOutputStream(bytes)) {
+			oos.writeObject(legacy);
+		}
+		byte[] stream = replace(bytes.toByteArray(), utf(LegacyPositionableList.class.getName()), utf(PositionableList.class.getName()));
+
+		PositionableList<TestObject> list;
+		try (ObjectInputStream ois = new ObjectInputStream(new ByteArrayInputStream(stream))) {
+			list = (PositionableList<TestObject>) ois.readObject();
+		}
+		assertEquals(50, list.size());
+		assertEquals(new ShortPoint2D(0, 0), list.getObjectAt(new ShortPoint2D(0, 0)).getPosition());
+
+		list.indexPositions();
+		assertEquals(50, list.size());
+		assertEquals(new ShortPoint2D(20, 40), list.removeObjectNextTo(new ShortPoint2D(20, 39)).getPosition());
+		assertEquals(49, list.size());
+	}
+
+	private static byte[] utf(String string) throws IOException {
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		try (DataOutputStream out = new DataOutputStream(bytes)) {
+			out.writeUTF(string);
+		}
+		return bytes.toByteArray();
+	}
+
+	private static byte[] replace(byte[] data, byte[] search, byte[] replacement) {
+		for (int i = 0; i <= data.length - search.length; i++) {
+			if (Arrays.equals(Arrays.copyOfRange(data, i, i + search.length), search)) {
+				byte[] result = new byte[data.length - search.length + replacement.length];
+				System.arraycopy(data, 0, result, 0, i);
+				System.arraycopy(replacement, 0, result, i, replacement.length);
+				System.arraycopy(data, i + search.length, result, i + replacement.length, data.length - i - search.length);
+				return result;
+			}
+		}
+		throw new AssertionError("not found");
+	}
+
+	private static TestObject removeLinear(List<TestObject> reference, ShortPoint2D position) {
+		int bestDistance = Integer.MAX_VALUE;
+		TestObject best = null;
+		for (Iterator<TestObject> iterator = reference.iterator(); iterator.hasNext(); ) {
+			TestObject object = iterator.next();
+			if (object.removable) {
+				iterator.remove();
+			} else if (object.active) {
+				int distance = MathUtils.squareHypot(position, object.position);
+				if (distance < bestDistance) {
+					bestDistance = distance;
+					best = object;
+				}
+			}
+		}
+		reference.remove(best);
+		return best;
+	}
+
+	private static boolean hasNoActiveLinear(List<TestObject> reference) {
+		for (TestObject object : reference) {
+			if (!object.removable && object.active) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	@SuppressWarnings("unchecked")
+	private static <T> T serializeAndDeserialize(T object) throws IOException, ClassNotFoundException {
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		try (ObjectOutputStream oos = new ObjectOutputStream(bytes)) {
+			oos.writeObject(object);
+		}
+		try (ObjectInputStream ois = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+			return (T) ois.readObject();
+		}
+	}
+
+	/**
+	 * Has the serialized form {@link PositionableList} had before its positions were indexed.
+	 */
+	private static class LegacyPositionableList implements Serializable {
+		private static final long serialVersionUID = 414099060331344505L;
+
+		private final LinkedList<TestObject> data = new LinkedList<>();
+	}
+
+	private static class MovingObject implements ILocatable {
+		private ShortPoint2D position;
+
+		MovingObject(int x, int y) {
+			this.position = new ShortPoint2D(x, y);
+		}
+
+		@Override
+		public ShortPoint2D getPosition() {
+			return position;
+		}
+	}
+
+	private static class TestObject implements ILocatable, IListManageable, Serializable {
+		private final ShortPoint2D position;
+		private boolean            active = true;
+		private boolean            removable;
+
+		TestObject(int x, int y) {
+			this.position = new ShortPoint2D(x, y);
+		}
+
+		@Override
+		public ShortPoint2D getPosition() {
+			return position;
+		}
+
+		@Override
+		public boolean isActive() {
+			return active;
+		}
+
+		@Override
+		public boolean canBeRemoved() {
+			return removable;
+		}
+	}
+}
@@ -0,0 +1,58 @@
+/*******************************************************************************
+ * Copyright (c) 2026
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE.
+ *******************************************************************************/
+package jsettlers.logic.map.grid.partition.manager.settings;
+
+import jsettlers.common.movable.EMovableType;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+public class ProfessionSettingsTest {
+
+	@Test
+	public void testIncrementAndDecrement() {
+		ProfessionSettings settings = new ProfessionSettings();
+		settings.increment(EMovableType.BEARER);
+		settings.increment(EMovableType.BEARER);
+		settings.increment(EMovableType.DIGGER);
+		settings.increment(EMovableType.SWORDSMAN_L1);
+		settings.decrement(EMovableType.BEARER);
+
+		assertEquals(2, settings.getWorkerCount());
+		assertEquals(1, settings.getBearerCount());
+		assertEquals(1, settings.getDiggerCount());
+		assertEquals(0, settings.getBricklayerCount());
+		assertEquals(0.5f, settings.getCurrentBearerRatio(), 0f);
+	}
+
+	@Test
+	public void testAddCounts() {
+		ProfessionSettings settings = new ProfessionSettings();
+		settings.increment(EMovableType.BEARER);
+		settings.increment(EMovableType.BRICKLAYER);
+
+		ProfessionSettings other = new ProfessionSettings();
+		other.increment(EMovableType.BEARER);
+		other.increment(EMovableType.DIGGER);
+
+		settings.addCounts(other);
+
+		assertEquals("the counts of merged partitions should be added", 4, settings.getWorkerCount());
+		assertEquals(2, settings.getBearerCount());
+		assertEquals(1, settings.getDiggerCount());
+		assertEquals(1, settings.getBricklayerCount());
+	}
+}
@@ -0,0 +1,117 @@
+/*******************************************************************************
+ * Copyright (c) 2026
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE.
+ *******************************************************************************/
+package jsettlers.logic.map.loading.list;
+
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.Date;
+
+import jsettlers.logic.map.loading.newmap.MapFileHeader;
+import jsettlers.logic.map.loading.newmap.MapFileHeader.MapType;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+
+public class MapCatalogueTest {
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	@Test
+	public void testSaveAndRead() throws IOException {
+		File indexFile = new File(folder.getRoot(), "maps.catalogue");
+		File mapFile = createMapFile("map.rmap", 10);
+		MapFileHeader header = createHeader("Test map");
+
+		MapCatalogue catalogue = new MapCatalogue(indexFile);
+		assertNull(catalogue.getHeader(mapFile));
+		catalogue.putHeader(mapFile, mapFile.length(), mapFile.lastModified(), header);
+		catalogue.save();
+
+		MapFileHeader read = new MapCatalogue(indexFile).getHeader(mapFile);
+		assertNotNull(read);
+		assertEquals("Test map", read.getName());
+		assertEquals(header.getUniqueId(), read.getUniqueId());
+		assertEquals(header.getCreationDate(), read.getCreationDate());
+	}
+
+	@Test
+	public void testChangedAndRemovedFiles() throws IOException {
+		File indexFile = new File(folder.getRoot(), "maps.catalogue");
+		File changedFile = createMapFile("changed.rmap", 10);
+		File removedFile = createMapFile("removed.rmap", 10);
+
+		MapCatalogue catalogue = new MapCatalogue(indexFile);
+		catalogue.putHeader(changedFile, changedFile.length(), changedFile.lastModified(), createHeader("Changed"));
+		catalogue.putHeader(removedFile, removedFile.length(), removedFile.lastModified(), createHeader("Removed"));
+
+		createMapFile("changed.rmap", 20);
+		assertNull("the headers of changed files have to be read again", catalogue.getHeader(changedFile));
+
+		catalogue.retainFiles(Collections.singletonList(changedFile));
+		assertNull(catalogue.getHeader(removedFile));
+	}
+
+	@Test
+	public void testFileChangedWhileReadingTheHeader() throws IOException {
+		File indexFile = new File(folder.getRoot(), "maps.catalogue");
+		File mapFile = createMapFile("map.rmap", 10);
+		long length = mapFile.length();
+		long lastModified = mapFile.lastModified();
+
+		createMapFile("map.rmap", 20);
+		MapCatalogue catalogue = new MapCatalogue(indexFile);
+		catalogue.putHeader(mapFile, length, lastModified, createHeader("Old"));
+		assertNull(catalogue.getHeader(mapFile));
+	}
+
+	@Test
+	public void testInvalidHeaderLength() throws IOException {
+		File indexFile = new File(folder.getRoot(), "maps.catalogue");
+		File mapFile = createMapFile("map.rmap", 10);
+		try (DataOutputStream out = new DataOutputStream(new FileOutputStream(indexFile))) {
+			out.writeInt(0x4d415043);
+			out.writeInt(1);
+			out.writeInt(1);
+			out.writeUTF(mapFile.getAbsolutePath());
+			out.writeLong(mapFile.length());
+			out.writeLong(mapFile.lastModified());
+			out.writeInt(Integer.MAX_VALUE);
+		}
+
+		assertNull(new MapCatalogue(indexFile).getHeader(mapFile));
+	}
+
+	private File createMapFile(String name, int length) throws IOException {
+		File file = new File(folder.getRoot(), name);
+		try (FileOutputStream out = new FileOutputStream(file)) {
+			out.write(new byte[length]);
+		}
+		return file;
+	}
+
+	private static MapFileHeader createHeader(String name) {
+		short[] preview = new short[MapFileHeader.PREVIEW_IMAGE_SIZE * MapFileHeader.PREVIEW_IMAGE_SIZE];
+		return new MapFileHeader(MapType.NORMAL, name, null, "description", (short) 64, (short) 64, (short) 1, (short) 2, new Date(1000), preview);
+	}
+}
@@ -0,0 +1,172 @@
+/*******************************************************************************
+ * Copyright (c) 2026
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE.
+ *******************************************************************************/
+package jsettlers.logic.movable;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import jsettlers.common.ai.EPlayerType;
+import jsettlers.common.movable.EMovableType;
+import jsettlers.common.player.ECivilisation;
+import jsettlers.logic.GameContext;
+import jsettlers.logic.movable.interfaces.ILogicMovable;
+import jsettlers.logic.player.Player;
+import jsettlers.logic.player.Team;
+
+public class MovableManagerTest {
+
+	private static final Player[] PLAYERS = {
+			new Player((byte) 0, new Team((byte) 0), (byte) 2, EPlayerType.HUMAN, ECivilisation.ROMAN),
+			new Player((byte) 1, new Team((byte) 1), (byte) 2, EPlayerType.HUMAN, ECivilisation.ROMAN)
+	};
+
+	@Before
+	public void setUp() {
+		GameContext.bind(new GameContext());
+	}
+
+	@After
+	public void tearDown() {
+		GameContext.bind(null);
+	}
+
+	@Test
+	public void testMovablesAreCountedPerPlayerAndType() throws Exception {
+		List<ILogicMovable> movables = new ArrayList<>();
+		for (int i = 0; i < 5; i++) {
+			movables.add(createMovable(i, 0, EMovableType.BEARER, false));
+		}
+		movables.add(createMovable(5, 0, EMovableType.SWORDSMAN_L1, false));
+		movables.add(createMovable(6, 1, EMovableType.BEARER, false));
+		movables.add(createMovable(7, 1, EMovableType.BEARER, true));
+		load(movables);
+
+		assertEquals(5, MovableManager.getMovableCount((byte) 0, EMovableType.BEARER));
+		assertEquals(1, MovableManager.getMovableCount((byte) 0, EMovableType.SWORDSMAN_L1));
+		assertEquals(0, MovableManager.getMovableCount((byte) 0, EMovableType.BOWMAN_L1));
+		assertEquals(2, MovableManager.getMovableCount((byte) 1, EMovableType.BEARER));
+		assertEquals(0, MovableManager.getMovableCount((byte) 3, EMovableType.BEARER));
+
+		MovableManager.resetState();
+		assertEquals(0, MovableManager.getMovableCount((byte) 0, EMovableType.BEARER));
+		assertEquals(0, MovableManager.getWoundedMovables((byte) 1).size());
+	}
+
+	@Test
+	public void testWoundedMovablesFollowTheirHealth() throws Exception {
+		List<ILogicMovable> movables = new ArrayList<>();
+		movables.add(createMovable(0, 0, EMovableType.SWORDSMAN_L1, true));
+		movables.add(createMovable(1, 0, EMovableType.SWORDSMAN_L1, false));
+		movables.add(createMovable(2, 1, EMovableType.SWORDSMAN_L1, true));
+		load(movables);
+
+		ILogicMovable first = MovableManager.getMovableByID(0);
+		ILogicMovable second = MovableManager.getMovableByID(1);
+		assertEquals(1, MovableManager.getWoundedMovables((byte) 0).size());
+		assertTrue(MovableManager.getWoundedMovables((byte) 0).contains(first));
+		assertEquals(1, MovableManager.getWoundedMovables((byte) 1).size());
+
+		getState(second).wounded = true;
+		MovableManager.healthChanged(second);
+		assertEquals(2, MovableManager.getWoundedMovables((byte) 0).size());
+
+		getState(first).wounded = false;
+		MovableManager.healthChanged(first);
+		getState(second).alive = false;
+		MovableManager.healthChanged(second);
+		assertEquals(0, MovableManager.getWoundedMovables((byte) 0).size());
+		assertEquals(1, MovableManager.getWoundedMovables((byte) 1).size());
+	}
+
+	private static void load(List<ILogicMovable> movables) throws Exception {
+		HashMap<Integer, ILogicMovable> movablesById = new HashMap<>();
+		for (ILogicMovable movable : movables) {
+			movablesById.put(movable.getID(), movable);
+		}
+
+		ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+		try (ObjectOutputStream oos = new ObjectOutputStream(buffer)) {
+			oos.writeInt(movables.size());
+			oos.writeObject(new ConcurrentLinkedQueue<>(movables));
+			oos.writeObject(movablesById);
+		}
+		try (ObjectInputStream ois = new ObjectInputStream(new ByteArrayInputStream(buffer.toByteArray()))) {
+			MovableManager.readStaticState(ois);
+		}
+	}
+
+	private static MovableState getState(ILogicMovable movable) {
+		return (MovableState) Proxy.getInvocationHandler(movable);
+	}
+
+	private static ILogicMovable createMovable(int id, int playerId, EMovableType type, boolean wounded) {
+		MovableState state = new MovableState(id, (byte) playerId, type);
+		state.wounded = wounded;
+		return (ILogicMovable) Proxy.newProxyInstance(MovableManagerTest.class.getClassLoader(), new Class<?>[] { ILogicMovable.class }, state);
+	}
+
+	private static class MovableState implements InvocationHandler, Serializable {
+		private final int          id;
+		private final byte         playerId;
+		private final EMovableType type;
+		private       boolean      alive = true;
+		private       boolean      wounded;
+
+		MovableState(int id, byte playerId, EMovableType type) {
+			this.id = id;
+			this.playerId = playerId;
+			this.type = type;
+		}
+
+		@Override
+		public Object invoke(Object proxy, Method method, Object[] args) {
+			switch (method.getName()) {
+			case "getID":
+				return id;
+			case "getPlayer":
+				return PLAYERS[playerId];
+			case "getMovableType":
+				return type;
+			case "isAlive":
+				return alive;
+			case "isWounded":
+				return wounded;
+			case "hashCode":
+				return System.identityHashCode(proxy);
+			case "equals":
+				return proxy == args[0];
+			default:
+				throw new UnsupportedOperationException(method.getName());
+			}
+		}
+	}
+}
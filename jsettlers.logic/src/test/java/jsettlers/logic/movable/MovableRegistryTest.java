@@ -0,0 +1,193 @@
+/*******************************************************************************
+ * Copyright (c) 2026
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE.
+ *******************************************************************************/
+package jsettlers.logic.movable;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import org.junit.Test;
+
+import jsettlers.logic.movable.interfaces.ILogicMovable;
+
+public class MovableRegistryTest {
+
+	@Test
+	public void testAddRemoveAndLookup() {
+		MovableRegistry registry = new MovableRegistry();
+		List<ILogicMovable> movables = new ArrayList<>();
+		for (int i = 0; i < 1000; i++) {
+			ILogicMovable movable = createMovable(Integer.MIN_VALUE + i);
+			movables.add(movable);
+			registry.register(movable);
+		}
+
+		Random random = new Random(3);
+		for (int i = 0; i < 500; i++) {
+			ILogicMovable movable = movables.remove(random.nextInt(movables.size()));
+			registry.unregister(movable);
+			assertNull(registry.getById(movable.getID()));
+		}
+
+		assertEquals(500, registry.size());
+		for (ILogicMovable movable : movables) {
+			assertSame(movable, registry.getById(movable.getID()));
+		}
+
+		int iterated = 0;
+		for (ILogicMovable movable : registry) {
+			assertSame(movable, registry.getById(movable.getID()));
+			iterated++;
+		}
+		assertEquals(500, iterated);
+	}
+
+	@Test
+	public void testIterationKeepsInsertionOrder() {
+		MovableRegistry registry = new MovableRegistry();
+		List<ILogicMovable> expected = new ArrayList<>();
+		Random random = new Random(5);
+		for (int i = 0; i < 1000; i++) {
+			ILogicMovable movable = createMovable(i);
+			registry.register(movable);
+			expected.add(movable);
+			if (random.nextInt(3) == 0) {
+				ILogicMovable removed = expected.remove(random.nextInt(expected.size()));
+				registry.unregister(removed);
+			}
+		}
+
+		assertEquals(expected, new ArrayList<>(registry));
+	}
+
+	@Test
+	public void testRemovingReplacedMovableKeepsReplacement() {
+		MovableRegistry registry = new MovableRegistry();
+		ILogicMovable replaced = createMovable(7);
+		ILogicMovable replacement = createMovable(7);
+		registry.register(replaced);
+		registry.unregister(replaced);
+		registry.register(replacement);
+		registry.unregister(replaced);
+
+		assertSame(replacement, registry.getById(7));
+	}
+
+	@Test
+	public void testSerializationKeepsOrder() throws Exception {
+		MovableRegistry registry = new MovableRegistry();
+		List<ILogicMovable> movables = new ArrayList<>();
+		for (int i = 0; i < 100; i++) {
+			ILogicMovable movable = createMovable(i);
+			movables.add(movable);
+			registry.register(movable);
+		}
+		for (int i = 0; i < 100; i += 3) {
+			registry.unregister(movables.get(i));
+		}
+
+		ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+		try (ObjectOutputStream oos = new ObjectOutputStream(buffer)) {
+			registry.writeTo(oos);
+		}
+		MovableRegistry loaded = new MovableRegistry();
+		try (ObjectInputStream ois = new ObjectInputStream(new ByteArrayInputStream(buffer.toByteArray()))) {
+			loaded.readFrom(ois);
+		}
+
+		assertEquals(registry.size(), loaded.size());
+		assertEquals(getIds(registry), getIds(loaded));
+		for (ILogicMovable movable : loaded) {
+			assertSame(movable, loaded.getById(movable.getID()));
+		}
+	}
+
+	@Test
+	public void testLayoutOfOlderVersionsIsRead() throws Exception {
+		List<ILogicMovable> movables = new ArrayList<>();
+		HashMap<Integer, ILogicMovable> movablesById = new HashMap<>();
+		for (int i = 0; i < 20; i++) {
+			ILogicMovable movable = createMovable(i);
+			movables.add(movable);
+			movablesById.put(i, movable);
+		}
+
+		ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+		try (ObjectOutputStream oos = new ObjectOutputStream(buffer)) {
+			oos.writeObject(new ConcurrentLinkedQueue<>(movables));
+			oos.writeObject(movablesById);
+			oos.writeInt(42);
+		}
+		MovableRegistry loaded = new MovableRegistry();
+		try (ObjectInputStream ois = new ObjectInputStream(new ByteArrayInputStream(buffer.toByteArray()))) {
+			loaded.readFrom(ois);
+			assertEquals("the stream must be read up to the end of the movables", 42, ois.readInt());
+		}
+
+		assertEquals(20, loaded.size());
+		for (ILogicMovable movable : loaded) {
+			assertSame(movable, loaded.getById(movable.getID()));
+		}
+	}
+
+	private static List<Integer> getIds(MovableRegistry registry) {
+		List<Integer> ids = new ArrayList<>();
+		for (ILogicMovable movable : registry) {
+			ids.add(movable.getID());
+		}
+		return ids;
+	}
+
+	private static ILogicMovable createMovable(int id) {
+		return (ILogicMovable) Proxy.newProxyInstance(MovableRegistryTest.class.getClassLoader(), new Class<?>[] { ILogicMovable.class },
+				new IdHandler(id));
+	}
+
+	private static class IdHandler implements InvocationHandler, Serializable {
+		private final int id;
+
+		IdHandler(int id) {
+			this.id = id;
+		}
+
+		@Override
+		public Object invoke(Object proxy, Method method, Object[] args) {
+			switch (method.getName()) {
+			case "getID":
+				return id;
+			case "hashCode":
+				return System.identityHashCode(proxy);
+			case "equals":
+				return proxy == args[0];
+			default:
+				throw new UnsupportedOperationException(method.getName());
+			}
+		}
+	}
+}
@@ -0,0 +1,265 @@
+/*******************************************************************************
+ * Copyright (c) 2026
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE.
+ *******************************************************************************/
+package jsettlers.logic.timer;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import jsettlers.logic.GameContext;
+
+public class RescheduleTimerTest {
+	private static final int TIME_SLICE = 25;
+
+	private static List<String> executions;
+	private static int          tick;
+
+	private RescheduleTimer timer;
+
+	@Before
+	public void setUp() {
+		RescheduleTimer.stopAndClear();
+		timer = RescheduleTimer.get();
+		executions = new ArrayList<>();
+		tick = 0;
+	}
+
+	@After
+	public void tearDown() {
+		RescheduleTimer.stopAndClear();
+	}
+
+	@Test
+	public void testExecutesAfterDelay() {
+		RescheduleTimer.add(new TestTimerable("a"), 3 * TIME_SLICE);
+		RescheduleTimer.add(new TestTimerable("b"), 1);
+
+		runTicks(5);
+
+		assertEquals(Arrays.asList("b@1", "a@3"), executions);
+	}
+
+	@Test
+	public void testReadingMetricsDoesNotCreateATimer() {
+		RescheduleTimer.stopAndClear();
+
+		assertEquals(0, RescheduleTimer.getNumberOfScheduled());
+		assertEquals(0, RescheduleTimer.getSlotOccupancy(0, 0));
+		assertEquals(0, RescheduleTimer.getLastTickDuration());
+		assertEquals(0, RescheduleTimer.getMaxTickDuration());
+		assertEquals(0, RescheduleTimer.getLastTickExecutions());
+		assertNull(GameContext.current().getRescheduleTimer());
+	}
+
+	@Test
+	public void testLongDelays() {
+		int[] delayTicks = { 255, 256, 257, 65535, 65536, 65537, 300000 };
+		for (int delayTick : delayTicks) {
+			RescheduleTimer.add(new TestTimerable(Integer.toString(delayTick)), delayTick * TIME_SLICE);
+		}
+		assertEquals(delayTicks.length, RescheduleTimer.getNumberOfScheduled());
+
+		runTicks(300001);
+
+		List<String> expected = new ArrayList<>();
+		for (int delayTick : delayTicks) {
+			expected.add(delayTick + "@" + delayTick);
+		}
+		assertEquals(expected, executions);
+		assertEquals(0, RescheduleTimer.getNumberOfScheduled());
+	}
+
+	@Test
+	public void testLongDelayAddedAtOddTick() {
+		runTicks(1000);
+		RescheduleTimer.add(new TestTimerable("a"), 70000 * TIME_SLICE);
+		runTicks(70001);
+
+		assertEquals(Arrays.asList("a@71000"), executions);
+	}
+
+	@Test
+	public void testRescheduling() {
+		RescheduleTimer.add(new TestTimerable("a", 2 * TIME_SLICE, 3), TIME_SLICE);
+
+		runTicks(10);
+
+		assertEquals(Arrays.asList("a@1", "a@3", "a@5"), executions);
+	}
+
+	@Test
+	public void testOrderInSlotIsOrderOfScheduling() {
+		RescheduleTimer.add(new TestTimerable("long"), 300 * TIME_SLICE);
+		runTicks(100);
+		RescheduleTimer.add(new TestTimerable("short"), 200 * TIME_SLICE);
+		RescheduleTimer.add(new TestTimerable("short2"), 200 * TIME_SLICE);
+		runTicks(150);
+		RescheduleTimer.add(new TestTimerable("late"), 50 * TIME_SLICE);
+
+		runTicks(51);
+
+		// long is distributed to the slot at tick 256, after short and short2 but before late have been added
+		assertEquals(Arrays.asList("long@300", "short@300", "short2@300", "late@300"), executions);
+	}
+
+	@Test
+	public void testOrderEqualsSingleLevelWheel() {
+		final int slots = 1280;
+		final List<List<String>> wheel = new ArrayList<>();
+		for (int i = 0; i < slots; i++) {
+			wheel.add(new ArrayList<>());
+		}
+		final List<String> expected = new ArrayList<>();
+		final Random random = new Random(3);
+
+		for (int i = 0; i < 300; i++) {
+			final String name = "t" + i;
+			final int firstDelayTicks = 1 + random.nextInt(slots - 1);
+			RescheduleTimer.add(new TestTimerable(name) {
+				@Override
+				public int timerEvent() {
+					super.timerEvent();
+					int delayTicks = 1 + random.nextInt(slots - 1);
+					wheel.get((tick + delayTicks) % slots).add(name);
+					return delayTicks * TIME_SLICE;
+				}
+			}, firstDelayTicks * TIME_SLICE);
+			wheel.get(firstDelayTicks % slots).add(name);
+		}
+
+		for (int i = 0; i < 20000; i++) {
+			List<String> slot = wheel.get(tick % slots);
+			for (String name : slot) {
+				expected.add(name + "@" + tick);
+			}
+			int executionsBefore = executions.size();
+			timer.timerEvent();
+			assertEquals(expected, executions);
+			assertEquals(slot.size(), executions.size() - executionsBefore);
+			slot.clear();
+			tick++;
+		}
+	}
+
+	@Test
+	public void testCancel() {
+		TestTimerable a = new TestTimerable("a");
+		TestTimerable b = new TestTimerable("b");
+		RescheduleTimer.add(a, 2 * TIME_SLICE);
+		RescheduleTimer.add(a, 70000 * TIME_SLICE);
+		RescheduleTimer.add(b, 2 * TIME_SLICE);
+
+		RescheduleTimer.cancel(a);
+		assertEquals(1, RescheduleTimer.getNumberOfScheduled());
+
+		runTicks(70001);
+
+		assertEquals(Arrays.asList("b@2"), executions);
+	}
+
+	@Test
+	public void testCancelWhileExecuting() {
+		final TestTimerable b = new TestTimerable("b");
+		TestTimerable a = new TestTimerable("a", TIME_SLICE, 100) {
+			@Override
+			public int timerEvent() {
+				RescheduleTimer.cancel(this);
+				RescheduleTimer.cancel(b);
+				return super.timerEvent();
+			}
+		};
+		RescheduleTimer.add(a, TIME_SLICE);
+		RescheduleTimer.add(b, TIME_SLICE);
+
+		runTicks(5);
+
+		assertEquals(Arrays.asList("a@1"), executions);
+		assertEquals(0, RescheduleTimer.getNumberOfScheduled());
+	}
+
+	@Test
+	public void testSaveAndLoadKeepsOrder() throws Exception {
+		for (int i = 0; i < 10; i++) {
+			RescheduleTimer.add(new TestTimerable("a" + i), (i % 3 + 1) * 100 * TIME_SLICE);
+			RescheduleTimer.add(new TestTimerable("b" + i), (i % 2 + 1) * 70000 * TIME_SLICE);
+		}
+		runTicks(50);
+
+		ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+		try (ObjectOutputStream oos = new ObjectOutputStream(buffer)) {
+			RescheduleTimer.saveTo(oos);
+		}
+		runTicks(150000);
+		List<String> expected = executions;
+
+		executions = new ArrayList<>();
+		tick = 50;
+		try (ObjectInputStream ois = new ObjectInputStream(new ByteArrayInputStream(buffer.toByteArray()))) {
+			RescheduleTimer.loadFrom(ois);
+		}
+		timer = RescheduleTimer.get();
+		runTicks(150000);
+
+		assertEquals(20, expected.size());
+		assertEquals(expected, executions);
+	}
+
+	private void runTicks(int ticks) {
+		for (int i = 0; i < ticks; i++) {
+			timer.timerEvent();
+			tick++;
+		}
+	}
+
+	private static class TestTimerable implements IScheduledTimerable {
+		private final String name;
+		private final int    period;
+		private int          remainingExecutions;
+
+		TestTimerable(String name) {
+			this(name, -1, 1);
+		}
+
+		TestTimerable(String name, int period, int executions) {
+			this.name = name;
+			this.period = period;
+			this.remainingExecutions = executions;
+		}
+
+		@Override
+		public int timerEvent() {
+			executions.add(name + "@" + tick);
+			remainingExecutions--;
+			return remainingExecutions > 0 ? period : -1;
+		}
+
+		@Override
+		public void kill() {
+		}
+	}
+}
@@ -65,7 +65,7 @@ public class LoadSinglePlayerPickerViewModel extends MapPickerViewModel {
 		@Override
 		public <T extends ViewModel> T create(Class<T> modelClass) {
 			if (modelClass == LoadSinglePlayerPickerViewModel.class) {
-				return (T) new LoadSinglePlayerPickerViewModel(gameStarter, gameStarter.getMapList().getSavedMaps());
+				return (T) new LoadSinglePlayerPickerViewModel(gameStarter, gameStarter.getMapList().getSavedMapsIncrementally());
 			}
 			throw new RuntimeException("NewSinglePlayerPickerViewModel.Factory doesn't know how to create a: " + modelClass.toString());
 		}
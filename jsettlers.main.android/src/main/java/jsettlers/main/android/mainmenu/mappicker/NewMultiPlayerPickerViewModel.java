@@ -127,7 +127,7 @@ public class NewMultiPlayerPickerViewModel extends MapPickerViewModel implements
 		@Override
 		public <T extends ViewModel> T create(Class<T> modelClass) {
 			if (modelClass == NewMultiPlayerPickerViewModel.class) {
-				return (T) new NewMultiPlayerPickerViewModel(gameStarter, new AndroidPreferences(activity), gameStarter.getMapList().getFreshMaps());
+				return (T) new NewMultiPlayerPickerViewModel(gameStarter, new AndroidPreferences(activity), gameStarter.getMapList().getFreshMapsIncrementally());
 			}
 			throw new RuntimeException("NewSinglePlayerPickerViewModel.Factory doesn't know how to create a: " + modelClass.toString());
 		}
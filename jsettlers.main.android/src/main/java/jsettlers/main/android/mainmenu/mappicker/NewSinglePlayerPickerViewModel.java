@@ -47,7 +47,7 @@ public class NewSinglePlayerPickerViewModel extends MapPickerViewModel {
 		@Override
 		public <T extends ViewModel> T create(Class<T> modelClass) {
 			if (modelClass == NewSinglePlayerPickerViewModel.class) {
-				return (T) new NewSinglePlayerPickerViewModel(gameStarter, gameStarter.getMapList().getFreshMaps());
+				return (T) new NewSinglePlayerPickerViewModel(gameStarter, gameStarter.getMapList().getFreshMapsIncrementally());
 			}
 			throw new RuntimeException("NewSinglePlayerPickerViewModel.Factory doesn't know how to create a: " + modelClass.toString());
 		}
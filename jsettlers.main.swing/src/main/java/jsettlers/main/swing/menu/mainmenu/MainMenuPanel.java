@@ -78,7 +78,7 @@ public class MainMenuPanel extends SplitedBackgroundPanel {
 		this.settlersFrame = settlersFrame;
 
 		openSinglePlayerPanel = new OpenPanel(MapList.getDefaultList().getFreshMaps().getItems(), settlersFrame::showNewSinglePlayerGameMenu);
-		OpenPanel openSaveGamePanel = new OpenPanel(MapList.getDefaultList().getSavedMaps(), this::loadSavegame);
+		OpenPanel openSaveGamePanel = new OpenPanel(MapList.getDefaultList().getSavedMapsIncrementally(), this::loadSavegame);
 		SettingsMenuPanel settingsPanel = new SettingsMenuPanel(this);
 
 		registerMenu("main-panel-new-single-player-game-button", e -> setCenter("main-panel-new-single-player-game-button", openSinglePlayerPanel));
@@ -32,6 +32,7 @@ import javax.swing.JPanel;
 import javax.swing.JScrollPane;
 import javax.swing.JToggleButton;
 import javax.swing.ListCellRenderer;
+import javax.swing.SwingUtilities;
 import javax.swing.event.DocumentEvent;
 import javax.swing.event.DocumentListener;
 
@@ -89,7 +90,8 @@ public class OpenPanel extends JPanel {
 	public OpenPanel(final ChangingList<? extends MapLoader> maps, IMapSelectedListener mapSelectedListener) {
 		this(maps.getItems(), mapSelectedListener);
 		maps.setListener(changedLister -> {
-			setMapLoaders(changedLister.getItems());
+			List<? extends MapLoader> items = new ArrayList<>(changedLister.getItems());
+			SwingUtilities.invokeLater(() -> setMapLoaders(items));
 		});
 	}
 
@@ -17,6 +17,7 @@ package jsettlers.network;
 import java.io.DataInputStream;
 import java.io.DataOutputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
 
 import jsettlers.network.synchronic.timer.NetworkTimer;
 
@@ -52,6 +53,12 @@ public final class NetworkConstants {
 		public static final int BROADCAST_BUFFER_LENGTH = BROADCAST_MESSAGE.length();
 
 		public static final long OPEN_MATCHES_SEND_INTERVAL_MS = 5 * 1000;
+
+		/**
+		 * If true, the server serves its clients with selector based event loops instead of one thread per client. The delayed sockets are only
+		 * supported by the thread per client channels.
+		 */
+		public static final boolean USE_SELECTOR_CHANNELS = !USE_DELAYED_SOCKETS;
 	}
 
 	public final static class Client {
@@ -164,5 +171,13 @@ public final class NetworkConstants {
 				throw new IOException(ex);
 			}
 		}
+
+		public static ENetworkKey readFrom(ByteBuffer buffer) throws IOException {
+			try {
+				return values[buffer.get()];
+			} catch (Exception ex) {
+				throw new IOException(ex);
+			}
+		}
 	}
 }
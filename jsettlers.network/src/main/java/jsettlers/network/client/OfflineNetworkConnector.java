@@ -17,7 +17,6 @@ package jsettlers.network.client;
 import java.util.Arrays;
 
 import jsettlers.network.NetworkConstants;
-import jsettlers.network.client.interfaces.IGameClock;
 import jsettlers.network.client.interfaces.INetworkConnector;
 import jsettlers.network.client.interfaces.ITaskScheduler;
 import jsettlers.network.client.task.packets.SyncTasksPacket;
@@ -53,7 +52,7 @@ public class OfflineNetworkConnector implements ITaskScheduler, INetworkConnecto
 	}
 
 	@Override
-	public IGameClock getGameClock() {
+	public NetworkTimer getGameClock() {
 		return networkTimer;
 	}
 
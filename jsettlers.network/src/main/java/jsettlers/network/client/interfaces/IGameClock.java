@@ -18,6 +18,8 @@ import java.io.DataInputStream;
 import java.io.DataOutputStream;
 import java.io.IOException;
 
+import jsettlers.network.synchronic.checksum.IStateChecksumProvider;
+import jsettlers.network.synchronic.checksum.StateChecksumHistory;
 import jsettlers.network.synchronic.timer.INetworkTimerable;
 import jsettlers.network.synchronic.timer.ITaskExecutor;
 
@@ -79,4 +81,14 @@ public interface IGameClock extends IPausingSupplier {
 	 */
 	void fastForwardTo(int targetGameTime);
 
+	/**
+	 * Lets the clock record the checksums of the game state at the end of every lockstep. The checksums are exchanged with the other clients to
+	 * detect desynchronizations.
+	 * 
+	 * @param provider
+	 *            The provider calculating the checksums.
+	 * @return The history the checksums are recorded in.
+	 */
+	StateChecksumHistory setStateChecksumProvider(IStateChecksumProvider provider);
+
 }
@@ -14,6 +14,8 @@
  *******************************************************************************/
 package jsettlers.network.client.time;
 
+import jsettlers.network.synchronic.checksum.StateChecksumHistory;
+
 /**
  * 
  * @author Andreas Eberle
@@ -35,4 +37,9 @@ public interface ISynchronizableClock {
 	 */
 	void pauseClockFor(int timeDelta);
 
+	/**
+	 * @return The checksums of the game state recorded by this clock or null if the game state is not checksummed.
+	 */
+	StateChecksumHistory getStateChecksums();
+
 }
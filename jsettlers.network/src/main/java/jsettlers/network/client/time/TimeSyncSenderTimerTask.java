@@ -19,6 +19,7 @@ import java.util.TimerTask;
 import jsettlers.network.NetworkConstants;
 import jsettlers.network.common.packets.TimeSyncPacket;
 import jsettlers.network.infrastructure.channel.AsyncChannel;
+import jsettlers.network.synchronic.checksum.StateChecksumHistory;
 
 /**
  * 
@@ -40,7 +41,17 @@ public class TimeSyncSenderTimerTask extends TimerTask {
 		int localTime = clock.getTime();
 		int expectedTimeAtServer = localTime + channel.getRoundTripTime().getRtt() / 2;
 
-		channel.sendPacketAsync(NetworkConstants.ENetworkKey.TIME_SYNC, new TimeSyncPacket(expectedTimeAtServer));
+		TimeSyncPacket packet = new TimeSyncPacket(expectedTimeAtServer);
+		StateChecksumHistory stateChecksums = clock.getStateChecksums();
+		if (stateChecksums != null) { // acknowledge the latest lockstep together with its checksums
+			int lockstep = stateChecksums.getLatestLockstep();
+			int[] checksums = stateChecksums.getChecksums(lockstep);
+			if (checksums != null) {
+				packet = new TimeSyncPacket(expectedTimeAtServer, lockstep, checksums);
+			}
+		}
+
+		channel.sendPacketAsync(NetworkConstants.ENetworkKey.TIME_SYNC, packet);
 	}
 
 }
@@ -23,6 +23,7 @@ import jsettlers.network.common.packets.TimeSyncPacket;
 import jsettlers.network.infrastructure.channel.GenericDeserializer;
 import jsettlers.network.infrastructure.channel.listeners.PacketChannelListener;
 import jsettlers.network.infrastructure.channel.ping.IRoundTripTimeSupplier;
+import jsettlers.network.synchronic.checksum.StateChecksumHistory;
 
 /**
  * 
@@ -50,6 +51,11 @@ public class TimeSynchronizationListener extends PacketChannelListener<TimeSyncP
 		if (deltaTime > Client.TIME_SYNC_TOLERATED_DIFFERENCE) {
 			clock.pauseClockFor((int) (deltaTime * Client.TIME_SYNC_APPROACH_FACTOR));
 		}
+
+		StateChecksumHistory stateChecksums = clock.getStateChecksums();
+		if (stateChecksums != null && packet.getLockstep() >= 0) {
+			stateChecksums.compareWithRemote(packet.getLockstep(), packet.getChecksums());
+		}
 	}
 
 }
@@ -17,12 +17,20 @@ package jsettlers.network.common.packets;
 import java.io.DataInputStream;
 import java.io.DataOutputStream;
 import java.io.IOException;
+import java.util.Arrays;
 
 import jsettlers.network.infrastructure.channel.packet.Packet;
 
+/**
+ * Carries the game time of a client. It also acknowledges the latest finished lockstep and carries the game state checksums of that lockstep, so that
+ * the clients can detect desynchronizations.
+ */
 public class TimeSyncPacket extends Packet {
+	private static final int[] NO_CHECKSUMS = new int[0];
 
-	private int time;
+	private int   time;
+	private int   lockstep  = -1;
+	private int[] checksums = NO_CHECKSUMS;
 
 	public TimeSyncPacket() {
 	}
@@ -31,14 +39,30 @@ public class TimeSyncPacket extends Packet {
 		this.time = time;
 	}
 
+	public TimeSyncPacket(int time, int lockstep, int[] checksums) {
+		this.time = time;
+		this.lockstep = lockstep;
+		this.checksums = checksums;
+	}
+
 	@Override
 	public void serialize(DataOutputStream dos) throws IOException {
 		dos.writeInt(time);
+		dos.writeInt(lockstep);
+		dos.writeByte(checksums.length);
+		for (int checksum : checksums) {
+			dos.writeInt(checksum);
+		}
 	}
 
 	@Override
 	public void deserialize(DataInputStream dis) throws IOException {
 		time = dis.readInt();
+		lockstep = dis.readInt();
+		checksums = new int[dis.readUnsignedByte()];
+		for (int i = 0; i < checksums.length; i++) {
+			checksums[i] = dis.readInt();
+		}
 	}
 
 	/*
@@ -51,6 +75,8 @@ public class TimeSyncPacket extends Packet {
 		final int prime = 31;
 		int result = 1;
 		result = prime * result + time;
+		result = prime * result + lockstep;
+		result = prime * result + Arrays.hashCode(checksums);
 		return result;
 	}
 
@@ -68,10 +94,24 @@ public class TimeSyncPacket extends Packet {
 		if (getClass() != obj.getClass())
 			return false;
 		TimeSyncPacket other = (TimeSyncPacket) obj;
-		return time == other.time;
+		return time == other.time && lockstep == other.lockstep && Arrays.equals(checksums, other.checksums);
 	}
 
 	public int getTime() {
 		return time;
 	}
+
+	/**
+	 * @return The latest lockstep finished by the sender or -1 if the packet carries no checksums.
+	 */
+	public int getLockstep() {
+		return lockstep;
+	}
+
+	/**
+	 * @return The game state checksums of the sender after {@link #getLockstep()}.
+	 */
+	public int[] getChecksums() {
+		return checksums;
+	}
 }
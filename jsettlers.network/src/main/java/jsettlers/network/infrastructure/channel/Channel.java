@@ -15,7 +15,6 @@
 package jsettlers.network.infrastructure.channel;
 
 import java.io.ByteArrayInputStream;
-import java.io.ByteArrayOutputStream;
 import java.io.DataInputStream;
 import java.io.DataOutputStream;
 import java.io.IOException;
@@ -26,6 +25,7 @@ import java.util.HashMap;
 import jsettlers.network.NetworkConstants;
 import jsettlers.network.NetworkConstants.ENetworkKey;
 import jsettlers.network.infrastructure.channel.packet.Packet;
+import jsettlers.network.infrastructure.channel.packet.PacketFrame;
 import jsettlers.network.infrastructure.channel.ping.IPingUpdateListener;
 import jsettlers.network.infrastructure.channel.ping.IRoundTripTimeSupplier;
 import jsettlers.network.infrastructure.channel.ping.PingPacket;
@@ -53,8 +53,7 @@ public class Channel implements Runnable, IRoundTripTimeSupplier {
 	private final DataOutputStream outStream;
 	private final DataInputStream inStream;
 
-	private final ByteArrayOutputStream byteBufferOutStream = new ByteArrayOutputStream();
-	private final DataOutputStream bufferDataOutStream = new DataOutputStream(byteBufferOutStream);
+	private final byte[] transferBuffer = new byte[4 * 1024];
 
 	private final HashMap<ENetworkKey, IChannelListener> listenerRegistry = new HashMap<>();
 
@@ -92,6 +91,26 @@ public class Channel implements Runnable, IRoundTripTimeSupplier {
 		thread = new Thread(this, "ChannelForSocket_" + socket);
 	}
 
+	/**
+	 * Creates a channel that is not backed by a blocking {@link ISocket} and has no thread of its own. Subclasses using this constructor transport the
+	 * packets themselves, hand received packets to {@link #receivePacket(ENetworkKey, int, DataInputStream)} and must override {@link #start()},
+	 * {@link #sendFrame(PacketFrame)}, {@link #close()} and {@link #isClosed()}.
+	 * 
+	 * @param logger
+	 *            The logger of this channel.
+	 */
+	protected Channel(Logger logger) {
+		this.logger = new SwitchableLogger(logger);
+		this.socket = null;
+		this.outStream = null;
+		this.inStream = null;
+
+		pingPacketListener = new PingPacketListener(this.logger, this);
+		registerListener(pingPacketListener);
+
+		thread = null;
+	}
+
 	/**
 	 * Starts the message receiving of this {@link Channel}.
 	 * <p />
@@ -107,29 +126,41 @@ public class Channel implements Runnable, IRoundTripTimeSupplier {
 		thread.start();
 	}
 
-	public synchronized void sendPacket(ENetworkKey key, Packet packet) {
-		if (socket.isClosed())
+	public void sendPacket(ENetworkKey key, Packet packet) {
+		if (isClosed())
 			return;
 
+		PacketFrame frame;
 		try {
-			sendPacketData(key, packet);
+			frame = PacketFrame.create(key, packet);
 		} catch (IOException e) {
+			return;
 		}
-	}
 
-	private void sendPacketData(ENetworkKey key, Packet packet) throws IOException {
-		bufferDataOutStream.flush();
-		byteBufferOutStream.reset();
-
-		packet.serialize(bufferDataOutStream); // write packet to buffer to calculate length
-		bufferDataOutStream.flush();
-		final int length = byteBufferOutStream.size();
+		try {
+			sendFrame(frame);
+		} finally {
+			frame.release();
+		}
+	}
 
-		key.writeTo(outStream); // write key, length and the data
-		outStream.writeInt(length);
-		byteBufferOutStream.writeTo(outStream);
+	/**
+	 * Sends a packet that has already been serialized. This allows to send the same packet to several channels while serializing it only once.
+	 * <p />
+	 * The caller keeps its reference to the frame and may release it as soon as this method returns.
+	 * 
+	 * @param frame
+	 *            The serialized packet.
+	 */
+	public synchronized void sendFrame(PacketFrame frame) {
+		if (socket.isClosed())
+			return;
 
-		outStream.flush();
+		try {
+			frame.writeTo(outStream, transferBuffer); // key, length and data are written at once
+			outStream.flush();
+		} catch (IOException e) {
+		}
 	}
 
 	/**
@@ -158,25 +189,7 @@ public class Channel implements Runnable, IRoundTripTimeSupplier {
 
 				DataInputStream bufferIn = readBytesToBuffer(inStream, length);
 
-				IChannelListener listener = listenerRegistry.get(key);
-
-				if (listener != null) {
-					try {
-						listener.receive(key, length, bufferIn);
-						if (bufferIn.available() > 0) {
-							logger.warn("Deserialization did not read all bytes of input: " + key + " " + length + " " + bufferIn.available());
-						}
-					} catch (Exception e) { // ignore exceptions thrown in receive
-						e.printStackTrace();
-					}
-				} else {
-					logger.warn("NO LISTENER FOUND for key: " + key + "   (" + socket + ")");
-
-					if (key != NetworkConstants.ENetworkKey.REJECT_PACKET) { // prevent endless loop
-						sendPacket(NetworkConstants.ENetworkKey.REJECT_PACKET,
-								new RejectPacket(NetworkConstants.ENetworkMessage.NO_LISTENER_FOUND, key));
-					}
-				}
+				receivePacket(key, length, bufferIn);
 
 			} catch (Exception e) {
 				try {
@@ -188,10 +201,51 @@ public class Channel implements Runnable, IRoundTripTimeSupplier {
 
 		close(); // release the resources
 
+		notifyChannelClosed();
+		logger.info("Channel listener shut down: " + socket);
+	}
+
+	/**
+	 * Hands a received packet to the listener registered for its key.
+	 * 
+	 * @param key
+	 *            The key of the packet.
+	 * @param length
+	 *            The length of the packet's data.
+	 * @param bufferIn
+	 *            Stream containing exactly the data of the packet.
+	 * @throws IOException
+	 *             If the reject packet can not be sent.
+	 */
+	protected void receivePacket(ENetworkKey key, int length, DataInputStream bufferIn) throws IOException {
+		IChannelListener listener = listenerRegistry.get(key);
+
+		if (listener != null) {
+			try {
+				listener.receive(key, length, bufferIn);
+				if (bufferIn.available() > 0) {
+					logger.warn("Deserialization did not read all bytes of input: " + key + " " + length + " " + bufferIn.available());
+				}
+			} catch (Exception e) { // ignore exceptions thrown in receive
+				e.printStackTrace();
+			}
+		} else {
+			logger.warn("NO LISTENER FOUND for key: " + key + "   (" + this + ")");
+
+			if (key != NetworkConstants.ENetworkKey.REJECT_PACKET) { // prevent endless loop
+				sendPacket(NetworkConstants.ENetworkKey.REJECT_PACKET,
+						new RejectPacket(NetworkConstants.ENetworkMessage.NO_LISTENER_FOUND, key));
+			}
+		}
+	}
+
+	/**
+	 * Informs the {@link IChannelClosedListener} that this channel has been shut down.
+	 */
+	protected void notifyChannelClosed() {
 		if (channelClosedListener != null) {
 			channelClosedListener.channelClosed();
 		}
-		logger.info("Channel listener shut down: " + socket);
 	}
 
 	private DataInputStream readBytesToBuffer(DataInputStream inStream, int length) throws IOException {
@@ -275,6 +329,15 @@ public class Channel implements Runnable, IRoundTripTimeSupplier {
 		return started;
 	}
 
+	protected Logger getLogger() {
+		return logger;
+	}
+
+	@Override
+	public String toString() {
+		return String.valueOf(socket);
+	}
+
 	public void setLogger(Logger newLogger) {
 		this.logger.setLogger(newLogger);
 	}
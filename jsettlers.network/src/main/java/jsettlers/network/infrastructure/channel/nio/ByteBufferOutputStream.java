@@ -0,0 +1,73 @@
+/*******************************************************************************
+ * Copyright (c) 2026
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE.
+ *******************************************************************************/
+package jsettlers.network.infrastructure.channel.nio;
+
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+
+/**
+ * An {@link OutputStream} writing into a buffer of a {@link ByteBufferPool}. When the buffer is full, its content is moved to a buffer twice as large,
+ * so serializing does not need an intermediate byte array.
+ */
+public final class ByteBufferOutputStream extends OutputStream {
+	private final ByteBufferPool pool;
+	private ByteBuffer           buffer;
+
+	public ByteBufferOutputStream(ByteBufferPool pool) {
+		this.pool = pool;
+		this.buffer = pool.acquire(pool.getBufferSize());
+	}
+
+	@Override
+	public void write(int b) {
+		ensureRemaining(1);
+		buffer.put((byte) b);
+	}
+
+	@Override
+	public void write(byte[] bytes, int offset, int length) {
+		ensureRemaining(length);
+		buffer.put(bytes, offset, length);
+	}
+
+	private void ensureRemaining(int length) {
+		if (buffer.remaining() >= length) {
+			return;
+		}
+
+		ByteBuffer largerBuffer = pool.acquire(Math.max(2 * buffer.capacity(), buffer.position() + length));
+		buffer.flip();
+		largerBuffer.put(buffer);
+		pool.release(buffer);
+		buffer = largerBuffer;
+	}
+
+	public int size() {
+		return buffer.position();
+	}
+
+	/**
+	 * Flips the written buffer and hands it over to the caller, who becomes responsible for releasing it to the pool. The stream must not be used
+	 * afterwards.
+	 * 
+	 * @return The buffer with the written bytes between position and limit.
+	 */
+	public ByteBuffer takeBuffer() {
+		ByteBuffer result = buffer;
+		buffer = null;
+		result.flip();
+		return result;
+	}
+}
@@ -0,0 +1,92 @@
+/*******************************************************************************
+ * Copyright (c) 2026
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE.
+ *******************************************************************************/
+package jsettlers.network.infrastructure.channel.nio;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A pool of direct {@link ByteBuffer}s of a fixed size. Direct buffers are expensive to allocate and are only freed by the garbage collector, so
+ * the buffers used for reading and writing sockets are recycled instead.
+ * <p />
+ * Requests for more bytes than the pooled buffer size are served with a heap buffer that is not pooled.
+ */
+public final class ByteBufferPool {
+	private final int bufferSize;
+	private final int maxPooledBuffers;
+
+	private final ConcurrentLinkedQueue<ByteBuffer> buffers         = new ConcurrentLinkedQueue<>();
+	private final AtomicInteger                     numberOfBuffers = new AtomicInteger();
+
+	/**
+	 * @param bufferSize
+	 *            The capacity of the pooled buffers.
+	 * @param maxPooledBuffers
+	 *            The maximum number of free buffers kept in the pool. Buffers released while the pool is full are left to the garbage collector.
+	 */
+	public ByteBufferPool(int bufferSize, int maxPooledBuffers) {
+		this.bufferSize = bufferSize;
+		this.maxPooledBuffers = maxPooledBuffers;
+	}
+
+	/**
+	 * Gets a cleared buffer with at least the given capacity.
+	 * 
+	 * @param minimumCapacity
+	 *            The number of bytes the buffer must be able to hold.
+	 * @return A buffer that should be handed back with {@link #release(ByteBuffer)} when it is no longer used.
+	 */
+	public ByteBuffer acquire(int minimumCapacity) {
+		if (minimumCapacity > bufferSize) {
+			return ByteBuffer.allocate(minimumCapacity);
+		}
+
+		ByteBuffer buffer = buffers.poll();
+		if (buffer == null) {
+			return ByteBuffer.allocateDirect(bufferSize);
+		}
+
+		numberOfBuffers.decrementAndGet();
+		buffer.clear();
+		return buffer;
+	}
+
+	/**
+	 * Hands a buffer back to the pool. The buffer must not be used by the caller afterwards.
+	 * 
+	 * @param buffer
+	 *            A buffer obtained by {@link #acquire(int)}.
+	 */
+	public void release(ByteBuffer buffer) {
+		if (!buffer.isDirect() || buffer.capacity() != bufferSize) {
+			return;
+		}
+
+		if (numberOfBuffers.incrementAndGet() <= maxPooledBuffers) {
+			buffers.offer(buffer);
+		} else {
+			numberOfBuffers.decrementAndGet();
+		}
+	}
+
+	public int getBufferSize() {
+		return bufferSize;
+	}
+
+	int getNumberOfPooledBuffers() {
+		return numberOfBuffers.get();
+	}
+}
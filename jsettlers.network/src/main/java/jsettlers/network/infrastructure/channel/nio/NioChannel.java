@@ -0,0 +1,345 @@
+/*******************************************************************************
+ * Copyright (c) 2026
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE.
+ *******************************************************************************/
+package jsettlers.network.infrastructure.channel.nio;
+
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.SocketChannel;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import jsettlers.network.NetworkConstants.ENetworkKey;
+import jsettlers.network.infrastructure.channel.Channel;
+import jsettlers.network.infrastructure.channel.packet.PacketFrame;
+import jsettlers.network.infrastructure.log.Logger;
+
+/**
+ * A {@link Channel} transporting its packets over a non blocking {@link SocketChannel} that is served by a {@link NioEventLoop}. It needs no threads
+ * of its own, so a server can handle many connections with one thread per core.
+ * <p />
+ * The frames on the wire are the same as the ones of {@link Channel}, so both implementations can talk to each other. Received packets are handed to
+ * the registered listeners on the event loop's thread. Packets are sent directly by the calling thread as long as the socket accepts them; the rest
+ * is queued and written by the event loop with gathering writes. Small packets queued behind each other are coalesced into one buffer.
+ */
+public class NioChannel extends Channel {
+	private static final int HEADER_LENGTH        = PacketFrame.HEADER_LENGTH;
+	private static final int MAX_COALESCED_LENGTH = 512;
+	private static final int MAX_GATHERED_BUFFERS = 64;
+
+	private final SocketChannel  socketChannel;
+	private final NioEventLoop   eventLoop;
+	private final ByteBufferPool bufferPool;
+
+	private final ArrayDeque<PendingWrite> writeQueue      = new ArrayDeque<>();
+	private final ByteBuffer[]             gatheredBuffers = new ByteBuffer[MAX_GATHERED_BUFFERS];
+	private final AtomicBoolean            closed          = new AtomicBoolean();
+
+	private SelectionKey selectionKey;
+	private ByteBuffer   readBuffer;
+	private boolean      started;
+
+	/**
+	 * Creates a channel for an already connected socket.
+	 * 
+	 * @param logger
+	 *            The logger of this channel.
+	 * @param socketChannel
+	 *            The connected socket. It is switched to non blocking mode.
+	 * @param eventLoop
+	 *            The event loop that shall serve this channel.
+	 * @throws IOException
+	 *             If the socket can not be configured.
+	 */
+	public NioChannel(Logger logger, SocketChannel socketChannel, NioEventLoop eventLoop) throws IOException {
+		super(logger);
+		this.socketChannel = socketChannel;
+		this.eventLoop = eventLoop;
+		this.bufferPool = eventLoop.getBufferPool();
+
+		socketChannel.configureBlocking(false);
+		socketChannel.socket().setTcpNoDelay(true);
+	}
+
+	/**
+	 * Connects to the given address and creates a channel for the connection.
+	 */
+	public static NioChannel connect(Logger logger, InetSocketAddress address, NioEventLoop eventLoop) throws IOException {
+		return new NioChannel(logger, SocketChannel.open(address), eventLoop);
+	}
+
+	/**
+	 * Registers this channel at its event loop. Packets are received from then on.
+	 * <p />
+	 * NOTE: This method may only be called once!
+	 */
+	@Override
+	public void start() {
+		if (started) {
+			throw new IllegalStateException("NioChannel has already been started: " + this);
+		}
+		started = true;
+
+		eventLoop.execute(this::register);
+	}
+
+	private void register() {
+		if (isClosed()) {
+			return;
+		}
+
+		readBuffer = bufferPool.acquire(bufferPool.getBufferSize());
+		try {
+			synchronized (this) {
+				selectionKey = eventLoop.register(socketChannel, getInterestOps(), this);
+			}
+		} catch (IOException e) {
+			closeAfterError(e);
+		}
+	}
+
+	private int getInterestOps() {
+		return writeQueue.isEmpty() ? SelectionKey.OP_READ : SelectionKey.OP_READ | SelectionKey.OP_WRITE;
+	}
+
+	@Override
+	public synchronized void sendFrame(PacketFrame frame) {
+		if (isClosed()) {
+			return;
+		}
+
+		try {
+			if (writeQueue.isEmpty()) {
+				ByteBuffer buffer = frame.getBuffer();
+				socketChannel.write(buffer);
+				if (!buffer.hasRemaining()) {
+					return;
+				}
+				enqueue(frame, buffer);
+			} else {
+				enqueue(frame, frame.getBuffer());
+			}
+
+			if (writeQueue.size() == 1) {
+				eventLoop.execute(this::updateInterestOps);
+			}
+		} catch (IOException e) {
+			closeAfterError(e);
+		}
+	}
+
+	/**
+	 * Queues the remaining bytes of the given buffer. Small buffers are copied to the end of the last queued buffer if possible, so that many small
+	 * packets are written with few system calls.
+	 */
+	private void enqueue(PacketFrame frame, ByteBuffer buffer) {
+		if (buffer.remaining() > MAX_COALESCED_LENGTH) {
+			writeQueue.add(new PendingWrite(buffer, frame.retain()));
+			return;
+		}
+
+		PendingWrite last = writeQueue.peekLast();
+		if (last == null || !last.append(buffer)) {
+			ByteBuffer coalescingBuffer = bufferPool.acquire(bufferPool.getBufferSize());
+			coalescingBuffer.put(buffer);
+			coalescingBuffer.flip();
+			writeQueue.add(new PendingWrite(coalescingBuffer, null));
+		}
+	}
+
+	private synchronized void updateInterestOps() {
+		if (selectionKey != null && selectionKey.isValid()) {
+			selectionKey.interestOps(getInterestOps());
+		}
+	}
+
+	/**
+	 * Writes as much of the queued frames as the socket accepts. Called by the event loop.
+	 */
+	synchronized void handleWritable() throws IOException {
+		while (!writeQueue.isEmpty()) {
+			int numberOfBuffers = 0;
+			for (PendingWrite pendingWrite : writeQueue) {
+				gatheredBuffers[numberOfBuffers++] = pendingWrite.buffer;
+				if (numberOfBuffers == MAX_GATHERED_BUFFERS) {
+					break;
+				}
+			}
+
+			socketChannel.write(gatheredBuffers, 0, numberOfBuffers);
+
+			int numberOfWrittenBuffers = 0;
+			while (!writeQueue.isEmpty() && !writeQueue.peek().buffer.hasRemaining()) {
+				writeQueue.poll().release(bufferPool);
+				numberOfWrittenBuffers++;
+			}
+			if (numberOfWrittenBuffers < numberOfBuffers) {
+				break; // the socket is full
+			}
+		}
+
+		Arrays.fill(gatheredBuffers, null);
+		updateInterestOps();
+	}
+
+	/**
+	 * Reads the available bytes and hands all completely received packets to the listeners. Called by the event loop.
+	 */
+	void handleReadable() throws IOException {
+		if (socketChannel.read(readBuffer) < 0) {
+			close();
+			return;
+		}
+
+		readBuffer.flip();
+		int requiredCapacity = 0;
+		while (readBuffer.remaining() >= HEADER_LENGTH && !isClosed()) {
+			int frameStart = readBuffer.position();
+			int length = readBuffer.getInt(frameStart + 1);
+			if (length < 0) {
+				throw new IOException("Invalid packet length: " + length);
+			}
+			if (readBuffer.remaining() < HEADER_LENGTH + length) {
+				requiredCapacity = HEADER_LENGTH + length;
+				break;
+			}
+
+			ENetworkKey key = ENetworkKey.readFrom(readBuffer);
+			readBuffer.position(frameStart + HEADER_LENGTH);
+			byte[] data = new byte[length];
+			readBuffer.get(data);
+
+			receivePacket(key, length, new DataInputStream(new ByteArrayInputStream(data)));
+		}
+		readBuffer.compact();
+
+		if (requiredCapacity > readBuffer.capacity()) {
+			replaceReadBuffer(bufferPool.acquire(requiredCapacity));
+		} else if (!readBuffer.isDirect() && readBuffer.position() <= bufferPool.getBufferSize()) {
+			replaceReadBuffer(bufferPool.acquire(bufferPool.getBufferSize())); // the oversized packet has been received
+		}
+	}
+
+	private void replaceReadBuffer(ByteBuffer newBuffer) {
+		readBuffer.flip();
+		newBuffer.put(readBuffer);
+		bufferPool.release(readBuffer);
+		readBuffer = newBuffer;
+	}
+
+	/**
+	 * Closes the socket of this channel and informs the {@link jsettlers.network.infrastructure.channel.IChannelClosedListener}. Calling this method
+	 * more than once has no effect.
+	 */
+	@Override
+	public void close() {
+		if (!closed.compareAndSet(false, true)) {
+			return;
+		}
+
+		try {
+			socketChannel.close();
+		} catch (IOException e) {
+			getLogger().error(e);
+		}
+		eventLoop.execute(this::releaseBuffers);
+
+		notifyChannelClosed();
+		getLogger().info("Channel shut down: " + this);
+	}
+
+	/**
+	 * Logs the error that broke the connection and closes this channel.
+	 */
+	void closeAfterError(Exception e) {
+		if (!isClosed()) {
+			getLogger().error(e);
+		}
+		close();
+	}
+
+	private void releaseBuffers() {
+		if (readBuffer != null) {
+			bufferPool.release(readBuffer);
+			readBuffer = null;
+		}
+
+		synchronized (this) {
+			for (PendingWrite pendingWrite : writeQueue) {
+				pendingWrite.release(bufferPool);
+			}
+			writeQueue.clear();
+		}
+	}
+
+	@Override
+	public boolean isClosed() {
+		return closed.get();
+	}
+
+	@Override
+	public boolean isStarted() {
+		return started;
+	}
+
+	@Override
+	public String toString() {
+		return "NioChannel(" + socketChannel.socket().getRemoteSocketAddress() + ")";
+	}
+
+	/**
+	 * A buffer waiting to be written. It either is a view of a {@link PacketFrame} or a pooled buffer the channel coalesces small frames in.
+	 */
+	private static final class PendingWrite {
+		final ByteBuffer  buffer;
+		final PacketFrame frame;
+
+		PendingWrite(ByteBuffer buffer, PacketFrame frame) {
+			this.buffer = buffer;
+			this.frame = frame;
+		}
+
+		/**
+		 * Copies the remaining bytes of the given buffer behind the unwritten bytes of this coalescing buffer.
+		 * 
+		 * @return false if this is no coalescing buffer or it has not enough space left.
+		 */
+		boolean append(ByteBuffer source) {
+			if (frame != null || buffer.capacity() - buffer.limit() < source.remaining()) {
+				return false;
+			}
+
+			int readPosition = buffer.position();
+			buffer.position(buffer.limit());
+			buffer.limit(buffer.capacity());
+			buffer.put(source);
+			buffer.limit(buffer.position());
+			buffer.position(readPosition);
+			return true;
+		}
+
+		void release(ByteBufferPool bufferPool) {
+			if (frame != null) {
+				frame.release();
+			} else {
+				bufferPool.release(buffer);
+			}
+		}
+	}
+}
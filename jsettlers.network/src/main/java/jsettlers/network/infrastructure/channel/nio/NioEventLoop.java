@@ -0,0 +1,141 @@
+/*******************************************************************************
+ * Copyright (c) 2026
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE.
+ *******************************************************************************/
+package jsettlers.network.infrastructure.channel.nio;
+
+import java.io.IOException;
+import java.nio.channels.CancelledKeyException;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.SocketChannel;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * A thread serving any number of {@link NioChannel}s with a single {@link Selector}. All reads, all registrations and all writes that could not be
+ * completed immediately are done by this thread.
+ */
+public final class NioEventLoop extends Thread {
+	private final Selector                         selector;
+	private final ByteBufferPool                   bufferPool;
+	private final ConcurrentLinkedQueue<Runnable> pendingTasks = new ConcurrentLinkedQueue<>();
+
+	private volatile boolean canceled = false;
+
+	public NioEventLoop(String name, ByteBufferPool bufferPool) throws IOException {
+		super(name);
+		this.selector = Selector.open();
+		this.bufferPool = bufferPool;
+		setDaemon(true);
+	}
+
+	/**
+	 * Runs the given task on this event loop's thread.
+	 * 
+	 * @param task
+	 *            The task to run.
+	 */
+	public void execute(Runnable task) {
+		pendingTasks.offer(task);
+		selector.wakeup();
+	}
+
+	SelectionKey register(SocketChannel socketChannel, int interestOps, NioChannel attachment) throws ClosedChannelException {
+		return socketChannel.register(selector, interestOps, attachment);
+	}
+
+	ByteBufferPool getBufferPool() {
+		return bufferPool;
+	}
+
+	boolean isInEventLoop() {
+		return Thread.currentThread() == this;
+	}
+
+	@Override
+	public void run() {
+		while (!canceled) {
+			try {
+				selector.select();
+			} catch (IOException e) {
+				e.printStackTrace();
+				continue;
+			}
+
+			runPendingTasks();
+
+			Iterator<SelectionKey> selectedKeys = selector.selectedKeys().iterator();
+			while (selectedKeys.hasNext()) {
+				SelectionKey key = selectedKeys.next();
+				selectedKeys.remove();
+				handleSelectedKey(key);
+			}
+		}
+
+		closeAllChannels();
+	}
+
+	private void runPendingTasks() {
+		Runnable task;
+		while ((task = pendingTasks.poll()) != null) {
+			try {
+				task.run();
+			} catch (RuntimeException e) {
+				e.printStackTrace();
+			}
+		}
+	}
+
+	private static void handleSelectedKey(SelectionKey key) {
+		NioChannel channel = (NioChannel) key.attachment();
+		try {
+			if (key.isReadable()) {
+				channel.handleReadable();
+			}
+			if (key.isValid() && key.isWritable()) {
+				channel.handleWritable();
+			}
+		} catch (IOException | CancelledKeyException e) {
+			channel.closeAfterError(e);
+		}
+	}
+
+	private void closeAllChannels() {
+		runPendingTasks();
+
+		ArrayList<NioChannel> channels = new ArrayList<>();
+		for (SelectionKey key : selector.keys()) {
+			channels.add((NioChannel) key.attachment());
+		}
+		for (NioChannel channel : channels) {
+			channel.close();
+		}
+		runPendingTasks(); // release the buffers of the closed channels
+
+		try {
+			selector.close();
+		} catch (IOException e) {
+		}
+	}
+
+	/**
+	 * Stops this event loop and closes all channels served by it.
+	 */
+	public void shutdown() {
+		canceled = true;
+		selector.wakeup();
+	}
+}
@@ -0,0 +1,67 @@
+/*******************************************************************************
+ * Copyright (c) 2026
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE.
+ *******************************************************************************/
+package jsettlers.network.infrastructure.channel.nio;
+
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A fixed number of {@link NioEventLoop}s sharing one {@link ByteBufferPool}. New channels are assigned to the loops round robin.
+ */
+public final class NioEventLoopGroup {
+	public static final int BUFFER_SIZE        = 16 * 1024;
+	public static final int MAX_POOLED_BUFFERS = 1024;
+
+	private final NioEventLoop[] eventLoops;
+	private final AtomicInteger  nextLoop = new AtomicInteger();
+
+	/**
+	 * Creates a group with one event loop per available processor.
+	 * 
+	 * @throws IOException
+	 *             If a selector can not be opened.
+	 */
+	public NioEventLoopGroup() throws IOException {
+		this(Runtime.getRuntime().availableProcessors());
+	}
+
+	public NioEventLoopGroup(int numberOfLoops) throws IOException {
+		ByteBufferPool bufferPool = new ByteBufferPool(BUFFER_SIZE, MAX_POOLED_BUFFERS);
+
+		eventLoops = new NioEventLoop[Math.max(1, numberOfLoops)];
+		for (int i = 0; i < eventLoops.length; i++) {
+			eventLoops[i] = new NioEventLoop("NioEventLoop-" + i, bufferPool);
+		}
+	}
+
+	public void start() {
+		for (NioEventLoop eventLoop : eventLoops) {
+			eventLoop.start();
+		}
+	}
+
+	/**
+	 * @return The event loop that shall serve the next channel.
+	 */
+	public NioEventLoop next() {
+		return eventLoops[(nextLoop.getAndIncrement() & Integer.MAX_VALUE) % eventLoops.length];
+	}
+
+	public void shutdown() {
+		for (NioEventLoop eventLoop : eventLoops) {
+			eventLoop.shutdown();
+		}
+	}
+}
@@ -0,0 +1,125 @@
+/*******************************************************************************
+ * Copyright (c) 2026
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE.
+ *******************************************************************************/
+package jsettlers.network.infrastructure.channel.packet;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import jsettlers.network.NetworkConstants.ENetworkKey;
+import jsettlers.network.infrastructure.channel.nio.ByteBufferOutputStream;
+import jsettlers.network.infrastructure.channel.nio.ByteBufferPool;
+
+/**
+ * A {@link Packet} serialized once to the bytes sent over the wire: the key, the length of the data and the data itself. A frame can be sent to any
+ * number of channels without serializing the packet again, e.g. when a packet is broadcasted to all players of a match.
+ * <p />
+ * The bytes are kept in a pooled buffer. The frame is reference counted: the creator holds the first reference, every channel that has to keep the
+ * frame beyond the call of {@link jsettlers.network.infrastructure.channel.Channel#sendFrame(PacketFrame)} retains its own, and the buffer returns
+ * to the pool when the last reference is released.
+ */
+public final class PacketFrame {
+	public static final int HEADER_LENGTH = 5; // key byte and int length
+
+	private static final ByteBufferPool FRAME_BUFFER_POOL = new ByteBufferPool(4 * 1024, 1024);
+
+	private final ByteBuffer    buffer;
+	private final AtomicInteger references = new AtomicInteger(1);
+
+	private PacketFrame(ByteBuffer buffer) {
+		this.buffer = buffer;
+	}
+
+	/**
+	 * Serializes the given packet into a new frame.
+	 * 
+	 * @param key
+	 *            The key the packet is sent with.
+	 * @param packet
+	 *            The packet to serialize.
+	 * @return A frame holding one reference, which the caller must {@link #release()}.
+	 * @throws IOException
+	 *             If the packet can not be serialized.
+	 */
+	public static PacketFrame create(ENetworkKey key, Packet packet) throws IOException {
+		ByteBufferOutputStream bufferOutStream = new ByteBufferOutputStream(FRAME_BUFFER_POOL);
+		DataOutputStream dataOutStream = new DataOutputStream(bufferOutStream);
+
+		key.writeTo(dataOutStream);
+		dataOutStream.writeInt(0); // placeholder for the length
+		packet.serialize(dataOutStream);
+		dataOutStream.flush();
+
+		ByteBuffer buffer = bufferOutStream.takeBuffer();
+		buffer.putInt(1, buffer.limit() - HEADER_LENGTH);
+		return new PacketFrame(buffer);
+	}
+
+	/**
+	 * @return A new view of the frame's bytes with its own position, so that several channels can write the same frame at the same time.
+	 */
+	public ByteBuffer getBuffer() {
+		return buffer.duplicate();
+	}
+
+	/**
+	 * @return The number of bytes of the frame, including the header.
+	 */
+	public int getLength() {
+		return buffer.limit();
+	}
+
+	/**
+	 * Writes the bytes of this frame to the given stream.
+	 * 
+	 * @param outStream
+	 *            The stream to write to.
+	 * @param transferBuffer
+	 *            Array used to copy the bytes out of the frame's buffer if it is a direct one.
+	 * @throws IOException
+	 *             If writing to the stream fails.
+	 */
+	public void writeTo(OutputStream outStream, byte[] transferBuffer) throws IOException {
+		ByteBuffer view = getBuffer();
+		if (view.hasArray()) {
+			outStream.write(view.array(), view.arrayOffset(), view.remaining());
+			return;
+		}
+
+		while (view.hasRemaining()) {
+			int length = Math.min(view.remaining(), transferBuffer.length);
+			view.get(transferBuffer, 0, length);
+			outStream.write(transferBuffer, 0, length);
+		}
+	}
+
+	public PacketFrame retain() {
+		if (references.getAndIncrement() <= 0) {
+			throw new IllegalStateException("PacketFrame has already been released.");
+		}
+		return this;
+	}
+
+	public void release() {
+		int remaining = references.decrementAndGet();
+		if (remaining == 0) {
+			FRAME_BUFFER_POOL.release(buffer);
+		} else if (remaining < 0) {
+			throw new IllegalStateException("PacketFrame has been released too often.");
+		}
+	}
+}
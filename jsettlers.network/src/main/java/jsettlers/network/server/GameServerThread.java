@@ -15,12 +15,18 @@
 package jsettlers.network.server;
 
 import java.io.IOException;
+import java.net.InetSocketAddress;
 import java.net.ServerSocket;
 import java.net.Socket;
 import java.net.SocketException;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
 
 import jsettlers.network.NetworkConstants;
 import jsettlers.network.infrastructure.channel.Channel;
+import jsettlers.network.infrastructure.channel.nio.NioChannel;
+import jsettlers.network.infrastructure.channel.nio.NioEventLoopGroup;
 import jsettlers.network.infrastructure.channel.socket.ISocketFactory;
 import jsettlers.network.infrastructure.log.Logger;
 import jsettlers.network.infrastructure.log.LoggerManager;
@@ -38,7 +44,9 @@ public final class GameServerThread extends Thread {
 
 	private static final Logger LOGGER = LoggerManager.ROOT_LOGGER;
 
+	private final ServerSocketChannel serverSocketChannel;
 	private final ServerSocket serverSocket;
+	private final NioEventLoopGroup eventLoops;
 	private final ServerManager manager;
 	private final LanServerBroadcastThread lanBroadcastThread;
 
@@ -46,8 +54,23 @@ public final class GameServerThread extends Thread {
 	private boolean canceled = false;
 
 	public GameServerThread(boolean lan) throws IOException {
+		this(lan, NetworkConstants.Server.USE_SELECTOR_CHANNELS);
+	}
+
+	/**
+	 * @param lan
+	 *            If true, the server's address is broadcasted in the local network.
+	 * @param useSelectorChannels
+	 *            If true, the clients are served by one {@link jsettlers.network.infrastructure.channel.nio.NioEventLoop} per core, otherwise every
+	 *            client gets its own {@link Channel} thread.
+	 * @throws IOException
+	 */
+	public GameServerThread(boolean lan, boolean useSelectorChannels) throws IOException {
 		super("GameServer");
-		this.serverSocket = new ServerSocket(NetworkConstants.Server.SERVER_PORT);
+		this.serverSocketChannel = ServerSocketChannel.open();
+		this.serverSocket = serverSocketChannel.socket();
+		this.serverSocket.bind(new InetSocketAddress(NetworkConstants.Server.SERVER_PORT));
+		this.eventLoops = useSelectorChannels ? new NioEventLoopGroup() : null;
 		this.manager = new ServerManager(new InMemoryDB());
 
 		this.setDaemon(true);
@@ -66,14 +89,20 @@ public final class GameServerThread extends Thread {
 		System.out.println("Server up and running!");
 		while (!canceled) {
 			try {
-				Socket clientSocket = serverSocket.accept();
+				Channel clientChannel;
+				if (eventLoops != null) {
+					SocketChannel clientSocketChannel = serverSocketChannel.accept();
+					clientChannel = new NioChannel(LOGGER, clientSocketChannel, eventLoops.next());
+				} else {
+					Socket clientSocket = serverSocket.accept();
+					clientChannel = new Channel(LOGGER, ISocketFactory.DEFAULT_FACTORY.generateSocket(clientSocket));
+				}
 
-				Channel clientChannel = new Channel(LOGGER, ISocketFactory.DEFAULT_FACTORY.generateSocket(clientSocket));
 				manager.identifyNewChannel(clientChannel);
 				clientChannel.start();
 
-				LOGGER.log("accepted new client (" + ++counter + "): " + clientSocket);
-			} catch (SocketException e) {
+				LOGGER.log("accepted new client (" + ++counter + "): " + clientChannel);
+			} catch (SocketException | ClosedChannelException e) {
 			} catch (IOException e) {
 				e.printStackTrace();
 			}
@@ -114,6 +143,9 @@ public final class GameServerThread extends Thread {
 
 	@Override
 	public synchronized void start() {
+		if (eventLoops != null) {
+			eventLoops.start();
+		}
 		super.start();
 		manager.start();
 	}
@@ -121,10 +153,13 @@ public final class GameServerThread extends Thread {
 	public synchronized void shutdown() {
 		canceled = true;
 		try {
-			serverSocket.close();
+			serverSocketChannel.close();
 		} catch (IOException e) {
 		}
 
+		if (eventLoops != null)
+			eventLoops.shutdown();
+
 		if (lanBroadcastThread != null)
 			lanBroadcastThread.shutdown();
 
@@ -15,6 +15,8 @@
 package jsettlers.network.server;
 
 import java.util.Timer;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
 
 import jsettlers.network.NetworkConstants;
 import jsettlers.network.common.packets.ChatMessagePacket;
@@ -48,7 +50,11 @@ public class ServerManager implements IServerManager {
 
 	private final IDBFacade database;
 	private final Timer sendMatchesListTimer = new Timer("SendMatchesListTimer", true);
-	private final Timer matchesTaskDistributionTimer = new Timer("MatchesTaskDistributionTimer", true);
+	private final ScheduledExecutorService lockstepScheduler = Executors.newScheduledThreadPool(Runtime.getRuntime().availableProcessors(), runnable -> {
+		Thread thread = new Thread(runnable, "LockstepScheduler");
+		thread.setDaemon(true);
+		return thread;
+	});
 	private final MatchesListSendingTimerTask matchSendingTask;
 
 	public ServerManager(IDBFacade db) {
@@ -62,7 +68,7 @@ public class ServerManager implements IServerManager {
 
 	public synchronized void shutdown() {
 		sendMatchesListTimer.cancel();
-		matchesTaskDistributionTimer.cancel();
+		lockstepScheduler.shutdownNow();
 	}
 
 	public void identifyNewChannel(Channel channel) {
@@ -132,7 +138,7 @@ public class ServerManager implements IServerManager {
 	@Override
 	public void startMatch(Player player) {
 		try {
-			player.startMatch(matchesTaskDistributionTimer);
+			player.startMatch(lockstepScheduler);
 		} catch (IllegalStateException e) {
 			e.printStackTrace();
 			player.sendPacket(NetworkConstants.ENetworkKey.REJECT_PACKET,
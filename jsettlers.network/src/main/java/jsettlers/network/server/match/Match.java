@@ -14,10 +14,11 @@
  *******************************************************************************/
 package jsettlers.network.server.match;
 
+import java.io.IOException;
 import java.util.Date;
 import java.util.LinkedList;
-import java.util.Timer;
 import java.util.UUID;
+import java.util.concurrent.ScheduledExecutorService;
 
 import jsettlers.network.NetworkConstants;
 import jsettlers.network.NetworkConstants.ENetworkKey;
@@ -29,6 +30,7 @@ import jsettlers.network.common.packets.MatchStartPacket;
 import jsettlers.network.common.packets.PlayerInfoPacket;
 import jsettlers.network.common.packets.TimeSyncPacket;
 import jsettlers.network.infrastructure.channel.packet.Packet;
+import jsettlers.network.infrastructure.channel.packet.PacketFrame;
 import jsettlers.network.infrastructure.log.Logger;
 import jsettlers.network.infrastructure.log.LoggerManager;
 import jsettlers.network.server.exceptions.NotAllPlayersReadyException;
@@ -162,12 +164,24 @@ public class Match {
 	 * @param packet
 	 */
 	public void sendMessage(Player sendingPlayer, ENetworkKey key, Packet packet) {
-		synchronized (players) {
-			for (Player curr : players) {
-				if (sendingPlayer == null || !curr.getId().equals(sendingPlayer.getId())) {
-					curr.sendPacket(key, packet);
+		PacketFrame frame;
+		try {
+			frame = PacketFrame.create(key, packet); // serialize once for all players
+		} catch (IOException e) {
+			logger.error(e);
+			return;
+		}
+
+		try {
+			synchronized (players) {
+				for (Player curr : players) {
+					if (sendingPlayer == null || !curr.getId().equals(sendingPlayer.getId())) {
+						curr.sendFrame(frame);
+					}
 				}
 			}
+		} finally {
+			frame.release();
 		}
 	}
 
@@ -203,7 +217,7 @@ public class Match {
 		}
 	}
 
-	public synchronized void startMatch(Timer timer) throws NotAllPlayersReadyException {
+	public synchronized void startMatch(ScheduledExecutorService lockstepScheduler) throws NotAllPlayersReadyException {
 		if (state == EMatchState.RUNNING || state == EMatchState.FINISHED) {
 			return; // match already started
 		}
@@ -220,7 +234,7 @@ public class Match {
 
 		this.taskCollectingListener = new TaskCollectingListener();
 		this.taskSendingTimerTask = new TaskSendingTimerTask(logger, taskCollectingListener, this);
-		timer.schedule(taskSendingTimerTask, NetworkConstants.Client.LOCKSTEP_PERIOD, NetworkConstants.Client.LOCKSTEP_PERIOD / 2 - 2);
+		taskSendingTimerTask.schedule(lockstepScheduler);
 
 		synchronized (players) {
 			int i = 0;
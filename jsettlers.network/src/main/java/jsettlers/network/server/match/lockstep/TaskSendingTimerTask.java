@@ -16,7 +16,9 @@ package jsettlers.network.server.match.lockstep;
 
 import java.util.List;
 import java.util.Locale;
-import java.util.TimerTask;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
 
 import jsettlers.network.NetworkConstants;
 import jsettlers.network.infrastructure.channel.ping.IPingUpdateListener;
@@ -27,17 +29,20 @@ import jsettlers.network.server.packets.ServersideSyncTasksPacket;
 import jsettlers.network.server.packets.ServersideTaskPacket;
 
 /**
+ * Sends the collected tasks of a match to its players once per lockstep. The task is run by a scheduler shared by all matches of the server.
  * 
  * @author Andreas Eberle
  * 
  */
-public class TaskSendingTimerTask extends TimerTask {
+public class TaskSendingTimerTask implements Runnable {
 	private final Logger logger;
 	private final TaskCollectingListener taskCollectingListener;
 	private final Match match;
 
+	private ScheduledFuture<?> scheduledFuture;
+
 	private int lockstepCounter = 0;
-	private int currentLockstepMax = NetworkConstants.Client.LOCKSTEP_DEFAULT_LEAD_STEPS;
+	private volatile int currentLockstepMax = NetworkConstants.Client.LOCKSTEP_DEFAULT_LEAD_STEPS;
 
 	private int minimumLeadTimeMs = NetworkConstants.Client.LOCKSTEP_DEFAULT_LEAD_STEPS * NetworkConstants.Client.LOCKSTEP_PERIOD;
 	private int leadSteps = minimumLeadTimeMs / NetworkConstants.Client.LOCKSTEP_PERIOD;
@@ -48,6 +53,24 @@ public class TaskSendingTimerTask extends TimerTask {
 		this.match = match;
 	}
 
+	/**
+	 * Schedules this task on the given scheduler.
+	 * 
+	 * @param scheduler
+	 *            The scheduler shared by the matches.
+	 */
+	public synchronized void schedule(ScheduledExecutorService scheduler) {
+		scheduledFuture = scheduler.scheduleWithFixedDelay(this, NetworkConstants.Client.LOCKSTEP_PERIOD, NetworkConstants.Client.LOCKSTEP_PERIOD / 2 - 2,
+				TimeUnit.MILLISECONDS);
+	}
+
+	public synchronized void cancel() {
+		if (scheduledFuture != null) {
+			scheduledFuture.cancel(false);
+			scheduledFuture = null;
+		}
+	}
+
 	@Override
 	public void run() {
 		if (lockstepCounter > currentLockstepMax) {
@@ -0,0 +1,35 @@
+/*******************************************************************************
+ * Copyright (c) 2026
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE.
+ *******************************************************************************/
+package jsettlers.network.synchronic.checksum;
+
+/**
+ * Supplies checksums of the game state. The state is split into subsystems, so that a desynchronization can be narrowed down to the subsystem that
+ * diverged first.
+ */
+public interface IStateChecksumProvider {
+
+	/**
+	 * @return The names of the checksummed subsystems. The array must not change while the game is running.
+	 */
+	String[] getSubsystems();
+
+	/**
+	 * Calculates the checksums of the current game state. This is called by the game clock at the end of every lockstep and must therefore be cheap.
+	 * 
+	 * @param checksums
+	 *            Array to store the checksum of every subsystem in, in the order of {@link #getSubsystems()}.
+	 */
+	void calculateChecksums(int[] checksums);
+}
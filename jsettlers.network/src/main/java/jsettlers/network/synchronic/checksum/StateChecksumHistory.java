@@ -0,0 +1,159 @@
+/*******************************************************************************
+ * Copyright (c) 2026
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE.
+ *******************************************************************************/
+package jsettlers.network.synchronic.checksum;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedList;
+
+/**
+ * Keeps the game state checksums of the last {@value #HISTORY_LENGTH} locksteps and compares them with the checksums reported by remote clients.
+ * Remote checksums of locksteps that have not been reached locally are kept until the lockstep has been recorded.
+ */
+public class StateChecksumHistory {
+	public static final int HISTORY_LENGTH = 64; // locksteps
+
+	private static final int NO_DESYNC = Integer.MAX_VALUE;
+
+	private final IStateChecksumProvider provider;
+	private final String[]               subsystems;
+	private final int[][]                checksums;
+	private final int[]                  locksteps;
+
+	private final LinkedList<RemoteChecksums> pendingRemoteChecksums = new LinkedList<>();
+
+	private int             latestLockstep      = -1;
+	private int             firstDesyncLockstep = NO_DESYNC;
+	private IDesyncListener desyncListener;
+
+	public StateChecksumHistory(IStateChecksumProvider provider) {
+		this.provider = provider;
+		this.subsystems = provider.getSubsystems();
+		this.checksums = new int[HISTORY_LENGTH][subsystems.length];
+		this.locksteps = new int[HISTORY_LENGTH];
+		Arrays.fill(locksteps, -1);
+	}
+
+	public synchronized void setDesyncListener(IDesyncListener desyncListener) {
+		this.desyncListener = desyncListener;
+	}
+
+	/**
+	 * Records the checksums of the current game state for the given lockstep and compares them with the remote checksums waiting for it.
+	 * 
+	 * @param lockstep
+	 *            The lockstep that has just been finished.
+	 */
+	public synchronized void record(int lockstep) {
+		int slot = lockstep % HISTORY_LENGTH;
+		provider.calculateChecksums(checksums[slot]);
+		locksteps[slot] = lockstep;
+		latestLockstep = lockstep;
+
+		for (Iterator<RemoteChecksums> iterator = pendingRemoteChecksums.iterator(); iterator.hasNext();) {
+			RemoteChecksums remote = iterator.next();
+			if (remote.lockstep <= lockstep) {
+				compare(remote.lockstep, remote.checksums);
+				iterator.remove();
+			}
+		}
+	}
+
+	/**
+	 * @return The latest recorded lockstep or -1 if none has been recorded yet.
+	 */
+	public synchronized int getLatestLockstep() {
+		return latestLockstep;
+	}
+
+	/**
+	 * @param lockstep
+	 *            The lockstep to get the checksums for.
+	 * @return A copy of the checksums recorded for the given lockstep or null if the lockstep is not in the history.
+	 */
+	public synchronized int[] getChecksums(int lockstep) {
+		int slot = lockstep % HISTORY_LENGTH;
+		if (lockstep < 0 || locksteps[slot] != lockstep) {
+			return null;
+		}
+		return checksums[slot].clone();
+	}
+
+	/**
+	 * Compares the checksums a remote client reported for the given lockstep with the local ones.
+	 * 
+	 * @param lockstep
+	 *            The lockstep the remote checksums belong to.
+	 * @param remoteChecksums
+	 *            The checksums of the remote client.
+	 */
+	public synchronized void compareWithRemote(int lockstep, int[] remoteChecksums) {
+		if (lockstep < 0 || remoteChecksums.length != subsystems.length) {
+			return;
+		}
+
+		if (lockstep <= latestLockstep) {
+			compare(lockstep, remoteChecksums);
+		} else {
+			if (pendingRemoteChecksums.size() >= HISTORY_LENGTH) {
+				pendingRemoteChecksums.removeFirst();
+			}
+			pendingRemoteChecksums.add(new RemoteChecksums(lockstep, remoteChecksums));
+		}
+	}
+
+	private void compare(int lockstep, int[] remoteChecksums) {
+		int slot = lockstep % HISTORY_LENGTH;
+		if (locksteps[slot] != lockstep) {
+			return; // the lockstep is no longer in the history
+		}
+
+		int[] localChecksums = checksums[slot];
+		for (int subsystem = 0; subsystem < subsystems.length; subsystem++) {
+			if (localChecksums[subsystem] != remoteChecksums[subsystem]) {
+				reportDesync(lockstep, subsystem);
+				return;
+			}
+		}
+	}
+
+	private void reportDesync(int lockstep, int subsystem) {
+		if (lockstep >= firstDesyncLockstep) {
+			return;
+		}
+
+		firstDesyncLockstep = lockstep;
+		if (desyncListener != null) {
+			desyncListener.desyncDetected(lockstep, subsystems[subsystem]);
+		}
+	}
+
+	/**
+	 * @return The earliest lockstep found to differ from a remote client or -1 if no desynchronization has been detected.
+	 */
+	public synchronized int getFirstDesyncLockstep() {
+		return firstDesyncLockstep == NO_DESYNC ? -1 : firstDesyncLockstep;
+	}
+
+	private static class RemoteChecksums {
+		final int   lockstep;
+		final int[] checksums;
+
+		RemoteChecksums(int lockstep, int[] checksums) {
+			this.lockstep = lockstep;
+			this.checksums = checksums;
+		}
+	}
+}
@@ -31,6 +31,8 @@ import jsettlers.network.NetworkConstants;
 import jsettlers.network.client.INetworkClientClock;
 import jsettlers.network.client.task.packets.SyncTasksPacket;
 import jsettlers.network.client.task.packets.TaskPacket;
+import jsettlers.network.synchronic.checksum.IStateChecksumProvider;
+import jsettlers.network.synchronic.checksum.StateChecksumHistory;
 
 import java8.util.Comparators;
 
@@ -44,7 +46,7 @@ public final class NetworkTimer extends TimerTask implements INetworkClientClock
 	public static final short TIME_SLICE = 50;
 	private static final Comparator<SyncTasksPacket> tasksByTimeComparator = Comparators.comparingInt(SyncTasksPacket::getLockstepNumber);
 
-	private final Timer timer;
+	private volatile Timer timer; // created when the execution is started, a clock that is only stepped needs no thread
 	private final Object lockstepLock = new Object();
 
 	private final List<ScheduledTimerable> timerables = new ArrayList<>();
@@ -65,9 +67,10 @@ public final class NetworkTimer extends TimerTask implements INetworkClientClock
 
 	private ITaskExecutor taskExecutor;
 	private DataOutputStream replayLogStream;
+	private volatile StateChecksumHistory stateChecksums;
+	private boolean taskLogging = true;
 
 	public NetworkTimer() {
-		this.timer = new Timer("NetworkTimer");
 	}
 
 	public NetworkTimer(boolean disableLockstepWaiting) {
@@ -82,6 +85,7 @@ public final class NetworkTimer extends TimerTask implements INetworkClientClock
 	public synchronized void startExecution() {
 		if (!scheduled) {
 			scheduled = true;
+			timer = new Timer("NetworkTimer");
 			timer.schedule(this, 0, TIME_SLICE);
 		}
 	}
@@ -89,7 +93,10 @@ public final class NetworkTimer extends TimerTask implements INetworkClientClock
 	@Override
 	public void stopExecution() {
 		setPausing(true);
-		timer.cancel();
+		Timer timer = this.timer;
+		if (timer != null) {
+			timer.cancel();
+		}
 
 		closeReplayLogStreamIfNeeded();
 	}
@@ -131,7 +138,9 @@ public final class NetworkTimer extends TimerTask implements INetworkClientClock
 			while (tasksPacket != null && tasksPacket.getLockstepNumber() <= lockstep) {
 				assert tasksPacket.getLockstepNumber() == lockstep : "FOUND TasksPacket FOR older lockstep!";
 
-				System.out.println("Executing SyncTaskPacket(" + tasksPacket + ") in " + getLockstepText(lockstep));
+				if (taskLogging) {
+					System.out.println("Executing SyncTaskPacket(" + tasksPacket + ") in " + getLockstepText(lockstep));
+				}
 
 				try {
 					executeTasksPacket(tasksPacket);
@@ -152,6 +161,11 @@ public final class NetworkTimer extends TimerTask implements INetworkClientClock
 			for (ScheduledTimerable curr : timerables) {
 				curr.checkExecution(TIME_SLICE);
 			}
+
+			StateChecksumHistory stateChecksums = this.stateChecksums;
+			if (stateChecksums != null && time % NetworkConstants.Client.LOCKSTEP_PERIOD == 0) {
+				stateChecksums.record(lockstep);
+			}
 		} catch (Throwable t) {
 			System.err.println("WARNING: Networking Timer catched Throwable!!!");
 			t.printStackTrace();
@@ -233,6 +247,14 @@ public final class NetworkTimer extends TimerTask implements INetworkClientClock
 		this.setPausing(false);
 	}
 
+	/**
+	 * Executes one time slice of {@value #TIME_SLICE} milliseconds on the calling thread. This allows to step the clock as fast as possible without
+	 * starting it, e.g. to run a headless game.
+	 */
+	public synchronized void executeTimeSlice() {
+		executeRun();
+	}
+
 	@Override
 	public synchronized void fastForwardTo(int targetGameTime) {
 		this.setPausing(true);
@@ -282,6 +304,25 @@ public final class NetworkTimer extends TimerTask implements INetworkClientClock
 		this.speedFactor *= factor;
 	}
 
+	@Override
+	public StateChecksumHistory setStateChecksumProvider(IStateChecksumProvider provider) {
+		stateChecksums = provider != null ? new StateChecksumHistory(provider) : null;
+		return stateChecksums;
+	}
+
+	@Override
+	public StateChecksumHistory getStateChecksums() {
+		return stateChecksums;
+	}
+
+	/**
+	 * @param taskLogging
+	 *            If false, the scheduled and executed tasks are not printed to the console.
+	 */
+	public void setTaskLogging(boolean taskLogging) {
+		this.taskLogging = taskLogging;
+	}
+
 	@Override
 	public void setTaskExecutor(ITaskExecutor taskExecutor) {
 		this.taskExecutor = taskExecutor;
@@ -295,7 +336,9 @@ public final class NetworkTimer extends TimerTask implements INetworkClientClock
 
 		if (!tasksPacket.getTasks().isEmpty()) {
 			synchronized (tasks) {
-				System.out.println("Scheduled SyncTasksPacket(" + tasksPacket + " for " + getLockstepText(tasksPacket.getLockstepNumber()));
+				if (taskLogging) {
+					System.out.println("Scheduled SyncTasksPacket(" + tasksPacket + " for " + getLockstepText(tasksPacket.getLockstepNumber()));
+				}
 				tasks.addLast(tasksPacket);
 				Collections.sort(tasks, tasksByTimeComparator);
 				saveReplayIfNeeded(tasksPacket);
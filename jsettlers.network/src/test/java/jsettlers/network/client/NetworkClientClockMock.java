@@ -21,6 +21,8 @@ import java.util.LinkedList;
 
 import jsettlers.network.client.task.packets.SyncTasksPacket;
 import jsettlers.network.client.task.packets.TaskPacket;
+import jsettlers.network.synchronic.checksum.IStateChecksumProvider;
+import jsettlers.network.synchronic.checksum.StateChecksumHistory;
 import jsettlers.network.synchronic.timer.INetworkTimerable;
 import jsettlers.network.synchronic.timer.ITaskExecutor;
 
@@ -159,4 +161,14 @@ public class NetworkClientClockMock implements INetworkClientClock {
 		time = targetGameTime;
 	}
 
+	@Override
+	public StateChecksumHistory setStateChecksumProvider(IStateChecksumProvider provider) {
+		throw new UnsupportedOperationException("not mocked");
+	}
+
+	@Override
+	public StateChecksumHistory getStateChecksums() {
+		return null;
+	}
+
 }
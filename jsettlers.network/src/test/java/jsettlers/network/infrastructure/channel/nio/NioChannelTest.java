@@ -0,0 +1,182 @@
+/*******************************************************************************
+ * Copyright (c) 2026
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE.
+ *******************************************************************************/
+package jsettlers.network.infrastructure.channel.nio;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.channels.ServerSocketChannel;
+import java.util.Arrays;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import jsettlers.network.NetworkConstants.ENetworkKey;
+import jsettlers.network.infrastructure.channel.Channel;
+import jsettlers.network.infrastructure.channel.TestPacket;
+import jsettlers.network.infrastructure.channel.TestPacketListener;
+import jsettlers.network.infrastructure.log.ConsoleLogger;
+
+/**
+ * Tests a {@link NioChannel} talking to a thread based {@link Channel} over a real socket.
+ */
+public class NioChannelTest {
+	private NioEventLoopGroup eventLoops;
+	private NioChannel        serverChannel;
+	private Channel           clientChannel;
+
+	@Before
+	public void setUp() throws IOException {
+		eventLoops = new NioEventLoopGroup(2);
+		eventLoops.start();
+
+		try (ServerSocketChannel serverSocket = ServerSocketChannel.open()) {
+			serverSocket.bind(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0));
+			int port = serverSocket.socket().getLocalPort();
+
+			clientChannel = new Channel(InetAddress.getLoopbackAddress().getHostAddress(), port);
+			serverChannel = new NioChannel(new ConsoleLogger("server"), serverSocket.accept(), eventLoops.next());
+		}
+
+		serverChannel.start();
+		clientChannel.start();
+	}
+
+	@After
+	public void tearDown() {
+		clientChannel.close();
+		serverChannel.close();
+		eventLoops.shutdown();
+	}
+
+	@Test
+	public void testConnection() throws InterruptedException {
+		TestPacketListener serverListener = new TestPacketListener(ENetworkKey.TEST_PACKET);
+		TestPacketListener clientListener = new TestPacketListener(ENetworkKey.TEST_PACKET);
+		serverChannel.registerListener(serverListener);
+		clientChannel.registerListener(clientListener);
+
+		TestPacket packet = new TestPacket("nio", 4711);
+		serverChannel.sendPacket(ENetworkKey.TEST_PACKET, packet);
+		clientChannel.sendPacket(ENetworkKey.TEST_PACKET, packet);
+
+		Thread.sleep(80L);
+
+		assertEquals(1, serverListener.packets.size());
+		assertEquals(packet, serverListener.packets.get(0));
+		assertEquals(1, clientListener.packets.size());
+		assertEquals(packet, clientListener.packets.get(0));
+	}
+
+	@Test
+	public void testMultiPacketsInBothDirections() throws InterruptedException {
+		TestPacketListener serverListener = new TestPacketListener(ENetworkKey.TEST_PACKET);
+		TestPacketListener clientListener = new TestPacketListener(ENetworkKey.TEST_PACKET);
+		serverChannel.registerListener(serverListener);
+		clientChannel.registerListener(clientListener);
+
+		final int NUMBER_OF_PACKETS = 5000;
+		for (int i = 0; i < NUMBER_OF_PACKETS; i++) {
+			serverChannel.sendPacket(ENetworkKey.TEST_PACKET, new TestPacket(i));
+			clientChannel.sendPacket(ENetworkKey.TEST_PACKET, new TestPacket(-i));
+		}
+
+		Thread.sleep(300L);
+
+		assertEquals(NUMBER_OF_PACKETS, serverListener.packets.size());
+		assertEquals(NUMBER_OF_PACKETS, clientListener.packets.size());
+		for (int i = 0; i < NUMBER_OF_PACKETS; i++) {
+			assertEquals(-i, serverListener.packets.get(i).getTestInt());
+			assertEquals(i, clientListener.packets.get(i).getTestInt());
+		}
+	}
+
+	@Test
+	public void testPacketsLargerThanPooledBuffers() throws InterruptedException {
+		TestPacketListener serverListener = new TestPacketListener(ENetworkKey.TEST_PACKET);
+		TestPacketListener clientListener = new TestPacketListener(ENetworkKey.TEST_PACKET);
+		serverChannel.registerListener(serverListener);
+		clientChannel.registerListener(clientListener);
+
+		char[] chars = new char[3 * NioEventLoopGroup.BUFFER_SIZE];
+		Arrays.fill(chars, 'x');
+		TestPacket largePacket = new TestPacket(new String(chars), 1);
+		TestPacket smallPacket = new TestPacket(2);
+
+		for (int i = 0; i < 3; i++) {
+			serverChannel.sendPacket(ENetworkKey.TEST_PACKET, largePacket);
+			serverChannel.sendPacket(ENetworkKey.TEST_PACKET, smallPacket);
+			clientChannel.sendPacket(ENetworkKey.TEST_PACKET, largePacket);
+			clientChannel.sendPacket(ENetworkKey.TEST_PACKET, smallPacket);
+		}
+
+		Thread.sleep(200L);
+
+		assertEquals(6, serverListener.packets.size());
+		assertEquals(6, clientListener.packets.size());
+		for (int i = 0; i < 6; i++) {
+			TestPacket expected = i % 2 == 0 ? largePacket : smallPacket;
+			assertEquals(expected, serverListener.packets.get(i));
+			assertEquals(expected, clientListener.packets.get(i));
+		}
+	}
+
+	@Test
+	public void testSendingMessageWithoutListener() throws InterruptedException {
+		clientChannel.sendPacket(ENetworkKey.ARRAY_OF_MATCHES, new TestPacket("dsfs", 4234));
+		serverChannel.sendPacket(ENetworkKey.ARRAY_OF_MATCHES, new TestPacket("sdfsf", -2342));
+
+		Thread.sleep(40L);
+
+		testConnection(); // the reject packets must not break the connection
+	}
+
+	@Test
+	public void testClosingClientClosesServerChannelOnce() throws InterruptedException {
+		final int[] closed = new int[1];
+		serverChannel.setChannelClosedListener(() -> closed[0]++);
+
+		clientChannel.close();
+		Thread.sleep(80L);
+
+		assertTrue(serverChannel.isClosed());
+		assertEquals(1, closed[0]);
+
+		serverChannel.close();
+		serverChannel.sendPacket(ENetworkKey.TEST_PACKET, new TestPacket(1));
+		assertEquals(1, closed[0]);
+	}
+
+	@Test
+	public void testClosingServerChannelClosesClient() throws InterruptedException {
+		serverChannel.close();
+		assertTrue(serverChannel.isClosed());
+
+		Thread.sleep(80L);
+		assertTrue(clientChannel.isClosed());
+	}
+
+	@Test
+	public void testRoundTripTime() throws InterruptedException {
+		serverChannel.initPinging();
+		Thread.sleep(100L);
+
+		assertTrue(System.currentTimeMillis() - serverChannel.getRoundTripTime().getLastUpdated() < 1000);
+	}
+}
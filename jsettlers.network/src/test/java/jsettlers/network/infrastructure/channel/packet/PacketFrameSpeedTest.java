@@ -0,0 +1,86 @@
+/*******************************************************************************
+ * Copyright (c) 2026
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE.
+ *******************************************************************************/
+package jsettlers.network.infrastructure.channel.packet;
+
+import static org.junit.Assert.assertEquals;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+
+import org.junit.Test;
+
+import jsettlers.network.server.packets.ServersideSyncTasksPacket;
+
+public class PacketFrameSpeedTest {
+	private static final int PLAYERS   = 8;
+	private static final int LOCKSTEPS = 20000;
+
+	/**
+	 * Compares serializing every lockstep packet once per player, as every channel did on its own before, with serializing it once to a frame.
+	 */
+	@Test
+	public void testBroadcastSpeed() throws IOException {
+		List<ServersideSyncTasksPacket> packets = PacketFrameTest.createLockstepPackets(LOCKSTEPS);
+		CountingOutputStream[] playerStreams = new CountingOutputStream[PLAYERS];
+		for (int i = 0; i < PLAYERS; i++) {
+			playerStreams[i] = new CountingOutputStream();
+		}
+		byte[] transferBuffer = new byte[4 * 1024];
+
+		for (int warmUp = 0; warmUp < 2; warmUp++) {
+			PacketFrameTest.broadcastSerializingPerPlayer(packets, playerStreams);
+			PacketFrameTest.broadcastFrames(packets, playerStreams, transferBuffer);
+		}
+		resetCounts(playerStreams);
+
+		long start = System.nanoTime();
+		PacketFrameTest.broadcastSerializingPerPlayer(packets, playerStreams);
+		long perPlayerTime = System.nanoTime() - start;
+		long perPlayerBytes = resetCounts(playerStreams);
+
+		start = System.nanoTime();
+		PacketFrameTest.broadcastFrames(packets, playerStreams, transferBuffer);
+		long frameTime = System.nanoTime() - start;
+		long frameBytes = resetCounts(playerStreams);
+
+		assertEquals(perPlayerBytes, frameBytes);
+		System.out.println("broadcasting " + LOCKSTEPS + " lockstep packets to " + PLAYERS + " players: serializing per player needed "
+				+ perPlayerTime / 1000000 + " ms, serializing once needed " + frameTime / 1000000 + " ms");
+	}
+
+	private static long resetCounts(CountingOutputStream[] streams) {
+		long sum = 0;
+		for (CountingOutputStream stream : streams) {
+			sum += stream.count;
+			stream.count = 0;
+		}
+		return sum;
+	}
+
+	private static class CountingOutputStream extends OutputStream {
+		long count;
+
+		@Override
+		public void write(int b) {
+			count++;
+		}
+
+		@Override
+		public void write(byte[] bytes, int offset, int length) {
+			count += length;
+		}
+	}
+}
@@ -0,0 +1,163 @@
+/*******************************************************************************
+ * Copyright (c) 2026
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE.
+ *******************************************************************************/
+package jsettlers.network.infrastructure.channel.packet;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Test;
+
+import jsettlers.network.NetworkConstants.ENetworkKey;
+import jsettlers.network.infrastructure.channel.TestPacket;
+import jsettlers.network.server.packets.ServersideSyncTasksPacket;
+import jsettlers.network.server.packets.ServersideTaskPacket;
+
+public class PacketFrameTest {
+	private static final int PLAYERS        = 8;
+	private static final int LOCKSTEPS      = 500;
+	private static final int TASKS_PER_STEP = 4;
+
+	@Test
+	public void testFrameContainsKeyLengthAndData() throws IOException {
+		TestPacket packet = new TestPacket("frame", 42);
+		PacketFrame frame = PacketFrame.create(ENetworkKey.TEST_PACKET, packet);
+
+		assertArrayEquals(serializeLikeStreamChannel(ENetworkKey.TEST_PACKET, packet), toByteArray(frame));
+		frame.release();
+	}
+
+	@Test
+	public void testFramesLargerThanPooledBuffers() throws IOException {
+		char[] chars = new char[20000];
+		Arrays.fill(chars, 'y');
+		TestPacket packet = new TestPacket(new String(chars), 7);
+		PacketFrame frame = PacketFrame.create(ENetworkKey.TEST_PACKET, packet);
+
+		assertEquals(PacketFrame.HEADER_LENGTH + 4 + 2 + chars.length, frame.getLength());
+		assertArrayEquals(serializeLikeStreamChannel(ENetworkKey.TEST_PACKET, packet), toByteArray(frame));
+		frame.release();
+	}
+
+	@Test
+	public void testViewsAreIndependent() throws IOException {
+		PacketFrame frame = PacketFrame.create(ENetworkKey.TEST_PACKET, new TestPacket(1));
+
+		frame.getBuffer().position(3);
+		assertEquals(0, frame.getBuffer().position());
+		assertEquals(frame.getLength(), frame.getBuffer().remaining());
+		frame.release();
+	}
+
+	@Test(expected = IllegalStateException.class)
+	public void testRetainAfterReleaseFails() throws IOException {
+		PacketFrame frame = PacketFrame.create(ENetworkKey.TEST_PACKET, new TestPacket(1));
+		frame.retain();
+		frame.release();
+		frame.release();
+		frame.retain();
+	}
+
+	/**
+	 * Broadcasting a frame must send the same bytes as serializing the packet once per player, as every channel did on its own before.
+	 */
+	@Test
+	public void testBroadcastFramesMatchSerializingPerPlayer() throws IOException {
+		List<ServersideSyncTasksPacket> packets = createLockstepPackets(LOCKSTEPS);
+		ByteArrayOutputStream[] expectedStreams = new ByteArrayOutputStream[PLAYERS];
+		ByteArrayOutputStream[] actualStreams = new ByteArrayOutputStream[PLAYERS];
+		for (int i = 0; i < PLAYERS; i++) {
+			expectedStreams[i] = new ByteArrayOutputStream();
+			actualStreams[i] = new ByteArrayOutputStream();
+		}
+
+		broadcastSerializingPerPlayer(packets, expectedStreams);
+		broadcastFrames(packets, actualStreams, new byte[100]);
+
+		for (int i = 0; i < PLAYERS; i++) {
+			assertArrayEquals(expectedStreams[i].toByteArray(), actualStreams[i].toByteArray());
+		}
+	}
+
+	static void broadcastSerializingPerPlayer(List<ServersideSyncTasksPacket> packets, OutputStream[] playerStreams) throws IOException {
+		ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+		DataOutputStream bufferStream = new DataOutputStream(buffer);
+
+		for (ServersideSyncTasksPacket packet : packets) {
+			for (OutputStream playerStream : playerStreams) {
+				buffer.reset();
+				packet.serialize(bufferStream);
+				bufferStream.flush();
+
+				DataOutputStream outStream = new DataOutputStream(playerStream);
+				ENetworkKey.SYNCHRONOUS_TASK.writeTo(outStream);
+				outStream.writeInt(buffer.size());
+				buffer.writeTo(outStream);
+				outStream.flush();
+			}
+		}
+	}
+
+	static void broadcastFrames(List<ServersideSyncTasksPacket> packets, OutputStream[] playerStreams, byte[] transferBuffer) throws IOException {
+		for (ServersideSyncTasksPacket packet : packets) {
+			PacketFrame frame = PacketFrame.create(ENetworkKey.SYNCHRONOUS_TASK, packet);
+			for (OutputStream playerStream : playerStreams) {
+				frame.writeTo(playerStream, transferBuffer);
+			}
+			frame.release();
+		}
+	}
+
+	static List<ServersideSyncTasksPacket> createLockstepPackets(int locksteps) {
+		Random random = new Random(1);
+		List<ServersideSyncTasksPacket> packets = new ArrayList<>(locksteps);
+		for (int step = 0; step < locksteps; step++) {
+			List<ServersideTaskPacket> tasks = new ArrayList<>();
+			for (int i = random.nextInt(TASKS_PER_STEP + 1); i > 0; i--) {
+				byte[] data = new byte[8 + random.nextInt(40)];
+				random.nextBytes(data);
+				tasks.add(new ServersideTaskPacket(data));
+			}
+			packets.add(new ServersideSyncTasksPacket(step, tasks));
+		}
+		return packets;
+	}
+
+	private static byte[] serializeLikeStreamChannel(ENetworkKey key, Packet packet) throws IOException {
+		ByteArrayOutputStream data = new ByteArrayOutputStream();
+		packet.serialize(new DataOutputStream(data));
+
+		ByteArrayOutputStream frame = new ByteArrayOutputStream();
+		DataOutputStream frameStream = new DataOutputStream(frame);
+		key.writeTo(frameStream);
+		frameStream.writeInt(data.size());
+		data.writeTo(frameStream);
+		return frame.toByteArray();
+	}
+
+	private static byte[] toByteArray(PacketFrame frame) throws IOException {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		frame.writeTo(out, new byte[100]);
+		return out.toByteArray();
+	}
+}
@@ -0,0 +1,112 @@
+/*******************************************************************************
+ * Copyright (c) 2026
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE.
+ *******************************************************************************/
+package jsettlers.network.synchronic.checksum;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+
+public class StateChecksumHistoryTest {
+	private final int[]        state   = new int[3];
+	private final List<String> desyncs = new ArrayList<>();
+
+	private StateChecksumHistory history;
+
+	@Before
+	public void setUp() {
+		history = new StateChecksumHistory(new IStateChecksumProvider() {
+			@Override
+			public String[] getSubsystems() {
+				return new String[] { "a", "b", "c" };
+			}
+
+			@Override
+			public void calculateChecksums(int[] checksums) {
+				System.arraycopy(state, 0, checksums, 0, state.length);
+			}
+		});
+		history.setDesyncListener((lockstep, subsystem) -> desyncs.add(lockstep + " " + subsystem));
+	}
+
+	@Test
+	public void testEqualChecksums() {
+		recordLocksteps(0, 10);
+		history.compareWithRemote(5, new int[] { 5, 10, 15 });
+
+		assertEquals(-1, history.getFirstDesyncLockstep());
+		assertEquals(0, desyncs.size());
+	}
+
+	@Test
+	public void testReportsFirstDivergingSubsystem() {
+		recordLocksteps(0, 10);
+		history.compareWithRemote(5, new int[] { 5, 11, 16 });
+
+		assertEquals(5, history.getFirstDesyncLockstep());
+		assertEquals(1, desyncs.size());
+		assertEquals("5 b", desyncs.get(0));
+	}
+
+	@Test
+	public void testOnlyEarlierDesyncsAreReported() {
+		recordLocksteps(0, 10);
+		history.compareWithRemote(7, new int[] { 0, 0, 0 });
+		history.compareWithRemote(8, new int[] { 0, 0, 0 });
+		history.compareWithRemote(3, new int[] { 3, 6, 0 });
+
+		assertEquals(3, history.getFirstDesyncLockstep());
+		assertEquals(2, desyncs.size());
+		assertEquals("7 a", desyncs.get(0));
+		assertEquals("3 c", desyncs.get(1));
+	}
+
+	@Test
+	public void testRemoteChecksumsAheadAreComparedWhenRecorded() {
+		recordLocksteps(0, 3);
+		history.compareWithRemote(5, new int[] { 5, 10, 0 });
+		assertEquals(-1, history.getFirstDesyncLockstep());
+
+		recordLocksteps(3, 6);
+		assertEquals(5, history.getFirstDesyncLockstep());
+		assertEquals("5 c", desyncs.get(0));
+	}
+
+	@Test
+	public void testHistoryLength() {
+		recordLocksteps(0, StateChecksumHistory.HISTORY_LENGTH + 10);
+
+		assertNull(history.getChecksums(5));
+		assertArrayEquals(new int[] { 15, 30, 45 }, history.getChecksums(15));
+		assertEquals(StateChecksumHistory.HISTORY_LENGTH + 9, history.getLatestLockstep());
+
+		history.compareWithRemote(5, new int[] { 0, 0, 0 }); // too old to be compared
+		assertEquals(-1, history.getFirstDesyncLockstep());
+	}
+
+	private void recordLocksteps(int from, int to) {
+		for (int lockstep = from; lockstep < to; lockstep++) {
+			state[0] = lockstep;
+			state[1] = 2 * lockstep;
+			state[2] = 3 * lockstep;
+			history.record(lockstep);
+		}
+	}
+}
@@ -19,6 +19,7 @@ import java.io.IOException;
 import jsettlers.TestToolUtils;
 import jsettlers.algorithms.landmarks.EnclosedBlockedAreaFinderAlgorithm;
 import jsettlers.algorithms.landmarks.IEnclosedBlockedAreaFinderGrid;
+import jsettlers.algorithms.traversing.area.AreaTraversingAlgorithm;
 import jsettlers.algorithms.traversing.area.IAreaVisitor;
 import jsettlers.common.Color;
 import jsettlers.common.CommonConstants;
@@ -123,6 +124,7 @@ public class LandmarksThreadTester {
 	private static class Map implements IEnclosedBlockedAreaFinderGrid, IGraphicsGrid {
 		byte[][] players = new byte[WIDTH][HEIGHT];
 		boolean[][] blocked = new boolean[WIDTH][HEIGHT];
+		AreaTraversingAlgorithm areaTraversingAlgorithm = new AreaTraversingAlgorithm(WIDTH, HEIGHT);
 
 		public void setPlayerAt(int x, int y, byte player) {
 			this.players[x][y] = player;
@@ -157,6 +159,11 @@ public class LandmarksThreadTester {
 			return WIDTH;
 		}
 
+		@Override
+		public AreaTraversingAlgorithm getAreaTraversingAlgorithm() {
+			return areaTraversingAlgorithm;
+		}
+
 		@Override
 		public boolean isOfPlayerOrBlocked(int x, int y, byte playerId) {
 			return players[x][y] == playerId || blocked[x][y];
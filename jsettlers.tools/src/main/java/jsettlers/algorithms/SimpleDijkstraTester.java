@@ -31,30 +31,10 @@ public class SimpleDijkstraTester {
 	private static final short HEIGHT = (short) 200;
 
 	public static void main(String args[]) {
-		IDijkstraPathMap map = new IDijkstraPathMap() {
-			@Override
-			public boolean fitsSearchType(int x, int y, ESearchType type, IPathCalculatable requester) {
-				if (x == 120 && y == 100)
-					return true;
-				if (x == 110 && y == 110)
-					return true;
-				return x == 118 && y == 115;
+		DijkstraTestMap map = new DijkstraTestMap(WIDTH, HEIGHT);
+		map.setBlocked(120, 100, true);
 
-			}
-
-			@Override
-			public boolean fitsSearchType(int x, int y, Set<ESearchType> types, IPathCalculatable requester) {
-				return false;
-			}
-
-			@Override
-			public void setDijkstraSearched(int x, int y) {
-			}
-		};
-		DummyEmptyAStarMap aStarMap = new DummyEmptyAStarMap(WIDTH, HEIGHT);
-		aStarMap.setBlocked(120, 100, true);
-
-		DijkstraAlgorithm dijkstra = new DijkstraAlgorithm(map, new BucketQueueAStar(aStarMap, WIDTH, HEIGHT), WIDTH, HEIGHT);
+		DijkstraAlgorithm dijkstra = new DijkstraAlgorithm(map, new BucketQueueAStar(map, WIDTH, HEIGHT), WIDTH, HEIGHT);
 
 		IPathCalculatable requester = new IPathCalculatable() {
 			@Override
@@ -80,4 +60,29 @@ public class SimpleDijkstraTester {
 		Path path = dijkstra.find(requester, (short) 100, (short) 100, (short) 1, (short) 30, null);
 		System.out.println("path:  " + path);
 	}
+
+	private static class DijkstraTestMap extends DummyEmptyAStarMap implements IDijkstraPathMap {
+		DijkstraTestMap(short width, short height) {
+			super(width, height);
+		}
+
+		@Override
+		public boolean fitsSearchType(int x, int y, ESearchType type, IPathCalculatable requester) {
+			if (x == 120 && y == 100)
+				return true;
+			if (x == 110 && y == 110)
+				return true;
+			return x == 118 && y == 115;
+
+		}
+
+		@Override
+		public boolean fitsSearchType(int x, int y, Set<ESearchType> types, IPathCalculatable requester) {
+			return false;
+		}
+
+		@Override
+		public void setDijkstraSearched(int x, int y) {
+		}
+	}
 }
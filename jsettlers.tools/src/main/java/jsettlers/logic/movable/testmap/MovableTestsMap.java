@@ -37,6 +37,7 @@ import jsettlers.common.movable.EDirection;
 import jsettlers.common.movable.EMovableType;
 import jsettlers.common.movable.IGraphicsMovable;
 import jsettlers.common.player.IPlayer;
+import jsettlers.common.position.ILocatable;
 import jsettlers.common.position.ShortPoint2D;
 import jsettlers.logic.constants.MatchConstants;
 import jsettlers.logic.map.grid.partition.manager.manageables.IManageableBearer;
@@ -51,6 +52,7 @@ import jsettlers.logic.movable.interfaces.AbstractMovableGrid;
 import jsettlers.logic.movable.interfaces.IAttackable;
 import jsettlers.logic.movable.interfaces.IAttackableMovable;
 import jsettlers.logic.movable.interfaces.ILogicMovable;
+import jsettlers.logic.movable.interfaces.IProfessionCount;
 import jsettlers.logic.objects.stack.StackMapObject;
 import jsettlers.logic.player.Player;
 
@@ -482,6 +484,20 @@ public class MovableTestsMap implements IGraphicsGrid, IAStarPathMap {
 		public boolean trySummonFish(ShortPoint2D position) {
 			return false;
 		}
+
+		@Override
+		public IProfessionCount countProfession(ILocatable movable, EMovableType profession, Player player) {
+			return null;
+		}
+
+		@Override
+		public void uncountProfession(IProfessionCount professionCount) {
+		}
+
+		@Override
+		public boolean isProfessionCountOutdated(ShortPoint2D position, IProfessionCount professionCount) {
+			return false;
+		}
 	};
 
 	public AbstractMovableGrid getMovableGrid() {